@@ -48,10 +48,16 @@ public enum MeshEvent {
 	CLUSTER_DATABASE_CHANGE_STATUS("mesh.cluster.db.status"),
 
 	/**
-	 * Event which is send to update the permission stores.
+	 * Event which is send to update the permission stores. The optional body contains the scope (users and elements) of the invalidation. Events
+	 * without a body clear the whole store.
 	 */
 	CLEAR_PERMISSION_STORE("mesh.clear-permission-store"),
 
+	/**
+	 * Event which is send once a permission has been granted. Cached denying permission results need to be discarded.
+	 */
+	PERMISSION_GRANTED("mesh.permission-granted"),
+
 	/* User */
 
 	USER_CREATED("mesh.user.created"),
@@ -22,11 +22,14 @@ public class AuthenticationOptions implements Option {
 
 	public static final String DEFAULT_KEYSTORE_PATH = CONFIG_FOLDERNAME + "/keystore.jceks";
 
+	public static final int DEFAULT_USER_CACHE_SIZE = 10_000;
+
 	public static final String MESH_AUTH_TOKEN_EXP_ENV = "MESH_AUTH_TOKEN_EXP";
 	public static final String MESH_AUTH_KEYSTORE_PASS_ENV = "MESH_AUTH_KEYSTORE_PASS";
 	public static final String MESH_AUTH_KEYSTORE_PATH_ENV = "MESH_AUTH_KEYSTORE_PATH";
 	public static final String MESH_AUTH_JWT_ALGO_ENV = "MESH_AUTH_JWT_ALGO";
 	public static final String MESH_AUTH_ANONYMOUS_ENABLED_ENV = "MESH_AUTH_ANONYMOUS_ENABLED";
+	public static final String MESH_AUTH_USER_CACHE_SIZE_ENV = "MESH_AUTH_USER_CACHE_SIZE";
 
 	@JsonProperty(required = true)
 	@JsonPropertyDescription("Time in minutes which an issued token stays valid.")
@@ -53,6 +56,12 @@ public class AuthenticationOptions implements Option {
 	@EnvironmentVariable(name = MESH_AUTH_ANONYMOUS_ENABLED_ENV, description = "Override the configured anonymous enabled flag.")
 	private boolean enableAnonymousAccess = true;
 
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("Maximum amount of authenticated users which will be cached in order to resolve the user of a token without a graph lookup. Setting the size to 0 will disable the cache. Default: "
+		+ DEFAULT_USER_CACHE_SIZE)
+	@EnvironmentVariable(name = MESH_AUTH_USER_CACHE_SIZE_ENV, description = "Override the configured user cache size.")
+	private int userCacheSize = DEFAULT_USER_CACHE_SIZE;
+
 	@JsonProperty(required = false)
 	@JsonPropertyDescription("OAuth2 related configuration options.")
 	private OAuth2Options oauth2 = new OAuth2Options();
@@ -149,6 +158,26 @@ public class AuthenticationOptions implements Option {
 		return this;
 	}
 
+	/**
+	 * Return the maximum amount of cached authenticated users.
+	 * 
+	 * @return Cache size
+	 */
+	public int getUserCacheSize() {
+		return userCacheSize;
+	}
+
+	/**
+	 * Set the maximum amount of cached authenticated users. A size of 0 disables the cache.
+	 * 
+	 * @param userCacheSize
+	 * @return Fluent API
+	 */
+	public AuthenticationOptions setUserCacheSize(int userCacheSize) {
+		this.userCacheSize = userCacheSize;
+		return this;
+	}
+
 	public OAuth2Options getOauth2() {
 		return oauth2;
 	}
@@ -163,5 +192,8 @@ public class AuthenticationOptions implements Option {
 		if (keystorePath.trim().isEmpty()) {
 			throw new IllegalArgumentException("The keystore path cannot be empty");
 		}
+		if (userCacheSize < 0) {
+			throw new IllegalArgumentException("The user cache size must not be negative.");
+		}
 	}
 }
@@ -0,0 +1,119 @@
+package com.gentics.mesh.etc.config;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonPropertyDescription;
+import com.gentics.mesh.doc.GenerateDocumentation;
+import com.gentics.mesh.etc.config.env.EnvironmentVariable;
+import com.gentics.mesh.etc.config.env.Option;
+
+/**
+ * Configuration for the GraphQL query cache and the persisted queries.
+ */
+@GenerateDocumentation
+public class GraphQLOptions implements Option {
+
+	public static final String MESH_GRAPHQL_QUERY_CACHE_SIZE_ENV = "MESH_GRAPHQL_QUERY_CACHE_SIZE";
+	public static final String MESH_GRAPHQL_PERSISTED_QUERY_CACHE_SIZE_ENV = "MESH_GRAPHQL_PERSISTED_QUERY_CACHE_SIZE";
+	public static final String MESH_GRAPHQL_PERSISTED_QUERY_EXPIRATION_ENV = "MESH_GRAPHQL_PERSISTED_QUERY_EXPIRATION";
+
+	public static final int DEFAULT_QUERY_CACHE_SIZE = 1000;
+
+	public static final int DEFAULT_PERSISTED_QUERY_CACHE_SIZE = 1000;
+
+	public static final int DEFAULT_PERSISTED_QUERY_EXPIRATION = 24 * 60 * 60;
+
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("Maximum amount of parsed and validated queries which will be cached. Setting the size to 0 will disable the cache. Default: "
+		+ DEFAULT_QUERY_CACHE_SIZE)
+	@EnvironmentVariable(name = MESH_GRAPHQL_QUERY_CACHE_SIZE_ENV, description = "Override the configured GraphQL query cache size.")
+	private int queryCacheSize = DEFAULT_QUERY_CACHE_SIZE;
+
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("Maximum amount of persisted queries which will be stored. Setting the size to 0 will disable persisted queries. Default: "
+		+ DEFAULT_PERSISTED_QUERY_CACHE_SIZE)
+	@EnvironmentVariable(name = MESH_GRAPHQL_PERSISTED_QUERY_CACHE_SIZE_ENV, description = "Override the configured persisted query cache size.")
+	private int persistedQueryCacheSize = DEFAULT_PERSISTED_QUERY_CACHE_SIZE;
+
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("Time in seconds after which a persisted query will be removed when it has not been used. Default: "
+		+ DEFAULT_PERSISTED_QUERY_EXPIRATION)
+	@EnvironmentVariable(name = MESH_GRAPHQL_PERSISTED_QUERY_EXPIRATION_ENV, description = "Override the configured persisted query expiration time.")
+	private int persistedQueryExpiration = DEFAULT_PERSISTED_QUERY_EXPIRATION;
+
+	public GraphQLOptions() {
+	}
+
+	/**
+	 * Return the maximum amount of cached queries.
+	 *
+	 * @return Cache size
+	 */
+	public int getQueryCacheSize() {
+		return queryCacheSize;
+	}
+
+	/**
+	 * Set the maximum amount of cached queries. A size of 0 disables the cache.
+	 *
+	 * @param queryCacheSize
+	 * @return Fluent API
+	 */
+	public GraphQLOptions setQueryCacheSize(int queryCacheSize) {
+		this.queryCacheSize = queryCacheSize;
+		return this;
+	}
+
+	/**
+	 * Return the maximum amount of stored persisted queries.
+	 *
+	 * @return Cache size
+	 */
+	public int getPersistedQueryCacheSize() {
+		return persistedQueryCacheSize;
+	}
+
+	/**
+	 * Set the maximum amount of stored persisted queries. A size of 0 disables persisted queries.
+	 *
+	 * @param persistedQueryCacheSize
+	 * @return Fluent API
+	 */
+	public GraphQLOptions setPersistedQueryCacheSize(int persistedQueryCacheSize) {
+		this.persistedQueryCacheSize = persistedQueryCacheSize;
+		return this;
+	}
+
+	/**
+	 * Return the time in seconds after which an unused persisted query will be removed.
+	 *
+	 * @return Expiration time in seconds
+	 */
+	public int getPersistedQueryExpiration() {
+		return persistedQueryExpiration;
+	}
+
+	/**
+	 * Set the time in seconds after which an unused persisted query will be removed.
+	 *
+	 * @param persistedQueryExpiration
+	 * @return Fluent API
+	 */
+	public GraphQLOptions setPersistedQueryExpiration(int persistedQueryExpiration) {
+		this.persistedQueryExpiration = persistedQueryExpiration;
+		return this;
+	}
+
+	@Override
+	public void validate(MeshOptions meshOptions) {
+		if (getQueryCacheSize() < 0) {
+			throw new IllegalArgumentException("The GraphQL query cache size must not be negative.");
+		}
+		if (getPersistedQueryCacheSize() < 0) {
+			throw new IllegalArgumentException("The persisted query cache size must not be negative.");
+		}
+		if (getPersistedQueryExpiration() < 1) {
+			throw new IllegalArgumentException("The persisted query expiration time must be at least 1 second.");
+		}
+	}
+
+}
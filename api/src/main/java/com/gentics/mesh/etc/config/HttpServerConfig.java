@@ -1,5 +1,9 @@
 package com.gentics.mesh.etc.config;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonPropertyDescription;
@@ -26,6 +30,21 @@ public class HttpServerConfig implements Option {
 	public static final String DEFAULT_CERT_PATH = "config/cert.pem";
 	public static final String DEFAULT_KEY_PATH = "config/key.pem";
 
+	public static final boolean DEFAULT_MINIFY_JSON = true;
+
+	public static final boolean DEFAULT_COMPRESSION_ENABLED = true;
+
+	public static final int DEFAULT_COMPRESSION_LEVEL = 6;
+
+	public static final int DEFAULT_COMPRESSION_MIN_SIZE = 1024;
+
+	public static final List<String> DEFAULT_COMPRESSION_CONTENT_TYPES = Arrays.asList("application/json", "application/javascript", "application/xml",
+		"application/graphql", "image/svg+xml", "text/");
+
+	public static final boolean DEFAULT_HTTP2_ENABLED = false;
+
+	public static final long DEFAULT_HTTP2_MAX_CONCURRENT_STREAMS = 100;
+
 	public static final String MESH_HTTP_PORT_ENV = "MESH_HTTP_PORT";
 	public static final String MESH_HTTP_HOST_ENV = "MESH_HTTP_HOST";
 	public static final String MESH_HTTP_CORS_ORIGIN_PATTERN_ENV = "MESH_HTTP_CORS_ORIGIN_PATTERN";
@@ -35,6 +54,12 @@ public class HttpServerConfig implements Option {
 	public static final String MESH_HTTP_SSL_CERT_PATH_ENV = "MESH_HTTP_SSL_CERT_PATH";
 	public static final String MESH_HTTP_SSL_KEY_PATH_ENV = "MESH_HTTP_SSL_KEY_PATH";
 	public static final String MESH_HTTP_CORS_ALLOW_CREDENTIALS_ENV = "MESH_HTTP_CORS_ALLOW_CREDENTIALS";
+	public static final String MESH_HTTP_MINIFY_JSON_ENV = "MESH_HTTP_MINIFY_JSON";
+	public static final String MESH_HTTP_COMPRESSION_ENABLE_ENV = "MESH_HTTP_COMPRESSION_ENABLE";
+	public static final String MESH_HTTP_COMPRESSION_LEVEL_ENV = "MESH_HTTP_COMPRESSION_LEVEL";
+	public static final String MESH_HTTP_COMPRESSION_MIN_SIZE_ENV = "MESH_HTTP_COMPRESSION_MIN_SIZE";
+	public static final String MESH_HTTP_HTTP2_ENABLE_ENV = "MESH_HTTP_HTTP2_ENABLE";
+	public static final String MESH_HTTP_HTTP2_MAX_CONCURRENT_STREAMS_ENV = "MESH_HTTP_HTTP2_MAX_CONCURRENT_STREAMS";
 
 	@JsonProperty(required = false)
 	@JsonPropertyDescription("Configure the Gentics Mesh HTTP server port. Default is: " + DEFAULT_HTTP_PORT)
@@ -76,6 +101,45 @@ public class HttpServerConfig implements Option {
 	@EnvironmentVariable(name = MESH_HTTP_SSL_KEY_PATH_ENV, description = "Override the configured SSL enable flag.")
 	private String keyPath = DEFAULT_KEY_PATH;
 
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("Flag which indicates whether JSON responses should be written without indentation. Pretty printed responses can still be requested via the pretty query parameter. Default: "
+		+ DEFAULT_MINIFY_JSON)
+	@EnvironmentVariable(name = MESH_HTTP_MINIFY_JSON_ENV, description = "Override the configured JSON minify flag.")
+	private boolean minifyJson = DEFAULT_MINIFY_JSON;
+
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("Flag which indicates whether responses should be compressed (gzip/deflate) for clients which accept a compressed response. Default: "
+		+ DEFAULT_COMPRESSION_ENABLED)
+	@EnvironmentVariable(name = MESH_HTTP_COMPRESSION_ENABLE_ENV, description = "Override the configured compression enable flag.")
+	private boolean enableCompression = DEFAULT_COMPRESSION_ENABLED;
+
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("Compression level between 1 (fastest) and 9 (best compression). Default: " + DEFAULT_COMPRESSION_LEVEL)
+	@EnvironmentVariable(name = MESH_HTTP_COMPRESSION_LEVEL_ENV, description = "Override the configured compression level.")
+	private int compressionLevel = DEFAULT_COMPRESSION_LEVEL;
+
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("Minimum size in bytes of responses which should be compressed. Responses with an unknown size will always be compressed. Default: "
+		+ DEFAULT_COMPRESSION_MIN_SIZE)
+	@EnvironmentVariable(name = MESH_HTTP_COMPRESSION_MIN_SIZE_ENV, description = "Override the configured minimum size of compressed responses.")
+	private int compressionMinSize = DEFAULT_COMPRESSION_MIN_SIZE;
+
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("Content types of the responses which should be compressed. Content types which start with one of the entries will be compressed. Default: application/json, application/javascript, application/xml, application/graphql, image/svg+xml, text/")
+	private List<String> compressionContentTypes = new ArrayList<>(DEFAULT_COMPRESSION_CONTENT_TYPES);
+
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("Flag which indicates whether HTTP/2 should be enabled. HTTP/2 will be negotiated via ALPN when SSL is enabled. ALPN requires Java 9 or newer, Java 8 needs additional ALPN support (e.g. netty-tcnative/OpenSSL or the jetty-alpn-agent). Otherwise clients can use cleartext HTTP/2 (h2c). Default: "
+		+ DEFAULT_HTTP2_ENABLED)
+	@EnvironmentVariable(name = MESH_HTTP_HTTP2_ENABLE_ENV, description = "Override the configured HTTP/2 enable flag.")
+	private boolean enableHttp2 = DEFAULT_HTTP2_ENABLED;
+
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("Maximum amount of concurrent streams which a client may open within a single HTTP/2 connection. Default: "
+		+ DEFAULT_HTTP2_MAX_CONCURRENT_STREAMS)
+	@EnvironmentVariable(name = MESH_HTTP_HTTP2_MAX_CONCURRENT_STREAMS_ENV, description = "Override the configured maximum amount of concurrent HTTP/2 streams.")
+	private long http2MaxConcurrentStreams = DEFAULT_HTTP2_MAX_CONCURRENT_STREAMS;
+
 	public HttpServerConfig() {
 	}
 
@@ -219,7 +283,158 @@ public class HttpServerConfig implements Option {
 		return this;
 	}
 
+	/**
+	 * Return the flag which indicates whether JSON responses should be written without indentation.
+	 * 
+	 * @return
+	 */
+	public boolean isMinifyJson() {
+		return minifyJson;
+	}
+
+	/**
+	 * Set the flag which indicates whether JSON responses should be written without indentation.
+	 * 
+	 * @param minifyJson
+	 * @return Fluent API
+	 */
+	public HttpServerConfig setMinifyJson(boolean minifyJson) {
+		this.minifyJson = minifyJson;
+		return this;
+	}
+
+	/**
+	 * Return the flag which indicates whether responses should be compressed.
+	 * 
+	 * @return
+	 */
+	public boolean isEnableCompression() {
+		return enableCompression;
+	}
+
+	/**
+	 * Set the flag which indicates whether responses should be compressed.
+	 * 
+	 * @param enableCompression
+	 * @return Fluent API
+	 */
+	public HttpServerConfig setEnableCompression(boolean enableCompression) {
+		this.enableCompression = enableCompression;
+		return this;
+	}
+
+	/**
+	 * Return the level which is used to compress responses.
+	 * 
+	 * @return Level between 1 (fastest) and 9 (best compression)
+	 */
+	public int getCompressionLevel() {
+		return compressionLevel;
+	}
+
+	/**
+	 * Set the level which is used to compress responses.
+	 * 
+	 * @param compressionLevel
+	 *            Level between 1 (fastest) and 9 (best compression)
+	 * @return Fluent API
+	 */
+	public HttpServerConfig setCompressionLevel(int compressionLevel) {
+		this.compressionLevel = compressionLevel;
+		return this;
+	}
+
+	/**
+	 * Return the minimum size of responses which should be compressed.
+	 * 
+	 * @return Size in bytes
+	 */
+	public int getCompressionMinSize() {
+		return compressionMinSize;
+	}
+
+	/**
+	 * Set the minimum size of responses which should be compressed.
+	 * 
+	 * @param compressionMinSize
+	 *            Size in bytes
+	 * @return Fluent API
+	 */
+	public HttpServerConfig setCompressionMinSize(int compressionMinSize) {
+		this.compressionMinSize = compressionMinSize;
+		return this;
+	}
+
+	/**
+	 * Return the content types of the responses which should be compressed.
+	 * 
+	 * @return
+	 */
+	public List<String> getCompressionContentTypes() {
+		return compressionContentTypes;
+	}
+
+	/**
+	 * Set the content types of the responses which should be compressed. Content types which start with one of the entries will be compressed.
+	 * 
+	 * @param compressionContentTypes
+	 * @return Fluent API
+	 */
+	public HttpServerConfig setCompressionContentTypes(List<String> compressionContentTypes) {
+		this.compressionContentTypes = compressionContentTypes;
+		return this;
+	}
+
+	/**
+	 * Return the flag which indicates whether HTTP/2 should be enabled.
+	 * 
+	 * @return
+	 */
+	public boolean isEnableHttp2() {
+		return enableHttp2;
+	}
+
+	/**
+	 * Set the flag which indicates whether HTTP/2 should be enabled.
+	 * 
+	 * @param enableHttp2
+	 * @return Fluent API
+	 */
+	public HttpServerConfig setEnableHttp2(boolean enableHttp2) {
+		this.enableHttp2 = enableHttp2;
+		return this;
+	}
+
+	/**
+	 * Return the maximum amount of concurrent streams which a client may open on a single HTTP/2 connection.
+	 * 
+	 * @return
+	 */
+	public long getHttp2MaxConcurrentStreams() {
+		return http2MaxConcurrentStreams;
+	}
+
+	/**
+	 * Set the maximum amount of concurrent streams which a client may open on a single HTTP/2 connection.
+	 * 
+	 * @param http2MaxConcurrentStreams
+	 * @return Fluent API
+	 */
+	public HttpServerConfig setHttp2MaxConcurrentStreams(long http2MaxConcurrentStreams) {
+		this.http2MaxConcurrentStreams = http2MaxConcurrentStreams;
+		return this;
+	}
+
 	public void validate(MeshOptions meshOptions) {
+		if (compressionLevel < 1 || compressionLevel > 9) {
+			throw new IllegalArgumentException("The compression level must be between 1 and 9.");
+		}
+		if (compressionMinSize < 0) {
+			throw new IllegalArgumentException("The minimum size of compressed responses must not be negative.");
+		}
+		if (http2MaxConcurrentStreams < 1) {
+			throw new IllegalArgumentException("The maximum amount of concurrent HTTP/2 streams must be at least 1.");
+		}
 	}
 
 }
@@ -1,6 +1,9 @@
 package com.gentics.mesh.etc.config;
 
 import java.io.File;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonPropertyDescription;
@@ -18,11 +21,14 @@ public class ImageManipulatorOptions implements Option {
 	public static final String MESH_IMAGE_MAX_HEIGHT_ENV = "MESH_IMAGE_MAX_HEIGHT";
 	public static final String MESH_IMAGE_JPEG_QUALITY_ENV = "MESH_IMAGE_JPEG_QUALITY";
 	public static final String MESH_IMAGE_RESAMPLE_FILTER_ENV = "MESH_IMAGE_RESAMPLE_FILTER";
+	public static final String MESH_IMAGE_CACHE_MAX_SIZE_ENV = "MESH_IMAGE_CACHE_MAX_SIZE";
+	public static final String MESH_IMAGE_SUBSAMPLING_ENV = "MESH_IMAGE_SUBSAMPLING";
 	public static final int DEFAULT_MAX_WIDTH = 2048;
 	public static final int DEFAULT_MAX_HEIGHT = 2048;
 	public static final float DEFAULT_JPEG_QUALITY = 0.95f;
 	// This is the default filter in ImageMagick
 	public static final ResampleFilter DEFAULT_RESAMPLE_FILTER = ResampleFilter.LANCZOS;
+	public static final long DEFAULT_IMAGE_CACHE_MAX_SIZE = 10L * 1024 * 1024 * 1024; // 10 GiB
 
 	private String imageCacheDirectory = "data" + File.separator + "binaryImageCache";
 
@@ -49,6 +55,21 @@ public class ImageManipulatorOptions implements Option {
 	@EnvironmentVariable(name = MESH_IMAGE_RESAMPLE_FILTER_ENV, description = "Override the sample filter for image resize operations.")
 	private ResampleFilter resampleFilter = DEFAULT_RESAMPLE_FILTER;
 
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("Configure the maximum size of the image cache in bytes. Cached image variants which are used rarely and have not been used recently will be removed once the size is exceeded. Default: "
+		+ DEFAULT_IMAGE_CACHE_MAX_SIZE)
+	@EnvironmentVariable(name = MESH_IMAGE_CACHE_MAX_SIZE_ENV, description = "Override the maximum size of the image cache.")
+	private long imageCacheMaxSize = DEFAULT_IMAGE_CACHE_MAX_SIZE;
+
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("Configure whether large images should be subsampled while decoding them for smaller variants. This reduces the memory usage and processing time of the resize operations. Default: true")
+	@EnvironmentVariable(name = MESH_IMAGE_SUBSAMPLING_ENV, description = "Override the image subsampling flag.")
+	private boolean subsampling = true;
+
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("Image variants which will be created in the background once an image has been uploaded. The key selects the binary fields by schema name (e.g. image) or by schema and field name (e.g. image.binary). The value lists the image manipulation query parameters of the variants (e.g. w=200&h=150&crop=focalpoint).")
+	private Map<String, List<String>> variantPresets = new HashMap<>();
+
 	/**
 	 * Return the binary image cache directory.
 	 * 
@@ -109,9 +130,96 @@ public class ImageManipulatorOptions implements Option {
 		return this;
 	}
 
-	public void validate(MeshOptions meshOptions) {
-		// TODO Auto-generated method stub
+	/**
+	 * Return the maximum size of the image cache.
+	 * 
+	 * @return Size in bytes
+	 */
+	public long getImageCacheMaxSize() {
+		return imageCacheMaxSize;
+	}
+
+	/**
+	 * Set the maximum size of the image cache.
+	 * 
+	 * @param imageCacheMaxSize
+	 *            Size in bytes
+	 * @return Fluent API
+	 */
+	public ImageManipulatorOptions setImageCacheMaxSize(long imageCacheMaxSize) {
+		this.imageCacheMaxSize = imageCacheMaxSize;
+		return this;
+	}
+
+	/**
+	 * Check whether large images will be subsampled while decoding them for smaller variants.
+	 * 
+	 * @return
+	 */
+	public boolean isSubsampling() {
+		return subsampling;
+	}
+
+	/**
+	 * Set whether large images will be subsampled while decoding them for smaller variants.
+	 * 
+	 * @param subsampling
+	 * @return Fluent API
+	 */
+	public ImageManipulatorOptions setSubsampling(boolean subsampling) {
+		this.subsampling = subsampling;
+		return this;
+	}
+
+	/**
+	 * Return the image variant presets. The key selects the binary fields by schema name or by schema and field name (separated by a dot). The values
+	 * are the image manipulation query parameters of the variants.
+	 * 
+	 * @return
+	 */
+	public Map<String, List<String>> getVariantPresets() {
+		return variantPresets;
+	}
+
+	/**
+	 * Set the image variant presets.
+	 * 
+	 * @param variantPresets
+	 * @return Fluent API
+	 */
+	public ImageManipulatorOptions setVariantPresets(Map<String, List<String>> variantPresets) {
+		this.variantPresets = variantPresets;
+		return this;
+	}
 
+	/**
+	 * Add image variant presets for the given schema or schema field.
+	 * 
+	 * @param selector
+	 *            Schema name or schema and field name (e.g. image.binary)
+	 * @param parameters
+	 *            Image manipulation query parameters of the variants (e.g. w=200&amp;h=150)
+	 * @return Fluent API
+	 */
+	public ImageManipulatorOptions addVariantPresets(String selector, List<String> parameters) {
+		this.variantPresets.put(selector, parameters);
+		return this;
+	}
+
+	public void validate(MeshOptions meshOptions) {
+		if (getImageCacheMaxSize() <= 0) {
+			throw new IllegalArgumentException("The maximum size of the image cache must be greater than zero.");
+		}
+		if (getVariantPresets() != null) {
+			for (Map.Entry<String, List<String>> entry : getVariantPresets().entrySet()) {
+				if (entry.getKey() == null || entry.getKey().isEmpty()) {
+					throw new IllegalArgumentException("The selector of the image variant presets must not be empty.");
+				}
+				if (entry.getValue() == null || entry.getValue().isEmpty()) {
+					throw new IllegalArgumentException("No image variant presets have been configured for {" + entry.getKey() + "}.");
+				}
+			}
+		}
 	}
 
 	public float getJpegQuality() {
@@ -83,6 +83,14 @@ public class MeshOptions implements Option {
 	@JsonPropertyDescription("Image handling options.")
 	private ImageManipulatorOptions imageOptions = new ImageManipulatorOptions();
 
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("Schema and microschema migration options.")
+	private MigrationOptions migrationOptions = new MigrationOptions();
+
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("GraphQL query cache options.")
+	private GraphQLOptions graphQLOptions = new GraphQLOptions();
+
 	@JsonProperty(required = false)
 	@JsonPropertyDescription("Path to the central tmp directory.")
 	@EnvironmentVariable(name = MESH_TEMP_DIR_ENV, description = "Override the configured temp directory.")
@@ -340,6 +348,48 @@ public class MeshOptions implements Option {
 		return this;
 	}
 
+	/**
+	 * Return the migration options.
+	 * 
+	 * @return
+	 */
+	@JsonProperty("migration")
+	public MigrationOptions getMigrationOptions() {
+		return migrationOptions;
+	}
+
+	/**
+	 * Set the migration options.
+	 * 
+	 * @param migrationOptions
+	 * @return Fluent API
+	 */
+	public MeshOptions setMigrationOptions(MigrationOptions migrationOptions) {
+		this.migrationOptions = migrationOptions;
+		return this;
+	}
+
+	/**
+	 * Return the GraphQL options.
+	 * 
+	 * @return
+	 */
+	@JsonProperty("graphql")
+	public GraphQLOptions getGraphQLOptions() {
+		return graphQLOptions;
+	}
+
+	/**
+	 * Set the GraphQL options.
+	 * 
+	 * @param graphQLOptions
+	 * @return Fluent API
+	 */
+	public MeshOptions setGraphQLOptions(GraphQLOptions graphQLOptions) {
+		this.graphQLOptions = graphQLOptions;
+		return this;
+	}
+
 	/**
 	 * Return update checker flag.
 	 * 
@@ -433,6 +483,18 @@ public class MeshOptions implements Option {
 		if (getImageOptions() != null) {
 			getImageOptions().validate(this);
 		}
+		if (getMigrationOptions() != null) {
+			getMigrationOptions().validate(this);
+		}
+		if (getGraphQLOptions() != null) {
+			getGraphQLOptions().validate(this);
+		}
+		if (getUploadOptions() != null) {
+			getUploadOptions().validate(this);
+		}
+		if (getVertxOptions() != null) {
+			getVertxOptions().validate(this);
+		}
 
 		// TODO check for other invalid characters in node name
 	}
@@ -15,10 +15,12 @@ public class MeshUploadOptions implements Option {
 	public static final long DEFAULT_FILEUPLOAD_BYTE_LIMIT = 1024 * 1024 * DEFAULT_FILEUPLOAD_MB_LIMIT;
 	public static final String DEFAULT_BINARY_DIRECTORY = "data" + File.separator + "binaryFiles";
 	public static final String DEFAULT_TEMP_DIR = "data" + File.separator + "tmp" + File.separator + "file-uploads";;
+	public static final long DEFAULT_GC_INTERVAL = 60_000; // 1 minute
 
 	public static final String MESH_BINARY_DIR_ENV = "MESH_BINARY_DIR";
 	public static final String MESH_BINARY_UPLOAD_TEMP_DIR_ENV = "MESH_BINARY_UPLOAD_TEMP_DIR";
 	public static final String MESH_BINARY_UPLOAD_LIMIT_ENV = "MESH_BINARY_UPLOAD_LIMIT";
+	public static final String MESH_BINARY_GC_INTERVAL_ENV = "MESH_BINARY_GC_INTERVAL";
 
 	@JsonProperty(required = false)
 	@JsonPropertyDescription("The upload size limit in bytes. Default: " + DEFAULT_FILEUPLOAD_MB_LIMIT)
@@ -35,6 +37,12 @@ public class MeshUploadOptions implements Option {
 	@EnvironmentVariable(name = MESH_BINARY_UPLOAD_TEMP_DIR_ENV, description = "Override the configured upload temporary directory.")
 	private String tempDirectory = DEFAULT_TEMP_DIR;
 
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("Interval in milliseconds in which binaries which are no longer referenced will be removed. Set this to 0 to disable the garbage collection. Default: "
+		+ DEFAULT_GC_INTERVAL)
+	@EnvironmentVariable(name = MESH_BINARY_GC_INTERVAL_ENV, description = "Override the configured binary garbage collection interval.")
+	private long gcInterval = DEFAULT_GC_INTERVAL;
+
 	/**
 	 * Return the upload limit in bytes.
 	 * 
@@ -98,4 +106,32 @@ public class MeshUploadOptions implements Option {
 		return this;
 	}
 
+	/**
+	 * Return the interval of the binary garbage collection.
+	 * 
+	 * @return Interval in milliseconds
+	 */
+	public long getGcInterval() {
+		return gcInterval;
+	}
+
+	/**
+	 * Set the interval of the binary garbage collection. Binaries which are no longer referenced by any field will be removed within this interval.
+	 * 
+	 * @param gcInterval
+	 *            Interval in milliseconds or 0 to disable the garbage collection
+	 * @return Fluent API
+	 */
+	public MeshUploadOptions setGcInterval(long gcInterval) {
+		this.gcInterval = gcInterval;
+		return this;
+	}
+
+	@Override
+	public void validate(MeshOptions meshOptions) {
+		if (getGcInterval() < 0) {
+			throw new IllegalArgumentException("The binary garbage collection interval must not be negative.");
+		}
+	}
+
 }
@@ -0,0 +1,63 @@
+package com.gentics.mesh.etc.config;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonPropertyDescription;
+import com.gentics.mesh.doc.GenerateDocumentation;
+import com.gentics.mesh.etc.config.env.EnvironmentVariable;
+import com.gentics.mesh.etc.config.env.Option;
+
+/**
+ * Configuration for schema and microschema migrations.
+ */
+@GenerateDocumentation
+public class MigrationOptions implements Option {
+
+	public static final String MESH_MIGRATION_THREADS_ENV = "MESH_MIGRATION_THREADS";
+	public static final String MESH_MIGRATION_CHUNK_SIZE_ENV = "MESH_MIGRATION_CHUNK_SIZE";
+
+	public static final int DEFAULT_MIGRATION_THREADS = 1;
+
+	public static final int DEFAULT_MIGRATION_CHUNK_SIZE = 1;
+
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("Amount of worker threads which migrate the containers in parallel. Default is: " + DEFAULT_MIGRATION_THREADS)
+	@EnvironmentVariable(name = MESH_MIGRATION_THREADS_ENV, description = "Override the configured amount of migration worker threads.")
+	private int threads = DEFAULT_MIGRATION_THREADS;
+
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("Amount of containers which will be migrated within a single transaction. Default is: " + DEFAULT_MIGRATION_CHUNK_SIZE)
+	@EnvironmentVariable(name = MESH_MIGRATION_CHUNK_SIZE_ENV, description = "Override the configured migration chunk size.")
+	private int chunkSize = DEFAULT_MIGRATION_CHUNK_SIZE;
+
+	public MigrationOptions() {
+	}
+
+	public int getThreads() {
+		return threads;
+	}
+
+	public MigrationOptions setThreads(int threads) {
+		this.threads = threads;
+		return this;
+	}
+
+	public int getChunkSize() {
+		return chunkSize;
+	}
+
+	public MigrationOptions setChunkSize(int chunkSize) {
+		this.chunkSize = chunkSize;
+		return this;
+	}
+
+	@Override
+	public void validate(MeshOptions meshOptions) {
+		if (getThreads() < 1) {
+			throw new IllegalArgumentException("The amount of migration threads must be at least 1.");
+		}
+		if (getChunkSize() < 1) {
+			throw new IllegalArgumentException("The migration chunk size must be at least 1.");
+		}
+	}
+
+}
@@ -20,6 +20,30 @@ public class VertxOptions implements Option {
 
 	public static final String MESH_VERTX_EVENT_POOL_SIZE_ENV = "MESH_VERTX_EVENT_POOL_SIZE";
 
+	public static final int DEFAULT_READ_POOL_SIZE = 20;
+
+	public static final int DEFAULT_READ_QUEUE_SIZE = 1000;
+
+	public static final int DEFAULT_WRITE_POOL_SIZE = 10;
+
+	public static final int DEFAULT_WRITE_QUEUE_SIZE = 500;
+
+	public static final int DEFAULT_ADMIN_POOL_SIZE = 4;
+
+	public static final int DEFAULT_ADMIN_QUEUE_SIZE = 100;
+
+	public static final String MESH_VERTX_READ_POOL_SIZE_ENV = "MESH_VERTX_READ_POOL_SIZE";
+
+	public static final String MESH_VERTX_READ_QUEUE_SIZE_ENV = "MESH_VERTX_READ_QUEUE_SIZE";
+
+	public static final String MESH_VERTX_WRITE_POOL_SIZE_ENV = "MESH_VERTX_WRITE_POOL_SIZE";
+
+	public static final String MESH_VERTX_WRITE_QUEUE_SIZE_ENV = "MESH_VERTX_WRITE_QUEUE_SIZE";
+
+	public static final String MESH_VERTX_ADMIN_POOL_SIZE_ENV = "MESH_VERTX_ADMIN_POOL_SIZE";
+
+	public static final String MESH_VERTX_ADMIN_QUEUE_SIZE_ENV = "MESH_VERTX_ADMIN_QUEUE_SIZE";
+
 	@JsonProperty(required = false)
 	@JsonPropertyDescription("Configure worker pool size. Default is: " + DEFAULT_WORKER_POOL_SIZE)
 	@EnvironmentVariable(name = MESH_VERTX_WORKER_POOL_SIZE_ENV, description = "Override the configured Vert.x worker pool size.")
@@ -30,6 +54,39 @@ public class VertxOptions implements Option {
 	@EnvironmentVariable(name = MESH_VERTX_EVENT_POOL_SIZE_ENV, description = "Override the configured Vert.x event pool size.")
 	private int eventPoolSize = DEFAULT_EVENT_POOL_SIZE;
 
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("Configure the size of the worker pool which processes read requests. Default is: " + DEFAULT_READ_POOL_SIZE)
+	@EnvironmentVariable(name = MESH_VERTX_READ_POOL_SIZE_ENV, description = "Override the configured read worker pool size.")
+	private int readPoolSize = DEFAULT_READ_POOL_SIZE;
+
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("Configure the amount of read requests which may wait for a thread of the read worker pool. Further requests will be rejected with 503 Service Unavailable. Use -1 for an unbounded queue. Default is: "
+		+ DEFAULT_READ_QUEUE_SIZE)
+	@EnvironmentVariable(name = MESH_VERTX_READ_QUEUE_SIZE_ENV, description = "Override the configured read worker queue size.")
+	private int readQueueSize = DEFAULT_READ_QUEUE_SIZE;
+
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("Configure the size of the worker pool which processes write requests. Default is: " + DEFAULT_WRITE_POOL_SIZE)
+	@EnvironmentVariable(name = MESH_VERTX_WRITE_POOL_SIZE_ENV, description = "Override the configured write worker pool size.")
+	private int writePoolSize = DEFAULT_WRITE_POOL_SIZE;
+
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("Configure the amount of write requests which may wait for a thread of the write worker pool. Further requests will be rejected with 503 Service Unavailable. Use -1 for an unbounded queue. Default is: "
+		+ DEFAULT_WRITE_QUEUE_SIZE)
+	@EnvironmentVariable(name = MESH_VERTX_WRITE_QUEUE_SIZE_ENV, description = "Override the configured write worker queue size.")
+	private int writeQueueSize = DEFAULT_WRITE_QUEUE_SIZE;
+
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("Configure the size of the worker pool which processes administrative requests. Default is: " + DEFAULT_ADMIN_POOL_SIZE)
+	@EnvironmentVariable(name = MESH_VERTX_ADMIN_POOL_SIZE_ENV, description = "Override the configured admin worker pool size.")
+	private int adminPoolSize = DEFAULT_ADMIN_POOL_SIZE;
+
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("Configure the amount of administrative requests which may wait for a thread of the admin worker pool. Further requests will be rejected with 503 Service Unavailable. Use -1 for an unbounded queue. Default is: "
+		+ DEFAULT_ADMIN_QUEUE_SIZE)
+	@EnvironmentVariable(name = MESH_VERTX_ADMIN_QUEUE_SIZE_ENV, description = "Override the configured admin worker queue size.")
+	private int adminQueueSize = DEFAULT_ADMIN_QUEUE_SIZE;
+
 	public int getEventPoolSize() {
 		return eventPoolSize;
 	}
@@ -48,4 +105,68 @@ public class VertxOptions implements Option {
 		return this;
 	}
 
+	public int getReadPoolSize() {
+		return readPoolSize;
+	}
+
+	public VertxOptions setReadPoolSize(int readPoolSize) {
+		this.readPoolSize = readPoolSize;
+		return this;
+	}
+
+	public int getReadQueueSize() {
+		return readQueueSize;
+	}
+
+	public VertxOptions setReadQueueSize(int readQueueSize) {
+		this.readQueueSize = readQueueSize;
+		return this;
+	}
+
+	public int getWritePoolSize() {
+		return writePoolSize;
+	}
+
+	public VertxOptions setWritePoolSize(int writePoolSize) {
+		this.writePoolSize = writePoolSize;
+		return this;
+	}
+
+	public int getWriteQueueSize() {
+		return writeQueueSize;
+	}
+
+	public VertxOptions setWriteQueueSize(int writeQueueSize) {
+		this.writeQueueSize = writeQueueSize;
+		return this;
+	}
+
+	public int getAdminPoolSize() {
+		return adminPoolSize;
+	}
+
+	public VertxOptions setAdminPoolSize(int adminPoolSize) {
+		this.adminPoolSize = adminPoolSize;
+		return this;
+	}
+
+	public int getAdminQueueSize() {
+		return adminQueueSize;
+	}
+
+	public VertxOptions setAdminQueueSize(int adminQueueSize) {
+		this.adminQueueSize = adminQueueSize;
+		return this;
+	}
+
+	@Override
+	public void validate(MeshOptions options) {
+		if (readPoolSize < 1 || writePoolSize < 1 || adminPoolSize < 1) {
+			throw new IllegalArgumentException("The sizes of the read, write and admin worker pools must be at least 1.");
+		}
+		if (readQueueSize < -1 || writeQueueSize < -1 || adminQueueSize < -1) {
+			throw new IllegalArgumentException("The sizes of the read, write and admin worker queues must not be smaller than -1.");
+		}
+	}
+
 }
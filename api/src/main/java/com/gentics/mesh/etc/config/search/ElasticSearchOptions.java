@@ -1,5 +1,8 @@
 package com.gentics.mesh.etc.config.search;
 
+import java.io.File;
+import java.util.Objects;
+
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonPropertyDescription;
 import com.gentics.mesh.doc.GenerateDocumentation;
@@ -23,8 +26,22 @@ public class ElasticSearchOptions implements Option {
 
 	public static final int DEFAULT_BULK_LIMIT = 2000;
 
+	public static final long DEFAULT_BULK_LENGTH_LIMIT = 5_000_000L;
+
+	public static final int DEFAULT_SYNC_CONCURRENCY = 2;
+
+	public static final int DEFAULT_SYNC_DIFF_LIMIT = 200_000;
+
 	public static final String DEFAULT_PREFIX = "mesh-";
 
+	public static final boolean DEFAULT_OUTBOX_ENABLED = false;
+
+	public static final String DEFAULT_OUTBOX_DIRECTORY = "data" + File.separator + "searchOutbox";
+
+	public static final long DEFAULT_OUTBOX_INTERVAL = 500L;
+
+	public static final long DEFAULT_OUTBOX_WAIT_TIMEOUT = 60_000L;
+
 	public static final String DEFAULT_ARGS = "-Xms1g -Xmx1g -XX:+UseConcMarkSweepGC -XX:CMSInitiatingOccupancyFraction=75 -XX:+UseCMSInitiatingOccupancyOnly -XX:+AlwaysPreTouch -client -Xss1m -Djava.awt.headless=true -Dfile.encoding=UTF-8 -Djna.nosys=true -XX:-OmitStackTraceInFastThrow -Dio.netty.noUnsafe=true -Dio.netty.noKeySetOptimization=true -Dio.netty.recycler.maxCapacityPerThread=0 -Dlog4j.shutdownHookEnabled=false -Dlog4j2.disable.jmx=true -XX:+HeapDumpOnOutOfMemoryError";
 
 	public static final String MESH_ELASTICSEARCH_URL_ENV = "MESH_ELASTICSEARCH_URL";
@@ -32,6 +49,13 @@ public class ElasticSearchOptions implements Option {
 	public static final String MESH_ELASTICSEARCH_STARTUP_TIMEOUT_ENV = "MESH_ELASTICSEARCH_STARTUP_TIMEOUT";
 	public static final String MESH_ELASTICSEARCH_START_EMBEDDED_ENV = "MESH_ELASTICSEARCH_START_EMBEDDED";
 	public static final String MESH_ELASTICSEARCH_PREFIX_ENV = "MESH_ELASTICSEARCH_PREFIX";
+	public static final String MESH_ELASTICSEARCH_BULK_LENGTH_LIMIT_ENV = "MESH_ELASTICSEARCH_BULK_LENGTH_LIMIT";
+	public static final String MESH_ELASTICSEARCH_SYNC_CONCURRENCY_ENV = "MESH_ELASTICSEARCH_SYNC_CONCURRENCY";
+	public static final String MESH_ELASTICSEARCH_SYNC_DIFF_LIMIT_ENV = "MESH_ELASTICSEARCH_SYNC_DIFF_LIMIT";
+	public static final String MESH_ELASTICSEARCH_OUTBOX_ENABLE_ENV = "MESH_ELASTICSEARCH_OUTBOX_ENABLE";
+	public static final String MESH_ELASTICSEARCH_OUTBOX_DIRECTORY_ENV = "MESH_ELASTICSEARCH_OUTBOX_DIRECTORY";
+	public static final String MESH_ELASTICSEARCH_OUTBOX_INTERVAL_ENV = "MESH_ELASTICSEARCH_OUTBOX_INTERVAL";
+	public static final String MESH_ELASTICSEARCH_OUTBOX_WAIT_TIMEOUT_ENV = "MESH_ELASTICSEARCH_OUTBOX_WAIT_TIMEOUT";
 
 	@JsonProperty(required = false)
 	@JsonPropertyDescription("Elasticsearch connection url to be used. Set this setting to null will disable the Elasticsearch support.")
@@ -61,12 +85,51 @@ public class ElasticSearchOptions implements Option {
 	@JsonPropertyDescription("Upper limit for the size of bulk requests.")
 	private int bulkLimit = DEFAULT_BULK_LIMIT;
 
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("Upper limit for the size of bulk requests in bytes. Larger bulk requests will be split. Default: " + DEFAULT_BULK_LENGTH_LIMIT)
+	@EnvironmentVariable(name = MESH_ELASTICSEARCH_BULK_LENGTH_LIMIT_ENV, description = "Override the bulk request length limit.")
+	private long bulkLengthLimit = DEFAULT_BULK_LENGTH_LIMIT;
+
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("Amount of indices which will be synchronized in parallel during the index sync. Default: " + DEFAULT_SYNC_CONCURRENCY)
+	@EnvironmentVariable(name = MESH_ELASTICSEARCH_SYNC_CONCURRENCY_ENV, description = "Override the index sync concurrency.")
+	private int syncConcurrency = DEFAULT_SYNC_CONCURRENCY;
+
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("Maximum amount of document versions per index which will be kept in memory while comparing the index with the graph during the index sync. Default: "
+		+ DEFAULT_SYNC_DIFF_LIMIT)
+	@EnvironmentVariable(name = MESH_ELASTICSEARCH_SYNC_DIFF_LIMIT_ENV, description = "Override the index sync diff limit.")
+	private int syncDiffLimit = DEFAULT_SYNC_DIFF_LIMIT;
+
 	@JsonProperty(required = false)
 	@JsonPropertyDescription("Search server prefix for this installation. Choosing different prefixes for each Gentics Mesh instance will allow you to use a single Elasticsearch cluster for multiple Gentics Mesh instances. Default: "
 		+ DEFAULT_PREFIX)
 	@EnvironmentVariable(name = MESH_ELASTICSEARCH_PREFIX_ENV, description = "Override the configured elasticsearch prefix.")
 	private String prefix = DEFAULT_PREFIX;
 
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("Flag which indicates whether the search index should be updated asynchronously. Write requests will store the pending index changes in a durable outbox which is processed in the background. Default: "
+		+ DEFAULT_OUTBOX_ENABLED)
+	@EnvironmentVariable(name = MESH_ELASTICSEARCH_OUTBOX_ENABLE_ENV, description = "Override the search index outbox enable flag.")
+	private boolean enableOutbox = DEFAULT_OUTBOX_ENABLED;
+
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("Path to the directory which contains the search index outbox. Default: " + DEFAULT_OUTBOX_DIRECTORY)
+	@EnvironmentVariable(name = MESH_ELASTICSEARCH_OUTBOX_DIRECTORY_ENV, description = "Override the search index outbox directory.")
+	private String outboxDirectory = DEFAULT_OUTBOX_DIRECTORY;
+
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("Interval in milliseconds in which the search index outbox will be checked for pending changes. Default: "
+		+ DEFAULT_OUTBOX_INTERVAL)
+	@EnvironmentVariable(name = MESH_ELASTICSEARCH_OUTBOX_INTERVAL_ENV, description = "Override the search index outbox interval.")
+	private long outboxInterval = DEFAULT_OUTBOX_INTERVAL;
+
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("Maximum time in milliseconds a request which uses the waitForIndex parameter will wait for the search index. Default: "
+		+ DEFAULT_OUTBOX_WAIT_TIMEOUT)
+	@EnvironmentVariable(name = MESH_ELASTICSEARCH_OUTBOX_WAIT_TIMEOUT_ENV, description = "Override the search index outbox wait timeout.")
+	private long outboxWaitTimeout = DEFAULT_OUTBOX_WAIT_TIMEOUT;
+
 	public ElasticSearchOptions() {
 
 	}
@@ -130,7 +193,21 @@ public class ElasticSearchOptions implements Option {
 	}
 
 	public void validate(MeshOptions meshOptions) {
-
+		if (getBulkLengthLimit() <= 0) {
+			throw new IllegalArgumentException("The bulk length limit must be greater than zero.");
+		}
+		if (getSyncConcurrency() <= 0) {
+			throw new IllegalArgumentException("The index sync concurrency must be greater than zero.");
+		}
+		if (getSyncDiffLimit() <= 0) {
+			throw new IllegalArgumentException("The index sync diff limit must be greater than zero.");
+		}
+		if (isEnableOutbox()) {
+			Objects.requireNonNull(getOutboxDirectory(), "The search index outbox directory must be set when the outbox is enabled.");
+			if (getOutboxInterval() <= 0) {
+				throw new IllegalArgumentException("The search index outbox interval must be greater than zero.");
+			}
+		}
 	}
 
 	public long getStartupTimeout() {
@@ -151,6 +228,33 @@ public class ElasticSearchOptions implements Option {
 		return this;
 	}
 
+	public long getBulkLengthLimit() {
+		return bulkLengthLimit;
+	}
+
+	public ElasticSearchOptions setBulkLengthLimit(long bulkLengthLimit) {
+		this.bulkLengthLimit = bulkLengthLimit;
+		return this;
+	}
+
+	public int getSyncConcurrency() {
+		return syncConcurrency;
+	}
+
+	public ElasticSearchOptions setSyncConcurrency(int syncConcurrency) {
+		this.syncConcurrency = syncConcurrency;
+		return this;
+	}
+
+	public int getSyncDiffLimit() {
+		return syncDiffLimit;
+	}
+
+	public ElasticSearchOptions setSyncDiffLimit(int syncDiffLimit) {
+		this.syncDiffLimit = syncDiffLimit;
+		return this;
+	}
+
 	public String getPrefix() {
 		return prefix;
 	}
@@ -160,4 +264,40 @@ public class ElasticSearchOptions implements Option {
 		return this;
 	}
 
+	public boolean isEnableOutbox() {
+		return enableOutbox;
+	}
+
+	public ElasticSearchOptions setEnableOutbox(boolean enableOutbox) {
+		this.enableOutbox = enableOutbox;
+		return this;
+	}
+
+	public String getOutboxDirectory() {
+		return outboxDirectory;
+	}
+
+	public ElasticSearchOptions setOutboxDirectory(String outboxDirectory) {
+		this.outboxDirectory = outboxDirectory;
+		return this;
+	}
+
+	public long getOutboxInterval() {
+		return outboxInterval;
+	}
+
+	public ElasticSearchOptions setOutboxInterval(long outboxInterval) {
+		this.outboxInterval = outboxInterval;
+		return this;
+	}
+
+	public long getOutboxWaitTimeout() {
+		return outboxWaitTimeout;
+	}
+
+	public ElasticSearchOptions setOutboxWaitTimeout(long outboxWaitTimeout) {
+		this.outboxWaitTimeout = outboxWaitTimeout;
+		return this;
+	}
+
 }
@@ -15,6 +15,7 @@ import com.gentics.mesh.Mesh;
 import com.gentics.mesh.auth.AuthenticationResult;
 import com.gentics.mesh.cli.BootstrapInitializer;
 import com.gentics.mesh.context.InternalActionContext;
+import com.gentics.mesh.core.cache.AuthUserCache;
 import com.gentics.mesh.core.data.MeshAuthUser;
 import com.gentics.mesh.core.rest.auth.TokenResponse;
 import com.gentics.mesh.etc.config.AuthenticationOptions;
@@ -56,11 +57,15 @@ public class MeshJWTAuthProvider implements AuthProvider, JWTAuth {
 
 	private BootstrapInitializer boot;
 
+	private AuthUserCache userCache;
+
 	@Inject
-	public MeshJWTAuthProvider(Vertx vertx, BCryptPasswordEncoder passwordEncoder, Database database, BootstrapInitializer boot) {
+	public MeshJWTAuthProvider(Vertx vertx, BCryptPasswordEncoder passwordEncoder, Database database, BootstrapInitializer boot,
+		AuthUserCache userCache) {
 		this.passwordEncoder = passwordEncoder;
 		this.db = database;
 		this.boot = boot;
+		this.userCache = userCache;
 
 		// Use the mesh JWT options in order to setup the JWTAuth provider
 		AuthenticationOptions options = Mesh.mesh().getOptions().getAuthenticationOptions();
@@ -80,7 +85,7 @@ public class MeshJWTAuthProvider implements AuthProvider, JWTAuth {
 	public void authenticateJWT(JsonObject authInfo, Handler<AsyncResult<AuthenticationResult>> resultHandler) {
 		if (authInfo.getString("jwt") != null) {
 			// Decode and validate the JWT. A JWTUser will be returned which contains the decoded token.
-			// We will use this information to load the Mesh User from the graph.
+			// We will use this information to load the Mesh User from the graph unless it has already been cached.
 			jwtProvider.authenticate(authInfo, rh -> {
 				if (rh.failed()) {
 					if (log.isDebugEnabled()) {
@@ -92,7 +97,9 @@ public class MeshJWTAuthProvider implements AuthProvider, JWTAuth {
 				} else {
 					JsonObject decodedJwt = rh.result().principal();
 					try {
-						User user = loadUserByJWT(decodedJwt);
+						String userUuid = decodedJwt.getString(USERID_FIELD_NAME);
+						String tokenId = decodedJwt.getString(API_KEY_TOKEN_CODE_FIELD_NAME);
+						User user = userCache.get(userUuid, tokenId, () -> loadUserByJWT(decodedJwt));
 						AuthenticationResult result = new AuthenticationResult(user);
 
 						// Check whether an api key was used to authenticate the user.
@@ -246,7 +253,7 @@ public class MeshJWTAuthProvider implements AuthProvider, JWTAuth {
 	 * @return Mesh user
 	 * @throws Exception
 	 */
-	private User loadUserByJWT(JsonObject jwt) throws Exception {
+	private MeshAuthUser loadUserByJWT(JsonObject jwt) throws Exception {
 		try (Tx tx = db.tx()) {
 			String userUuid = jwt.getString(USERID_FIELD_NAME);
 			MeshAuthUser user = boot.userRoot().findMeshAuthUserByUuid(userUuid);
@@ -280,6 +287,15 @@ public class MeshJWTAuthProvider implements AuthProvider, JWTAuth {
 		}
 	}
 
+	/**
+	 * Evict the cached users of the given uuid on all instances. This needs to be invoked whenever the API key of the user has been changed.
+	 *
+	 * @param userUuid
+	 */
+	public void invalidateCachedUser(String userUuid) {
+		userCache.invalidateUser(userUuid, true);
+	}
+
 	/**
 	 * Handle the login action and set a token cookie if the credentials are valid.
 	 *
@@ -1,27 +1,47 @@
 package com.gentics.mesh.context;
 
 import static com.gentics.mesh.core.rest.error.Errors.error;
+import static com.gentics.mesh.http.HttpConstants.APPLICATION_JSON_UTF8;
+import static com.gentics.mesh.metric.Metrics.JSON_BYTES_SAVED;
+import static com.gentics.mesh.metric.Metrics.JSON_RESPONSE_SIZE;
+import static com.gentics.mesh.metric.Metrics.JSON_SERIALIZATION_TIME;
 import static io.netty.handler.codec.http.HttpResponseStatus.BAD_REQUEST;
 import static io.netty.handler.codec.http.HttpResponseStatus.INTERNAL_SERVER_ERROR;
 import static org.apache.commons.lang3.StringUtils.isEmpty;
 
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 
+import com.codahale.metrics.Timer;
+import com.gentics.mesh.Mesh;
 import com.gentics.mesh.core.data.Branch;
 import com.gentics.mesh.core.data.Project;
 import com.gentics.mesh.core.rest.common.RestModel;
 import com.gentics.mesh.core.rest.error.GenericRestException;
+import com.gentics.mesh.etc.config.HttpServerConfig;
+import com.gentics.mesh.etc.config.MeshOptions;
+import com.gentics.mesh.json.JsonUtil;
+import com.gentics.mesh.metric.MetricsService;
 
 import io.netty.handler.codec.http.HttpResponseStatus;
 import io.vertx.core.AsyncResult;
 import io.vertx.core.Handler;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.json.JsonObject;
 
 /**
  * Abstract class for internal action context.
  */
 public abstract class AbstractInternalActionContext extends AbstractActionContext implements InternalActionContext {
 
+	/**
+	 * Every n-th minified response will also be pretty printed in order to measure the saved bytes.
+	 */
+	private static final int BYTES_SAVED_SAMPLE_RATE = 100;
+
+	private static final AtomicLong minifiedResponses = new AtomicLong();
+
 	/**
 	 * Field which will store the body model.
 	 */
@@ -29,7 +49,65 @@ public abstract class AbstractInternalActionContext extends AbstractActionContex
 
 	@Override
 	public void send(RestModel restModel, HttpResponseStatus status) {
-		send(restModel.toJson(), status);
+		sendJson(restModel, status);
+	}
+
+	@Override
+	public void send(JsonObject json, HttpResponseStatus status) {
+		sendJson(json, status);
+	}
+
+	/**
+	 * Serialize the model directly into the response buffer and send it.
+	 * 
+	 * @param model
+	 * @param status
+	 */
+	private void sendJson(Object model, HttpResponseStatus status) {
+		boolean minify = isMinifyJson();
+		MetricsService metrics = getMetrics();
+		if (metrics == null || !metrics.isEnabled()) {
+			send(JsonUtil.toJsonBuffer(model, minify), status, APPLICATION_JSON_UTF8);
+			return;
+		}
+		Buffer body;
+		Timer.Context context = metrics.timer(JSON_SERIALIZATION_TIME).time();
+		try {
+			body = JsonUtil.toJsonBuffer(model, minify);
+		} finally {
+			context.stop();
+		}
+		metrics.histogram(JSON_RESPONSE_SIZE).update(body.length());
+		if (minify && minifiedResponses.incrementAndGet() % BYTES_SAVED_SAMPLE_RATE == 0) {
+			metrics.histogram(JSON_BYTES_SAVED).update(JsonUtil.toJsonBuffer(model, false).length() - body.length());
+		}
+		send(body, status, APPLICATION_JSON_UTF8);
+	}
+
+	/**
+	 * Return the metrics service which records the JSON serialization metrics.
+	 * 
+	 * @return Metrics service or null if no metrics should be recorded
+	 */
+	protected MetricsService getMetrics() {
+		return null;
+	}
+
+	/**
+	 * Check whether the JSON response should be written without indentation. The pretty query parameter overrides the configured default.
+	 * 
+	 * @return
+	 */
+	protected boolean isMinifyJson() {
+		Boolean pretty = getGenericParameters().getPretty();
+		if (pretty != null) {
+			return !pretty;
+		}
+		MeshOptions options = Mesh.mesh().getOptions();
+		if (options == null || options.getHttpServerOptions() == null) {
+			return HttpServerConfig.DEFAULT_MINIFY_JSON;
+		}
+		return options.getHttpServerOptions().isMinifyJson();
 	}
 
 	@Override
@@ -13,6 +13,8 @@ import io.netty.handler.codec.http.HttpResponseStatus;
 import io.vertx.core.AsyncResult;
 import io.vertx.core.Handler;
 import io.vertx.core.MultiMap;
+import io.vertx.core.http.HttpMethod;
+import io.vertx.core.json.JsonObject;
 import io.vertx.ext.web.Cookie;
 import io.vertx.ext.web.FileUpload;
 
@@ -77,6 +79,14 @@ public interface InternalActionContext extends ActionContext, ParameterProviderC
 	 */
 	void send(RestModel result, HttpResponseStatus status);
 
+	/**
+	 * Send the JSON object with the given status.
+	 * 
+	 * @param json
+	 * @param status
+	 */
+	void send(JsonObject json, HttpResponseStatus status);
+
 	/**
 	 * Finish the request and send the provided respond. No body will be send.
 	 * 
@@ -139,6 +149,15 @@ public interface InternalActionContext extends ActionContext, ParameterProviderC
 	 */
 	boolean isMigrationContext();
 
+	/**
+	 * Return the HTTP method of the request which is handled by the context.
+	 * 
+	 * @return HTTP method or null if the context does not belong to a HTTP request
+	 */
+	default HttpMethod getHttpMethod() {
+		return null;
+	}
+
 	/**
 	 * Set the webroot response type.
 	 * 
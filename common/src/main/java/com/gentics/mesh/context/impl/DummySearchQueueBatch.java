@@ -90,6 +90,11 @@ public class DummySearchQueueBatch implements SearchQueueBatch {
 		return Completable.complete();
 	}
 
+	@Override
+	public Completable processDirect() {
+		return Completable.complete();
+	}
+
 	@Override
 	public void processSync(long timeout, TimeUnit unit) {
 
@@ -7,19 +7,26 @@ import java.util.Locale;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
 
+import com.gentics.mesh.Mesh;
 import com.gentics.mesh.auth.provider.MeshJWTAuthProvider;
 import com.gentics.mesh.context.AbstractInternalActionContext;
 import com.gentics.mesh.core.data.MeshAuthUser;
 import com.gentics.mesh.core.data.Project;
+import com.gentics.mesh.core.data.search.SearchOutbox;
 import com.gentics.mesh.core.rest.error.GenericRestException;
 import com.gentics.mesh.http.MeshHeaders;
+import com.gentics.mesh.metric.MetricsService;
 import com.gentics.mesh.router.ProjectsRouter;
 import com.gentics.mesh.util.ETag;
 
 import io.netty.handler.codec.http.HttpResponseStatus;
+import io.vertx.core.Context;
 import io.vertx.core.MultiMap;
+import io.vertx.core.buffer.Buffer;
 import io.vertx.core.http.HttpHeaders;
+import io.vertx.core.http.HttpMethod;
 import io.vertx.core.logging.Logger;
 import io.vertx.core.logging.LoggerFactory;
 import io.vertx.ext.web.Cookie;
@@ -77,14 +84,52 @@ public class InternalRoutingActionContextImpl extends AbstractInternalActionCont
 
 	@Override
 	public void send(String body, HttpResponseStatus status, String contentType) {
-		rc.response().putHeader(HttpHeaders.CONTENT_TYPE, contentType);
-		rc.response().putHeader(HttpHeaders.CACHE_CONTROL, "no-cache");
-		rc.response().setStatusCode(status.code()).end(body);
+		send(Buffer.buffer(body), status, contentType);
+	}
+
+	@Override
+	public void send(Buffer body, HttpResponseStatus status, String contentType) {
+		whenIndexed(() -> {
+			rc.response().putHeader(HttpHeaders.CONTENT_TYPE, contentType);
+			rc.response().putHeader(HttpHeaders.CACHE_CONTROL, "no-cache");
+			// The length must be known before the headers are written since the compression filter decides on it
+			rc.response().putHeader(HttpHeaders.CONTENT_LENGTH, String.valueOf(body.length()));
+			rc.response().setStatusCode(status.code()).end(body);
+		});
 	}
 
 	@Override
 	public void send(HttpResponseStatus status) {
-		rc.response().setStatusCode(status.code()).end();
+		whenIndexed(() -> {
+			rc.response().setStatusCode(status.code()).end();
+		});
+	}
+
+	@Override
+	protected MetricsService getMetrics() {
+		return rc.get(MetricsService.CONTEXT_KEY);
+	}
+
+	/**
+	 * Invoke the given action once the search outbox has written the pending changes to the search index if the request uses the waitForIndex parameter.
+	 * Otherwise the action will be invoked directly. The action will also be invoked if the configured wait timeout has been exceeded.
+	 * 
+	 * @param action
+	 */
+	private void whenIndexed(Runnable action) {
+		SearchOutbox outbox = rc.get(SearchOutbox.WAIT_FOR_INDEX_KEY);
+		if (outbox == null || !outbox.isEnabled()) {
+			action.run();
+			return;
+		}
+		long timeout = Mesh.mesh().getOptions().getSearchOptions().getOutboxWaitTimeout();
+		Context context = rc.vertx().getOrCreateContext();
+		outbox.flush()
+			.timeout(timeout, TimeUnit.MILLISECONDS)
+			.subscribe(() -> context.runOnContext(v -> action.run()), error -> {
+				log.warn("The changes of the request were not written to the search index within {" + timeout + "} ms", error);
+				context.runOnContext(v -> action.run());
+			});
 	}
 
 	@Override
@@ -201,4 +246,9 @@ public class InternalRoutingActionContextImpl extends AbstractInternalActionCont
 		return false;
 	}
 
+	@Override
+	public HttpMethod getHttpMethod() {
+		return rc.request().method();
+	}
+
 }
@@ -0,0 +1,220 @@
+package com.gentics.mesh.core.cache;
+
+import static com.gentics.mesh.MeshEvent.GROUP_DELETED;
+import static com.gentics.mesh.MeshEvent.GROUP_UPDATED;
+import static com.gentics.mesh.MeshEvent.ROLE_DELETED;
+import static com.gentics.mesh.MeshEvent.ROLE_UPDATED;
+import static com.gentics.mesh.MeshEvent.USER_DELETED;
+import static com.gentics.mesh.MeshEvent.USER_UPDATED;
+import static com.gentics.mesh.metric.Metrics.USER_CACHE_HIT;
+import static com.gentics.mesh.metric.Metrics.USER_CACHE_MISS;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.inject.Inject;
+import javax.inject.Singleton;
+
+import com.codahale.metrics.Meter;
+import com.codahale.metrics.MetricRegistry;
+import com.gentics.mesh.Mesh;
+import com.gentics.mesh.MeshEvent;
+import com.gentics.mesh.core.data.MeshAuthUser;
+import com.gentics.mesh.metric.MetricsService;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.vertx.core.Vertx;
+import io.vertx.core.eventbus.EventBus;
+import io.vertx.core.json.JsonObject;
+import io.vertx.core.logging.Logger;
+import io.vertx.core.logging.LoggerFactory;
+
+/**
+ * Size bounded cache for the users which have been authenticated via a JWT. The entries are keyed by the user uuid and the token id so that API keys
+ * only need to be verified against the graph once. The cached users must only be used within a transaction since their data is still read from the
+ * graph.
+ *
+ * Entries of a user are evicted once the user has been updated or deleted. Updated or deleted groups and roles clear the whole cache.
+ */
+@Singleton
+public class AuthUserCache {
+
+	private static final Logger log = LoggerFactory.getLogger(AuthUserCache.class);
+
+	private static final MeshEvent[] USER_EVENTS = { USER_UPDATED, USER_DELETED };
+
+	private static final MeshEvent[] INVALIDATION_EVENTS = { GROUP_UPDATED, GROUP_DELETED, ROLE_UPDATED, ROLE_DELETED };
+
+	/**
+	 * Entries expire after this time even if no event has been received.
+	 */
+	private static final int EXPIRE_AFTER_WRITE_MINUTES = 10;
+
+	private static final String SEPARATOR = "|";
+
+	private final Cache<String, MeshAuthUser> cache;
+
+	private final boolean enabled;
+
+	/**
+	 * Incremented on each invalidation in order to detect users which have been changed while they were loaded.
+	 */
+	private final AtomicLong generation = new AtomicLong();
+
+	private final Meter hitMeter;
+
+	private final Meter missMeter;
+
+	@Inject
+	public AuthUserCache(Vertx vertx, MetricsService metrics) {
+		this(Mesh.mesh().getOptions().getAuthenticationOptions().getUserCacheSize(), metrics.getMetricRegistry());
+		registerEventHandlers(vertx);
+	}
+
+	/**
+	 * Create a new cache.
+	 *
+	 * @param maxSize
+	 *            Maximum amount of cached entries. The cache is disabled if the size is 0
+	 * @param metricRegistry
+	 *            Registry for the cache metrics
+	 */
+	public AuthUserCache(long maxSize, MetricRegistry metricRegistry) {
+		this.enabled = maxSize > 0;
+		this.cache = Caffeine.newBuilder().maximumSize(maxSize).expireAfterWrite(EXPIRE_AFTER_WRITE_MINUTES, TimeUnit.MINUTES).build();
+		this.hitMeter = metricRegistry.meter(USER_CACHE_HIT.key());
+		this.missMeter = metricRegistry.meter(USER_CACHE_MISS.key());
+	}
+
+	/**
+	 * Register the event handlers which will invalidate the cache once a user, group or role has been changed.
+	 *
+	 * @param vertx
+	 */
+	private void registerEventHandlers(Vertx vertx) {
+		if (vertx == null) {
+			log.warn("Vert.x is not available. The user cache will not be invalidated by events.");
+			return;
+		}
+		EventBus eb = vertx.eventBus();
+		for (MeshEvent event : USER_EVENTS) {
+			eb.consumer(event.address, e -> {
+				if (log.isDebugEnabled()) {
+					log.debug("Evicting cached user due to received event from {" + e.address() + "}");
+				}
+				handleUserEvent(e.body());
+			});
+		}
+		for (MeshEvent event : INVALIDATION_EVENTS) {
+			eb.consumer(event.address, e -> {
+				if (log.isDebugEnabled()) {
+					log.debug("Clearing user cache due to received event from {" + e.address() + "}");
+				}
+				invalidate();
+			});
+		}
+	}
+
+	/**
+	 * Handle the body of a received user event. The whole cache is cleared if the event does not reference a user.
+	 *
+	 * @param body
+	 */
+	public void handleUserEvent(Object body) {
+		String uuid = body instanceof JsonObject ? ((JsonObject) body).getString("uuid") : null;
+		if (uuid == null) {
+			invalidate();
+		} else {
+			invalidateUser(uuid);
+		}
+	}
+
+	/**
+	 * Return the cached user or load the user using the given loader and record the cache hit or miss. The loaded user will not be cached if the cache
+	 * has been invalidated while the user was loaded.
+	 *
+	 * @param userUuid
+	 * @param tokenId
+	 *            Id of the token or null if the token has no id
+	 * @param loader
+	 *            Loader which loads and verifies the user. The loader may fail if the user is not valid for the token
+	 * @return Cached or loaded user
+	 * @throws Exception
+	 */
+	public MeshAuthUser get(String userUuid, String tokenId, Callable<MeshAuthUser> loader) throws Exception {
+		if (!enabled) {
+			return loader.call();
+		}
+		String key = toKey(userUuid, tokenId);
+		MeshAuthUser user = cache.getIfPresent(key);
+		if (user != null) {
+			hitMeter.mark();
+			return user;
+		}
+		missMeter.mark();
+		long loadGeneration = generation.get();
+		user = loader.call();
+		cache.put(key, user);
+		// The user may have been changed while it was loaded
+		if (generation.get() != loadGeneration) {
+			cache.invalidate(key);
+		}
+		return user;
+	}
+
+	/**
+	 * Evict all entries of the user with the given uuid.
+	 *
+	 * @param userUuid
+	 */
+	public void invalidateUser(String userUuid) {
+		generation.incrementAndGet();
+		String prefix = userUuid + SEPARATOR;
+		cache.asMap().keySet().removeIf(key -> key.startsWith(prefix));
+	}
+
+	/**
+	 * Evict all entries of the user with the given uuid and optionally notify other instances in the cluster by sending a user update event.
+	 *
+	 * @param userUuid
+	 * @param notify
+	 */
+	public void invalidateUser(String userUuid, boolean notify) {
+		invalidateUser(userUuid);
+		if (notify) {
+			Vertx vertx = Mesh.vertx();
+			if (vertx != null) {
+				JsonObject json = new JsonObject();
+				json.put("origin", Mesh.mesh().getOptions().getNodeName());
+				json.put("uuid", userUuid);
+				vertx.eventBus().publish(USER_UPDATED.address, json);
+			} else {
+				log.error("Can't distribute user cache event. Maybe Vert.x is stopping / starting right now");
+			}
+		}
+	}
+
+	/**
+	 * Invalidate all cached users.
+	 */
+	public void invalidate() {
+		generation.incrementAndGet();
+		cache.invalidateAll();
+	}
+
+	/**
+	 * Return the amount of cached entries.
+	 *
+	 * @return
+	 */
+	public long size() {
+		return cache.estimatedSize();
+	}
+
+	private static String toKey(String userUuid, String tokenId) {
+		return tokenId == null ? userUuid + SEPARATOR : userUuid + SEPARATOR + tokenId;
+	}
+
+}
@@ -0,0 +1,60 @@
+package com.gentics.mesh.core.cache;
+
+/**
+ * Key for entries of the {@link PermissionStore}. The key references the vertex ids of the user and the element. The hash is computed once since
+ * the key is used for every permission lookup.
+ */
+public final class PermissionCacheKey {
+
+	private final Object userId;
+
+	private final Object elementId;
+
+	private final int hash;
+
+	public PermissionCacheKey(Object userId, Object elementId) {
+		this.userId = userId;
+		this.elementId = elementId;
+		this.hash = 31 * userId.hashCode() + elementId.hashCode();
+	}
+
+	/**
+	 * Return the vertex id of the user.
+	 *
+	 * @return
+	 */
+	public Object getUserId() {
+		return userId;
+	}
+
+	/**
+	 * Return the vertex id of the element.
+	 *
+	 * @return
+	 */
+	public Object getElementId() {
+		return elementId;
+	}
+
+	@Override
+	public int hashCode() {
+		return hash;
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj) {
+			return true;
+		}
+		if (!(obj instanceof PermissionCacheKey)) {
+			return false;
+		}
+		PermissionCacheKey other = (PermissionCacheKey) obj;
+		return hash == other.hash && userId.equals(other.userId) && elementId.equals(other.elementId);
+	}
+
+	@Override
+	public String toString() {
+		return userId + "-" + elementId;
+	}
+}
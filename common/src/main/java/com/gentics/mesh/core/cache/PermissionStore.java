@@ -1,30 +1,101 @@
 package com.gentics.mesh.core.cache;
 
 import static com.gentics.mesh.MeshEvent.CLEAR_PERMISSION_STORE;
+import static com.gentics.mesh.MeshEvent.PERMISSION_GRANTED;
+import static com.gentics.mesh.metric.Metrics.PERMISSION_CACHE_HIT;
+import static com.gentics.mesh.metric.Metrics.PERMISSION_CACHE_MISS;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
 
+import com.codahale.metrics.Meter;
 import com.gentics.mesh.Mesh;
 import com.gentics.mesh.core.data.relationship.GraphPermission;
+import com.gentics.mesh.metric.MetricsService;
 import com.github.benmanes.caffeine.cache.Cache;
 import com.github.benmanes.caffeine.cache.Caffeine;
+import com.syncleus.ferma.tx.Tx;
 
 import io.vertx.core.Vertx;
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
 import io.vertx.core.logging.Logger;
 import io.vertx.core.logging.LoggerFactory;
 
 /**
  * Central LRU permission cache which is used to quickly lookup cached permissions.
+ *
+ * The cache contains a single entry per user and element. The value of an entry is a bitmask which stores the checked and the granted permissions
+ * for all {@link GraphPermission} values:
+ *
+ * <pre>
+ * bits  0-7  : Permissions which have been checked
+ * bits  8-15 : Permissions which have been granted
+ * bits 32-63 : Grant generation which was active when the permissions have been checked
+ * </pre>
+ *
+ * Granting results stay valid until the store gets invalidated. Denying results are only valid as long as no permission has been granted. Each
+ * granted permission increments the grant generation and thus discards all previously cached denying results. The generation is incremented once
+ * the transaction which granted the permission has been committed. Results are stored with the generation which was active before the check was
+ * started. This way denying results which have been determined while a grant was being committed will not outlive the grant.
+ *
+ * Revoked permissions only evict the affected entries once the revoking transaction has been committed. The scope of an invalidation (users
+ * and/or elements) is distributed via the {@link com.gentics.mesh.MeshEvent#CLEAR_PERMISSION_STORE} event. An event without a body clears the
+ * whole store.
  */
 public final class PermissionStore {
 
 	private static final Logger log = LoggerFactory.getLogger(PermissionStore.class);
 
-	public static final Cache<String, Boolean> PERM_CACHE = Caffeine.newBuilder().maximumSize(100_000).expireAfterWrite(30, TimeUnit.MINUTES).build();
+	private static final int GRANTED_SHIFT = 8;
+
+	private static final int GENERATION_SHIFT = 32;
+
+	private static final long MASK = 0xFF;
+
+	private static final AtomicInteger GRANT_GENERATION = new AtomicInteger();
+
+	public static final Cache<PermissionCacheKey, Long> PERM_CACHE = Caffeine.newBuilder().maximumSize(100_000).expireAfterWrite(30, TimeUnit.MINUTES)
+		.build();
+
+	/**
+	 * Meters for the cache hits and misses. The meters are only set if metrics are enabled.
+	 */
+	private static volatile Meter hitMeter;
+
+	private static volatile Meter missMeter;
+
+	/**
+	 * Set the metrics service which is used to track the cache hits and misses. Nothing will be tracked if metrics are disabled.
+	 *
+	 * @param metrics
+	 */
+	public static void setMetrics(MetricsService metrics) {
+		if (metrics != null && metrics.isEnabled()) {
+			hitMeter = metrics.meter(PERMISSION_CACHE_HIT);
+			missMeter = metrics.meter(PERMISSION_CACHE_MISS);
+		} else {
+			hitMeter = null;
+			missMeter = null;
+		}
+	}
+
+	private static void mark(Meter meter) {
+		if (meter != null) {
+			meter.mark();
+		}
+	}
 
 	/**
 	 * Check whether the granting user permission was stored in the cache.
-	 * 
+	 *
 	 * @param userId
 	 *            Vertex id of the user
 	 * @param permission
@@ -34,11 +105,65 @@ public final class PermissionStore {
 	 * @return true, if a granting permission was found or false if the permission could not be found in the cache
 	 */
 	public static boolean hasPermission(Object userId, GraphPermission permission, Object elementId) {
-		String key = createCacheKey(userId, permission, elementId);
-		Boolean cachedPerm = PERM_CACHE.getIfPresent(key);
+		Boolean cachedPerm = getPermission(userId, permission, elementId);
 		return cachedPerm != null && cachedPerm;
 	}
 
+	/**
+	 * Return the cached permission result.
+	 *
+	 * @param userId
+	 *            Vertex id of the user
+	 * @param permission
+	 *            Permission to check against
+	 * @param elementId
+	 *            Vertex id of the element to which permissions should be checked
+	 * @return true if the permission is granted, false if the permission is denied or null if the cache does not contain a valid result
+	 */
+	public static Boolean getPermission(Object userId, GraphPermission permission, Object elementId) {
+		Long entry = PERM_CACHE.getIfPresent(new PermissionCacheKey(userId, elementId));
+		if (entry != null) {
+			long bit = 1L << permission.ordinal();
+			if ((granted(entry) & bit) != 0) {
+				mark(hitMeter);
+				return true;
+			}
+			if ((checked(entry) & bit) != 0 && generation(entry) == GRANT_GENERATION.get()) {
+				mark(hitMeter);
+				return false;
+			}
+		}
+		mark(missMeter);
+		return null;
+	}
+
+	/**
+	 * Return the cached permissions of the user on the element.
+	 *
+	 * @param userId
+	 *            Vertex id of the user
+	 * @param elementId
+	 *            Vertex id of the element
+	 * @return Set of granted permissions or null if the cache does not contain a valid result for all permissions
+	 */
+	public static Set<GraphPermission> getPermissions(Object userId, Object elementId) {
+		Long entry = PERM_CACHE.getIfPresent(new PermissionCacheKey(userId, elementId));
+		long all = (1L << GraphPermission.values().length) - 1;
+		if (entry == null || checked(entry) != all || generation(entry) != GRANT_GENERATION.get()) {
+			mark(missMeter);
+			return null;
+		}
+		mark(hitMeter);
+		Set<GraphPermission> permissions = EnumSet.noneOf(GraphPermission.class);
+		long granted = granted(entry);
+		for (GraphPermission perm : GraphPermission.values()) {
+			if ((granted & (1L << perm.ordinal())) != 0) {
+				permissions.add(perm);
+			}
+		}
+		return permissions;
+	}
+
 	/**
 	 * Register the event handler which can be used to invalidate the LRU cache.
 	 */
@@ -47,25 +172,43 @@ public final class PermissionStore {
 			if (log.isDebugEnabled()) {
 				log.debug("Clearing permission store due to received event from {" + e.address() + "}");
 			}
-			PERM_CACHE.invalidateAll();
+			handleClearEvent(e.body());
+		});
+		Mesh.vertx().eventBus().consumer(PERMISSION_GRANTED.address, e -> {
+			// The local generation has already been incremented by the sender
+			if (Mesh.mesh().getOptions().getNodeName().equals(e.body())) {
+				return;
+			}
+			if (log.isDebugEnabled()) {
+				log.debug("Discarding denied permissions due to received event from {" + e.address() + "}");
+			}
+			GRANT_GENERATION.incrementAndGet();
 		});
 	}
 
 	/**
-	 * Create the cache key.
-	 * 
-	 * @param userId
-	 * @param permission
-	 * @param elementId
-	 * @return
+	 * Handle the body of a received {@link com.gentics.mesh.MeshEvent#CLEAR_PERMISSION_STORE} event. Events without a body clear the whole store.
+	 * Scoped events only evict the referenced users and elements. Scoped events which were sent by this instance are ignored since the entries have
+	 * already been evicted by the sender.
+	 *
+	 * @param body
 	 */
-	private static String createCacheKey(Object userId, GraphPermission permission, Object elementId) {
-		return userId + "-" + permission.ordinal() + "-" + elementId;
+	public static void handleClearEvent(Object body) {
+		if (!(body instanceof JsonObject)) {
+			PERM_CACHE.invalidateAll();
+			return;
+		}
+		JsonObject scope = (JsonObject) body;
+		if (Mesh.mesh().getOptions().getNodeName().equals(scope.getString("origin"))) {
+			return;
+		}
+		// The ids have been serialized to strings and thus need to be compared using their string representation.
+		evict(toSet(scope.getJsonArray("users")), toSet(scope.getJsonArray("elements")), String::valueOf);
 	}
 
 	/**
 	 * Invalidate the LRU cache and optionally notify other instances in the cluster.
-	 * 
+	 *
 	 * @param notify
 	 */
 	public static void invalidate(boolean notify) {
@@ -73,12 +216,7 @@ public final class PermissionStore {
 		PERM_CACHE.invalidateAll();
 		if (notify) {
 			// Send the event to inform other to purge the stored permissions
-			Vertx vertx = Mesh.vertx();
-			if (vertx != null) {
-				vertx.eventBus().publish(CLEAR_PERMISSION_STORE.address, null);
-			} else {
-				log.error("Can't distribute cache clear event. Maybe Vert.x is stopping / starting right now");
-			}
+			publish(CLEAR_PERMISSION_STORE.address, null);
 		}
 	}
 
@@ -89,9 +227,166 @@ public final class PermissionStore {
 		invalidate(true);
 	}
 
+	/**
+	 * Invalidate the cached permissions of the given users on the given elements and optionally notify other instances in the cluster. A null value
+	 * for the users or the elements matches any user or element. Nothing will be invalidated if one of the collections is empty.
+	 *
+	 * @param userIds
+	 *            Vertex ids of the users or null to invalidate the elements for all users
+	 * @param elementIds
+	 *            Vertex ids of the elements or null to invalidate all elements of the users
+	 * @param notify
+	 */
+	public static void invalidate(Collection<?> userIds, Collection<?> elementIds, boolean notify) {
+		if (userIds == null && elementIds == null) {
+			invalidate(notify);
+			return;
+		}
+		if ((userIds != null && userIds.isEmpty()) || (elementIds != null && elementIds.isEmpty())) {
+			return;
+		}
+		if (userIds != null && elementIds != null) {
+			// All affected keys are known and can be evicted directly
+			List<PermissionCacheKey> keys = new ArrayList<>(userIds.size() * elementIds.size());
+			for (Object userId : userIds) {
+				for (Object elementId : elementIds) {
+					keys.add(new PermissionCacheKey(userId, elementId));
+				}
+			}
+			PERM_CACHE.invalidateAll(keys);
+		} else {
+			evict(toSet(userIds), toSet(elementIds), Function.identity());
+		}
+		if (notify) {
+			JsonObject scope = new JsonObject().put("origin", Mesh.mesh().getOptions().getNodeName());
+			if (userIds != null) {
+				scope.put("users", toJson(userIds));
+			}
+			if (elementIds != null) {
+				scope.put("elements", toJson(elementIds));
+			}
+			publish(CLEAR_PERMISSION_STORE.address, scope);
+		}
+	}
+
+	/**
+	 * Invalidate the cached permissions of the given users on the given elements once the active transaction has been committed. A concurrent check
+	 * could otherwise cache a granting result which was read before the revocation became visible. Since granting results are kept across grant
+	 * generations, such an entry would survive until it expires. The entries are invalidated immediately if no transaction is active.
+	 *
+	 * @param userIds
+	 *            Vertex ids of the users or null to invalidate the elements for all users
+	 * @param elementIds
+	 *            Vertex ids of the elements or null to invalidate all elements of the users
+	 * @param notify
+	 */
+	public static void invalidateAfterCommit(Collection<?> userIds, Collection<?> elementIds, boolean notify) {
+		Tx tx = Tx.getActive();
+		if (tx == null) {
+			invalidate(userIds, elementIds, notify);
+		} else {
+			tx.afterCommit(() -> invalidate(userIds, elementIds, notify));
+		}
+	}
+
+	/**
+	 * Invalidate all cached permissions of the given users and notify other instances in the cluster once the active transaction has been committed.
+	 *
+	 * @param userIds
+	 *            Vertex ids of the users
+	 */
+	public static void invalidateUsers(Collection<?> userIds) {
+		invalidateAfterCommit(userIds, null, true);
+	}
+
+	/**
+	 * Invalidate the cached permissions of the given users on the given element and notify other instances in the cluster once the active transaction
+	 * has been committed.
+	 *
+	 * @param userIds
+	 *            Vertex ids of the users
+	 * @param elementId
+	 *            Vertex id of the element
+	 */
+	public static void invalidateElement(Collection<?> userIds, Object elementId) {
+		List<Object> elementIds = new ArrayList<>(1);
+		elementIds.add(elementId);
+		invalidateAfterCommit(userIds, elementIds, true);
+	}
+
+	private static void evict(Set<?> userIds, Set<?> elementIds, Function<Object, ?> idMapper) {
+		PERM_CACHE.asMap().keySet().removeIf(key -> (userIds == null || userIds.contains(idMapper.apply(key.getUserId())))
+			&& (elementIds == null || elementIds.contains(idMapper.apply(key.getElementId()))));
+	}
+
+	private static Set<Object> toSet(Iterable<?> ids) {
+		if (ids == null) {
+			return null;
+		}
+		Set<Object> set = new HashSet<>();
+		for (Object id : ids) {
+			set.add(id);
+		}
+		return set;
+	}
+
+	private static JsonArray toJson(Collection<?> ids) {
+		JsonArray array = new JsonArray();
+		for (Object id : ids) {
+			array.add(String.valueOf(id));
+		}
+		return array;
+	}
+
+	private static void publish(String address, Object body) {
+		Vertx vertx = Mesh.vertx();
+		if (vertx != null) {
+			vertx.eventBus().publish(address, body);
+		} else {
+			log.error("Can't distribute permission store event. Maybe Vert.x is stopping / starting right now");
+		}
+	}
+
+	/**
+	 * Discard all cached denying permission results and optionally notify other instances in the cluster. This needs to be invoked whenever a
+	 * permission has been granted.
+	 *
+	 * @param notify
+	 */
+	public static void onGranted(boolean notify) {
+		GRANT_GENERATION.incrementAndGet();
+		if (notify) {
+			publish(PERMISSION_GRANTED.address, Mesh.mesh().getOptions().getNodeName());
+		}
+	}
+
+	/**
+	 * Discard all cached denying permission results and notify other instances in the cluster once the active transaction has been committed. A
+	 * concurrent check could otherwise cache a denying result which was read before the grant became visible. The results are discarded
+	 * immediately if no transaction is active.
+	 */
+	public static void onGrantedAfterCommit() {
+		Tx tx = Tx.getActive();
+		if (tx == null) {
+			onGranted(true);
+		} else {
+			tx.afterCommit(() -> onGranted(true));
+		}
+	}
+
+	/**
+	 * Return the current grant generation. The generation needs to be read before a permission gets checked and passed along when the result is
+	 * stored.
+	 *
+	 * @return
+	 */
+	public static int getGeneration() {
+		return GRANT_GENERATION.get();
+	}
+
 	/**
 	 * Store a granting permission in the cache.
-	 * 
+	 *
 	 * @param userId
 	 *            User which currently has roles which grant him the permission on the element
 	 * @param permission
@@ -100,6 +395,68 @@ public final class PermissionStore {
 	 *            Id of the element to which a permission is granted
 	 */
 	public static void store(Object userId, GraphPermission permission, Object elementId) {
-		PERM_CACHE.put(createCacheKey(userId, permission, elementId), true);
+		store(userId, permission, elementId, true);
+	}
+
+	/**
+	 * Store the permission result in the cache.
+	 *
+	 * @param userId
+	 *            Vertex id of the user
+	 * @param permission
+	 *            Permission which was checked
+	 * @param elementId
+	 *            Vertex id of the element
+	 * @param granted
+	 *            Whether the permission was granted
+	 */
+	public static void store(Object userId, GraphPermission permission, Object elementId, boolean granted) {
+		store(userId, permission, elementId, granted, GRANT_GENERATION.get());
+	}
+
+	/**
+	 * Store the permission result in the cache. Denying results which were checked within an outdated grant generation will not be used.
+	 *
+	 * @param userId
+	 *            Vertex id of the user
+	 * @param permission
+	 *            Permission which was checked
+	 * @param elementId
+	 *            Vertex id of the element
+	 * @param granted
+	 *            Whether the permission was granted
+	 * @param generation
+	 *            Grant generation which was active before the permission was checked
+	 */
+	public static void store(Object userId, GraphPermission permission, Object elementId, boolean granted, int generation) {
+		long bit = 1L << permission.ordinal();
+		merge(userId, elementId, bit, granted ? bit : 0, generation);
+	}
+
+	private static void merge(Object userId, Object elementId, long checkedBits, long grantedBits, int generation) {
+		long update = encode(checkedBits, grantedBits, generation);
+		PERM_CACHE.asMap().merge(new PermissionCacheKey(userId, elementId), update, (current, value) -> {
+			if (generation(current) != generation) {
+				// The denying results of the current entry are outdated. Only the granting results can be kept.
+				return encode(checkedBits | granted(current), grantedBits | granted(current), generation);
+			}
+			return encode(checked(current) | checkedBits, granted(current) | grantedBits, generation);
+		});
+	}
+
+	private static long encode(long checked, long granted, int generation) {
+		return ((long) generation << GENERATION_SHIFT) | ((granted & MASK) << GRANTED_SHIFT) | (checked & MASK);
+	}
+
+	private static long checked(long entry) {
+		return entry & MASK;
+	}
+
+	private static long granted(long entry) {
+		return (entry >>> GRANTED_SHIFT) & MASK;
+	}
+
+	private static int generation(long entry) {
+		return (int) (entry >>> GENERATION_SHIFT);
 	}
 }
@@ -60,6 +60,15 @@ public interface Role extends MeshCoreVertex<RoleResponse, Role>, ReferenceableE
 	 */
 	void grantPermissions(MeshVertex vertex, GraphPermission... permissions);
 
+	/**
+	 * Grant the given permissions on a vertex which has just been created. Denying permission results can't have been cached for a new vertex and thus
+	 * the cached results of other elements are kept.
+	 * 
+	 * @param vertex
+	 * @param permissions
+	 */
+	void grantPermissionsOnNewElement(MeshVertex vertex, GraphPermission... permissions);
+
 	/**
 	 * Revoke the given permissions on the vertex.
 	 * 
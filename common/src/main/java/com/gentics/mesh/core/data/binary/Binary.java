@@ -21,6 +21,10 @@ public interface Binary extends MeshVertex {
 
 	String BINARY_IMAGE_HEIGHT_PROPERTY_KEY = "binaryImageHeight";
 
+	String BINARY_REFERENCE_COUNT_PROPERTY_KEY = "binaryReferenceCount";
+
+	String BINARY_UNREFERENCED_PROPERTY_KEY = "binaryUnreferenced";
+
 	/**
 	 * Return the binary data stream.
 	 * 
@@ -138,4 +142,35 @@ public interface Binary extends MeshVertex {
 	 */
 	Iterable<? extends BinaryGraphField> findFields();
 
-}
\ No newline at end of file
+	/**
+	 * Return the amount of binary fields which reference the binary. The count will be determined by examining the fields if it has not yet been
+	 * maintained for the binary.
+	 * 
+	 * @return
+	 */
+	long getReferenceCount();
+
+	/**
+	 * Increment the reference count. This must be invoked before a new field for the binary is created.
+	 */
+	void incrementReferenceCount();
+
+	/**
+	 * Decrement the reference count. This must be invoked before a field of the binary is removed. Binaries which are no longer referenced will be
+	 * marked as unreferenced and removed later on by the binary garbage collector.
+	 * 
+	 * @return Updated reference count
+	 */
+	long decrementReferenceCount();
+
+	/**
+	 * Check whether the binary has been marked as unreferenced.
+	 * 
+	 * @return
+	 */
+	default boolean isUnreferenced() {
+		Boolean flag = property(BINARY_UNREFERENCED_PROPERTY_KEY);
+		return flag != null && flag;
+	}
+
+}
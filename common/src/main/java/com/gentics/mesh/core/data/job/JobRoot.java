@@ -55,6 +55,14 @@ public interface JobRoot extends RootVertex<Job> {
 	 */
 	Job enqueueBranchMigration(User creator, Branch branch);
 
+	/**
+	 * Enqueue a job which creates the configured image variant presets for all existing binaries.
+	 * 
+	 * @param creator
+	 * @return Created job
+	 */
+	Job enqueueImageVariantRebuild(User creator);
+
 	/**
 	 * Process all remaining jobs.
 	 */
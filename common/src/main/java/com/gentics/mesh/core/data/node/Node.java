@@ -339,6 +339,18 @@ public interface Node extends MeshCoreVertex<NodeResponse, Node>, CreatorTrackin
 	 */
 	void setParentNode(String branchUuid, Node parentNode);
 
+	/**
+	 * Update the content version of the node. This will change the etag of the node and of all its descendants. The version needs to be updated whenever
+	 * the containers, the publish state, the position, the children or the tags of the node get changed.
+	 */
+	void updateContentVersion();
+
+	/**
+	 * Update the content versions of the parent nodes in all branches. This needs to be done when the children of the parent nodes change (e.g. because
+	 * the permissions of this node changed).
+	 */
+	void updateParentContentVersions();
+
 	/**
 	 * Create a child node in this node in the latest branch of the project.
 	 * 
@@ -4,6 +4,7 @@ import java.util.Map;
 import java.util.Objects;
 
 import com.gentics.mesh.core.data.MeshEdge;
+import com.gentics.mesh.core.data.NodeGraphFieldContainer;
 import com.gentics.mesh.core.data.binary.Binary;
 import com.gentics.mesh.core.rest.node.field.BinaryField;
 import com.gentics.mesh.core.rest.node.field.binary.BinaryMetadata;
@@ -103,6 +104,13 @@ public interface BinaryGraphField extends BasicGraphField<BinaryField>, MeshEdge
 		return this;
 	}
 
+	/**
+	 * Return the node field container which contains the field.
+	 * 
+	 * @return Container or null if the field is not part of a node field container
+	 */
+	NodeGraphFieldContainer getParentContainer();
+
 	/**
 	 * Check whether the binary data represents an image.
 	 * 
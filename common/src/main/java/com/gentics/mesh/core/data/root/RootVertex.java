@@ -6,7 +6,11 @@ import static io.netty.handler.codec.http.HttpResponseStatus.BAD_REQUEST;
 import static io.netty.handler.codec.http.HttpResponseStatus.FORBIDDEN;
 import static io.netty.handler.codec.http.HttpResponseStatus.NOT_FOUND;
 
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
+import java.util.Map;
 import java.util.Spliterator;
 import java.util.Stack;
 import java.util.function.Predicate;
@@ -183,6 +187,33 @@ public interface RootVertex<T extends MeshCoreVertex<? extends RestModel, T>> ex
 		return null;
 	}
 
+	/**
+	 * Find the elements with the given uuids. All elements are located using a single index query.
+	 * 
+	 * @param uuids
+	 *            Uuids of the elements to be located
+	 * @return Map of the found elements by uuid. Elements which could not be located will be omitted.
+	 */
+	default Map<String, T> findByUuids(Collection<String> uuids) {
+		Map<String, T> elements = new HashMap<>();
+		if (uuids.isEmpty()) {
+			return elements;
+		}
+		FramedGraph graph = Tx.getActive().getGraph();
+		// 1. Find the elements with the given uuids within the whole graph
+		Iterator<Vertex> it = database().getVertices(getPersistanceClass(), MeshVertex.UUID_KEY, new HashSet<>(uuids));
+		while (it.hasNext()) {
+			Vertex potentialElement = it.next();
+			// 2. Use the edge index to determine whether the element is part of this root vertex
+			Iterable<Edge> edges = graph.getEdges("e." + getRootLabel().toLowerCase() + "_inout", database().createComposedIndexKey(potentialElement
+				.getId(), id()));
+			if (edges.iterator().hasNext()) {
+				elements.put(potentialElement.getProperty(MeshVertex.UUID_KEY), graph.frameElementExplicit(potentialElement, getPersistanceClass()));
+			}
+		}
+		return elements;
+	}
+
 	/**
 	 * Load the object by uuid and check the given permission.
 	 * 
@@ -0,0 +1,75 @@
+package com.gentics.mesh.core.data.search;
+
+import java.util.List;
+
+import io.reactivex.Completable;
+
+/**
+ * The search outbox decouples the search index from the write requests. The pending document changes of a {@link SearchQueueBatch} are persisted in the
+ * outbox and a background indexer writes them to the search index using large bulk requests. Pending changes will survive a restart of the instance and will
+ * be retried if the search server is not reachable.
+ */
+public interface SearchOutbox {
+
+	/**
+	 * Key of the routing context data entry which references the outbox if the response of the request should wait for the search index.
+	 */
+	String WAIT_FOR_INDEX_KEY = "searchOutbox";
+
+	/**
+	 * Check whether the outbox has been enabled.
+	 *
+	 * @return
+	 */
+	boolean isEnabled();
+
+	/**
+	 * Durably append the given entries to the outbox.
+	 *
+	 * @param entries
+	 * @return Sequence number of the last appended entry
+	 */
+	long append(List<? extends UpdateDocumentEntry> entries);
+
+	/**
+	 * Return the sequence number of the last entry which has been appended to the outbox.
+	 *
+	 * @return
+	 */
+	long getHead();
+
+	/**
+	 * Return the sequence number of the last entry which has been written to the search index.
+	 *
+	 * @return
+	 */
+	long getProcessed();
+
+	/**
+	 * Return a completable which completes once all entries up to the given sequence number have been written to the search index.
+	 *
+	 * @param sequence
+	 * @return
+	 */
+	Completable awaitProcessed(long sequence);
+
+	/**
+	 * Return a completable which completes once all entries which are currently pending have been written to the search index.
+	 *
+	 * @return
+	 */
+	default Completable flush() {
+		return awaitProcessed(getHead());
+	}
+
+	/**
+	 * Load the pending entries and start the background indexer.
+	 */
+	void start();
+
+	/**
+	 * Stop the background indexer. Pending entries will be processed after the next start.
+	 */
+	void stop();
+
+}
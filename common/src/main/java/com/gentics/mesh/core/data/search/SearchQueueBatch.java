@@ -165,12 +165,21 @@ public interface SearchQueueBatch {
 	String getBatchId();
 
 	/**
-	 * Process this batch by invoking process on all batch entries.
+	 * Process this batch by invoking process on all batch entries. The document changes will only be stored in the {@link SearchOutbox} if the outbox has
+	 * been enabled. The returned completable will complete once the changes have been persisted in the outbox.
 	 * 
 	 * @return
 	 */
 	Completable processAsync();
 
+	/**
+	 * Process this batch by invoking process on all batch entries. The entries will directly be written to the search index even if the
+	 * {@link SearchOutbox} has been enabled.
+	 * 
+	 * @return
+	 */
+	Completable processDirect();
+
 	/**
 	 * Process this batch blocking and fail if the given timeout was exceeded.
 	 * 
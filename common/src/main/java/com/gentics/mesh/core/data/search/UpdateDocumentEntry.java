@@ -14,4 +14,11 @@ public interface UpdateDocumentEntry extends BulkSearchQueueEntry<GenericEntryCo
 	 */
 	String getElementUuid();
 
+	/**
+	 * Return the index handler which is used to process the entry.
+	 * 
+	 * @return
+	 */
+	IndexHandler<?> getIndexHandler();
+
 }
@@ -5,11 +5,11 @@ import static io.netty.handler.codec.http.HttpResponseStatus.BAD_REQUEST;
 
 import java.awt.image.BufferedImage;
 import java.io.File;
-import java.util.Arrays;
-import java.util.stream.Collectors;
+import java.io.InputStream;
 
 import javax.imageio.ImageIO;
 
+import com.codahale.metrics.MetricRegistry;
 import com.gentics.mesh.etc.config.ImageManipulatorOptions;
 import com.gentics.mesh.parameter.ImageManipulationParameters;
 
@@ -29,59 +29,46 @@ public abstract class AbstractImageManipulator implements ImageManipulator {
 
 	protected Vertx vertx;
 
+	protected ImageVariantCache cache;
+
 	public AbstractImageManipulator(Vertx vertx, ImageManipulatorOptions options) {
+		this(vertx, options, new MetricRegistry());
+	}
+
+	public AbstractImageManipulator(Vertx vertx, ImageManipulatorOptions options, MetricRegistry metricRegistry) {
 		this.vertx = vertx;
 		this.options = options;
+		this.cache = new ImageVariantCache(new File(options.getImageCacheDirectory()), options.getImageCacheMaxSize(), metricRegistry);
+		// Index the variants which have been created before in the background
+		vertx.getDelegate().executeBlocking(bh -> {
+			cache.index();
+			bh.complete();
+		}, false, rh -> {
+			if (rh.failed()) {
+				log.error("Indexing the image cache failed", rh.cause());
+			}
+		});
 	}
 
 	@Override
 	public File getCacheFile(String sha512sum, ImageManipulationParameters parameters) {
-
-		String[] parts = sha512sum.split("(?<=\\G.{8})");
-		StringBuffer buffer = new StringBuffer();
-		buffer.append(File.separator);
-		for (String part : parts) {
-			buffer.append(part + File.separator);
-		}
-
-		File baseFolder = new File(options.getImageCacheDirectory(), buffer.toString());
-		if (!baseFolder.exists()) {
-			baseFolder.mkdirs();
-		}
-
-		String baseName = "image-" + parameters.getCacheKey();
-		File[] foundFiles = baseFolder.listFiles((dir, name) -> name.startsWith(baseName));
-		int numFiles = foundFiles.length;
-
-		if (numFiles == 0) {
-			File ret = new File(baseFolder, baseName);
-
+		File cacheFile = cache.peek(sha512sum, parameters);
+		if (cacheFile != null) {
 			if (log.isDebugEnabled()) {
-				log.debug("No cache file found for base path {" + ret.getAbsolutePath() + "}");
+				log.debug("Using cache file {" + cacheFile + "}");
 			}
-
-			return ret;
+			return cacheFile;
 		}
 
-		if (numFiles > 1) {
-			String indent = System.lineSeparator() + "    - ";
-
-			log.warn(
-				"More than one cache file found:"
-				+ System.lineSeparator() + "  hash: " + sha512sum
-				+ System.lineSeparator() + "  key: " + parameters.getCacheKey()
-				+ System.lineSeparator() + "  files:"
-				+ indent
-				+ Arrays.stream(foundFiles).map(File::getName).collect(Collectors.joining(indent))
-				+ System.lineSeparator()
-				+ "The cache directory {" + options.getImageCacheDirectory() + "} should be cleared");
+		File baseFile = cache.getBaseFile(sha512sum, parameters);
+		File baseFolder = baseFile.getParentFile();
+		if (!baseFolder.exists()) {
+			baseFolder.mkdirs();
 		}
-
 		if (log.isDebugEnabled()) {
-			log.debug("Using cache file {" + foundFiles[0] + "}");
+			log.debug("No cache file found for base path {" + baseFile.getAbsolutePath() + "}");
 		}
-
-		return foundFiles[0];
+		return baseFile;
 	}
 
 	@Override
@@ -104,6 +91,20 @@ public abstract class AbstractImageManipulator implements ImageManipulator {
 		});
 	}
 
+	@Override
+	public Single<ImageInfo> readImageInfo(InputStream ins) {
+		return Single.fromCallable(() -> {
+			if (log.isDebugEnabled()) {
+				log.debug("Reading image information from stream");
+			}
+			BufferedImage image = ImageIO.read(ins);
+			if (image == null) {
+				throw error(BAD_REQUEST, "image_error_reading_failed");
+			}
+			return toImageInfo(image);
+		});
+	}
+
 	/**
 	 * Extract the image information from the given buffered image.
 	 * 
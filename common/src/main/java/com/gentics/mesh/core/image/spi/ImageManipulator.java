@@ -35,7 +35,7 @@ public interface ImageManipulator {
 	 * The provided <code>sha512sum</code> will be used to determine the cache directory, and the image manipulation parameters determine the
 	 * filename without the extension.
 	 *
-	 * When multiple files match the given hashsum and parameters, only the first found file will be returned.
+	 * Only files which are known to the image cache will be returned. The cache directory itself will not be scanned.
 	 *
 	 * This method either returns an existing file, or a file object which filename is the name of the cache file without the extension.
 	 *
@@ -55,6 +55,14 @@ public interface ImageManipulator {
 	 */
 	Single<ImageInfo> readImageInfo(String file);
 
+	/**
+	 * Read the image information from the image data stream. The stream will be read within the subscribing thread.
+	 * 
+	 * @param ins
+	 * @return
+	 */
+	Single<ImageInfo> readImageInfo(InputStream ins);
+
 	/**
 	 * Return the dominant color in the image.
 	 * 
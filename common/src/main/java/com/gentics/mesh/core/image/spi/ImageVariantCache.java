@@ -0,0 +1,218 @@
+package com.gentics.mesh.core.image.spi;
+
+import static com.gentics.mesh.metric.Metrics.IMAGE_CACHE_EVICTION;
+import static com.gentics.mesh.metric.Metrics.IMAGE_CACHE_HIT;
+import static com.gentics.mesh.metric.Metrics.IMAGE_CACHE_MISS;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import com.codahale.metrics.Meter;
+import com.codahale.metrics.MetricRegistry;
+import com.gentics.mesh.parameter.ImageManipulationParameters;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+
+import io.vertx.core.logging.Logger;
+import io.vertx.core.logging.LoggerFactory;
+
+/**
+ * Size bounded cache for resized image variants. The cache keeps an in-memory index of all variant files within the image cache directory and thus no
+ * filesystem lookup is needed to determine whether a variant has already been created. Variants which are used rarely and have not been used recently
+ * will be deleted once the configured amount of bytes has been exceeded.
+ */
+public class ImageVariantCache {
+
+	private static final Logger log = LoggerFactory.getLogger(ImageVariantCache.class);
+
+	private static final String FILE_PREFIX = "image-";
+
+	private final File baseDirectory;
+
+	private final Cache<String, File> variants;
+
+	private final Meter hitMeter;
+
+	private final Meter missMeter;
+
+	private final Meter evictionMeter;
+
+	/**
+	 * Create a new cache.
+	 *
+	 * @param baseDirectory
+	 *            Directory which contains the cached image variants
+	 * @param maxSize
+	 *            Maximum size of all cached variants in bytes
+	 * @param metricRegistry
+	 *            Registry for the cache metrics
+	 */
+	public ImageVariantCache(File baseDirectory, long maxSize, MetricRegistry metricRegistry) {
+		this(baseDirectory, maxSize, metricRegistry, ForkJoinPool.commonPool());
+	}
+
+	/**
+	 * Create a new cache.
+	 *
+	 * @param baseDirectory
+	 *            Directory which contains the cached image variants
+	 * @param maxSize
+	 *            Maximum size of all cached variants in bytes
+	 * @param metricRegistry
+	 *            Registry for the cache metrics
+	 * @param executor
+	 *            Executor which will be used to evict and delete the variant files
+	 */
+	public ImageVariantCache(File baseDirectory, long maxSize, MetricRegistry metricRegistry, Executor executor) {
+		this.baseDirectory = baseDirectory;
+		this.hitMeter = metricRegistry.meter(IMAGE_CACHE_HIT.key());
+		this.missMeter = metricRegistry.meter(IMAGE_CACHE_MISS.key());
+		this.evictionMeter = metricRegistry.meter(IMAGE_CACHE_EVICTION.key());
+		this.variants = Caffeine.newBuilder()
+			.maximumWeight(maxSize)
+			.<String, File>weigher((key, file) -> (int) Math.min(Integer.MAX_VALUE, file.length()))
+			.executor(executor)
+			.removalListener(this::onRemoval)
+			.build();
+	}
+
+	/**
+	 * Return the base file of the variant. The base file name is the variant file name without the extension.
+	 *
+	 * @param sha512sum
+	 *            Checksum of the original image
+	 * @param parameters
+	 *            Parameters which were used to create the variant
+	 * @return
+	 */
+	public File getBaseFile(String sha512sum, ImageManipulationParameters parameters) {
+		String[] parts = sha512sum.split("(?<=\\G.{8})");
+		StringBuilder buffer = new StringBuilder();
+		buffer.append(File.separator);
+		for (String part : parts) {
+			buffer.append(part + File.separator);
+		}
+		File folder = new File(baseDirectory, buffer.toString());
+		return new File(folder, FILE_PREFIX + parameters.getCacheKey());
+	}
+
+	/**
+	 * Return the cached variant file and record the cache hit or miss.
+	 *
+	 * @param sha512sum
+	 * @param parameters
+	 * @return Variant file or null if the variant has not yet been cached
+	 */
+	public File get(String sha512sum, ImageManipulationParameters parameters) {
+		File file = variants.getIfPresent(toKey(sha512sum, parameters));
+		if (file == null) {
+			missMeter.mark();
+		} else {
+			hitMeter.mark();
+		}
+		return file;
+	}
+
+	/**
+	 * Return the cached variant file without recording any metrics or affecting the eviction order.
+	 *
+	 * @param sha512sum
+	 * @param parameters
+	 * @return Variant file or null if the variant has not yet been cached
+	 */
+	public File peek(String sha512sum, ImageManipulationParameters parameters) {
+		return variants.asMap().get(toKey(sha512sum, parameters));
+	}
+
+	/**
+	 * Add the created variant file to the cache. This may cause the eviction of other variants.
+	 *
+	 * @param sha512sum
+	 * @param parameters
+	 * @param file
+	 *            Written variant file
+	 */
+	public void put(String sha512sum, ImageManipulationParameters parameters, File file) {
+		variants.put(toKey(sha512sum, parameters), file);
+	}
+
+	/**
+	 * Remove the variant from the cache. This should be invoked if the variant file could not be read.
+	 *
+	 * @param sha512sum
+	 * @param parameters
+	 */
+	public void invalidate(String sha512sum, ImageManipulationParameters parameters) {
+		variants.invalidate(toKey(sha512sum, parameters));
+	}
+
+	/**
+	 * Return the total size of all cached variants.
+	 *
+	 * @return Size in bytes
+	 */
+	public long getSize() {
+		variants.cleanUp();
+		return variants.policy().eviction().get().weightedSize().orElse(0);
+	}
+
+	/**
+	 * Add all variant files which are located in the cache directory to the index. Variants which have been modified recently will be preferred if the
+	 * size limit is exceeded. This method will block until the cache directory has been scanned.
+	 */
+	public void index() {
+		if (!baseDirectory.exists()) {
+			return;
+		}
+		List<File> files;
+		try (Stream<Path> stream = Files.walk(baseDirectory.toPath())) {
+			files = stream.filter(Files::isRegularFile)
+				.map(Path::toFile)
+				.filter(file -> file.getName().startsWith(FILE_PREFIX))
+				.sorted(Comparator.comparingLong(File::lastModified))
+				.collect(Collectors.toList());
+		} catch (IOException e) {
+			log.error("Could not scan the image cache directory {" + baseDirectory + "}", e);
+			return;
+		}
+		for (File file : files) {
+			String name = file.getName();
+			int idx = name.lastIndexOf('.');
+			String baseName = idx == -1 ? name : name.substring(0, idx);
+			// Variants which have been created in the meantime are already up to date
+			variants.asMap().putIfAbsent(new File(file.getParentFile(), baseName).getAbsolutePath(), file);
+		}
+		log.info("Indexed {" + files.size() + "} cached image variants");
+	}
+
+	private String toKey(String sha512sum, ImageManipulationParameters parameters) {
+		return getBaseFile(sha512sum, parameters).getAbsolutePath();
+	}
+
+	private void onRemoval(String key, File file, RemovalCause cause) {
+		if (cause.wasEvicted()) {
+			evictionMeter.mark();
+		}
+		if (cause == RemovalCause.EXPLICIT || file == null) {
+			return;
+		}
+		// A replaced variant may have been written with a different extension
+		File current = variants.asMap().get(key);
+		if (current != null && current.equals(file)) {
+			return;
+		}
+		if (file.exists() && !file.delete()) {
+			log.warn("Could not delete the cached image variant {" + file.getAbsolutePath() + "}");
+		}
+	}
+
+}
@@ -15,7 +15,6 @@ import java.util.function.Consumer;
 import javax.inject.Inject;
 import javax.inject.Singleton;
 
-import com.gentics.mesh.Mesh;
 import com.gentics.mesh.context.BulkActionContext;
 import com.gentics.mesh.context.InternalActionContext;
 import com.gentics.mesh.core.data.IndexableElement;
@@ -55,12 +54,14 @@ public class HandlerUtilities {
 	private final Database database;
 	private final SearchQueue searchQueue;
 	private final MetricsService metrics;
+	private final WorkerPools workerPools;
 
 	@Inject
-	public HandlerUtilities(Database database, SearchQueue searchQueue, MeshOptions meshOptions, MetricsService metrics) {
+	public HandlerUtilities(Database database, SearchQueue searchQueue, MeshOptions meshOptions, MetricsService metrics, WorkerPools workerPools) {
 		this.searchQueue = searchQueue;
 		this.database = database;
 		this.metrics = metrics;
+		this.workerPools = workerPools;
 	}
 
 	/**
@@ -300,14 +301,15 @@ public class HandlerUtilities {
 	}
 
 	/**
-	 * Asynchronously execute the handler.
+	 * Asynchronously execute the handler. The handler will be executed by the worker pool which matches the workload of the request. The request will
+	 * fail with 503 Service Unavailable if the queue of the pool is full.
 	 * 
 	 * @param ac
 	 * @param handler
 	 * @param action
 	 */
 	private <RM extends RestModel> void async(InternalActionContext ac, TxAction1<RM> handler, Consumer<RM> action, boolean order) {
-		Mesh.vertx().executeBlocking(bc -> {
+		workerPools.executeBlocking(workerPools.select(ac), bc -> {
 			try {
 				bc.complete(handler.handle());
 			} catch (Exception e) {
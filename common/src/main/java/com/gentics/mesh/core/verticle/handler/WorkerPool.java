@@ -0,0 +1,35 @@
+package com.gentics.mesh.core.verticle.handler;
+
+/**
+ * Worker pools which process the REST requests. Each workload class uses a dedicated pool so that slow writes or administrative tasks do not block
+ * cheap read requests.
+ */
+public enum WorkerPool {
+
+	READ("read"),
+
+	WRITE("write"),
+
+	ADMIN("admin");
+
+	/**
+	 * Key of the action context data entry which can be used to enforce the pool of a request.
+	 */
+	public static final String CONTEXT_KEY = "workerPool";
+
+	private final String poolName;
+
+	private WorkerPool(String poolName) {
+		this.poolName = poolName;
+	}
+
+	/**
+	 * Return the name of the pool which is also used as suffix of the pool metrics.
+	 *
+	 * @return
+	 */
+	public String getPoolName() {
+		return poolName;
+	}
+
+}
@@ -0,0 +1,248 @@
+package com.gentics.mesh.core.verticle.handler;
+
+import static com.gentics.mesh.core.rest.error.Errors.error;
+import static com.gentics.mesh.metric.Metrics.WORKER_QUEUED;
+import static com.gentics.mesh.metric.Metrics.WORKER_QUEUE_TIME;
+import static com.gentics.mesh.metric.Metrics.WORKER_REJECTED;
+import static io.netty.handler.codec.http.HttpResponseStatus.SERVICE_UNAVAILABLE;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import javax.inject.Inject;
+import javax.inject.Singleton;
+
+import com.codahale.metrics.Counter;
+import com.codahale.metrics.Meter;
+import com.codahale.metrics.MetricRegistry;
+import com.codahale.metrics.Timer;
+import com.gentics.mesh.Mesh;
+import com.gentics.mesh.context.InternalActionContext;
+import com.gentics.mesh.etc.config.MeshOptions;
+import com.gentics.mesh.etc.config.VertxOptions;
+import com.gentics.mesh.metric.MetricsService;
+
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Context;
+import io.vertx.core.Future;
+import io.vertx.core.Handler;
+import io.vertx.core.Vertx;
+import io.vertx.core.WorkerExecutor;
+import io.vertx.core.http.HttpMethod;
+import io.vertx.core.logging.Logger;
+import io.vertx.core.logging.LoggerFactory;
+import io.vertx.ext.web.RoutingContext;
+
+/**
+ * Bounded worker pools which are used to process the REST requests. Requests will be rejected with 503 Service Unavailable once the queue of the
+ * selected pool is full. The time which a request had to wait for a thread of the pool is recorded per pool.
+ */
+@Singleton
+public class WorkerPools {
+
+	private static final Logger log = LoggerFactory.getLogger(WorkerPools.class);
+
+	private final Supplier<Vertx> vertx;
+
+	private final VertxOptions options;
+
+	private final MetricRegistry metricRegistry;
+
+	private final Map<WorkerPool, Pool> pools = new EnumMap<>(WorkerPool.class);
+
+	@Inject
+	public WorkerPools(MeshOptions options, MetricsService metrics) {
+		this(Mesh::vertx, options.getVertxOptions(), metrics.getMetricRegistry());
+	}
+
+	WorkerPools(Supplier<Vertx> vertx, VertxOptions options, MetricRegistry metricRegistry) {
+		this.vertx = vertx;
+		this.options = options;
+		this.metricRegistry = metricRegistry;
+	}
+
+	/**
+	 * Select the pool which should process the request of the given context. The pool can be enforced by setting the {@link WorkerPool#CONTEXT_KEY}
+	 * context data entry. Otherwise migrations will use the admin pool, requests which don't modify data will use the read pool and all other requests
+	 * will use the write pool.
+	 *
+	 * @param ac
+	 *            Context of the request or null if the code does not belong to a request
+	 * @return
+	 */
+	public WorkerPool select(InternalActionContext ac) {
+		if (ac == null) {
+			return WorkerPool.WRITE;
+		}
+		WorkerPool pool = ac.get(WorkerPool.CONTEXT_KEY);
+		if (pool == null && ac.isMigrationContext()) {
+			return WorkerPool.ADMIN;
+		}
+		return select(pool, ac.getHttpMethod());
+	}
+
+	/**
+	 * Select the pool which should process the request of the given routing context.
+	 *
+	 * @param rc
+	 * @return
+	 * @see #select(InternalActionContext)
+	 */
+	public WorkerPool select(RoutingContext rc) {
+		return select(rc.get(WorkerPool.CONTEXT_KEY), rc.request().method());
+	}
+
+	private WorkerPool select(WorkerPool enforced, HttpMethod method) {
+		if (enforced != null) {
+			return enforced;
+		}
+		if (method == HttpMethod.GET || method == HttpMethod.HEAD || method == HttpMethod.OPTIONS) {
+			return WorkerPool.READ;
+		}
+		return WorkerPool.WRITE;
+	}
+
+	/**
+	 * Execute the blocking code using the pool which matches the workload of the given context. Blocking code which is started by a worker thread (e.g.
+	 * the transformation of an element within a request handler) will be executed by the Vert.x worker pool instead. Otherwise the nested code could
+	 * wait for a thread of the pool which is held by the code that waits for it.
+	 *
+	 * @param ac
+	 *            Context of the request or null if the code does not belong to a request
+	 * @param blockingCodeHandler
+	 * @param resultHandler
+	 */
+	public <T> void executeBlocking(InternalActionContext ac, Handler<Future<T>> blockingCodeHandler, Handler<AsyncResult<T>> resultHandler) {
+		if (Context.isOnWorkerThread()) {
+			vertx.get().executeBlocking(blockingCodeHandler, false, resultHandler);
+			return;
+		}
+		executeBlocking(select(ac), blockingCodeHandler, false, resultHandler);
+	}
+
+	/**
+	 * Execute the blocking code using the given pool. The result handler will be invoked with a 503 Service Unavailable error if the queue of the pool is
+	 * full.
+	 *
+	 * @param type
+	 *            Pool which should be used
+	 * @param blockingCodeHandler
+	 * @param ordered
+	 *            Whether the blocking code should be executed in order with other ordered blocking code of the current context
+	 * @param resultHandler
+	 */
+	public <T> void executeBlocking(WorkerPool type, Handler<Future<T>> blockingCodeHandler, boolean ordered, Handler<AsyncResult<T>> resultHandler) {
+		Pool pool = getPool(type);
+		if (!pool.enqueue()) {
+			if (log.isDebugEnabled()) {
+				log.debug("The queue of the {" + type.getPoolName() + "} worker pool is full. Rejecting the request.");
+			}
+			resultHandler.handle(Future.failedFuture(error(SERVICE_UNAVAILABLE, "error_worker_pool_exhausted", type.getPoolName())));
+			return;
+		}
+		long queuedSince = System.nanoTime();
+		pool.executor.executeBlocking(bc -> {
+			pool.dequeue(System.nanoTime() - queuedSince);
+			blockingCodeHandler.handle(bc);
+		}, ordered, resultHandler);
+	}
+
+	/**
+	 * Return the amount of requests which are currently waiting for a thread of the given pool.
+	 *
+	 * @param type
+	 * @return
+	 */
+	public int getQueued(WorkerPool type) {
+		return getPool(type).queued.get();
+	}
+
+	private synchronized Pool getPool(WorkerPool type) {
+		return pools.computeIfAbsent(type, this::createPool);
+	}
+
+	private Pool createPool(WorkerPool type) {
+		int poolSize;
+		int queueSize;
+		switch (type) {
+		case READ:
+			poolSize = options.getReadPoolSize();
+			queueSize = options.getReadQueueSize();
+			break;
+		case WRITE:
+			poolSize = options.getWritePoolSize();
+			queueSize = options.getWriteQueueSize();
+			break;
+		default:
+			poolSize = options.getAdminPoolSize();
+			queueSize = options.getAdminQueueSize();
+			break;
+		}
+		log.info("Creating {" + type.getPoolName() + "} worker pool with {" + poolSize + "} threads and a queue size of {" + queueSize + "}");
+		WorkerExecutor executor = vertx.get().createSharedWorkerExecutor("mesh-" + type.getPoolName() + "-worker", poolSize);
+		String suffix = "." + type.getPoolName();
+		return new Pool(executor, queueSize, metricRegistry.timer(WORKER_QUEUE_TIME.key() + suffix),
+			metricRegistry.counter(WORKER_QUEUED.key() + suffix), metricRegistry.meter(WORKER_REJECTED.key() + suffix));
+	}
+
+	/**
+	 * Executor and queue state of a single pool.
+	 */
+	private static class Pool {
+
+		private final WorkerExecutor executor;
+
+		private final int queueSize;
+
+		private final AtomicInteger queued = new AtomicInteger();
+
+		private final Timer queueTime;
+
+		private final Counter queuedCounter;
+
+		private final Meter rejected;
+
+		Pool(WorkerExecutor executor, int queueSize, Timer queueTime, Counter queuedCounter, Meter rejected) {
+			this.executor = executor;
+			this.queueSize = queueSize;
+			this.queueTime = queueTime;
+			this.queuedCounter = queuedCounter;
+			this.rejected = rejected;
+		}
+
+		/**
+		 * Reserve a place in the queue.
+		 *
+		 * @return false if the queue is full
+		 */
+		boolean enqueue() {
+			int current;
+			do {
+				current = queued.get();
+				if (queueSize >= 0 && current >= queueSize) {
+					rejected.mark();
+					return false;
+				}
+			} while (!queued.compareAndSet(current, current + 1));
+			queuedCounter.inc();
+			return true;
+		}
+
+		/**
+		 * Release the place in the queue once a thread has picked up the request.
+		 *
+		 * @param waitTime
+		 *            Time in nanoseconds the request has been waiting
+		 */
+		void dequeue(long waitTime) {
+			queued.decrementAndGet();
+			queuedCounter.dec();
+			queueTime.update(waitTime, NANOSECONDS);
+		}
+
+	}
+
+}
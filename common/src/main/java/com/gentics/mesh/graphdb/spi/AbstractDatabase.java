@@ -5,6 +5,7 @@ import java.io.IOException;
 
 import org.apache.commons.io.FileUtils;
 
+import com.gentics.mesh.core.verticle.handler.WorkerPools;
 import com.gentics.mesh.etc.config.GraphStorageOptions;
 import com.gentics.mesh.etc.config.MeshOptions;
 import com.syncleus.ferma.tx.Tx;
@@ -22,6 +23,12 @@ public abstract class AbstractDatabase implements Database {
 	protected MeshOptions options;
 	protected String meshVersion;
 	protected String[] basePaths;
+	protected WorkerPools workerPools;
+
+	@Override
+	public WorkerPools getWorkerPools() {
+		return workerPools;
+	}
 
 	@Override
 	public void clear() {
@@ -1,6 +1,7 @@
 package com.gentics.mesh.graphdb.spi;
 
 import java.io.IOException;
+import java.util.Collection;
 import java.util.Iterator;
 import java.util.List;
 import java.util.concurrent.TimeUnit;
@@ -8,9 +9,11 @@ import java.util.concurrent.TimeoutException;
 import java.util.concurrent.atomic.AtomicReference;
 
 import com.gentics.mesh.Mesh;
+import com.gentics.mesh.context.InternalActionContext;
 import com.gentics.mesh.core.data.MeshVertex;
 import com.gentics.mesh.core.rest.admin.cluster.ClusterStatusResponse;
 import com.gentics.mesh.core.rest.error.GenericRestException;
+import com.gentics.mesh.core.verticle.handler.WorkerPools;
 import com.gentics.mesh.etc.config.MeshOptions;
 import com.gentics.mesh.graphdb.model.MeshElement;
 import com.syncleus.ferma.EdgeFrame;
@@ -29,6 +32,8 @@ import com.tinkerpop.blueprints.Vertex;
 import io.reactivex.Completable;
 import io.reactivex.Single;
 import io.vertx.core.AsyncResult;
+import io.vertx.core.Future;
+import io.vertx.core.Handler;
 import io.vertx.core.logging.Logger;
 import io.vertx.core.logging.LoggerFactory;
 
@@ -75,6 +80,19 @@ public interface Database extends TxFactory {
 	 * @return
 	 */
 	default Completable asyncTx(TxAction0 txHandler) {
+		return asyncTx((InternalActionContext) null, txHandler);
+	}
+
+	/**
+	 * Asynchronously execute the given handler within a transaction and return the completable. The handler will be executed by the worker pool which
+	 * matches the workload of the request.
+	 * 
+	 * @param ac
+	 *            Context of the request or null if the handler does not belong to a request
+	 * @param txHandler
+	 * @return
+	 */
+	default Completable asyncTx(InternalActionContext ac, TxAction0 txHandler) {
 		// Create an exception which we can use to enhance error information in case of timeout or other transaction errors
 		final AtomicReference<Exception> reference = new AtomicReference<Exception>(null);
 		try {
@@ -84,7 +102,7 @@ public interface Database extends TxFactory {
 		}
 
 		return Completable.create(sub -> {
-			Mesh.vertx().executeBlocking(bc -> {
+			executeBlocking(ac, bc -> {
 				try (Tx tx = tx()) {
 					txHandler.handle();
 					bc.complete();
@@ -94,7 +112,7 @@ public interface Database extends TxFactory {
 					}
 					bc.fail(e);
 				}
-			}, false, done -> {
+			}, done -> {
 				if (done.failed()) {
 					sub.onError(done.cause());
 				} else {
@@ -111,6 +129,19 @@ public interface Database extends TxFactory {
 	 * @return
 	 */
 	default <T> Single<T> asyncTx(TxAction1<Single<T>> trxHandler) {
+		return asyncTx((InternalActionContext) null, trxHandler);
+	}
+
+	/**
+	 * Executes the given action in a thread of the worker pool which matches the workload of the request and returns a single which can be subscribed
+	 * to get the result.
+	 * 
+	 * @param ac
+	 *            Context of the request or null if the action does not belong to a request
+	 * @param trxHandler
+	 * @return
+	 */
+	default <T> Single<T> asyncTx(InternalActionContext ac, TxAction1<Single<T>> trxHandler) {
 		// Create an exception which we can use to enhance error information in case of timeout or other transaction errors
 		final AtomicReference<Exception> reference = new AtomicReference<Exception>(null);
 		try {
@@ -120,7 +151,7 @@ public interface Database extends TxFactory {
 		}
 
 		return Single.create(sub -> {
-			Mesh.vertx().executeBlocking(bc -> {
+			executeBlocking(ac, bc -> {
 				try (Tx tx = tx()) {
 					Single<T> result = trxHandler.handle();
 					if (result == null) {
@@ -145,7 +176,7 @@ public interface Database extends TxFactory {
 					}
 					bc.fail(e);
 				}
-			}, false, (AsyncResult<T> done) -> {
+			}, (AsyncResult<T> done) -> {
 				if (done.failed()) {
 					sub.onError(done.cause());
 				} else {
@@ -162,6 +193,19 @@ public interface Database extends TxFactory {
 	 * @return
 	 */
 	default <T> Single<T> asyncTx(TxAction<Single<T>> trxHandler) {
+		return asyncTx((InternalActionContext) null, trxHandler);
+	}
+
+	/**
+	 * Asynchronously execute the trxHandler within the scope of a non transaction. The handler will be executed by the worker pool which matches the
+	 * workload of the request.
+	 * 
+	 * @param ac
+	 *            Context of the request or null if the handler does not belong to a request
+	 * @param trxHandler
+	 * @return
+	 */
+	default <T> Single<T> asyncTx(InternalActionContext ac, TxAction<Single<T>> trxHandler) {
 		// Create an exception which we can use to enhance error information in case of timeout or other transaction errors
 		final AtomicReference<Exception> reference = new AtomicReference<Exception>(null);
 		try {
@@ -171,7 +215,7 @@ public interface Database extends TxFactory {
 		}
 
 		return Single.create(sub -> {
-			Mesh.vertx().executeBlocking(bc -> {
+			executeBlocking(ac, bc -> {
 				try (Tx tx = tx()) {
 					Single<T> result = trxHandler.handle(tx);
 					if (result == null) {
@@ -196,7 +240,7 @@ public interface Database extends TxFactory {
 					}
 					bc.fail(e);
 				}
-			}, false, (AsyncResult<T> done) -> {
+			}, (AsyncResult<T> done) -> {
 				if (done.failed()) {
 					sub.onError(done.cause());
 				} else {
@@ -206,6 +250,32 @@ public interface Database extends TxFactory {
 		});
 	}
 
+	/**
+	 * Execute the blocking code using the worker pool which matches the workload of the request.
+	 * 
+	 * @param ac
+	 *            Context of the request or null if the code does not belong to a request
+	 * @param blockingCodeHandler
+	 * @param resultHandler
+	 */
+	default <T> void executeBlocking(InternalActionContext ac, Handler<Future<T>> blockingCodeHandler, Handler<AsyncResult<T>> resultHandler) {
+		WorkerPools workerPools = getWorkerPools();
+		if (workerPools == null) {
+			Mesh.vertx().executeBlocking(blockingCodeHandler, false, resultHandler);
+		} else {
+			workerPools.executeBlocking(ac, blockingCodeHandler, resultHandler);
+		}
+	}
+
+	/**
+	 * Return the worker pools which execute the asynchronous transactions.
+	 * 
+	 * @return Worker pools or null if the transactions should be executed by the Vert.x worker pool
+	 */
+	default WorkerPools getWorkerPools() {
+		return null;
+	}
+
 	/**
 	 * Initialise the database and store the settings.
 	 * 
@@ -415,6 +485,16 @@ public interface Database extends TxFactory {
 	 */
 	Iterator<Vertex> getVertices(Class<?> classOfVertex, String[] fieldNames, Object[] fieldValues);
 
+	/**
+	 * Utilize the index and locate the vertices which match any of the given values using a single query.
+	 * 
+	 * @param classOfVertex
+	 * @param fieldName
+	 * @param fieldValues
+	 * @return
+	 */
+	Iterator<Vertex> getVertices(Class<?> classOfVertex, String fieldName, Collection<?> fieldValues);
+
 	/**
 	 * Locate all vertices for the given type.
 	 * 
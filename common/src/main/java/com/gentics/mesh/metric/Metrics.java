@@ -13,9 +13,47 @@ public enum Metrics {
 
 	TX_RETRY("tx.retry", "Amount of transaction retries which happen if a conflict has been encountered."),
 
+	TX_CONFLICT("tx.conflict", "Meter which tracks transaction conflicts. Additional meters with the vertex class as suffix track the conflicts per class."),
+
 	GRAPH_ELEMENT_RELOAD("graph.element.reload", "Meter which tracks the reload operations on used vertices."),
 
-	NODE_MIGRATION_PENDING("node_migration.pending", "Pending contents which need to be processed by the node migration.");
+	NODE_MIGRATION_PENDING("node_migration.pending", "Pending contents which need to be processed by the node migration."),
+
+	PERMISSION_CACHE_HIT("permission_cache.hit", "Meter which tracks the permission checks which could be answered by the permission cache."),
+
+	PERMISSION_CACHE_MISS("permission_cache.miss", "Meter which tracks the permission checks which needed to be resolved via the graph."),
+
+	USER_CACHE_HIT("user_cache.hit", "Meter which tracks the authenticated requests whose user could be resolved by the user cache."),
+
+	USER_CACHE_MISS("user_cache.miss", "Meter which tracks the authenticated requests whose user needed to be loaded from the graph."),
+
+	GRAPHQL_SCHEMA_CACHE_HIT("graphql.schema_cache.hit", "Meter which tracks the GraphQL requests which could reuse a cached schema."),
+
+	GRAPHQL_SCHEMA_CACHE_MISS("graphql.schema_cache.miss", "Meter which tracks the GraphQL requests which needed to build a new schema."),
+
+	IMAGE_CACHE_HIT("image_cache.hit", "Meter which tracks the image manipulation requests which could be answered by a cached image variant."),
+
+	IMAGE_CACHE_MISS("image_cache.miss", "Meter which tracks the image manipulation requests which needed to create a new image variant."),
+
+	IMAGE_CACHE_EVICTION("image_cache.eviction", "Meter which tracks the image variants which were removed from the image cache due to its size limit."),
+
+	IMAGE_RESIZE_QUEUED("image_resize.queued", "Amount of image resize operations which are waiting for a thread of the resize worker pool."),
+
+	IMAGE_RESIZE_ACTIVE("image_resize.active", "Amount of image resize operations which are currently being processed by the resize worker pool."),
+
+	IMAGE_RESIZE_COALESCED("image_resize.coalesced", "Meter which tracks the image resize requests which were answered by an already running resize operation of the same variant."),
+
+	WORKER_QUEUE_TIME("worker.queue_time", "Timer which tracks how long requests wait for a thread of a worker pool. The name of the pool is used as suffix."),
+
+	WORKER_QUEUED("worker.queued", "Amount of requests which are waiting for a thread of a worker pool. The name of the pool is used as suffix."),
+
+	WORKER_REJECTED("worker.rejected", "Meter which tracks the requests which were rejected because the queue of a worker pool was full. The name of the pool is used as suffix."),
+
+	JSON_SERIALIZATION_TIME("json.serialization_time", "Timer which tracks the serialization of JSON responses."),
+
+	JSON_RESPONSE_SIZE("json.response_size", "Histogram of the sizes of the serialized JSON responses in bytes."),
+
+	JSON_BYTES_SAVED("json.bytes_saved", "Histogram of the bytes which were saved by writing JSON responses without indentation. Only a sample of the responses is measured.");
 
 	private String key;
 
@@ -4,6 +4,7 @@ import java.io.IOException;
 import java.util.Set;
 
 import com.codahale.metrics.Counter;
+import com.codahale.metrics.Histogram;
 import com.codahale.metrics.Meter;
 import com.codahale.metrics.MetricRegistry;
 import com.codahale.metrics.Timer;
@@ -12,6 +13,11 @@ import io.vertx.core.buffer.Buffer;
 
 public interface MetricsService {
 
+	/**
+	 * Key of the routing context data entry which references the metrics service. The entry will only be set if metrics are enabled.
+	 */
+	String CONTEXT_KEY = "metricsService";
+
 	/**
 	 * Transform the metrics to prometheus output text.
 	 * 
@@ -47,6 +53,10 @@ public interface MetricsService {
 		return getMetricRegistry().counter(metric.key());
 	}
 
+	default Histogram histogram(Metrics metric) {
+		return getMetricRegistry().histogram(metric.key());
+	}
+
 	default ResettableCounter resetableCounter(Metrics metric) {
 		return (ResettableCounter) getMetricRegistry().counter(metric.key(), () -> new ResettableCounter());
 	}
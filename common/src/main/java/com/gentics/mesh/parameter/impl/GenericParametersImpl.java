@@ -47,6 +47,19 @@ public class GenericParametersImpl extends AbstractParameters implements Generic
 		etagParam.setDefaultValue("true");
 		parameters.put(FIELDS_PARAM_KEY, etagParam);
 
+		QueryParameter prettyParam = new QueryParameter();
+		prettyParam.setDescription(
+			"Parameter which can be used to request a pretty printed JSON response. By default the response will be written without indentation unless the server has been configured otherwise.");
+		prettyParam.setType(ParamType.BOOLEAN);
+		parameters.put(PRETTY_PARAM_KEY, prettyParam);
+
+		QueryParameter waitForIndexParam = new QueryParameter();
+		waitForIndexParam.setDescription(
+			"Parameter which can be used to delay the response until the changes of the request have been written to the search index. This is only needed when the asynchronous search index outbox has been enabled.");
+		waitForIndexParam.setType(ParamType.BOOLEAN);
+		waitForIndexParam.setDefaultValue("false");
+		parameters.put(WAIT_FOR_INDEX_PARAM_KEY, waitForIndexParam);
+
 		return parameters;
 	}
 
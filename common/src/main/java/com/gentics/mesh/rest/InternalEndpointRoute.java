@@ -12,6 +12,7 @@ import org.raml.model.parameter.QueryParameter;
 import org.raml.model.parameter.UriParameter;
 
 import com.gentics.mesh.core.rest.common.RestModel;
+import com.gentics.mesh.core.verticle.handler.WorkerPool;
 import com.gentics.mesh.parameter.ParameterProvider;
 
 import io.netty.handler.codec.http.HttpResponseStatus;
@@ -172,7 +173,7 @@ public interface InternalEndpointRoute extends Comparable<InternalEndpointRoute>
 	InternalEndpointRoute exampleResponse(HttpResponseStatus status, String description, String headerName, String example, String headerDescription);
 
 	/**
-	 * Create a blocking handler for the endpoint.
+	 * Create a blocking handler for the endpoint. The handler will be executed by the worker pool which matches the workload of the request.
 	 * 
 	 * @param requestHandler
 	 * @return Fluent API
@@ -180,7 +181,7 @@ public interface InternalEndpointRoute extends Comparable<InternalEndpointRoute>
 	InternalEndpointRoute blockingHandler(Handler<RoutingContext> requestHandler);
 
 	/**
-	 * Create a blocking handler for the endpoint.
+	 * Create a blocking handler for the endpoint. The handler will be executed by the worker pool which matches the workload of the request.
 	 * 
 	 * @param requestHandler
 	 * @param ordered
@@ -188,6 +189,15 @@ public interface InternalEndpointRoute extends Comparable<InternalEndpointRoute>
 	 */
 	InternalEndpointRoute blockingHandler(Handler<RoutingContext> requestHandler, boolean ordered);
 
+	/**
+	 * Set the worker pool which processes the requests of the endpoint. By default the pool is selected using the HTTP method of the request. This
+	 * needs to be set before the handler of the endpoint is added.
+	 * 
+	 * @param pool
+	 * @return Fluent API
+	 */
+	InternalEndpointRoute workerPool(WorkerPool pool);
+
 	/**
 	 * Create a failure handler for the endpoint.
 	 * 
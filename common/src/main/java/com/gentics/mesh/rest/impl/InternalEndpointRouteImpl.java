@@ -22,6 +22,8 @@ import org.raml.model.parameter.QueryParameter;
 import org.raml.model.parameter.UriParameter;
 
 import com.gentics.mesh.core.rest.common.RestModel;
+import com.gentics.mesh.core.verticle.handler.WorkerPool;
+import com.gentics.mesh.core.verticle.handler.WorkerPools;
 import com.gentics.mesh.json.JsonUtil;
 import com.gentics.mesh.parameter.ParameterProvider;
 import com.gentics.mesh.rest.InternalEndpointRoute;
@@ -77,13 +79,29 @@ public class InternalEndpointRouteImpl implements InternalEndpointRoute {
 
 	private Map<String, QueryParameter> parameters = new HashMap<>();
 
+	private final WorkerPools workerPools;
+
+	private WorkerPool workerPool;
+
 	/**
 	 * Create a new endpoint wrapper using the provided router to create the wrapped route instance.
 	 * 
 	 * @param router
 	 */
 	public InternalEndpointRouteImpl(Router router) {
+		this(router, null);
+	}
+
+	/**
+	 * Create a new endpoint wrapper using the provided router to create the wrapped route instance.
+	 * 
+	 * @param router
+	 * @param workerPools
+	 *            Worker pools which execute the blocking handlers or null if the Vert.x worker pool should be used
+	 */
+	public InternalEndpointRouteImpl(Router router, WorkerPools workerPools) {
 		this.route = router.route();
+		this.workerPools = workerPools;
 	}
 
 	@Override
@@ -139,7 +157,7 @@ public class InternalEndpointRouteImpl implements InternalEndpointRoute {
 	@Override
 	public InternalEndpointRoute handler(Handler<RoutingContext> requestHandler) {
 		validate();
-		route.handler(requestHandler);
+		route.handler(withWorkerPool(requestHandler));
 		return this;
 	}
 
@@ -180,16 +198,51 @@ public class InternalEndpointRouteImpl implements InternalEndpointRoute {
 
 	@Override
 	public InternalEndpointRoute blockingHandler(Handler<RoutingContext> requestHandler) {
-		route.blockingHandler(requestHandler);
-		return this;
+		return blockingHandler(requestHandler, true);
 	}
 
 	@Override
 	public InternalEndpointRoute blockingHandler(Handler<RoutingContext> requestHandler, boolean ordered) {
-		route.blockingHandler(requestHandler, ordered);
+		if (workerPools == null) {
+			route.blockingHandler(withWorkerPool(requestHandler), ordered);
+			return this;
+		}
+		route.handler(withWorkerPool(rc -> {
+			workerPools.executeBlocking(workerPools.select(rc), bc -> {
+				requestHandler.handle(rc);
+				bc.complete();
+			}, ordered, rh -> {
+				if (rh.failed()) {
+					rc.fail(rh.cause());
+				}
+			});
+		}));
 		return this;
 	}
 
+	@Override
+	public InternalEndpointRoute workerPool(WorkerPool pool) {
+		this.workerPool = pool;
+		return this;
+	}
+
+	/**
+	 * Wrap the handler so that the configured worker pool is stored in the routing context before the handler is invoked.
+	 * 
+	 * @param requestHandler
+	 * @return
+	 */
+	private Handler<RoutingContext> withWorkerPool(Handler<RoutingContext> requestHandler) {
+		WorkerPool pool = workerPool;
+		if (pool == null) {
+			return requestHandler;
+		}
+		return rc -> {
+			rc.put(WorkerPool.CONTEXT_KEY, pool);
+			requestHandler.handle(rc);
+		};
+	}
+
 	@Override
 	public InternalEndpointRoute failureHandler(Handler<RoutingContext> failureHandler) {
 		route.failureHandler(failureHandler);
@@ -1,7 +1,14 @@
 package com.gentics.mesh.router;
 
+import com.gentics.mesh.Mesh;
+import com.gentics.mesh.etc.config.HttpServerConfig;
+import com.gentics.mesh.etc.config.MeshOptions;
+import com.gentics.mesh.etc.config.search.ElasticSearchOptions;
+import com.gentics.mesh.metric.MetricsService;
+import com.gentics.mesh.router.route.CompressionFilterHandler;
 import com.gentics.mesh.router.route.DefaultNotFoundHandler;
 import com.gentics.mesh.router.route.FailureHandler;
+import com.gentics.mesh.router.route.WaitForIndexHandler;
 
 import io.vertx.core.Vertx;
 import io.vertx.ext.web.Router;
@@ -28,6 +35,23 @@ public class RootRouter {
 		this.router = Router.router(vertx);
 		// Root handlersA
 		router.route().handler(LoggerHandler.create());
+		MeshOptions options = Mesh.mesh().getOptions();
+		HttpServerConfig serverOptions = options.getHttpServerOptions();
+		if (serverOptions.isEnableCompression()) {
+			router.route().handler(CompressionFilterHandler.create(serverOptions));
+		}
+		MetricsService metrics = storage.getMetrics();
+		if (metrics != null && metrics.isEnabled()) {
+			// Make the metrics available to the action contexts
+			router.route().handler(rc -> {
+				rc.put(MetricsService.CONTEXT_KEY, metrics);
+				rc.next();
+			});
+		}
+		ElasticSearchOptions searchOptions = options.getSearchOptions();
+		if (searchOptions != null && searchOptions.isEnableOutbox()) {
+			router.route().handler(WaitForIndexHandler.create(storage.getSearchOutbox()));
+		}
 		// TODO add a dedicated error for api router that informs about
 		// APPLICATION_JSON requirements. This may not be true for other
 		// routes (eg. custom
@@ -15,7 +15,9 @@ import com.gentics.mesh.Mesh;
 import com.gentics.mesh.auth.MeshAuthChain;
 import com.gentics.mesh.cli.BootstrapInitializer;
 import com.gentics.mesh.core.data.Project;
+import com.gentics.mesh.core.data.search.SearchOutbox;
 import com.gentics.mesh.graphdb.spi.Database;
+import com.gentics.mesh.metric.MetricsService;
 import com.syncleus.ferma.tx.Tx;
 
 import dagger.Lazy;
@@ -66,11 +68,17 @@ public class RouterStorage {
 
 	private MeshAuthChain authChain;
 
+	private Lazy<SearchOutbox> searchOutbox;
+
+	private MetricsService metrics;
+
 	@Inject
 	public RouterStorage(Vertx vertx, MeshAuthChain authChain, CorsHandler corsHandler, BodyHandlerImpl bodyHandler, Lazy<BootstrapInitializer> boot,
-		Lazy<Database> db) {
+		Lazy<Database> db, Lazy<SearchOutbox> searchOutbox, MetricsService metrics) {
 		this.boot = boot;
 		this.db = db;
+		this.searchOutbox = searchOutbox;
+		this.metrics = metrics;
 		this.corsHandler = corsHandler;
 		this.bodyHandler = bodyHandler;
 		this.authChain = authChain;
@@ -181,6 +189,14 @@ public class RouterStorage {
 		return authChain;
 	}
 
+	public Lazy<SearchOutbox> getSearchOutbox() {
+		return searchOutbox;
+	}
+
+	public MetricsService getMetrics() {
+		return metrics;
+	}
+
 	public RootRouter root() {
 		return rootRouter;
 	}
@@ -4,6 +4,8 @@ import java.util.ArrayList;
 import java.util.List;
 
 import com.gentics.mesh.auth.MeshAuthChain;
+import com.gentics.mesh.core.verticle.handler.WorkerPools;
+import com.gentics.mesh.graphdb.spi.Database;
 import com.gentics.mesh.rest.InternalEndpoint;
 import com.gentics.mesh.rest.InternalEndpointRoute;
 import com.gentics.mesh.rest.impl.InternalEndpointRouteImpl;
@@ -89,11 +91,24 @@ public abstract class AbstractInternalEndpoint implements InternalEndpoint {
 
 	@Override
 	public InternalEndpointRoute createRoute() {
-		InternalEndpointRoute endpoint = new InternalEndpointRouteImpl(getRouter());
+		InternalEndpointRoute endpoint = new InternalEndpointRouteImpl(getRouter(), getWorkerPools());
 		endpointRoutes.add(endpoint);
 		return endpoint;
 	}
 
+	/**
+	 * Return the worker pools which execute the blocking handlers of the endpoints.
+	 * 
+	 * @return Worker pools or null if the pools are not available
+	 */
+	protected WorkerPools getWorkerPools() {
+		if (routerStorage == null || routerStorage.getDb() == null) {
+			return null;
+		}
+		Database db = routerStorage.getDb().get();
+		return db == null ? null : db.getWorkerPools();
+	}
+
 	/**
 	 * Return a list of all endpoints that have been registered within this endpoint.
 	 * 
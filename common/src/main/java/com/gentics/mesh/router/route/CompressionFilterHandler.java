@@ -0,0 +1,77 @@
+package com.gentics.mesh.router.route;
+
+import java.util.List;
+
+import com.gentics.mesh.etc.config.HttpServerConfig;
+
+import io.vertx.core.Handler;
+import io.vertx.core.MultiMap;
+import io.vertx.core.http.HttpHeaders;
+import io.vertx.ext.web.RoutingContext;
+
+/**
+ * Handler which limits the response compression of the HTTP server to responses which benefit from it. Responses which are smaller than the configured
+ * minimum size or which use a content type that is not listed in the configured content types will be sent uncompressed. Compression is skipped by
+ * setting the identity content encoding which will be respected by the compressor of the server.
+ */
+public class CompressionFilterHandler implements Handler<RoutingContext> {
+
+	private static final String IDENTITY = "identity";
+
+	private final int minSize;
+
+	private final List<String> contentTypes;
+
+	public CompressionFilterHandler(int minSize, List<String> contentTypes) {
+		this.minSize = minSize;
+		this.contentTypes = contentTypes;
+	}
+
+	public static CompressionFilterHandler create(HttpServerConfig options) {
+		return new CompressionFilterHandler(options.getCompressionMinSize(), options.getCompressionContentTypes());
+	}
+
+	@Override
+	public void handle(RoutingContext rc) {
+		rc.addHeadersEndHandler(v -> {
+			MultiMap headers = rc.response().headers();
+			if (!headers.contains(HttpHeaders.CONTENT_ENCODING)
+				&& !shouldCompress(headers.get(HttpHeaders.CONTENT_TYPE), headers.get(HttpHeaders.CONTENT_LENGTH))) {
+				headers.set(HttpHeaders.CONTENT_ENCODING, IDENTITY);
+			}
+		});
+		rc.next();
+	}
+
+	/**
+	 * Check whether the response with the given headers should be compressed.
+	 *
+	 * @param contentType
+	 *            Content type header value
+	 * @param contentLength
+	 *            Content length header value. Responses of unknown length will be compressed if the content type matches.
+	 * @return
+	 */
+	boolean shouldCompress(String contentType, String contentLength) {
+		if (contentLength != null) {
+			try {
+				if (Long.parseLong(contentLength) < minSize) {
+					return false;
+				}
+			} catch (NumberFormatException e) {
+				// Ignore the invalid header and check the content type
+			}
+		}
+		if (contentType == null || contentTypes == null) {
+			return false;
+		}
+		String type = contentType.toLowerCase();
+		for (String allowedType : contentTypes) {
+			if (type.startsWith(allowedType.toLowerCase())) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+}
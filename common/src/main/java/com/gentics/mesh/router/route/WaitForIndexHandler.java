@@ -0,0 +1,35 @@
+package com.gentics.mesh.router.route;
+
+import static com.gentics.mesh.parameter.GenericParameters.WAIT_FOR_INDEX_PARAM_KEY;
+
+import com.gentics.mesh.core.data.search.SearchOutbox;
+
+import dagger.Lazy;
+import io.vertx.core.Handler;
+import io.vertx.ext.web.RoutingContext;
+
+/**
+ * Handler which marks requests that use the waitForIndex parameter. The response of those requests will be delayed until the search outbox has written the
+ * changes of the request to the search index.
+ */
+public class WaitForIndexHandler implements Handler<RoutingContext> {
+
+	private final Lazy<SearchOutbox> outbox;
+
+	public WaitForIndexHandler(Lazy<SearchOutbox> outbox) {
+		this.outbox = outbox;
+	}
+
+	public static WaitForIndexHandler create(Lazy<SearchOutbox> outbox) {
+		return new WaitForIndexHandler(outbox);
+	}
+
+	@Override
+	public void handle(RoutingContext rc) {
+		if (Boolean.valueOf(rc.request().getParam(WAIT_FOR_INDEX_PARAM_KEY))) {
+			rc.put(SearchOutbox.WAIT_FOR_INDEX_KEY, outbox.get());
+		}
+		rc.next();
+	}
+
+}
@@ -21,6 +21,42 @@ public interface BinaryStorage {
 	 */
 	Completable store(Flowable<Buffer> stream, String uuid);
 
+	/**
+	 * Stores the contents of the stream in a temporary location. The data is not visible to readers until it gets moved via
+	 * {@link #moveInPlace(String)}. Storages which can't move data store it directly in the final location.
+	 * 
+	 * @param stream
+	 * @param uuid
+	 *            Uuid of the binary to be stored
+	 * @return
+	 */
+	default Completable storeInTemp(Flowable<Buffer> stream, String uuid) {
+		return store(stream, uuid);
+	}
+
+	/**
+	 * Move the data which was stored via {@link #storeInTemp(Flowable, String)} to the final location. Moving data which has already been moved has no
+	 * effect.
+	 * 
+	 * @param uuid
+	 *            Uuid of the binary
+	 * @return
+	 */
+	default Completable moveInPlace(String uuid) {
+		return Completable.complete();
+	}
+
+	/**
+	 * Delete the data which was stored via {@link #storeInTemp(Flowable, String)} and has not been moved.
+	 * 
+	 * @param uuid
+	 *            Uuid of the binary
+	 * @return
+	 */
+	default Completable purgeTemporaryUpload(String uuid) {
+		return delete(uuid);
+	}
+
 	/**
 	 * Checks whether the binary data for the given field exists
 	 * 
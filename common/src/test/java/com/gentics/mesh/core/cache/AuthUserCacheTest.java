@@ -0,0 +1,104 @@
+package com.gentics.mesh.core.cache;
+
+import static com.gentics.mesh.metric.Metrics.USER_CACHE_HIT;
+import static com.gentics.mesh.metric.Metrics.USER_CACHE_MISS;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.fail;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+import com.codahale.metrics.MetricRegistry;
+import com.gentics.mesh.core.data.MeshAuthUser;
+
+import io.vertx.core.json.JsonObject;
+
+public class AuthUserCacheTest {
+
+	private MetricRegistry registry;
+
+	private AtomicInteger loads;
+
+	@Before
+	public void setup() {
+		registry = new MetricRegistry();
+		loads = new AtomicInteger();
+	}
+
+	@Test
+	public void testHit() throws Exception {
+		AuthUserCache cache = new AuthUserCache(100, registry);
+		MeshAuthUser user = Mockito.mock(MeshAuthUser.class);
+
+		assertSame(user, cache.get("user", null, () -> load(user)));
+		assertSame(user, cache.get("user", null, () -> load(user)));
+		assertEquals("The user should only be loaded once", 1, loads.get());
+		assertEquals(1, registry.meter(USER_CACHE_HIT.key()).getCount());
+		assertEquals(1, registry.meter(USER_CACHE_MISS.key()).getCount());
+
+		// Tokens with a different id need to be verified again
+		cache.get("user", "tokenId", () -> load(user));
+		assertEquals(2, loads.get());
+	}
+
+	@Test
+	public void testInvalidateUser() throws Exception {
+		AuthUserCache cache = new AuthUserCache(100, registry);
+		MeshAuthUser user = Mockito.mock(MeshAuthUser.class);
+		cache.get("user", null, () -> load(user));
+		cache.get("user", "tokenId", () -> load(user));
+		cache.get("otherUser", null, () -> load(user));
+		assertEquals(3, cache.size());
+
+		cache.handleUserEvent(new JsonObject().put("uuid", "user"));
+		assertEquals("Only the entries of the user should have been evicted", 1, cache.size());
+
+		cache.handleUserEvent(null);
+		assertEquals("Events without a user should clear the cache", 0, cache.size());
+	}
+
+	@Test
+	public void testFailedLoad() throws Exception {
+		AuthUserCache cache = new AuthUserCache(100, registry);
+		try {
+			cache.get("user", "tokenId", () -> {
+				throw new Exception("API key token is invalid.");
+			});
+			fail("The loader error should have been passed on");
+		} catch (Exception e) {
+			assertEquals("API key token is invalid.", e.getMessage());
+		}
+		assertEquals(0, cache.size());
+	}
+
+	@Test
+	public void testInvalidationDuringLoad() throws Exception {
+		AuthUserCache cache = new AuthUserCache(100, registry);
+		MeshAuthUser user = Mockito.mock(MeshAuthUser.class);
+		cache.get("user", null, () -> {
+			cache.invalidateUser("user");
+			return load(user);
+		});
+		assertEquals("Users which were changed while they were loaded must not be cached", 0, cache.size());
+	}
+
+	@Test
+	public void testDisabled() throws Exception {
+		AuthUserCache cache = new AuthUserCache(0, registry);
+		MeshAuthUser user = Mockito.mock(MeshAuthUser.class);
+		cache.get("user", null, () -> load(user));
+		cache.get("user", null, () -> load(user));
+		assertEquals(2, loads.get());
+		assertEquals(0, cache.size());
+	}
+
+	private MeshAuthUser load(MeshAuthUser user) {
+		loads.incrementAndGet();
+		return user;
+	}
+
+}
@@ -0,0 +1,158 @@
+package com.gentics.mesh.core.cache;
+
+import static com.gentics.mesh.core.data.relationship.GraphPermission.CREATE_PERM;
+import static com.gentics.mesh.core.data.relationship.GraphPermission.READ_PERM;
+import static com.gentics.mesh.core.data.relationship.GraphPermission.UPDATE_PERM;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumSet;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+
+import com.gentics.mesh.core.data.relationship.GraphPermission;
+import com.syncleus.ferma.tx.Tx;
+
+public class PermissionStoreTest {
+
+	@Before
+	public void setup() {
+		PermissionStore.invalidate(false);
+	}
+
+	@Test
+	public void testGrantedAndDenied() {
+		assertNull(PermissionStore.getPermission("user", READ_PERM, "element"));
+		PermissionStore.store("user", READ_PERM, "element", true);
+		PermissionStore.store("user", UPDATE_PERM, "element", false);
+
+		assertTrue(PermissionStore.getPermission("user", READ_PERM, "element"));
+		assertFalse(PermissionStore.getPermission("user", UPDATE_PERM, "element"));
+		assertNull(PermissionStore.getPermission("user", CREATE_PERM, "element"));
+		assertNull(PermissionStore.getPermission("otherUser", READ_PERM, "element"));
+		assertEquals(1, PermissionStore.PERM_CACHE.estimatedSize());
+	}
+
+	@Test
+	public void testGrantDiscardsDenied() {
+		PermissionStore.store("user", READ_PERM, "element", true);
+		PermissionStore.store("user", UPDATE_PERM, "element", false);
+		PermissionStore.onGranted(false);
+
+		assertTrue("Granting results must survive a grant.", PermissionStore.getPermission("user", READ_PERM, "element"));
+		assertNull("Denying results must be discarded by a grant.", PermissionStore.getPermission("user", UPDATE_PERM, "element"));
+
+		PermissionStore.store("user", UPDATE_PERM, "element", true);
+		assertTrue(PermissionStore.getPermission("user", UPDATE_PERM, "element"));
+	}
+
+	@Test
+	public void testAllPermissions() {
+		assertNull(PermissionStore.getPermissions("user", "element"));
+		for (GraphPermission perm : GraphPermission.values()) {
+			PermissionStore.store("user", perm, "element", perm == READ_PERM || perm == CREATE_PERM);
+		}
+		assertEquals(EnumSet.of(READ_PERM, CREATE_PERM), PermissionStore.getPermissions("user", "element"));
+		assertFalse(PermissionStore.getPermission("user", UPDATE_PERM, "element"));
+
+		PermissionStore.onGranted(false);
+		assertNull(PermissionStore.getPermissions("user", "element"));
+	}
+
+	@Test
+	public void testInvalidate() {
+		PermissionStore.store("user", READ_PERM, "element", true);
+		PermissionStore.invalidate(false);
+		assertNull(PermissionStore.getPermission("user", READ_PERM, "element"));
+	}
+
+	@Test
+	public void testInvalidateElement() {
+		PermissionStore.store("user", READ_PERM, "element", true);
+		PermissionStore.store("user", READ_PERM, "otherElement", true);
+		PermissionStore.store("otherUser", READ_PERM, "element", true);
+		PermissionStore.invalidate(Arrays.asList("user"), Arrays.asList("element"), false);
+
+		assertNull(PermissionStore.getPermission("user", READ_PERM, "element"));
+		assertTrue(PermissionStore.getPermission("user", READ_PERM, "otherElement"));
+		assertTrue(PermissionStore.getPermission("otherUser", READ_PERM, "element"));
+	}
+
+	@Test
+	public void testInvalidateUsers() {
+		PermissionStore.store("user", READ_PERM, "element", true);
+		PermissionStore.store("user", READ_PERM, "otherElement", true);
+		PermissionStore.store("otherUser", READ_PERM, "element", true);
+		PermissionStore.invalidate(Arrays.asList("user"), null, false);
+
+		assertNull(PermissionStore.getPermission("user", READ_PERM, "element"));
+		assertNull(PermissionStore.getPermission("user", READ_PERM, "otherElement"));
+		assertTrue(PermissionStore.getPermission("otherUser", READ_PERM, "element"));
+
+		PermissionStore.invalidate(null, Arrays.asList("element"), false);
+		assertNull(PermissionStore.getPermission("otherUser", READ_PERM, "element"));
+	}
+
+	@Test
+	public void testInvalidateEmptyScope() {
+		PermissionStore.store("user", READ_PERM, "element", true);
+		PermissionStore.invalidate(Collections.emptyList(), Arrays.asList("element"), false);
+		assertTrue("A revoke on a role without users must not evict entries.", PermissionStore.getPermission("user", READ_PERM, "element"));
+	}
+
+	@Test
+	public void testDenialOfOutdatedGeneration() {
+		int generation = PermissionStore.getGeneration();
+		// A grant was committed while the permission was being checked
+		PermissionStore.onGranted(false);
+		PermissionStore.store("user", READ_PERM, "element", false, generation);
+		assertNull("A denial which was checked before the grant must not be used.", PermissionStore.getPermission("user", READ_PERM, "element"));
+
+		PermissionStore.store("user", UPDATE_PERM, "element", true, generation);
+		assertTrue(PermissionStore.getPermission("user", UPDATE_PERM, "element"));
+	}
+
+	@Test
+	public void testGrantedAfterCommit() {
+		Tx tx = mock(Tx.class);
+		Tx.setActive(tx);
+		try {
+			PermissionStore.store("user", READ_PERM, "element", false);
+			PermissionStore.onGrantedAfterCommit();
+			verify(tx).afterCommit(any(Runnable.class));
+			assertFalse("The denial must be kept until the grant has been committed.", PermissionStore.getPermission("user", READ_PERM, "element"));
+		} finally {
+			Tx.setActive(null);
+		}
+	}
+
+	@Test
+	public void testRevokedAfterCommit() {
+		Tx tx = mock(Tx.class);
+		Tx.setActive(tx);
+		try {
+			PermissionStore.store("user", READ_PERM, "element", true);
+			PermissionStore.invalidateAfterCommit(Arrays.asList("user"), Arrays.asList("element"), false);
+			ArgumentCaptor<Runnable> afterCommit = ArgumentCaptor.forClass(Runnable.class);
+			verify(tx).afterCommit(afterCommit.capture());
+
+			// A concurrent check still sees the grant while the revoking transaction has not yet been committed
+			PermissionStore.store("user", READ_PERM, "element", true);
+			assertTrue(PermissionStore.getPermission("user", READ_PERM, "element"));
+
+			afterCommit.getValue().run();
+			assertNull("The grant must not survive the commit of the revocation.", PermissionStore.getPermission("user", READ_PERM, "element"));
+		} finally {
+			Tx.setActive(null);
+		}
+	}
+}
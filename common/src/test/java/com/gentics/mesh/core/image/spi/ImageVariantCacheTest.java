@@ -0,0 +1,102 @@
+package com.gentics.mesh.core.image.spi;
+
+import static com.gentics.mesh.metric.Metrics.IMAGE_CACHE_EVICTION;
+import static com.gentics.mesh.metric.Metrics.IMAGE_CACHE_HIT;
+import static com.gentics.mesh.metric.Metrics.IMAGE_CACHE_MISS;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
+
+import org.apache.commons.io.FileUtils;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.codahale.metrics.MetricRegistry;
+import com.gentics.mesh.parameter.ImageManipulationParameters;
+import com.gentics.mesh.parameter.impl.ImageManipulationParametersImpl;
+
+public class ImageVariantCacheTest {
+
+	private static final String HASH = "6a793cf1c7f6ef022ba9fff65ed43ddac9fb9c2131ffc4eaa3f49212244c0d41";
+
+	private File cacheDir;
+
+	private MetricRegistry registry;
+
+	@Before
+	public void setup() throws IOException {
+		cacheDir = new File("target", "imageVariantCache_" + System.currentTimeMillis());
+		registry = new MetricRegistry();
+	}
+
+	@After
+	public void cleanup() throws IOException {
+		FileUtils.deleteDirectory(cacheDir);
+	}
+
+	@Test
+	public void testHitAndMiss() throws IOException {
+		ImageVariantCache cache = new ImageVariantCache(cacheDir, 10_000, registry, Runnable::run);
+		ImageManipulationParameters params = new ImageManipulationParametersImpl().setWidth(100);
+
+		assertNull(cache.get(HASH, params));
+		File file = writeVariant(cache, params, 100);
+		cache.put(HASH, params, file);
+		assertEquals(file, cache.get(HASH, params));
+		assertEquals(file, cache.peek(HASH, params));
+
+		assertEquals(1, registry.meter(IMAGE_CACHE_MISS.key()).getCount());
+		assertEquals("Peeking must not be recorded", 1, registry.meter(IMAGE_CACHE_HIT.key()).getCount());
+		assertEquals(100, cache.getSize());
+	}
+
+	@Test
+	public void testEviction() throws IOException {
+		ImageVariantCache cache = new ImageVariantCache(cacheDir, 2500, registry, Runnable::run);
+		List<ImageManipulationParameters> variants = Arrays.asList(new ImageManipulationParametersImpl().setWidth(100),
+			new ImageManipulationParametersImpl().setWidth(200), new ImageManipulationParametersImpl().setWidth(300));
+		for (ImageManipulationParameters params : variants) {
+			cache.put(HASH, params, writeVariant(cache, params, 1000));
+		}
+
+		assertTrue("The cache must not exceed the size limit", cache.getSize() <= 2500);
+		assertEquals(1, registry.meter(IMAGE_CACHE_EVICTION.key()).getCount());
+		int deleted = 0;
+		for (ImageManipulationParameters params : variants) {
+			File file = new File(cache.getBaseFile(HASH, params).getAbsolutePath() + ".jpg");
+			if (!file.exists()) {
+				assertNull("Deleted variants must not be returned", cache.peek(HASH, params));
+				deleted++;
+			}
+		}
+		assertEquals("The file of the evicted variant should have been deleted", 1, deleted);
+	}
+
+	@Test
+	public void testIndex() throws IOException {
+		ImageManipulationParameters params = new ImageManipulationParametersImpl().setWidth(100).setHeight(50);
+		File file = writeVariant(new ImageVariantCache(cacheDir, 10_000, registry, Runnable::run), params, 200);
+
+		// A new cache only knows the variants which were written before once the directory has been indexed
+		ImageVariantCache cache = new ImageVariantCache(cacheDir, 10_000, registry, Runnable::run);
+		assertNull(cache.peek(HASH, params));
+		cache.index();
+		assertNotNull(cache.peek(HASH, params));
+		assertEquals(file.getAbsoluteFile(), cache.peek(HASH, params).getAbsoluteFile());
+		assertEquals(200, cache.getSize());
+	}
+
+	private File writeVariant(ImageVariantCache cache, ImageManipulationParameters params, int size) throws IOException {
+		File file = new File(cache.getBaseFile(HASH, params).getAbsolutePath() + ".jpg");
+		FileUtils.writeByteArrayToFile(file, new byte[size]);
+		return file;
+	}
+
+}
@@ -0,0 +1,149 @@
+package com.gentics.mesh.core.verticle.handler;
+
+import static com.gentics.mesh.metric.Metrics.WORKER_QUEUE_TIME;
+import static com.gentics.mesh.metric.Metrics.WORKER_REJECTED;
+import static io.netty.handler.codec.http.HttpResponseStatus.SERVICE_UNAVAILABLE;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.codahale.metrics.MetricRegistry;
+import com.gentics.mesh.context.InternalActionContext;
+import com.gentics.mesh.core.rest.error.GenericRestException;
+import com.gentics.mesh.etc.config.VertxOptions;
+
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Vertx;
+import io.vertx.core.http.HttpMethod;
+import io.vertx.core.http.HttpServerRequest;
+import io.vertx.ext.web.RoutingContext;
+
+public class WorkerPoolsTest {
+
+	private Vertx vertx;
+
+	private MetricRegistry registry;
+
+	private WorkerPools pools;
+
+	@Before
+	public void setup() {
+		vertx = Vertx.vertx();
+		registry = new MetricRegistry();
+		VertxOptions options = new VertxOptions().setWritePoolSize(1).setWriteQueueSize(1);
+		pools = new WorkerPools(() -> vertx, options, registry);
+	}
+
+	@After
+	public void cleanup() {
+		vertx.close();
+	}
+
+	@Test
+	public void testSelect() {
+		assertEquals(WorkerPool.READ, pools.select(mockContext(HttpMethod.GET)));
+		assertEquals(WorkerPool.WRITE, pools.select(mockContext(HttpMethod.POST)));
+		assertEquals("Contexts without request may modify data", WorkerPool.WRITE, pools.select(mockContext(null)));
+
+		InternalActionContext admin = mockContext(HttpMethod.GET);
+		when(admin.get(WorkerPool.CONTEXT_KEY)).thenReturn(WorkerPool.ADMIN);
+		assertEquals(WorkerPool.ADMIN, pools.select(admin));
+
+		InternalActionContext migration = mockContext(null);
+		when(migration.isMigrationContext()).thenReturn(true);
+		assertEquals(WorkerPool.ADMIN, pools.select(migration));
+		assertEquals(WorkerPool.WRITE, pools.select((InternalActionContext) null));
+	}
+
+	@Test
+	public void testSelectRoute() {
+		RoutingContext search = mockRoutingContext(HttpMethod.POST);
+		when(search.get(WorkerPool.CONTEXT_KEY)).thenReturn(WorkerPool.READ);
+		assertEquals("Posted queries should use the read pool", WorkerPool.READ, pools.select(search));
+		assertEquals(WorkerPool.WRITE, pools.select(mockRoutingContext(HttpMethod.POST)));
+		assertEquals(WorkerPool.READ, pools.select(mockRoutingContext(HttpMethod.GET)));
+	}
+
+	@Test
+	public void testNestedBlockingCode() throws Exception {
+		// The only thread of the write pool executes the outer code. The nested code must not wait for it.
+		CompletableFuture<AsyncResult<String>> outer = new CompletableFuture<>();
+		pools.<String>executeBlocking(WorkerPool.WRITE, bc -> {
+			CompletableFuture<AsyncResult<String>> inner = new CompletableFuture<>();
+			pools.<String>executeBlocking(mockContext(HttpMethod.POST), ibc -> ibc.complete("inner"), inner::complete);
+			try {
+				bc.complete(inner.get(5, TimeUnit.SECONDS).result());
+			} catch (Exception e) {
+				bc.fail(e);
+			}
+		}, false, outer::complete);
+		AsyncResult<String> result = outer.get(10, TimeUnit.SECONDS);
+		assertTrue("The nested code should not have been queued behind the outer code", result.succeeded());
+		assertEquals("inner", result.result());
+	}
+
+	@Test
+	public void testLoadShedding() throws Exception {
+		CountDownLatch blocker = new CountDownLatch(1);
+		CountDownLatch started = new CountDownLatch(1);
+		CompletableFuture<AsyncResult<String>> first = new CompletableFuture<>();
+		pools.<String>executeBlocking(WorkerPool.WRITE, bc -> {
+			started.countDown();
+			try {
+				blocker.await();
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+			bc.complete("first");
+		}, false, first::complete);
+		assertTrue(started.await(5, TimeUnit.SECONDS));
+
+		// The only thread of the pool is busy. The second request will be queued.
+		CompletableFuture<AsyncResult<String>> second = new CompletableFuture<>();
+		pools.<String>executeBlocking(WorkerPool.WRITE, bc -> bc.complete("second"), false, second::complete);
+		assertEquals(1, pools.getQueued(WorkerPool.WRITE));
+
+		// The queue is full. The third request must be rejected.
+		CompletableFuture<AsyncResult<String>> third = new CompletableFuture<>();
+		pools.<String>executeBlocking(WorkerPool.WRITE, bc -> bc.complete("third"), false, third::complete);
+		AsyncResult<String> rejected = third.get(5, TimeUnit.SECONDS);
+		assertTrue(rejected.failed());
+		assertEquals(SERVICE_UNAVAILABLE, ((GenericRestException) rejected.cause()).getStatus());
+		assertEquals(1, registry.meter(WORKER_REJECTED.key() + ".write").getCount());
+
+		// Other pools are not affected
+		CompletableFuture<AsyncResult<String>> read = new CompletableFuture<>();
+		pools.<String>executeBlocking(WorkerPool.READ, bc -> bc.complete("read"), false, read::complete);
+		assertEquals("read", read.get(5, TimeUnit.SECONDS).result());
+
+		blocker.countDown();
+		assertEquals("first", first.get(5, TimeUnit.SECONDS).result());
+		assertEquals("second", second.get(5, TimeUnit.SECONDS).result());
+		assertEquals(0, pools.getQueued(WorkerPool.WRITE));
+		assertEquals(2, registry.timer(WORKER_QUEUE_TIME.key() + ".write").getCount());
+	}
+
+	private RoutingContext mockRoutingContext(HttpMethod method) {
+		RoutingContext rc = mock(RoutingContext.class);
+		HttpServerRequest request = mock(HttpServerRequest.class);
+		when(rc.request()).thenReturn(request);
+		when(request.method()).thenReturn(method);
+		return rc;
+	}
+
+	private InternalActionContext mockContext(HttpMethod method) {
+		InternalActionContext ac = mock(InternalActionContext.class);
+		when(ac.getHttpMethod()).thenReturn(method);
+		return ac;
+	}
+
+}
@@ -0,0 +1,32 @@
+package com.gentics.mesh.router.route;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+import com.gentics.mesh.etc.config.HttpServerConfig;
+
+public class CompressionFilterHandlerTest {
+
+	private final CompressionFilterHandler handler = CompressionFilterHandler.create(new HttpServerConfig());
+
+	@Test
+	public void testMinSize() {
+		assertFalse("Small responses should not be compressed", handler.shouldCompress("application/json; charset=utf-8", "512"));
+		assertTrue(handler.shouldCompress("application/json; charset=utf-8", "4096"));
+		assertTrue("Responses of unknown length should be compressed", handler.shouldCompress("application/json", null));
+		assertTrue("Invalid lengths should be ignored", handler.shouldCompress("application/json", "abc"));
+	}
+
+	@Test
+	public void testContentTypes() {
+		assertTrue(handler.shouldCompress("text/html", "4096"));
+		assertTrue(handler.shouldCompress("Application/JSON", "4096"));
+		assertTrue(handler.shouldCompress("application/graphql", "4096"));
+		assertFalse("Already compressed images should not be compressed", handler.shouldCompress("image/jpeg", "4096"));
+		assertFalse(handler.shouldCompress("application/octet-stream", "4096"));
+		assertFalse(handler.shouldCompress(null, "4096"));
+	}
+
+}
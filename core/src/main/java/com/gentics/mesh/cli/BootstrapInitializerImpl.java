@@ -64,6 +64,7 @@ import com.gentics.mesh.core.data.root.UserRoot;
 import com.gentics.mesh.core.data.root.impl.MeshRootImpl;
 import com.gentics.mesh.core.data.schema.SchemaContainer;
 import com.gentics.mesh.core.data.search.IndexHandler;
+import com.gentics.mesh.core.data.search.SearchOutbox;
 import com.gentics.mesh.core.data.service.ServerSchemaStorage;
 import com.gentics.mesh.core.rest.schema.BinaryFieldSchema;
 import com.gentics.mesh.core.rest.schema.HtmlFieldSchema;
@@ -83,6 +84,7 @@ import com.gentics.mesh.etc.config.GraphStorageOptions;
 import com.gentics.mesh.etc.config.MeshOptions;
 import com.gentics.mesh.etc.config.MonitoringConfig;
 import com.gentics.mesh.graphdb.spi.Database;
+import com.gentics.mesh.metric.MetricsService;
 import com.gentics.mesh.plugin.PluginManager;
 import com.gentics.mesh.router.RouterStorage;
 import com.gentics.mesh.search.DevNullSearchProvider;
@@ -123,6 +125,9 @@ public class BootstrapInitializerImpl implements BootstrapInitializer {
 	@Inject
 	public SearchProvider searchProvider;
 
+	@Inject
+	public SearchOutbox searchOutbox;
+
 	@Inject
 	public BCryptPasswordEncoder encoder;
 
@@ -138,6 +143,9 @@ public class BootstrapInitializerImpl implements BootstrapInitializer {
 	@Inject
 	public HighLevelChangelogSystem highlevelChangelogSystem;
 
+	@Inject
+	public MetricsService metrics;
+
 	private static MeshRoot meshRoot;
 
 	private MeshImpl mesh;
@@ -441,6 +449,9 @@ public class BootstrapInitializerImpl implements BootstrapInitializer {
 			syncIndex();
 		}
 
+		// Process the pending index changes and accept new ones before requests are handled
+		searchOutbox.start();
+
 		// Load the verticles
 		loader.get().loadVerticles();
 		if (verticleLoader != null) {
@@ -469,6 +480,7 @@ public class BootstrapInitializerImpl implements BootstrapInitializer {
 	@Override
 	public void registerEventHandlers() {
 		RouterStorage.registerEventbus();
+		PermissionStore.setMetrics(metrics);
 		PermissionStore.registerEventHandler();
 	}
 
@@ -9,6 +9,7 @@ import javax.inject.Inject;
 import javax.inject.Provider;
 import javax.inject.Singleton;
 
+import com.gentics.mesh.core.binary.BinaryGarbageCollector;
 import com.gentics.mesh.core.verticle.job.JobWorkerVerticle;
 import com.gentics.mesh.etc.config.MeshOptions;
 import com.gentics.mesh.etc.config.search.ElasticSearchOptions;
@@ -49,6 +50,9 @@ public class CoreVerticleLoader {
 	@Inject
 	public ElasticsearchSyncVerticle indexSyncVerticle;
 
+	@Inject
+	public BinaryGarbageCollector binaryGarbageCollector;
+
 	@Inject
 	public MeshOptions meshOptions;
 
@@ -120,6 +124,7 @@ public class CoreVerticleLoader {
 	private List<AbstractVerticle> getMandatoryWorkerVerticleClasses() {
 		List<AbstractVerticle> verticles = new ArrayList<>();
 		verticles.add(jobWorkerVerticle);
+		verticles.add(binaryGarbageCollector);
 		// Only deploy search sync verticle if we actually have a configured ES
 		ElasticSearchOptions searchOptions = meshOptions.getSearchOptions();
 		if (searchOptions != null && searchOptions.getUrl() != null) {
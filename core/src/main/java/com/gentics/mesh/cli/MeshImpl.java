@@ -348,11 +348,12 @@ public class MeshImpl implements Mesh {
 		} catch (Exception e) {
 			log.error("One of the plugins could not be undeployed in the allotted time.", e);
 		}
+		MeshComponent meshInternal = MeshInternal.get();
+		meshInternal.searchOutbox().stop();
 		io.vertx.reactivex.core.Vertx rxVertx = getRxVertx();
 		if (rxVertx != null) {
 			rxVertx.rxClose().blockingAwait();
 		}
-		MeshComponent meshInternal = MeshInternal.get();
 		meshInternal.database().stop();
 		try {
 			meshInternal.searchProvider().stop();
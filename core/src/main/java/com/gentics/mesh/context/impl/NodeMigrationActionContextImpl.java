@@ -60,7 +60,7 @@ public class NodeMigrationActionContextImpl extends AbstractInternalActionContex
 
 	private Map<String, Object> data;
 
-	private Set<ConflictWarning> conflicts = new HashSet<>();
+	private Set<ConflictWarning> conflicts = Collections.synchronizedSet(new HashSet<>());
 
 	private MultiMap parameters = MultiMap.caseInsensitiveMultiMap();
 
@@ -72,6 +72,22 @@ public class NodeMigrationActionContextImpl extends AbstractInternalActionContex
 
 	private Branch branch;
 
+	/**
+	 * Create a new context for the same project and branch. The new context shares the encountered conflicts with this context. Parallel migration
+	 * workers need their own context since the parameters of the context are modified for each migrated container.
+	 *
+	 * @return
+	 */
+	public NodeMigrationActionContextImpl fork() {
+		NodeMigrationActionContextImpl ac = new NodeMigrationActionContextImpl();
+		ac.conflicts = conflicts;
+		ac.body = body;
+		ac.query = query;
+		ac.project = project;
+		ac.branch = branch;
+		return ac;
+	}
+
 	/**
 	 * Set the body.
 	 *
@@ -777,7 +793,7 @@ public class NodeMigrationActionContextImpl extends AbstractInternalActionContex
 
 			@Override
 			public Single<UserResponse> transformToRest(InternalActionContext ac, int level, String... languageTags) {
-				return MeshInternal.get().database().asyncTx(() -> {
+				return MeshInternal.get().database().asyncTx(ac, () -> {
 					return Single.just(transformToRestSync(ac, level, languageTags));
 				});
 			}
@@ -1,5 +1,8 @@
 package com.gentics.mesh.core.binary;
 
+import java.io.InputStream;
+import java.util.function.Consumer;
+
 import com.gentics.mesh.core.data.node.field.BinaryGraphField;
 
 import io.vertx.ext.web.FileUpload;
@@ -19,11 +22,15 @@ public interface BinaryDataProcessor {
 	boolean accepts(String contentType);
 
 	/**
-	 * Process the binary data and store the found meta data in the binary field.
+	 * Process the binary data and return a consumer which stores the found meta data in the binary field. The processor is invoked outside of a
+	 * transaction while the upload is being read. The returned consumer will be invoked within the transaction which updates the field.
 	 * 
 	 * @param upload
-	 * @param field
+	 * @param data
+	 *            Stream of the uploaded data. The stream is shared with other processors and the binary storage. Processors may stop reading once
+	 *            they found the needed information.
+	 * @return Consumer which applies the found information to the field
 	 */
-	void process(FileUpload upload, BinaryGraphField field);
+	Consumer<BinaryGraphField> process(FileUpload upload, InputStream data);
 
 }
@@ -0,0 +1,142 @@
+package com.gentics.mesh.core.binary;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+import javax.inject.Inject;
+import javax.inject.Singleton;
+
+import com.gentics.mesh.core.data.binary.Binary;
+import com.gentics.mesh.core.data.binary.impl.BinaryImpl;
+import com.gentics.mesh.etc.config.MeshOptions;
+import com.gentics.mesh.graphdb.spi.Database;
+import com.gentics.mesh.storage.BinaryStorage;
+import com.google.common.collect.Iterables;
+import com.syncleus.ferma.FramedGraph;
+import com.syncleus.ferma.tx.Tx;
+import com.tinkerpop.blueprints.Vertex;
+
+import io.vertx.core.AbstractVerticle;
+import io.vertx.core.logging.Logger;
+import io.vertx.core.logging.LoggerFactory;
+
+/**
+ * Worker verticle which periodically removes binaries that are no longer referenced by any binary field. The binaries are marked as unreferenced once
+ * their reference count drops to zero. Only the marked binaries will be examined and thus no scan of all binaries is needed. The binary data will be
+ * deleted from the binary storage after the removal of the binary vertex has been committed.
+ */
+@Singleton
+public class BinaryGarbageCollector extends AbstractVerticle {
+
+	private static final Logger log = LoggerFactory.getLogger(BinaryGarbageCollector.class);
+
+	/**
+	 * Amount of binaries which will be examined within a single transaction.
+	 */
+	private static final int BATCH_SIZE = 100;
+
+	private final Database db;
+
+	private final BinaryStorage binaryStorage;
+
+	private final MeshOptions options;
+
+	private Long timerId;
+
+	@Inject
+	public BinaryGarbageCollector(Database db, BinaryStorage binaryStorage, MeshOptions options) {
+		this.db = db;
+		this.binaryStorage = binaryStorage;
+		this.options = options;
+	}
+
+	@Override
+	public void start() throws Exception {
+		long interval = options.getUploadOptions().getGcInterval();
+		if (interval > 0) {
+			timerId = vertx.setPeriodic(interval, id -> {
+				try {
+					collect();
+				} catch (Exception e) {
+					log.error("Error while removing unreferenced binaries", e);
+				}
+			});
+		}
+		super.start();
+	}
+
+	@Override
+	public void stop() throws Exception {
+		if (timerId != null) {
+			vertx.cancelTimer(timerId);
+			timerId = null;
+		}
+		super.stop();
+	}
+
+	/**
+	 * Remove all binaries which have been marked as unreferenced.
+	 *
+	 * @return Amount of removed binaries
+	 */
+	public synchronized long collect() {
+		long removed = 0;
+		while (true) {
+			Batch batch = db.tx(this::collectBatch);
+			for (String uuid : batch.removedUuids) {
+				try {
+					binaryStorage.delete(uuid).blockingAwait();
+				} catch (Exception e) {
+					log.error("Could not delete the data of binary {" + uuid + "}", e);
+				}
+			}
+			removed += batch.removedUuids.size();
+			if (batch.examined < BATCH_SIZE) {
+				break;
+			}
+		}
+		if (removed > 0) {
+			log.info("Removed {" + removed + "} unreferenced binaries");
+		}
+		return removed;
+	}
+
+	/**
+	 * Examine the next batch of binaries which have been marked as unreferenced. Binaries which are referenced again will be unmarked.
+	 *
+	 * @return
+	 */
+	private Batch collectBatch() {
+		FramedGraph graph = Tx.getActive().getGraph();
+		Iterator<Vertex> it = db.getVertices(BinaryImpl.class, new String[] { Binary.BINARY_UNREFERENCED_PROPERTY_KEY }, new Object[] { true });
+		Batch batch = new Batch();
+		while (it.hasNext() && batch.examined < BATCH_SIZE) {
+			Binary binary = graph.frameElementExplicit(it.next(), BinaryImpl.class);
+			batch.examined++;
+			int fieldCount = Iterables.size(binary.findFields());
+			if (fieldCount > 0) {
+				// The maintained count was not accurate. Repair the count and keep the binary.
+				log.warn("Binary {" + binary.getUuid() + "} was marked as unreferenced but is still used by {" + fieldCount + "} fields");
+				binary.property(Binary.BINARY_REFERENCE_COUNT_PROPERTY_KEY, (long) fieldCount);
+				binary.setProperty(Binary.BINARY_UNREFERENCED_PROPERTY_KEY, null);
+				continue;
+			}
+			batch.removedUuids.add(binary.getUuid());
+			binary.getElement().remove();
+		}
+		return batch;
+	}
+
+	/**
+	 * Result of a single garbage collection transaction.
+	 */
+	private static class Batch {
+
+		private int examined = 0;
+
+		private final List<String> removedUuids = new ArrayList<>();
+
+	}
+
+}
@@ -0,0 +1,357 @@
+package com.gentics.mesh.core.binary;
+
+import static com.gentics.mesh.core.rest.error.Errors.error;
+import static io.netty.handler.codec.http.HttpResponseStatus.INTERNAL_SERVER_ERROR;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import javax.inject.Inject;
+import javax.inject.Singleton;
+
+import com.gentics.mesh.core.data.node.field.BinaryGraphField;
+import com.gentics.mesh.storage.BinaryStorage;
+import com.gentics.mesh.util.FileUtils;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+
+import io.reactivex.Flowable;
+import io.reactivex.schedulers.Schedulers;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.logging.Logger;
+import io.vertx.core.logging.LoggerFactory;
+import io.vertx.ext.web.FileUpload;
+
+/**
+ * Pipeline which reads an uploaded file only once. The read data is hashed and passed to all accepting {@link BinaryDataProcessor}s and the
+ * {@link BinaryStorage} at the same time. Each consumer reads the data from its own bounded buffer within a separate thread. The data is placed in the
+ * temporary location of the storage and needs to be moved via {@link BinaryStorage#moveInPlace(String)} once it has been assigned to a new binary.
+ * The pipeline does not require a transaction. The extracted information can later be applied to the binary field via {@link Result#applyTo(BinaryGraphField)}.
+ */
+@Singleton
+public class BinaryUploadPipeline {
+
+	private static final Logger log = LoggerFactory.getLogger(BinaryUploadPipeline.class);
+
+	/**
+	 * Size of the chunks which are read from the upload.
+	 */
+	private static final int CHUNK_SIZE = 64 * 1024;
+
+	/**
+	 * Amount of chunks which are buffered for each consumer.
+	 */
+	private static final int BUFFERED_CHUNKS = 16;
+
+	private final BinaryProcessorRegistry binaryProcessorRegistry;
+
+	private final BinaryStorage binaryStorage;
+
+	private final ExecutorService executor = Executors.newCachedThreadPool(new ThreadFactoryBuilder().setNameFormat("mesh-upload-pipeline-%d")
+		.setDaemon(true).build());
+
+	@Inject
+	public BinaryUploadPipeline(BinaryProcessorRegistry binaryProcessorRegistry, BinaryStorage binaryStorage) {
+		this.binaryProcessorRegistry = binaryProcessorRegistry;
+		this.binaryStorage = binaryStorage;
+	}
+
+	/**
+	 * Read the upload, compute the SHA-512 checksum, extract the information of all accepting processors and store the data in the binary storage.
+	 * This method blocks until all consumers are done.
+	 *
+	 * @param upload
+	 *            Upload to process
+	 * @param binaryUuid
+	 *            Uuid which will be used to store the data in the temporary location of the binary storage
+	 * @return Result of the pipeline
+	 */
+	public Result process(FileUpload upload, String binaryUuid) {
+		List<BinaryDataProcessor> processors = binaryProcessorRegistry.getProcessors(upload.contentType());
+		List<Branch> branches = new ArrayList<>();
+		List<Future<Consumer<BinaryGraphField>>> processorResults = new ArrayList<>();
+		for (BinaryDataProcessor processor : processors) {
+			Branch branch = new Branch();
+			branches.add(branch);
+			processorResults.add(executor.submit(() -> {
+				try {
+					return processor.process(upload, branch);
+				} finally {
+					branch.close();
+				}
+			}));
+		}
+
+		Branch storageBranch = new Branch();
+		branches.add(storageBranch);
+		Future<?> storeResult = executor.submit(() -> {
+			try {
+				binaryStorage.storeInTemp(toFlowable(storageBranch), binaryUuid).blockingAwait();
+			} finally {
+				storageBranch.close();
+			}
+		});
+
+		String hash;
+		try {
+			hash = read(upload.uploadedFileName(), branches);
+			storeResult.get();
+		} catch (Exception e) {
+			log.error("Error while processing upload {" + upload.fileName() + "/" + upload.uploadedFileName() + "}", e);
+			discard(binaryUuid, storeResult);
+			throw error(INTERNAL_SERVER_ERROR, "node_error_upload_failed", e);
+		}
+
+		List<Consumer<BinaryGraphField>> fieldUpdaters = new ArrayList<>();
+		for (int i = 0; i < processors.size(); i++) {
+			try {
+				fieldUpdaters.add(processorResults.get(i).get());
+			} catch (InterruptedException | ExecutionException e) {
+				log.warn("Processing of upload {" + upload.fileName() + "/" + upload.uploadedFileName() + "} in handler {" + processors.get(i)
+					.getClass() + "}", e);
+			}
+		}
+		return new Result(hash, fieldUpdaters);
+	}
+
+	/**
+	 * Remove the data which may have been partially stored.
+	 *
+	 * @param binaryUuid
+	 * @param storeResult
+	 */
+	private void discard(String binaryUuid, Future<?> storeResult) {
+		try {
+			storeResult.get();
+		} catch (Exception e) {
+			// The error has already been handled
+		}
+		try {
+			binaryStorage.purgeTemporaryUpload(binaryUuid).blockingAwait();
+		} catch (Exception e) {
+			log.error("Could not remove the data of the failed upload {" + binaryUuid + "}", e);
+		}
+	}
+
+	/**
+	 * Read the file and pass the data to all branches.
+	 *
+	 * @param path
+	 * @param branches
+	 * @return SHA-512 checksum of the data
+	 * @throws Exception
+	 */
+	private String read(String path, List<Branch> branches) throws Exception {
+		MessageDigest md = MessageDigest.getInstance("SHA-512");
+		boolean completed = false;
+		try (InputStream ins = Files.newInputStream(Paths.get(path))) {
+			byte[] buffer = new byte[CHUNK_SIZE];
+			int len;
+			while ((len = ins.read(buffer)) != -1) {
+				if (len == 0) {
+					continue;
+				}
+				byte[] chunk = Arrays.copyOf(buffer, len);
+				md.update(chunk);
+				for (Branch branch : branches) {
+					branch.offer(chunk);
+				}
+			}
+			completed = true;
+		} finally {
+			// The consumers must not handle incomplete data as if it was complete
+			for (Branch branch : branches) {
+				if (completed) {
+					branch.finish();
+				} else {
+					branch.abort();
+				}
+			}
+		}
+		return FileUtils.bytesToHex(md.digest());
+	}
+
+	/**
+	 * Create a flowable which emits the chunks of the branch. The branch will be read within an IO thread since the storage may subscribe from an event
+	 * loop thread.
+	 *
+	 * @param branch
+	 * @return
+	 */
+	private Flowable<Buffer> toFlowable(Branch branch) {
+		return Flowable.<Buffer>generate(emitter -> {
+			byte[] chunk = branch.nextChunk();
+			if (chunk == null) {
+				emitter.onComplete();
+			} else {
+				emitter.onNext(Buffer.buffer(chunk));
+			}
+		}).subscribeOn(Schedulers.io());
+	}
+
+	/**
+	 * Result of the pipeline.
+	 */
+	public static class Result {
+
+		private final String hash;
+
+		private final List<Consumer<BinaryGraphField>> fieldUpdaters;
+
+		public Result(String hash, List<Consumer<BinaryGraphField>> fieldUpdaters) {
+			this.hash = hash;
+			this.fieldUpdaters = fieldUpdaters;
+		}
+
+		/**
+		 * Return the SHA-512 checksum of the uploaded data.
+		 *
+		 * @return
+		 */
+		public String getHash() {
+			return hash;
+		}
+
+		/**
+		 * Apply the information which was extracted by the processors to the field.
+		 *
+		 * @param field
+		 */
+		public void applyTo(BinaryGraphField field) {
+			for (Consumer<BinaryGraphField> updater : fieldUpdaters) {
+				updater.accept(field);
+			}
+		}
+	}
+
+	/**
+	 * Stream of a single consumer of the pipeline. The chunks are passed via a bounded queue. Closing the branch will cause the pipeline to skip it.
+	 */
+	private static class Branch extends InputStream {
+
+		private static final byte[] EOF = new byte[0];
+
+		private static final byte[] ABORT = new byte[0];
+
+		private final BlockingQueue<byte[]> queue = new ArrayBlockingQueue<>(BUFFERED_CHUNKS);
+
+		private volatile boolean closed = false;
+
+		private byte[] current;
+
+		private int pos;
+
+		/**
+		 * Add the chunk. This will block until the consumer has read enough data or closed the branch.
+		 *
+		 * @param chunk
+		 * @throws InterruptedException
+		 */
+		void offer(byte[] chunk) throws InterruptedException {
+			while (!closed) {
+				if (queue.offer(chunk, 100, TimeUnit.MILLISECONDS)) {
+					return;
+				}
+			}
+		}
+
+		/**
+		 * Signal the end of the data.
+		 */
+		void finish() {
+			try {
+				offer(EOF);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				close();
+			}
+		}
+
+		/**
+		 * Signal that the data could not be read completely.
+		 */
+		void abort() {
+			closed = true;
+			queue.clear();
+			queue.offer(ABORT);
+		}
+
+		/**
+		 * Return the next chunk or null once the end of the data has been reached.
+		 *
+		 * @return
+		 * @throws IOException
+		 */
+		byte[] nextChunk() throws IOException {
+			if (current == EOF) {
+				return null;
+			}
+			if (closed && queue.peek() != ABORT) {
+				throw new IOException("The stream has been closed");
+			}
+			try {
+				byte[] chunk = queue.take();
+				if (chunk == ABORT) {
+					throw new IOException("Reading the upload data failed");
+				}
+				if (chunk == EOF) {
+					current = EOF;
+					return null;
+				}
+				return chunk;
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw new InterruptedIOException("Interrupted while waiting for upload data");
+			}
+		}
+
+		@Override
+		public int read() throws IOException {
+			byte[] b = new byte[1];
+			int len = read(b, 0, 1);
+			return len == -1 ? -1 : b[0] & 0xFF;
+		}
+
+		@Override
+		public int read(byte[] b, int off, int len) throws IOException {
+			if (len == 0) {
+				return 0;
+			}
+			if (current == null || (current != EOF && pos == current.length)) {
+				current = nextChunk();
+				pos = 0;
+				if (current == null) {
+					current = EOF;
+				}
+			}
+			if (current == EOF) {
+				return -1;
+			}
+			int n = Math.min(len, current.length - pos);
+			System.arraycopy(current, pos, b, off, n);
+			pos += n;
+			return n;
+		}
+
+		@Override
+		public void close() {
+			closed = true;
+			queue.clear();
+		}
+	}
+
+}
@@ -0,0 +1,171 @@
+package com.gentics.mesh.core.binary;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+
+import javax.inject.Inject;
+import javax.inject.Singleton;
+
+import com.gentics.mesh.core.data.NodeGraphFieldContainer;
+import com.gentics.mesh.core.data.binary.Binary;
+import com.gentics.mesh.core.data.node.field.BinaryGraphField;
+import com.gentics.mesh.core.image.spi.ImageManipulator;
+import com.gentics.mesh.core.rest.node.field.image.FocalPoint;
+import com.gentics.mesh.etc.config.MeshOptions;
+import com.gentics.mesh.parameter.ImageManipulationParameters;
+import com.gentics.mesh.parameter.impl.ImageManipulationParametersImpl;
+import com.gentics.mesh.storage.BinaryStorage;
+import com.gentics.mesh.util.HttpQueryUtils;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+
+import io.reactivex.Completable;
+import io.reactivex.Scheduler;
+import io.reactivex.schedulers.Schedulers;
+import io.vertx.core.logging.Logger;
+import io.vertx.core.logging.LoggerFactory;
+
+/**
+ * Creates the configured image variant presets of binary fields in advance. The variants are written to the image cache and thus the first download of
+ * a variant does not need to resize the image.
+ *
+ * The presets are created one after another by a dedicated low priority thread. This way the creation of presets only occupies a single resize
+ * worker and downloads which need to resize images are not queued behind a large amount of presets.
+ */
+@Singleton
+public class ImageVariantGenerator {
+
+	private static final Logger log = LoggerFactory.getLogger(ImageVariantGenerator.class);
+
+	private final MeshOptions options;
+
+	private final ImageManipulator imageManipulator;
+
+	private final BinaryStorage binaryStorage;
+
+	private final Scheduler presetScheduler = Schedulers.from(Executors.newSingleThreadExecutor(new ThreadFactoryBuilder().setNameFormat(
+		"mesh-image-preset-%d").setDaemon(true).setPriority(Thread.MIN_PRIORITY).build()));
+
+	@Inject
+	public ImageVariantGenerator(MeshOptions options, ImageManipulator imageManipulator, BinaryStorage binaryStorage) {
+		this.options = options;
+		this.imageManipulator = imageManipulator;
+		this.binaryStorage = binaryStorage;
+	}
+
+	/**
+	 * Return the parameters of the variant presets which have been configured for the binary field. Presets which were configured for the schema and
+	 * presets which were configured for the field will be combined.
+	 *
+	 * @param schemaName
+	 * @param fieldName
+	 * @return
+	 */
+	public List<ImageManipulationParameters> getPresets(String schemaName, String fieldName) {
+		List<ImageManipulationParameters> result = new ArrayList<>();
+		Map<String, List<String>> presets = options.getImageOptions().getVariantPresets();
+		if (presets == null || presets.isEmpty()) {
+			return result;
+		}
+		for (String selector : Arrays.asList(schemaName, schemaName + "." + fieldName)) {
+			List<String> queries = presets.get(selector);
+			if (queries == null) {
+				continue;
+			}
+			for (String query : queries) {
+				ImageManipulationParameters parameters = new ImageManipulationParametersImpl();
+				HttpQueryUtils.splitQuery(query).forEach(parameters::setParameter);
+				result.add(parameters);
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * Prepare the creation of the variant presets of the given field. This method must be invoked within a transaction. The returned completable will
+	 * not access the graph and should be subscribed once the transaction has been committed. Errors will be logged and not be passed along.
+	 *
+	 * @param field
+	 * @return
+	 */
+	public Completable prepare(BinaryGraphField field) {
+		return prepare(Arrays.asList(field));
+	}
+
+	/**
+	 * Prepare the creation of the variant presets of all fields which reference the given binary. This method must be invoked within a transaction.
+	 *
+	 * @param binary
+	 * @return
+	 * @see #prepare(BinaryGraphField)
+	 */
+	public Completable prepare(Binary binary) {
+		return prepare(binary.findFields());
+	}
+
+	private Completable prepare(Iterable<? extends BinaryGraphField> fields) {
+		// Fields which share the binary and use the same presets would result in the same variants
+		Map<String, ImageManipulationParameters> variants = new LinkedHashMap<>();
+		String binaryUuid = null;
+		String sha512sum = null;
+		for (BinaryGraphField field : fields) {
+			NodeGraphFieldContainer container = field.getParentContainer();
+			if (container == null || !field.hasProcessableImage()) {
+				continue;
+			}
+			List<ImageManipulationParameters> presets = getPresets(container.getSchemaContainerVersion().getName(), field.getFieldKey());
+			if (presets.isEmpty()) {
+				continue;
+			}
+			Binary binary = field.getBinary();
+			binaryUuid = binary.getUuid();
+			sha512sum = binary.getSHA512Sum();
+			FocalPoint focalPoint = field.getImageFocalPoint();
+			for (ImageManipulationParameters parameters : presets) {
+				// The download will use the stored focal point as well. Otherwise the variant would not be found.
+				if (focalPoint != null && !parameters.hasFocalPoint()) {
+					parameters.setFocalPoint(focalPoint);
+				}
+				variants.put(parameters.getCacheKey(), parameters);
+			}
+		}
+		if (variants.isEmpty()) {
+			return Completable.complete();
+		}
+		List<Completable> actions = new ArrayList<>();
+		for (ImageManipulationParameters parameters : variants.values()) {
+			actions.add(create(binaryUuid, sha512sum, parameters));
+		}
+		return Completable.concat(actions);
+	}
+
+	/**
+	 * Create the variant if it has not yet been cached.
+	 *
+	 * @param binaryUuid
+	 * @param sha512sum
+	 * @param parameters
+	 * @return
+	 */
+	private Completable create(String binaryUuid, String sha512sum, ImageManipulationParameters parameters) {
+		return Completable.fromAction(() -> {
+			File cacheFile = imageManipulator.getCacheFile(sha512sum, parameters);
+			if (cacheFile.exists()) {
+				return;
+			}
+			// Block the preset thread until the variant has been written. This limits the amount of presets which are resized at the same time.
+			imageManipulator.handleResize(binaryStorage.read(binaryUuid), sha512sum, parameters).blockingGet().getFile().close();
+			if (log.isDebugEnabled()) {
+				log.debug("Created image variant {" + parameters.getCacheKey() + "} of binary {" + binaryUuid + "}");
+			}
+		}).subscribeOn(presetScheduler).onErrorResumeNext(e -> {
+			log.error("Could not create image variant {" + parameters.getCacheKey() + "} of binary {" + binaryUuid + "}", e);
+			return Completable.complete();
+		});
+	}
+
+}
@@ -1,6 +1,8 @@
 package com.gentics.mesh.core.binary.impl;
 
+import java.io.InputStream;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 import javax.inject.Inject;
 import javax.inject.Singleton;
@@ -38,8 +40,8 @@ public class BasicImageDataProcessor extends AbstractBinaryProcessor {
 	}
 
 	@Override
-	public void process(FileUpload upload, BinaryGraphField field) {
-		Optional<ImageInfo> infoOpt = imageManipulator.readImageInfo(upload.uploadedFileName()).map(Optional::of)
+	public Consumer<BinaryGraphField> process(FileUpload upload, InputStream data) {
+		Optional<ImageInfo> infoOpt = imageManipulator.readImageInfo(data).map(Optional::of)
 			.onErrorResumeNext(e -> {
 				if (log.isDebugEnabled()) {
 					log.warn("Could not read image information from upload {" + upload.fileName() + "/" + upload.name() + "}", e);
@@ -47,15 +49,15 @@ public class BasicImageDataProcessor extends AbstractBinaryProcessor {
 				return Single.just(Optional.empty());
 			}).blockingGet();
 
-		
-		if (infoOpt.isPresent()) {
-			ImageInfo info = infoOpt.get();
-			Binary binary = field.getBinary();
-			binary.setImageHeight(info.getHeight());
-			binary.setImageWidth(info.getWidth());
-			field.setImageDominantColor(info.getDominantColor());
-		}
-
+		return field -> {
+			if (infoOpt.isPresent()) {
+				ImageInfo info = infoOpt.get();
+				Binary binary = field.getBinary();
+				binary.setImageHeight(info.getHeight());
+				binary.setImageWidth(info.getWidth());
+				field.setImageDominantColor(info.getDominantColor());
+			}
+		};
 	}
 
 }
@@ -1,5 +1,8 @@
 package com.gentics.mesh.core.binary.impl;
 
+import java.io.InputStream;
+import java.util.function.Consumer;
+
 import javax.inject.Inject;
 import javax.inject.Singleton;
 
@@ -21,9 +24,11 @@ public class BasicUploadDataProcessor extends AbstractBinaryProcessor {
 	}
 
 	@Override
-	public void process(FileUpload upload, BinaryGraphField field) {
-		field.setFileName(upload.fileName());
-		field.getBinary().setSize(upload.size());
-		field.setMimeType(upload.contentType());
+	public Consumer<BinaryGraphField> process(FileUpload upload, InputStream data) {
+		return field -> {
+			field.setFileName(upload.fileName());
+			field.getBinary().setSize(upload.size());
+			field.setMimeType(upload.contentType());
+		};
 	}
 }
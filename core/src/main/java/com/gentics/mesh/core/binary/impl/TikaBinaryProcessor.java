@@ -1,9 +1,12 @@
 package com.gentics.mesh.core.binary.impl;
 
-import java.io.File;
-import java.io.FileInputStream;
+import java.io.InputStream;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Map.Entry;
 import java.util.Set;
+import java.util.function.Consumer;
 
 import javax.inject.Inject;
 import javax.inject.Singleton;
@@ -77,10 +80,10 @@ public class TikaBinaryProcessor extends AbstractBinaryProcessor {
 	}
 
 	@Override
-	public void process(FileUpload upload, BinaryGraphField field) {
-
-		File uploadFile = new File(upload.uploadedFileName());
-		try (FileInputStream inputstream = new FileInputStream(uploadFile)) {
+	public Consumer<BinaryGraphField> process(FileUpload upload, InputStream data) {
+		Map<String, String> fieldMetadata = new LinkedHashMap<>();
+		Location loc = new Location();
+		try {
 			Metadata metadata = new Metadata();
 			ParseContext context = new ParseContext();
 			BodyContentHandler handler = new BodyContentHandler();
@@ -90,13 +93,12 @@ public class TikaBinaryProcessor extends AbstractBinaryProcessor {
 				handler = new BodyContentHandler(-1);
 			}
 
-			parser.parse(inputstream, handler, metadata, context);
+			parser.parse(data, handler, metadata, context);
 			if (log.isDebugEnabled()) {
-				log.debug("Parsed file {" + uploadFile + "} got content: {" + handler.toString() + "}");
+				log.debug("Parsed file {" + upload.uploadedFileName() + "} got content: {" + handler.toString() + "}");
 			}
 
 			String[] metadataNames = metadata.names();
-			Location loc = new Location();
 			for (String name : metadataNames) {
 				String value = metadata.get(name);
 				name = sanitizeName(name);
@@ -129,16 +131,20 @@ public class TikaBinaryProcessor extends AbstractBinaryProcessor {
 				}
 
 				log.debug("Adding property {" + name + "}={" + value + "}");
-				field.setMetadata(name, value);
-			}
-
-			if (loc.isPresent()) {
-				field.setLocation(loc);
+				fieldMetadata.put(name, value);
 			}
 		} catch (Exception e) {
 			log.warn("Tika processing of upload failed", e);
 		}
 
+		return field -> {
+			for (Entry<String, String> entry : fieldMetadata.entrySet()) {
+				field.setMetadata(entry.getKey(), entry.getValue());
+			}
+			if (loc.isPresent()) {
+				field.setLocation(loc);
+			}
+		};
 	}
 
 	/**
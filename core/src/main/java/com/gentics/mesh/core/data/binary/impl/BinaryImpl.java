@@ -13,6 +13,7 @@ import com.gentics.mesh.dagger.MeshInternal;
 import com.gentics.mesh.graphdb.spi.Database;
 import com.gentics.mesh.graphdb.spi.FieldType;
 import com.gentics.mesh.storage.BinaryStorage;
+import com.google.common.collect.Iterables;
 
 import io.reactivex.Flowable;
 import io.vertx.core.buffer.Buffer;
@@ -24,9 +25,12 @@ public class BinaryImpl extends MeshVertexImpl implements Binary {
 
 	private static final Base64.Encoder BASE64 = Base64.getEncoder();
 
+	public static final String UNREFERENCED_INDEX_NAME = "unreferencedBinaryIndex";
+
 	public static void init(Database database) {
 		database.addVertexType(BinaryImpl.class, MeshVertexImpl.class);
 		database.addVertexIndex(BinaryImpl.class, true, Binary.SHA512SUM_KEY, FieldType.STRING);
+		database.addVertexIndex(UNREFERENCED_INDEX_NAME, BinaryImpl.class, false, Binary.BINARY_UNREFERENCED_PROPERTY_KEY, FieldType.BOOLEAN);
 	}
 
 	@Override
@@ -34,6 +38,33 @@ public class BinaryImpl extends MeshVertexImpl implements Binary {
 		return inE(HAS_FIELD).frameExplicit(BinaryGraphFieldImpl.class);
 	}
 
+	@Override
+	public long getReferenceCount() {
+		Long count = property(BINARY_REFERENCE_COUNT_PROPERTY_KEY);
+		if (count == null) {
+			// Binaries which were created before the count was maintained
+			return Iterables.size(findFields());
+		}
+		return count;
+	}
+
+	@Override
+	public void incrementReferenceCount() {
+		property(BINARY_REFERENCE_COUNT_PROPERTY_KEY, getReferenceCount() + 1);
+		// The binary may have been scheduled for removal but is now in use again
+		setProperty(BINARY_UNREFERENCED_PROPERTY_KEY, null);
+	}
+
+	@Override
+	public long decrementReferenceCount() {
+		long count = Math.max(0, getReferenceCount() - 1);
+		property(BINARY_REFERENCE_COUNT_PROPERTY_KEY, count);
+		if (count == 0) {
+			property(BINARY_UNREFERENCED_PROPERTY_KEY, true);
+		}
+		return count;
+	}
+
 	@Override
 	public Flowable<Buffer> getStream() {
 		BinaryStorage storage = MeshInternal.get().binaryStorage();
@@ -204,6 +204,7 @@ public abstract class AbstractGraphFieldContainerImpl extends AbstractBasicGraph
 
 	@Override
 	public BinaryGraphField createBinary(String fieldKey, Binary binary) {
+		binary.incrementReferenceCount();
 		BinaryGraphField edge = addFramedEdge(HAS_FIELD, binary, BinaryGraphFieldImpl.class);
 		edge.setFieldKey(fieldKey);
 		return edge;
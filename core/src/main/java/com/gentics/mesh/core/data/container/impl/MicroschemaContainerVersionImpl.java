@@ -155,7 +155,7 @@ public class MicroschemaContainerVersionImpl extends
 
 	@Override
 	public Single<MicroschemaResponse> transformToRest(InternalActionContext ac, int level, String... languageTags) {
-		return MeshInternal.get().database().asyncTx(() -> {
+		return MeshInternal.get().database().asyncTx(ac, () -> {
 			return Single.just(transformToRestSync(ac, level, languageTags));
 		});
 	}
@@ -492,7 +492,7 @@ public class BranchImpl extends AbstractMeshCoreVertex<BranchResponse, Branch> i
 
 	@Override
 	public Single<BranchResponse> transformToRest(InternalActionContext ac, int level, String... languageTags) {
-		return DB.get().asyncTx(() -> {
+		return DB.get().asyncTx(ac, () -> {
 			return Single.just(transformToRestSync(ac, level, languageTags));
 		});
 	}
@@ -12,6 +12,7 @@ import com.gentics.mesh.core.data.container.impl.NodeGraphFieldContainerImpl;
 import com.gentics.mesh.core.data.generic.AbstractGenericFieldContainerVertex;
 import com.gentics.mesh.core.data.generic.MeshVertexImpl;
 import com.gentics.mesh.core.data.job.impl.BranchMigrationJobImpl;
+import com.gentics.mesh.core.data.job.impl.ImageVariantJobImpl;
 import com.gentics.mesh.core.data.job.impl.JobRootImpl;
 import com.gentics.mesh.core.data.job.impl.MicronodeMigrationJobImpl;
 import com.gentics.mesh.core.data.job.impl.NodeMigrationJobImpl;
@@ -138,6 +139,7 @@ public final class DatabaseHelper {
 		NodeMigrationJobImpl.init(database);
 		MicronodeMigrationJobImpl.init(database);
 		BranchMigrationJobImpl.init(database);
+		ImageVariantJobImpl.init(database);
 
 		// Field changes
 		FieldTypeChangeImpl.init(database);
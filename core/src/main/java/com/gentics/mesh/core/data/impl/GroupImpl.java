@@ -11,6 +11,8 @@ import static com.gentics.mesh.core.rest.error.Errors.error;
 import static io.netty.handler.codec.http.HttpResponseStatus.BAD_REQUEST;
 import static org.apache.commons.lang3.StringUtils.isEmpty;
 
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.Set;
 import java.util.stream.Collectors;
 
@@ -83,6 +85,8 @@ public class GroupImpl extends AbstractMeshCoreVertex<GroupResponse, Group> impl
 		for (Role role : getRoles()) {
 			user.setUniqueLinkOutTo(role, ASSIGNED_TO_ROLE);
 		}
+		// The user may have gained permissions via the roles of the group
+		PermissionStore.onGrantedAfterCommit();
 	}
 
 	@Override
@@ -91,7 +95,7 @@ public class GroupImpl extends AbstractMeshCoreVertex<GroupResponse, Group> impl
 
 		// The user does no longer belong to the group so lets update the shortcut edges
 		user.updateShortcutEdges();
-		PermissionStore.invalidate();
+		PermissionStore.invalidateUsers(Collections.singleton(user.id()));
 	}
 
 	@Override
@@ -107,6 +111,8 @@ public class GroupImpl extends AbstractMeshCoreVertex<GroupResponse, Group> impl
 		for (User user : getUsers()) {
 			user.setUniqueLinkOutTo(role, ASSIGNED_TO_ROLE);
 		}
+		// The users of the group may have gained permissions via the role
+		PermissionStore.onGrantedAfterCommit();
 
 	}
 
@@ -115,10 +121,12 @@ public class GroupImpl extends AbstractMeshCoreVertex<GroupResponse, Group> impl
 		unlinkIn(role, HAS_ROLE);
 
 		// Update the shortcut edges since the role does no longer belong to the group
+		Set<Object> affectedUserIds = new HashSet<>();
 		for (User user : getUsers()) {
 			user.updateShortcutEdges();
+			affectedUserIds.add(user.id());
 		}
-		PermissionStore.invalidate();
+		PermissionStore.invalidateUsers(affectedUserIds);
 	}
 
 	@Override
@@ -183,12 +191,14 @@ public class GroupImpl extends AbstractMeshCoreVertex<GroupResponse, Group> impl
 
 		Set<? extends User> affectedUsers = getUsers().stream().collect(Collectors.toSet());
 		getElement().remove();
+		Set<Object> affectedUserIds = new HashSet<>();
 		for (User user : affectedUsers) {
 			user.updateShortcutEdges();
+			affectedUserIds.add(user.id());
 			bac.inc();
 		}
 		bac.process();
-		PermissionStore.invalidate();
+		PermissionStore.invalidateUsers(affectedUserIds);
 	}
 
 	@Override
@@ -259,7 +269,7 @@ public class GroupImpl extends AbstractMeshCoreVertex<GroupResponse, Group> impl
 
 	@Override
 	public Single<GroupResponse> transformToRest(InternalActionContext ac, int level, String... languageTags) {
-		return DB.get().asyncTx(() -> {
+		return DB.get().asyncTx(ac, () -> {
 			return Single.just(transformToRestSync(ac, level, languageTags));
 		});
 	}
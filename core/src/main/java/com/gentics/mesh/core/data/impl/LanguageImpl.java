@@ -94,7 +94,7 @@ public class LanguageImpl extends AbstractMeshCoreVertex<LanguageResponse, Langu
 
 	@Override
 	public Single<LanguageResponse> transformToRest(InternalActionContext ac, int level, String... languageTags) {
-		return DB.get().asyncTx(() -> {
+		return DB.get().asyncTx(ac, () -> {
 			return Single.just(transformToRestSync(ac, level, languageTags));
 		});
 	}
@@ -364,7 +364,7 @@ public class ProjectImpl extends AbstractMeshCoreVertex<ProjectResponse, Project
 
 	@Override
 	public Single<ProjectResponse> transformToRest(InternalActionContext ac, int level, String... languageTags) {
-		return DB.get().asyncTx(() -> {
+		return DB.get().asyncTx(ac, () -> {
 			return Single.just(transformToRestSync(ac, level, languageTags));
 		});
 	}
@@ -2,6 +2,7 @@ package com.gentics.mesh.core.data.impl;
 
 import static com.gentics.mesh.core.data.relationship.GraphPermission.READ_PERM;
 import static com.gentics.mesh.core.data.relationship.GraphPermission.READ_PUBLISHED_PERM;
+import static com.gentics.mesh.core.data.relationship.GraphRelationships.ASSIGNED_TO_ROLE;
 import static com.gentics.mesh.core.data.relationship.GraphRelationships.HAS_CREATOR;
 import static com.gentics.mesh.core.data.relationship.GraphRelationships.HAS_EDITOR;
 import static com.gentics.mesh.core.data.relationship.GraphRelationships.HAS_ROLE;
@@ -24,6 +25,7 @@ import com.gentics.mesh.core.data.Role;
 import com.gentics.mesh.core.data.User;
 import com.gentics.mesh.core.data.generic.AbstractMeshCoreVertex;
 import com.gentics.mesh.core.data.generic.MeshVertexImpl;
+import com.gentics.mesh.core.data.node.Node;
 import com.gentics.mesh.core.data.page.Page;
 import com.gentics.mesh.core.data.page.impl.DynamicTransformablePageImpl;
 import com.gentics.mesh.core.data.relationship.GraphPermission;
@@ -106,11 +108,33 @@ public class RoleImpl extends AbstractMeshCoreVertex<RoleResponse, Role> impleme
 
 	@Override
 	public void grantPermissions(MeshVertex vertex, GraphPermission... permissions) {
+		if (addPermissionEdges(vertex, permissions)) {
+			PermissionStore.onGrantedAfterCommit();
+			updateParentContentVersions(vertex);
+		}
+	}
+
+	@Override
+	public void grantPermissionsOnNewElement(MeshVertex vertex, GraphPermission... permissions) {
+		addPermissionEdges(vertex, permissions);
+	}
+
+	/**
+	 * Add the edges for the given permissions which have not yet been granted.
+	 * 
+	 * @param vertex
+	 * @param permissions
+	 * @return true if at least one edge was added
+	 */
+	private boolean addPermissionEdges(MeshVertex vertex, GraphPermission... permissions) {
+		boolean granted = false;
 		for (GraphPermission permission : permissions) {
 			if (!hasPermission(permission, vertex)) {
 				addFramedEdge(permission.label(), vertex);
+				granted = true;
 			}
 		}
+		return granted;
 	}
 
 	@Override
@@ -151,8 +175,35 @@ public class RoleImpl extends AbstractMeshCoreVertex<RoleResponse, Role> impleme
 			.count();
 
 		if (edgesRemoved > 0) {
-			PermissionStore.invalidate();
+			// Only the users of the role may have lost permissions on the element
+			PermissionStore.invalidateElement(getUserIds(), vertex.id());
+			updateParentContentVersions(vertex);
+		}
+	}
+
+	/**
+	 * The readable children are part of the etag of a node. Thus the content versions of the parent nodes need to be updated when the permissions of a
+	 * node change.
+	 * 
+	 * @param vertex
+	 */
+	private void updateParentContentVersions(MeshVertex vertex) {
+		if (vertex instanceof Node) {
+			((Node) vertex).updateParentContentVersions();
+		}
+	}
+
+	/**
+	 * Return the vertex ids of all users which are assigned to the role.
+	 * 
+	 * @return
+	 */
+	private Set<Object> getUserIds() {
+		Set<Object> userIds = new HashSet<>();
+		for (User user : in(ASSIGNED_TO_ROLE).frameExplicit(UserImpl.class)) {
+			userIds.add(user.id());
 		}
+		return userIds;
 	}
 
 	/**
@@ -181,9 +232,10 @@ public class RoleImpl extends AbstractMeshCoreVertex<RoleResponse, Role> impleme
 				}
 			}
 		}
+		Set<Object> affectedUserIds = getUserIds();
 		getVertex().remove();
 		bac.process();
-		PermissionStore.invalidate();
+		PermissionStore.invalidateUsers(affectedUserIds);
 	}
 
 	@Override
@@ -237,7 +289,7 @@ public class RoleImpl extends AbstractMeshCoreVertex<RoleResponse, Role> impleme
 
 	@Override
 	public Single<RoleResponse> transformToRest(InternalActionContext ac, int level, String... languageTags) {
-		return DB.get().asyncTx(() -> {
+		return DB.get().asyncTx(ac, () -> {
 			return Single.just(transformToRestSync(ac, level, languageTags));
 		});
 	}
@@ -84,6 +84,7 @@ public class TagImpl extends AbstractMeshCoreVertex<TagResponse, Tag> implements
 	@Override
 	public void removeNode(Node node) {
 		unlinkIn(node, HAS_TAG);
+		node.updateContentVersion();
 	}
 
 	@Override
@@ -154,6 +155,7 @@ public class TagImpl extends AbstractMeshCoreVertex<TagResponse, Tag> implements
 			String branchUuid = branch.getUuid();
 			for (Node node : getNodes(branch)) {
 				bac.batch().store(node, branchUuid);
+				node.updateContentVersion();
 			}
 		}
 		getElement().remove();
@@ -215,6 +217,12 @@ public class TagImpl extends AbstractMeshCoreVertex<TagResponse, Tag> implements
 				setEditor(ac.getUser());
 				setLastEditedTimestamp();
 				setName(newTagName);
+				// The tags are part of the etag of the tagged nodes
+				for (Branch branch : getProject().getBranchRoot().findAll()) {
+					for (Node node : getNodes(branch)) {
+						node.updateContentVersion();
+					}
+				}
 				batch.store(getTagFamily(), false);
 				batch.store(this, true);
 				return true;
@@ -266,7 +274,7 @@ public class TagImpl extends AbstractMeshCoreVertex<TagResponse, Tag> implements
 
 	@Override
 	public Single<TagResponse> transformToRest(InternalActionContext ac, int level, String... languageTags) {
-		return DB.get().asyncTx(() -> {
+		return DB.get().asyncTx(ac, () -> {
 			return Single.just(transformToRestSync(ac, level, languageTags));
 		});
 	}
@@ -19,6 +19,7 @@ import static io.netty.handler.codec.http.HttpResponseStatus.BAD_REQUEST;
 import static io.netty.handler.codec.http.HttpResponseStatus.FORBIDDEN;
 import static org.apache.commons.lang3.StringUtils.isEmpty;
 
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
@@ -280,6 +281,11 @@ public class UserImpl extends AbstractMeshCoreVertex<UserResponse, User> impleme
 
 	@Override
 	public Set<GraphPermission> getPermissions(MeshVertex vertex) {
+		// All permissions of the element can be resolved by a single cache lookup once they have been checked before
+		Set<GraphPermission> cachedPermissions = PermissionStore.getPermissions(getId(), vertex.id());
+		if (cachedPermissions != null) {
+			return cachedPermissions;
+		}
 		Set<GraphPermission> graphPermissions = new HashSet<>();
 		// Check all permissions one at a time and add granted permissions to the set
 		for (GraphPermission perm : GraphPermission.values()) {
@@ -302,39 +308,47 @@ public class UserImpl extends AbstractMeshCoreVertex<UserResponse, User> impleme
 
 	@Override
 	public boolean hasPermissionForId(Object elementId, GraphPermission permission) {
-		if (PermissionStore.hasPermission(getId(), permission, elementId)) {
-			return true;
-		} else {
-			FramedGraph graph = getGraph();
-			// Find all roles that are assigned to the user by checking the
-			// shortcut edge from the index
-			String idxKey = "e." + ASSIGNED_TO_ROLE + "_out";
-			Iterable<Edge> roleEdges = graph.getEdges(idxKey.toLowerCase(), this.id());
-			for (Edge roleEdge : roleEdges) {
-				Vertex role = roleEdge.getVertex(Direction.IN);
-				// Find all permission edges between the found role and target
-				// vertex with the specified label
-				String roleEdgeIdx = "e." + permission.label() + "_inout";
-				Iterable<Edge> edges = graph.getEdges(roleEdgeIdx.toLowerCase(),
-					MeshInternal.get().database().createComposedIndexKey(elementId, role.getId()));
-				boolean foundPermEdge = edges.iterator().hasNext();
-				if (foundPermEdge) {
-					// We only store granting permissions in the store in order
-					// reduce the invalidation calls.
-					// This way we do not need to invalidate the cache if a role
-					// is removed from a group or a role is deleted.
-					PermissionStore.store(getId(), permission, elementId);
-					return true;
-				}
-			}
-			// Fall back to read and check whether the user has read perm. Read permission also includes read published.
-			if (permission == READ_PUBLISHED_PERM) {
-				return hasPermissionForId(elementId, READ_PERM);
-			} else {
-				return false;
-			}
+		Boolean cachedPerm = PermissionStore.getPermission(getId(), permission, elementId);
+		if (cachedPerm != null) {
+			return cachedPerm;
+		}
+		// The generation needs to be read before the check so that a grant which gets committed meanwhile discards the result
+		int generation = PermissionStore.getGeneration();
+		boolean granted = hasPermissionViaRoles(elementId, permission);
+		// Fall back to read and check whether the user has read perm. Read permission also includes read published.
+		if (!granted && permission == READ_PUBLISHED_PERM) {
+			granted = hasPermissionForId(elementId, READ_PERM);
 		}
+		// Denying results are stored as well. The store will discard those once a permission gets granted.
+		PermissionStore.store(getId(), permission, elementId, granted, generation);
+		return granted;
+	}
 
+	/**
+	 * Check whether one of the roles of the user grants the permission on the element.
+	 * 
+	 * @param elementId
+	 * @param permission
+	 * @return
+	 */
+	private boolean hasPermissionViaRoles(Object elementId, GraphPermission permission) {
+		FramedGraph graph = getGraph();
+		// Find all roles that are assigned to the user by checking the
+		// shortcut edge from the index
+		String idxKey = "e." + ASSIGNED_TO_ROLE + "_out";
+		Iterable<Edge> roleEdges = graph.getEdges(idxKey.toLowerCase(), this.id());
+		for (Edge roleEdge : roleEdges) {
+			Vertex role = roleEdge.getVertex(Direction.IN);
+			// Find all permission edges between the found role and target
+			// vertex with the specified label
+			String roleEdgeIdx = "e." + permission.label() + "_inout";
+			Iterable<Edge> edges = graph.getEdges(roleEdgeIdx.toLowerCase(),
+				MeshInternal.get().database().createComposedIndexKey(elementId, role.getId()));
+			if (edges.iterator().hasNext()) {
+				return true;
+			}
+		}
+		return false;
 	}
 
 	@Override
@@ -476,7 +490,7 @@ public class UserImpl extends AbstractMeshCoreVertex<UserResponse, User> impleme
 
 		// 2. Add CRUD permission to identified roles and target node
 		for (Role role : rolesThatGrantPermission) {
-			role.grantPermissions(targetNode, toGrant);
+			role.grantPermissionsOnNewElement(targetNode, toGrant);
 		}
 
 		inheritRolePermissions(sourceNode, targetNode);
@@ -492,7 +506,7 @@ public class UserImpl extends AbstractMeshCoreVertex<UserResponse, User> impleme
 				if (log.isDebugEnabled()) {
 					log.debug("Granting permission {" + perm.name() + "} to node {" + targetNode.getUuid() + "} on role {" + role.getName() + "}");
 				}
-				role.grantPermissions(targetNode, perm);
+				role.grantPermissionsOnNewElement(targetNode, perm);
 			}
 		}
 		return this;
@@ -510,9 +524,10 @@ public class UserImpl extends AbstractMeshCoreVertex<UserResponse, User> impleme
 		// }
 		// outE(HAS_USER).removeAll();
 		bac.batch().delete(this, false);
+		Object userId = id();
 		getElement().remove();
 		bac.process();
-		PermissionStore.invalidate();
+		PermissionStore.invalidateUsers(Collections.singleton(userId));
 	}
 
 	/**
@@ -662,7 +677,7 @@ public class UserImpl extends AbstractMeshCoreVertex<UserResponse, User> impleme
 
 	@Override
 	public Single<UserResponse> transformToRest(InternalActionContext ac, int level, String... languageTags) {
-		return DB.get().asyncTx(() -> {
+		return DB.get().asyncTx(ac, () -> {
 			return Single.just(transformToRestSync(ac, level, languageTags));
 		});
 	}
@@ -0,0 +1,92 @@
+package com.gentics.mesh.core.data.job.impl;
+
+import static com.gentics.mesh.core.rest.admin.migration.MigrationStatus.RUNNING;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import com.gentics.mesh.Mesh;
+import com.gentics.mesh.core.binary.ImageVariantGenerator;
+import com.gentics.mesh.core.data.binary.Binary;
+import com.gentics.mesh.core.data.generic.MeshVertexImpl;
+import com.gentics.mesh.core.endpoint.migration.MigrationStatusHandler;
+import com.gentics.mesh.core.endpoint.migration.impl.MigrationStatusHandlerImpl;
+import com.gentics.mesh.core.rest.admin.migration.MigrationType;
+import com.gentics.mesh.dagger.DB;
+import com.gentics.mesh.dagger.MeshInternal;
+import com.gentics.mesh.graphdb.spi.Database;
+import com.gentics.mesh.util.PagedCursor;
+
+import io.reactivex.Completable;
+import io.vertx.core.logging.Logger;
+import io.vertx.core.logging.LoggerFactory;
+
+/**
+ * Job which creates the configured image variant presets for all existing binaries. The completion count of the job reflects the amount of processed
+ * binaries. The binaries are prepared page by page within short transactions. The variants are created outside of the transactions.
+ */
+public class ImageVariantJobImpl extends JobImpl {
+
+	private static final Logger log = LoggerFactory.getLogger(ImageVariantJobImpl.class);
+
+	/**
+	 * Amount of processed binaries after which the progress of the job will be stored.
+	 */
+	private static final int PROGRESS_INTERVAL = 50;
+
+	/**
+	 * Amount of binaries which are prepared within a single transaction.
+	 */
+	private static final int PAGE_SIZE = 100;
+
+	public static void init(Database database) {
+		database.addVertexType(ImageVariantJobImpl.class, MeshVertexImpl.class);
+	}
+
+	@Override
+	public void prepare() {
+		// NOP
+	}
+
+	@Override
+	protected Completable processTask() {
+		return Completable.fromAction(() -> {
+			Database db = DB.get();
+			MigrationStatusHandler status = db.tx(() -> new MigrationStatusHandlerImpl(this, Mesh.vertx(), MigrationType.imagevariant));
+			try {
+				if (log.isDebugEnabled()) {
+					log.debug("Image variant creation for job {" + db.tx(() -> getUuid()) + "} was requested");
+				}
+				db.tx(() -> {
+					status.setStatus(RUNNING);
+					status.commit();
+				});
+
+				ImageVariantGenerator generator = MeshInternal.get().imageVariantGenerator();
+				long count = 0;
+				try (PagedCursor<Binary> cursor = new PagedCursor<>(db, "mesh-image-variant-reader-%d", PAGE_SIZE, () -> MeshInternal.get().boot()
+					.meshRoot().getBinaryRoot().findAll().iterator())) {
+					List<Binary> page;
+					while (!(page = cursor.nextPage()).isEmpty()) {
+						// The graph is only accessed while preparing the variants. The variants are created outside of the transaction.
+						List<Binary> binaries = page;
+						List<Completable> variants = db.tx(() -> binaries.stream().map(generator::prepare).collect(Collectors.toList()));
+						for (Completable variant : variants) {
+							variant.blockingAwait();
+							status.incCompleted();
+							if (++count % PROGRESS_INTERVAL == 0) {
+								db.tx(() -> status.commit());
+							}
+						}
+					}
+				}
+				log.info("Processed the image variants of {" + count + "} binaries");
+				db.tx(() -> status.done());
+			} catch (Exception e) {
+				db.tx(() -> status.error(e, "Error while creating the image variants."));
+				throw e;
+			}
+		});
+	}
+
+}
@@ -160,6 +160,20 @@ public class JobRootImpl extends AbstractRootVertex<Job> implements JobRoot {
 		return job;
 	}
 
+	@Override
+	public Job enqueueImageVariantRebuild(User creator) {
+		Job job = getGraph().addFramedVertex(ImageVariantJobImpl.class);
+		job.setCreated(creator);
+		job.setType(MigrationType.imagevariant);
+		job.setStatus(QUEUED);
+		job.prepare();
+		addItem(job);
+		if (log.isDebugEnabled()) {
+			log.debug("Enqueued image variant job {" + job.getUuid() + "}");
+		}
+		return job;
+	}
+
 	@Override
 	public MeshVertex resolveToElement(Stack<String> stack) {
 		throw error(BAD_REQUEST, "Jobs are not accessible");
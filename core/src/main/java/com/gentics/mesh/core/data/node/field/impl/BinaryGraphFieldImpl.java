@@ -15,9 +15,12 @@ import java.util.Set;
 import java.util.stream.Collectors;
 
 import com.gentics.mesh.context.BulkActionContext;
+import com.gentics.mesh.core.binary.BinaryGarbageCollector;
 import com.gentics.mesh.core.data.GraphFieldContainer;
+import com.gentics.mesh.core.data.NodeGraphFieldContainer;
 import com.gentics.mesh.core.data.binary.Binary;
 import com.gentics.mesh.core.data.binary.impl.BinaryImpl;
+import com.gentics.mesh.core.data.container.impl.NodeGraphFieldContainerImpl;
 import com.gentics.mesh.core.data.generic.MeshEdgeImpl;
 import com.gentics.mesh.core.data.node.field.BinaryGraphField;
 import com.gentics.mesh.core.data.node.field.FieldGetter;
@@ -211,6 +214,11 @@ public class BinaryGraphFieldImpl extends MeshEdgeImpl implements BinaryGraphFie
 		return property(GraphField.FIELD_KEY_PROPERTY_KEY);
 	}
 
+	@Override
+	public NodeGraphFieldContainer getParentContainer() {
+		return outV().has(NodeGraphFieldContainerImpl.class).nextOrDefaultExplicit(NodeGraphFieldContainerImpl.class, null);
+	}
+
 	@Override
 	public boolean hasProcessableImage() {
 		return NodeUtil.isProcessableImage(getMimeType());
@@ -222,22 +230,21 @@ public class BinaryGraphFieldImpl extends MeshEdgeImpl implements BinaryGraphFie
 	}
 
 	/**
-	 * Remove the field from the given container. The attached binary will be be removed if no other container is referencing it. The data will be deleted from
-	 * the binary storage as well.
+	 * Remove the field from the given container. The attached binary will be marked as unreferenced if no other container is referencing it. The binary
+	 * and its data will be removed by the {@link BinaryGarbageCollector} once the transaction has been committed.
 	 */
 	@Override
 	public void removeField(BulkActionContext bac, GraphFieldContainer container) {
 		Binary binary = getBinary();
+		binary.decrementReferenceCount();
 		remove();
-		// Only get rid of the binary as well if no other fields are using the binary.
-		if (!binary.findFields().iterator().hasNext()) {
-			binary.delete(bac);
-		}
 	}
 
 	@Override
 	public GraphField cloneTo(GraphFieldContainer container) {
-		BinaryGraphFieldImpl field = getGraph().addFramedEdge(container, getBinary(), HAS_FIELD, BinaryGraphFieldImpl.class);
+		Binary binary = getBinary();
+		binary.incrementReferenceCount();
+		BinaryGraphFieldImpl field = getGraph().addFramedEdge(container, binary, HAS_FIELD, BinaryGraphFieldImpl.class);
 		field.setFieldKey(getFieldKey());
 
 		// Clone all properties except the uuid and the type.
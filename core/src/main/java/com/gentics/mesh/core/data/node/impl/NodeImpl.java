@@ -123,6 +123,7 @@ import com.gentics.mesh.path.PathSegment;
 import com.gentics.mesh.util.DateUtils;
 import com.gentics.mesh.util.ETag;
 import com.gentics.mesh.util.URIUtils;
+import com.gentics.mesh.util.UUIDUtil;
 import com.gentics.mesh.util.VersionNumber;
 import com.syncleus.ferma.EdgeFrame;
 import com.syncleus.ferma.FramedGraph;
@@ -146,6 +147,12 @@ public class NodeImpl extends AbstractGenericFieldContainerVertex<NodeResponse,
 
 	private static final Logger log = LoggerFactory.getLogger(NodeImpl.class);
 
+	/**
+	 * Property which stores the content version of the node. The version changes whenever the containers, the publish state, the position, the children
+	 * or the tags of the node change. It is used for the etag computation of the node and of all its descendants.
+	 */
+	public static final String CONTENT_VERSION_PROPERTY_KEY = "contentVersion";
+
 	public static void init(Database database) {
 		database.addVertexType(NodeImpl.class, MeshVertexImpl.class);
 		database.addEdgeIndex(HAS_PARENT_NODE);
@@ -437,6 +444,7 @@ public class NodeImpl extends AbstractGenericFieldContainerVertex<NodeResponse,
 			initialEdge.setBranchUuid(branchUuid);
 			initialEdge.setType(INITIAL);
 		}
+		updateContentVersion();
 
 		return newContainer;
 	}
@@ -470,16 +478,19 @@ public class NodeImpl extends AbstractGenericFieldContainerVertex<NodeResponse,
 		removeTag(tag, branch);
 		TagEdge edge = addFramedEdge(HAS_TAG, tag, TagEdgeImpl.class);
 		edge.setBranchUuid(branch.getUuid());
+		updateContentVersion();
 	}
 
 	@Override
 	public void removeTag(Tag tag, Branch branch) {
 		outE(HAS_TAG).has(TagEdgeImpl.BRANCH_UUID_KEY, branch.getUuid()).mark().inV().retain(tag).back().removeAll();
+		updateContentVersion();
 	}
 
 	@Override
 	public void removeAllTags(Branch branch) {
 		outE(HAS_TAG).has(TagEdgeImpl.BRANCH_UUID_KEY, branch.getUuid()).removeAll();
+		updateContentVersion();
 	}
 
 	@Override
@@ -549,8 +560,27 @@ public class NodeImpl extends AbstractGenericFieldContainerVertex<NodeResponse,
 
 	@Override
 	public void setParentNode(String branchUuid, Node parent) {
+		// The children of the previous and the new parent change
+		Node previousParent = getParentNode(branchUuid);
+		if (previousParent != null) {
+			previousParent.updateContentVersion();
+		}
 		outE(HAS_PARENT_NODE).has(BRANCH_UUID_KEY, branchUuid).removeAll();
 		addFramedEdge(HAS_PARENT_NODE, parent).setProperty(BRANCH_UUID_KEY, branchUuid);
+		parent.updateContentVersion();
+		updateContentVersion();
+	}
+
+	@Override
+	public void updateContentVersion() {
+		property(CONTENT_VERSION_PROPERTY_KEY, UUIDUtil.randomUUID());
+	}
+
+	@Override
+	public void updateParentContentVersions() {
+		for (Node parent : out(HAS_PARENT_NODE).frameExplicit(NodeImpl.class)) {
+			parent.updateContentVersion();
+		}
 	}
 
 	@Override
@@ -926,7 +956,7 @@ public class NodeImpl extends AbstractGenericFieldContainerVertex<NodeResponse,
 		if (parameters.getMaxDepth() < 0) {
 			throw error(BAD_REQUEST, "navigation_error_invalid_max_depth");
 		}
-		return MeshInternal.get().database().asyncTx(() -> {
+		return MeshInternal.get().database().asyncTx(ac, () -> {
 			// TODO assure that the schema version is correct
 			if (!getSchemaContainer().getLatestVersion().getSchema().isContainer()) {
 				throw error(BAD_REQUEST, "navigation_error_no_container");
@@ -1174,6 +1204,7 @@ public class NodeImpl extends AbstractGenericFieldContainerVertex<NodeResponse,
 		// Remove the published edge for each found container
 		TraversalResult<? extends NodeGraphFieldContainer> publishedContainers = getGraphFieldContainers(branchUuid, PUBLISHED);
 		getGraphFieldContainerEdges(branchUuid, PUBLISHED).stream().forEach(EdgeFrame::remove);
+		updateContentVersion();
 
 		assertPublishConsistency(ac, branch);
 
@@ -1256,6 +1287,7 @@ public class NodeImpl extends AbstractGenericFieldContainerVertex<NodeResponse,
 		}
 		// 2. Remove the "published" edge
 		getGraphFieldContainerEdge(languageTag, branchUuid, PUBLISHED).remove();
+		updateContentVersion();
 		assertPublishConsistency(ac, branch);
 
 		// 3. Invoke a delete on the document since it must be removed from the published index
@@ -1285,6 +1317,7 @@ public class NodeImpl extends AbstractGenericFieldContainerVertex<NodeResponse,
 		edge.setBranchUuid(branchUuid);
 		edge.setType(PUBLISHED);
 		container.updateWebrootPathInfo(branchUuid, "node_conflicting_segmentfield_publish");
+		updateContentVersion();
 	}
 
 	@Override
@@ -1370,6 +1403,7 @@ public class NodeImpl extends AbstractGenericFieldContainerVertex<NodeResponse,
 		if (log.isDebugEnabled()) {
 			log.debug("Deleting node {" + getUuid() + "} vertex.");
 		}
+		updateParentContentVersions();
 		getElement().remove();
 		bac.process();
 	}
@@ -1393,6 +1427,7 @@ public class NodeImpl extends AbstractGenericFieldContainerVertex<NodeResponse,
 		}
 
 		// Finally remove the node element itself
+		updateParentContentVersions();
 		getElement().remove();
 		bac.process();
 	}
@@ -1424,6 +1459,10 @@ public class NodeImpl extends AbstractGenericFieldContainerVertex<NodeResponse,
 			// Otherwise we need to remove the "parent" edge for the branch
 			// first remove the "parent" edge (because the node itself will
 			// probably not be deleted, but just removed from the branch)
+			Node parent = getParentNode(branchUuid);
+			if (parent != null) {
+				parent.updateContentVersion();
+			}
 			outE(HAS_PARENT_NODE).has(BRANCH_UUID_KEY, branchUuid).removeAll();
 		}
 	}
@@ -1774,6 +1813,7 @@ public class NodeImpl extends AbstractGenericFieldContainerVertex<NodeResponse,
 			throw error(NOT_FOUND, "node_no_language_found", languageTag);
 		}
 		container.deleteFromBranch(branch, context);
+		updateContentVersion();
 		// No need to delete the published variant because if the container was published the take offline call handled it
 
 		// starting with the old draft, delete all GFC that have no next and are not draft (for other branches)
@@ -1958,68 +1998,42 @@ public class NodeImpl extends AbstractGenericFieldContainerVertex<NodeResponse,
 		keyBuilder.append("expandFields:");
 		keyBuilder.append(expandedFields);
 
-		// branch specific tags
-		for (Tag tag : getTags(branch)) {
-			// Tags can't be moved across branches thus we don't need to add the
-			// tag family etag
-			keyBuilder.append(tag.getETag(ac));
-		}
-
-		// branch specific children
-		for (Node child : getChildren(branch.getUuid())) {
-			if (ac.getUser().hasPermission(child, READ_PERM)) {
-				keyBuilder.append("-");
-				keyBuilder.append(child.getSchemaContainer().getName());
-			}
-		}
-
-		// Publish state & availableLanguages
-		for (NodeGraphFieldContainer c : getGraphFieldContainers(branch, PUBLISHED)) {
-			keyBuilder.append(c.getLanguageTag() + "published");
-		}
-		for (NodeGraphFieldContainer c : getGraphFieldContainers(branch, DRAFT)) {
-			keyBuilder.append(c.getLanguageTag() + "draft");
-		}
-
-		// breadcrumb
+		/**
+		 * Publish state, available languages, tags & children
+		 * 
+		 * Walking all containers, tags and children is expensive. Instead the stored content version is used which changes whenever the containers or
+		 * the tags of the node change and whenever children get added, moved, removed or their permissions change. The readable children additionally
+		 * depend on the roles of the user.
+		 */
 		keyBuilder.append("-");
-		Node current = getParentNode(branch.getUuid());
-		if (current != null) {
-			while (current != null) {
-
-				String key = current.getUuid() + current.getDisplayName(ac);
-				keyBuilder.append(key);
-				if (LinkType.OFF != ac.getNodeParameters().getResolveLinks()) {
-					WebRootLinkReplacer linkReplacer = MeshInternal.get().webRootLinkReplacer();
-					String url = linkReplacer.resolve(ac, branch.getUuid(), type, current.getUuid(), ac.getNodeParameters().getResolveLinks(),
-						getProject().getName(), container.getLanguageTag());
-					keyBuilder.append(url);
-				}
-				current = current.getParentNode(branch.getUuid());
-
-			}
-		}
+		keyBuilder.append(ac.getUser().getRolesHash());
+		keyBuilder.append("-");
+		keyBuilder.append((String) getProperty(CONTENT_VERSION_PROPERTY_KEY));
 
 		/**
-		 * webroot path & language paths
+		 * breadcrumb, webroot path & language paths
 		 * 
-		 * The webroot and language paths must be included in the etag computation in order to invalidate the etag once a node language gets updated or once the
-		 * display name of any parent node changes.
+		 * The display names and path segments of the node and all parent nodes are part of the content versions. The content version of a node also
+		 * changes once it gets moved. Thus it is sufficient to include the content versions of all parent nodes instead of resolving the display names
+		 * and paths.
 		 */
-		if (ac.getNodeParameters().getResolveLinks() != LinkType.OFF) {
-
-			WebRootLinkReplacer linkReplacer = MeshInternal.get().webRootLinkReplacer();
-			String path = linkReplacer.resolve(ac, branch.getUuid(), type, getUuid(), ac.getNodeParameters().getResolveLinks(), getProject()
-				.getName(), container.getLanguageTag());
-			keyBuilder.append(path);
-
-			// languagePaths
-			for (GraphFieldContainer currentFieldContainer : getGraphFieldContainers(branch, forVersion(versioiningParameters.getVersion()))) {
-				String currLanguage = currentFieldContainer.getLanguageTag();
-				keyBuilder.append(currLanguage + "=" + linkReplacer.resolve(ac, branch.getUuid(), type, this, ac.getNodeParameters()
-					.getResolveLinks(), currLanguage));
-			}
+		keyBuilder.append("-");
+		Node current = getParentNode(branch.getUuid());
+		while (current != null) {
+			keyBuilder.append(current.getUuid());
+			keyBuilder.append((String) current.getProperty(CONTENT_VERSION_PROPERTY_KEY));
+			current = current.getParentNode(branch.getUuid());
+		}
 
+		// Resolved links also contain the project name and the branch host information
+		LinkType linkType = ac.getNodeParameters().getResolveLinks();
+		if (linkType != LinkType.OFF) {
+			keyBuilder.append(linkType.name());
+			keyBuilder.append(getProject().getName());
+			keyBuilder.append(branch.getHostname());
+			keyBuilder.append(branch.getSsl());
+			keyBuilder.append(branch.getPathPrefix());
+			keyBuilder.append(type.name());
 		}
 
 		/**
@@ -2104,7 +2118,7 @@ public class NodeImpl extends AbstractGenericFieldContainerVertex<NodeResponse,
 
 	@Override
 	public Single<NodeResponse> transformToRest(InternalActionContext ac, int level, String... languageTags) {
-		return MeshInternal.get().database().asyncTx(() -> {
+		return MeshInternal.get().database().asyncTx(ac, () -> {
 			return Single.just(transformToRestSync(ac, level, languageTags));
 		});
 	}
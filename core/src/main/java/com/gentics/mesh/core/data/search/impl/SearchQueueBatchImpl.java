@@ -6,6 +6,7 @@ import static com.gentics.mesh.core.rest.error.Errors.error;
 import static io.netty.handler.codec.http.HttpResponseStatus.INTERNAL_SERVER_ERROR;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicLong;
@@ -26,6 +27,7 @@ import com.gentics.mesh.core.data.search.BulkSearchQueueEntry;
 import com.gentics.mesh.core.data.search.CreateIndexEntry;
 import com.gentics.mesh.core.data.search.DropIndexEntry;
 import com.gentics.mesh.core.data.search.MoveDocumentEntry;
+import com.gentics.mesh.core.data.search.SearchOutbox;
 import com.gentics.mesh.core.data.search.SearchQueueBatch;
 import com.gentics.mesh.core.data.search.SearchQueueEntry;
 import com.gentics.mesh.core.data.search.SearchQueueEntryAction;
@@ -84,6 +86,9 @@ public class SearchQueueBatchImpl implements SearchQueueBatch {
 	@Inject
 	SearchProvider searchProvider;
 
+	@Inject
+	SearchOutbox outbox;
+
 	@Inject
 	public SearchQueueBatchImpl() {
 	}
@@ -261,6 +266,41 @@ public class SearchQueueBatchImpl implements SearchQueueBatch {
 
 	@Override
 	public Completable processAsync() {
+		if (!searchProvider.isActive()) {
+			return Completable.create(s -> {
+				clear();
+				s.onComplete();
+			});
+		}
+		if (!outbox.isEnabled()) {
+			return processDirect();
+		}
+		return Completable.defer(() -> {
+			if (!seperateEntries.isEmpty()) {
+				// Index creation and removal must not overtake the document changes which are still pending in the outbox
+				long timeout = Mesh.mesh().getOptions().getSearchOptions().getOutboxWaitTimeout();
+				return outbox.flush()
+					.timeout(timeout, TimeUnit.MILLISECONDS)
+					.doOnError(error -> log.warn("The search outbox could not be flushed before processing batch {" + batchId + "}", error))
+					.onErrorComplete()
+					.andThen(processDirect());
+			}
+			List<UpdateDocumentEntry> documents = new ArrayList<>(bulkEntries.size());
+			for (BulkSearchQueueEntry<?> entry : bulkEntries) {
+				if (entry instanceof MoveDocumentEntry) {
+					documents.addAll(toUpdateEntries((MoveDocumentEntry) entry));
+				} else {
+					documents.add((UpdateDocumentEntry) entry);
+				}
+			}
+			outbox.append(documents);
+			clear();
+			return Completable.complete();
+		});
+	}
+
+	@Override
+	public Completable processDirect() {
 		if (!searchProvider.isActive()) {
 			return Completable.create(s -> {
 				clear();
@@ -282,7 +322,8 @@ public class SearchQueueBatchImpl implements SearchQueueBatch {
 				AtomicLong counter = new AtomicLong();
 				Completable bulkProcessing = bulks
 					.buffer(bulkLimit)
-					.flatMapCompletable(bulk -> searchProvider.processBulk(bulk).doOnComplete(() -> {
+					// Failed bulk requests have already been logged by the search provider and must not fail the batch
+					.flatMapCompletable(bulk -> searchProvider.processBulk(bulk).onErrorComplete().doOnComplete(() -> {
 						log.debug("Bulk completed {" + counter.incrementAndGet() + "}");
 					}));
 				obs = obs.andThen(bulkProcessing);
@@ -322,6 +363,30 @@ public class SearchQueueBatchImpl implements SearchQueueBatch {
 		processSync(120, TimeUnit.SECONDS);
 	}
 
+	/**
+	 * Transform the move entry into entries which can be stored in the outbox. The old document will be deleted and the new document will be stored.
+	 * 
+	 * @param entry
+	 * @return
+	 */
+	private List<UpdateDocumentEntry> toUpdateEntries(MoveDocumentEntry entry) {
+		MoveEntryContext context = entry.getContext();
+		return Arrays.asList(
+			toUpdateEntry(context.getOldContainer(), context, DELETE_ACTION),
+			toUpdateEntry(context.getNewContainer(), context, STORE_ACTION));
+	}
+
+	private UpdateDocumentEntry toUpdateEntry(NodeGraphFieldContainer container, MoveEntryContext moveContext, SearchQueueEntryAction action) {
+		Node node = container.getParentNode();
+		GenericEntryContextImpl context = new GenericEntryContextImpl();
+		context.setContainerType(moveContext.getContainerType());
+		context.setBranchUuid(moveContext.getBranchUuid());
+		context.setProjectUuid(node.getProject().getUuid());
+		context.setLanguageTag(container.getLanguageTag());
+		context.setSchemaContainerVersionUuid(container.getSchemaContainerVersion().getUuid());
+		return new UpdateDocumentEntryImpl(nodeContainerIndexHandler, node.getUuid(), context, action);
+	}
+
 	@Override
 	public void clear() {
 		bulkEntries.clear();
@@ -15,6 +15,7 @@ import com.gentics.mesh.auth.MeshAuthChain;
 import com.gentics.mesh.context.InternalActionContext;
 import com.gentics.mesh.core.endpoint.admin.consistency.ConsistencyCheckHandler;
 import com.gentics.mesh.core.endpoint.admin.plugin.PluginHandler;
+import com.gentics.mesh.core.verticle.handler.WorkerPool;
 import com.gentics.mesh.rest.InternalEndpointRoute;
 import com.gentics.mesh.router.route.AbstractInternalEndpoint;
 
@@ -52,6 +53,11 @@ public class AdminEndpoint extends AbstractInternalEndpoint {
 
 	@Override
 	public void registerEndPoints() {
+		// Administrative tasks are processed by a dedicated worker pool so that they don't block regular requests
+		route("/*").handler(rc -> {
+			rc.put(WorkerPool.CONTEXT_KEY, WorkerPool.ADMIN);
+			rc.next();
+		});
 		addMeshStatusHandler();
 
 		secureAll();
@@ -242,6 +248,17 @@ public class AdminEndpoint extends AbstractInternalEndpoint {
 			jobHandler.handleInvokeJobWorker(ac);
 		});
 
+		InternalEndpointRoute rebuildImageVariants = createRoute();
+		rebuildImageVariants.path("/rebuildImageVariants");
+		rebuildImageVariants.method(POST);
+		rebuildImageVariants.description("Enqueue a job which creates the configured image variant presets for all existing binaries.");
+		rebuildImageVariants.produces(APPLICATION_JSON);
+		rebuildImageVariants.exampleResponse(OK, jobExamples.createJobResponse(), "Enqueued job.");
+		rebuildImageVariants.handler(rc -> {
+			InternalActionContext ac = wrap(rc);
+			jobHandler.handleRebuildImageVariants(ac);
+		});
+
 		InternalEndpointRoute readJobList = createRoute();
 		readJobList.path("/jobs");
 		readJobList.method(GET);
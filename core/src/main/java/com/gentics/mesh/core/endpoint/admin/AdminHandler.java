@@ -77,7 +77,7 @@ public class AdminHandler extends AbstractHandler {
 	 * @param ac
 	 */
 	public void handleBackup(InternalActionContext ac) {
-		db.asyncTx(() -> {
+		db.asyncTx(ac, () -> {
 			if (!ac.getUser().hasAdminRole()) {
 				throw error(FORBIDDEN, "error_admin_permission_required");
 			}
@@ -134,7 +134,7 @@ public class AdminHandler extends AbstractHandler {
 			routerStorage.root().apiRouter().projectsRouter().getProjectRouters().clear();
 			MeshRootImpl.clearReferences();
 			PermissionStore.invalidate(false);
-		}).andThen(db.asyncTx(() -> {
+		}).andThen(db.asyncTx(ac, () -> {
 			// Update the routes by loading the projects
 			boot.initProjects();
 			Mesh.mesh().setStatus(oldStatus);
@@ -148,7 +148,7 @@ public class AdminHandler extends AbstractHandler {
 	 * @param ac
 	 */
 	public void handleExport(InternalActionContext ac) {
-		db.asyncTx((tx) -> {
+		db.asyncTx(ac, (tx) -> {
 			if (!ac.getUser().hasAdminRole()) {
 				throw error(FORBIDDEN, "error_admin_permission_required");
 			}
@@ -184,7 +184,7 @@ public class AdminHandler extends AbstractHandler {
 	}
 
 	public void handleClusterStatus(InternalActionContext ac) {
-		db.asyncTx(() -> {
+		db.asyncTx(ac, () -> {
 			MeshAuthUser user = ac.getUser();
 			if (user != null && !user.hasAdminRole()) {
 				throw error(FORBIDDEN, "error_admin_permission_required");
@@ -134,6 +134,25 @@ public class JobHandler extends AbstractCrudHandler<Job, JobResponse> {
 		}, (model) -> ac.send(model, OK));
 	}
 
+	/**
+	 * Enqueue a job which creates the configured image variant presets for all existing binaries and invoke the job worker verticle.
+	 * 
+	 * @param ac
+	 */
+	public void handleRebuildImageVariants(InternalActionContext ac) {
+		utils.asyncTx(ac, (tx) -> {
+			if (!ac.getUser().hasAdminRole()) {
+				throw error(FORBIDDEN, "error_admin_permission_required");
+			}
+			Job job = boot.jobRoot().enqueueImageVariantRebuild(ac.getUser());
+			return job.transformToRestSync(ac, 0);
+		}, (model) -> {
+			// The job has been committed and can now be processed
+			MeshEvent.triggerJobWorker();
+			ac.send(model, OK);
+		});
+	}
+
 	/**
 	 * Invoke the job worker verticle.
 	 * 
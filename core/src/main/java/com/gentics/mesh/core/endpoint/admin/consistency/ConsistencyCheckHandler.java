@@ -95,7 +95,7 @@ public class ConsistencyCheckHandler extends AbstractHandler {
 	}
 
 	private void invokeAction(InternalActionContext ac, boolean attemptRepair) {
-		db.asyncTx(tx -> {
+		db.asyncTx(ac, tx -> {
 			if (!ac.getUser().hasAdminRole()) {
 				throw error(FORBIDDEN, "error_admin_permission_required");
 			}
@@ -40,8 +40,9 @@ public class BinaryCheck extends AbstractConsistencyCheck {
 			result.addInconsistency("The binary has no valid size specified", uuid, LOW);
 		}
 
+		// Unreferenced binaries are removed by the binary garbage collector which checks the references again before deleting them
 		boolean isLinkedToField = binary.in("HAS_FIELD").hasNext();
-		if (!isLinkedToField) {
+		if (!isLinkedToField && !binary.isUnreferenced()) {
 			InconsistencyInfo info = new InconsistencyInfo().setDescription("The binary is dangling and not used by any container")
 				.setElementUuid(uuid).setSeverity(MEDIUM);
 			if (attemptRepair) {
@@ -103,6 +103,7 @@ public class NodeDeletionGraphFieldContainerFix {
 		initialEdge.setLanguageTag(initial.getLanguageTag());
 		initialEdge.setBranchUuid(branchUuid);
 		initialEdge.setType(INITIAL);
+		node.updateContentVersion();
 
 		BulkActionContext bac = MeshInternal.get().searchQueue().createBulkContext();
 		node.delete(bac);
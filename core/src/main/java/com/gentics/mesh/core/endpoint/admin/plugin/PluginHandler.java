@@ -48,7 +48,7 @@ public class PluginHandler extends AbstractHandler {
 	}
 
 	public void handleRead(InternalActionContext ac, String uuid) {
-		db.asyncTx((tx) -> {
+		db.asyncTx(ac, (tx) -> {
 			if (!ac.getUser().hasAdminRole()) {
 				throw error(FORBIDDEN, "error_admin_permission_required");
 			}
@@ -62,7 +62,7 @@ public class PluginHandler extends AbstractHandler {
 	}
 
 	public void handleDeploy(InternalActionContext ac) {
-		db.asyncTx((tx) -> {
+		db.asyncTx(ac, (tx) -> {
 			if (!ac.getUser().hasAdminRole()) {
 				throw error(FORBIDDEN, "error_admin_permission_required");
 			}
@@ -81,7 +81,7 @@ public class PluginHandler extends AbstractHandler {
 	}
 
 	public void handleUndeploy(InternalActionContext ac, String uuid) {
-		db.asyncTx((tx) -> {
+		db.asyncTx(ac, (tx) -> {
 			if (!ac.getUser().hasAdminRole()) {
 				throw error(FORBIDDEN, "error_admin_permission_required");
 			}
@@ -95,7 +95,7 @@ public class PluginHandler extends AbstractHandler {
 	}
 
 	public void handleReadList(InternalActionContext ac) {
-		db.asyncTx((tx) -> {
+		db.asyncTx(ac, (tx) -> {
 			if (!ac.getUser().hasAdminRole()) {
 				throw error(FORBIDDEN, "error_admin_permission_required");
 			}
@@ -94,7 +94,7 @@ public class BranchCrudHandler extends AbstractCrudHandler<Branch, BranchRespons
 	 */
 	public void handleGetSchemaVersions(InternalActionContext ac, String uuid) {
 		validateParameter(uuid, "uuid");
-		db.asyncTx(() -> {
+		db.asyncTx(ac, () -> {
 			Branch branch = getRootVertex(ac).loadObjectByUuid(ac, uuid, READ_PERM);
 			return getSchemaVersionsInfo(branch);
 		}).subscribe(model -> ac.send(model, OK), ac::fail);
@@ -109,7 +109,7 @@ public class BranchCrudHandler extends AbstractCrudHandler<Branch, BranchRespons
 	 */
 	public void handleAssignSchemaVersion(InternalActionContext ac, String uuid) {
 		validateParameter(uuid, "uuid");
-		db.asyncTx(() -> {
+		db.asyncTx(ac, () -> {
 			RootVertex<Branch> root = getRootVertex(ac);
 			Branch branch = root.loadObjectByUuid(ac, uuid, UPDATE_PERM);
 			BranchInfoSchemaList schemaReferenceList = ac.fromJson(BranchInfoSchemaList.class);
@@ -154,7 +154,7 @@ public class BranchCrudHandler extends AbstractCrudHandler<Branch, BranchRespons
 	 */
 	public void handleGetMicroschemaVersions(InternalActionContext ac, String uuid) {
 		validateParameter(uuid, "uuid");
-		db.asyncTx(() -> {
+		db.asyncTx(ac, () -> {
 			Branch branch = getRootVertex(ac).loadObjectByUuid(ac, uuid, GraphPermission.READ_PERM);
 			return getMicroschemaVersions(branch);
 		}).subscribe(model -> ac.send(model, OK), ac::fail);
@@ -169,7 +169,7 @@ public class BranchCrudHandler extends AbstractCrudHandler<Branch, BranchRespons
 	 */
 	public void handleAssignMicroschemaVersion(InternalActionContext ac, String uuid) {
 		validateParameter(uuid, "uuid");
-		db.asyncTx(() -> {
+		db.asyncTx(ac, () -> {
 			RootVertex<Branch> root = getRootVertex(ac);
 			Branch branch = root.loadObjectByUuid(ac, uuid, UPDATE_PERM);
 			BranchInfoMicroschemaList microschemaReferenceList = ac.fromJson(BranchInfoMicroschemaList.class);
@@ -323,7 +323,7 @@ public class BranchCrudHandler extends AbstractCrudHandler<Branch, BranchRespons
 	public void readTags(InternalActionContext ac, String uuid) {
 		validateParameter(uuid, "uuid");
 
-		db.asyncTx(() -> {
+		db.asyncTx(ac, () -> {
 			Branch branch = ac.getProject().getBranchRoot().loadObjectByUuid(ac, uuid, READ_PERM);
 			TransformablePage<? extends Tag> tagPage = branch.getTags(ac.getUser(), ac.getPagingParameters());
 			return tagPage.transformToRest(ac, 0);
@@ -387,7 +387,7 @@ public class BranchCrudHandler extends AbstractCrudHandler<Branch, BranchRespons
 	public void handleBulkTagUpdate(InternalActionContext ac, String branchUuid) {
 		validateParameter(branchUuid, "branchUuid");
 
-		db.asyncTx(() -> {
+		db.asyncTx(ac, () -> {
 			Branch branch = ac.getProject().getBranchRoot().loadObjectByUuid(ac, branchUuid, UPDATE_PERM);
 
 			Tuple<TransformablePage<? extends Tag>, SearchQueueBatch> tuple = db.tx(() -> {
@@ -63,7 +63,7 @@ public class GroupCrudHandler extends AbstractCrudHandler<Group, GroupResponse>
 	 *            Group Uuid from which the roles should be loaded
 	 */
 	public void handleGroupRolesList(InternalActionContext ac, String groupUuid) {
-		db.asyncTx(() -> {
+		db.asyncTx(ac, () -> {
 			Group group = getRootVertex(ac).loadObjectByUuid(ac, groupUuid, READ_PERM);
 			PagingParametersImpl pagingInfo = new PagingParametersImpl(ac);
 			TransformablePage<? extends Role> rolePage = group.getRoles(ac.getUser(), pagingInfo);
@@ -82,7 +82,7 @@ public class GroupCrudHandler extends AbstractCrudHandler<Group, GroupResponse>
 		validateParameter(groupUuid, "groupUuid");
 		validateParameter(roleUuid, "roleUuid");
 
-		db.asyncTx(() -> {
+		db.asyncTx(ac, () -> {
 			Group group = boot.get().groupRoot().loadObjectByUuid(ac, groupUuid, UPDATE_PERM);
 			Role role = boot.get().roleRoot().loadObjectByUuid(ac, roleUuid, READ_PERM);
 			// Handle idempotency
@@ -121,7 +121,7 @@ public class GroupCrudHandler extends AbstractCrudHandler<Group, GroupResponse>
 		validateParameter(roleUuid, "roleUuid");
 		validateParameter(groupUuid, "groupUuid");
 
-		db.asyncTx(() -> {
+		db.asyncTx(ac, () -> {
 			// TODO check whether the role is actually part of the group
 			Group group = getRootVertex(ac).loadObjectByUuid(ac, groupUuid, UPDATE_PERM);
 			Role role = boot.get().roleRoot().loadObjectByUuid(ac, roleUuid, READ_PERM);
@@ -149,7 +149,7 @@ public class GroupCrudHandler extends AbstractCrudHandler<Group, GroupResponse>
 	public void handleGroupUserList(InternalActionContext ac, String groupUuid) {
 		validateParameter(groupUuid, "groupUuid");
 
-		db.asyncTx(() -> {
+		db.asyncTx(ac, () -> {
 			MeshAuthUser requestUser = ac.getUser();
 			PagingParametersImpl pagingInfo = new PagingParametersImpl(ac);
 			Group group = boot.get().groupRoot().loadObjectByUuid(ac, groupUuid, READ_PERM);
@@ -171,7 +171,7 @@ public class GroupCrudHandler extends AbstractCrudHandler<Group, GroupResponse>
 		validateParameter(groupUuid, "groupUuid");
 		validateParameter(userUuid, "userUuid");
 
-		db.asyncTx(() -> {
+		db.asyncTx(ac, () -> {
 			Group group = boot.get().groupRoot().loadObjectByUuid(ac, groupUuid, UPDATE_PERM);
 			User user = boot.get().userRoot().loadObjectByUuid(ac, userUuid, READ_PERM);
 			ResultInfo info = db.tx(() -> {
@@ -199,7 +199,7 @@ public class GroupCrudHandler extends AbstractCrudHandler<Group, GroupResponse>
 		validateParameter(groupUuid, "groupUuid");
 		validateParameter(userUuid, "userUuid");
 
-		db.asyncTx(() -> {
+		db.asyncTx(ac, () -> {
 			Group group = boot.get().groupRoot().loadObjectByUuid(ac, groupUuid, UPDATE_PERM);
 			User user = boot.get().userRoot().loadObjectByUuid(ac, userUuid, READ_PERM);
 
@@ -1,14 +1,24 @@
 package com.gentics.mesh.core.endpoint.migration;
 
 import java.io.IOException;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Deque;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Supplier;
+
 import javax.annotation.ParametersAreNonnullByDefault;
-import javax.script.ScriptEngine;
+
+import com.gentics.mesh.Mesh;
 import com.gentics.mesh.context.impl.NodeMigrationActionContextImpl;
 import com.gentics.mesh.core.data.GraphFieldContainer;
-import com.gentics.mesh.core.data.node.handler.TypeConverter;
+import com.gentics.mesh.core.data.NodeGraphFieldContainer;
 import com.gentics.mesh.core.data.schema.GraphFieldSchemaContainerVersion;
 import com.gentics.mesh.core.data.schema.RemoveFieldChange;
 import com.gentics.mesh.core.data.schema.SchemaChange;
@@ -19,25 +29,26 @@ import com.gentics.mesh.core.endpoint.handler.AbstractHandler;
 import com.gentics.mesh.core.endpoint.node.BinaryFieldHandler;
 import com.gentics.mesh.core.rest.common.FieldContainer;
 import com.gentics.mesh.core.rest.common.RestModel;
+import com.gentics.mesh.etc.config.MigrationOptions;
 import com.gentics.mesh.graphdb.spi.Database;
 import com.gentics.mesh.json.JsonUtil;
 import com.gentics.mesh.metric.MetricsService;
-import com.gentics.mesh.util.Tuple;
+import com.gentics.mesh.util.PagedCursor;
+import com.google.common.collect.Lists;
+import com.google.common.util.concurrent.MoreExecutors;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 
 import io.vertx.core.logging.Logger;
 import io.vertx.core.logging.LoggerFactory;
-import jdk.nashorn.api.scripting.ClassFilter;
-import jdk.nashorn.api.scripting.NashornScriptEngineFactory;
 
-@SuppressWarnings("restriction")
 public abstract class AbstractMigrationHandler extends AbstractHandler implements MigrationHandler {
 
 	private static final Logger log = LoggerFactory.getLogger(AbstractMigrationHandler.class);
 
 	/**
-	 * Script engine factory.
+	 * Amount of containers which will be loaded at once.
 	 */
-	protected NashornScriptEngineFactory factory = new NashornScriptEngineFactory();
+	public static final int MIGRATION_PAGE_SIZE = 1000;
 
 	protected Database db;
 
@@ -60,19 +71,18 @@ public abstract class AbstractMigrationHandler extends AbstractHandler implement
 	 * @param fromVersion
 	 *            Container which contains the expected migration changes
 	 * @param migrationScripts
-	 *            List of migration scripts (will be modified)
+	 *            Migration scripts (will be modified)
 	 * @param touchedFields
 	 *            Set of touched fields (will be modified)
 	 * @throws IOException
 	 */
 	protected void prepareMigration(GraphFieldSchemaContainerVersion<?, ?, ?, ?, ?> fromVersion,
-			List<Tuple<String, List<Tuple<String, Object>>>> migrationScripts, Set<String> touchedFields) throws IOException {
+			MigrationScripts migrationScripts, Set<String> touchedFields) throws IOException {
 		SchemaChange<?> change = fromVersion.getNextChange();
 		while (change != null) {
 			String migrationScript = change.getMigrationScript();
 			if (migrationScript != null) {
-				migrationScript = migrationScript + "\nnode = JSON.stringify(migrate(JSON.parse(node), fieldname, convert));";
-				migrationScripts.add(Tuple.tuple(migrationScript, change.getMigrationScriptContext()));
+				migrationScripts.add(migrationScript, change.getMigrationScriptContext());
 			}
 
 			// if either the type changes or the field is removed, the field is
@@ -101,41 +111,19 @@ public abstract class AbstractMigrationHandler extends AbstractHandler implement
 	 * @param touchedFields
 	 *            set of touched fields
 	 * @param migrationScripts
-	 *            list of migration scripts
+	 *            migration scripts
 	 * @param clazz
 	 * @throws Exception
 	 */
 	protected <T extends FieldContainer> void migrate(NodeMigrationActionContextImpl ac, GraphFieldContainer container, RestModel restModel,
 			GraphFieldSchemaContainerVersion<?, ?, ?, ?, ?> newVersion, Set<String> touchedFields,
-			List<Tuple<String, List<Tuple<String, Object>>>> migrationScripts, Class<T> clazz) throws Exception {
+			MigrationScripts migrationScripts, Class<T> clazz) throws Exception {
 
 		// Remove all touched fields (if necessary, they will be readded later)
 		container.getFields().stream().filter(f -> touchedFields.contains(f.getFieldKey())).forEach(f -> f.removeField(container));
 
-		String nodeJson = restModel.toJson();
-
-		for (Tuple<String, List<Tuple<String, Object>>> scriptEntry : migrationScripts) {
-			String script = scriptEntry.v1();
-			List<Tuple<String, Object>> context = scriptEntry.v2();
-			ScriptEngine engine = factory.getScriptEngine(new Sandbox());
-
-			engine.put("node", nodeJson);
-			engine.put("convert", new TypeConverter());
-			if (context != null) {
-				for (Tuple<String, Object> ctxEntry : context) {
-					engine.put(ctxEntry.v1(), ctxEntry.v2());
-				}
-			}
-			engine.eval(script);
-
-			Object transformedNodeModel = engine.get("node");
-
-			if (transformedNodeModel == null) {
-				throw new Exception("Transformed node model not found after handling migration scripts");
-			}
-
-			nodeJson = transformedNodeModel.toString();
-		}
+		// The scripts have been compiled once for the whole migration
+		String nodeJson = migrationScripts.apply(restModel.toJson());
 
 		// Transform the result back to the Rest Model
 		T transformedRestModel = JsonUtil.readValue(nodeJson, clazz);
@@ -145,37 +133,74 @@ public abstract class AbstractMigrationHandler extends AbstractHandler implement
 
 	}
 
+	/**
+	 * Migrate the given containers. The containers are partitioned into chunks. Each chunk is migrated within a single transaction. The chunks are
+	 * processed by the configured amount of worker threads. Chunks which could not be migrated (e.g. due to conflicts which could not be resolved by
+	 * retrying the transaction) will be migrated again using one transaction per container.
+	 *
+	 * @param containers
+	 *            Containers to migrate
+	 * @param executor
+	 *            Executor which migrates the chunks. It is shared by all pages of the migration.
+	 * @param threads
+	 *            Amount of threads of the executor
+	 * @param status
+	 *            Status handler which is used to report the progress
+	 * @param migratorFactory
+	 *            Factory for the migrator. A migrator will be created for each chunk and thus only be used by a single thread at a time.
+	 * @return Detected errors
+	 */
 	@ParametersAreNonnullByDefault
-	protected <T> List<Exception> migrateLoop(Iterable<T> containers, MigrationStatusHandler status, TriConsumer<SearchQueueBatch, T, List<Exception>> migrator) {
-		// Iterate over all containers and invoke a migration for each one
+	protected <T> List<Exception> migrateLoop(List<T> containers, ExecutorService executor, int threads, MigrationStatusHandler status,
+		Supplier<TriConsumer<SearchQueueBatch, T, List<Exception>>> migratorFactory) {
+		MigrationOptions options = Mesh.mesh().getOptions().getMigrationOptions();
+		int chunkSize = Math.max(1, options.getChunkSize());
+		if (log.isDebugEnabled()) {
+			log.debug("Migrating {" + containers.size() + "} containers using {" + threads + "} threads and chunks of {" + chunkSize + "} containers");
+		}
+
 		long count = 0;
+		long lastSync = 0;
 		List<Exception> errorsDetected = new ArrayList<>();
 		SearchQueueBatch sqb = searchQueue.create();
-		for (T container : containers) {
-			try {
-				// Each container migration has its own search queue batch which is then combined with other batch entries.
-				// This prevents adding partial entries from failed migrations.
-				SearchQueueBatch containerBatch = searchQueue.create();
-				db.tx(() -> {
-					migrator.accept(containerBatch, container, errorsDetected);
-				});
-				sqb.addAll(containerBatch);
-				status.incCompleted();
-				if (count % 50 == 0) {
+		Deque<Future<ChunkResult>> pending = new ArrayDeque<>();
+		try {
+			Iterator<List<T>> chunks = Lists.partition(containers, chunkSize).iterator();
+			while (chunks.hasNext() || !pending.isEmpty()) {
+				// Limit the amount of pending chunks since the results are kept in memory
+				while (chunks.hasNext() && pending.size() < threads * 2) {
+					List<T> chunk = chunks.next();
+					pending.add(executor.submit(() -> migrateChunk(chunk, migratorFactory.get())));
+				}
+
+				// Results are handled in order. This way the progress and the search index sync stay the same regardless of the amount of threads.
+				ChunkResult result = pending.poll().get();
+				errorsDetected.addAll(result.errors);
+				sqb.addAll(result.batch);
+				for (int i = 0; i < result.completed; i++) {
+					status.incCompleted();
+				}
+				long previousCount = count;
+				count += result.size;
+
+				if (count / 50 != previousCount / 50) {
 					log.info("Migrated containers: " + count);
 				}
-				count++;
-			} catch (Exception e) {
-				errorsDetected.add(e);
+				if (count - lastSync >= 500) {
+					lastSync = count;
+					// Process the batch and reset it
+					log.info("Syncing batch with size: " + sqb.size());
+					db.tx(() -> {
+						sqb.processSync();
+						sqb.clear();
+					});
+				}
 			}
-
-			if (count % 500 == 0) {
-				// Process the batch and reset it
-				log.info("Syncing batch with size: " + sqb.size());
-				db.tx(() -> {
-					sqb.processSync();
-					sqb.clear();
-				});
+		} catch (InterruptedException | ExecutionException e) {
+			errorsDetected.add(e);
+			// The executor is still used by the following pages
+			for (Future<ChunkResult> future : pending) {
+				future.cancel(true);
 			}
 		}
 		if (sqb.size() > 0) {
@@ -191,12 +216,104 @@ public abstract class AbstractMigrationHandler extends AbstractHandler implement
 	}
 
 	/**
-	 * Sandbox classfilter that filters all classes
+	 * Migrate the draft containers page by page. Only the containers of the current page are kept in memory. The containers are read by a single
+	 * {@link PagedCursor} which stays open for the whole migration. Containers which were already migrated when the cursor reaches them
+	 * are no longer drafts and thus will not be returned. This also means that a migration which was interrupted will only process the remaining
+	 * containers when it is started again.
+	 *
+	 * @param containers
+	 *            Supplier for an iterator over the draft containers which still need to be migrated. The supplier is invoked within a transaction.
+	 * @param status
+	 *            Status handler which is used to report the progress
+	 * @param migratorFactory
+	 *            Factory for the migrator
+	 * @return Detected errors
 	 */
-	protected static class Sandbox implements ClassFilter {
-		@Override
-		public boolean exposeToScripts(String className) {
-			return false;
+	protected List<Exception> migratePages(Supplier<Iterator<? extends NodeGraphFieldContainer>> containers, MigrationStatusHandler status,
+		Supplier<TriConsumer<SearchQueueBatch, NodeGraphFieldContainer, List<Exception>>> migratorFactory) {
+		int threads = Math.max(1, Mesh.mesh().getOptions().getMigrationOptions().getThreads());
+		// The worker threads are created once for the whole migration. Without additional threads the chunks will be migrated by the current thread.
+		ExecutorService executor = threads > 1 ? Executors.newFixedThreadPool(threads, new ThreadFactoryBuilder().setNameFormat(
+			"mesh-migration-worker-%d").setDaemon(true).build()) : MoreExecutors.newDirectExecutorService();
+
+		List<Exception> errorsDetected = new ArrayList<>();
+		try (PagedCursor<NodeGraphFieldContainer> cursor = new PagedCursor<>(db, "mesh-migration-reader-%d", MIGRATION_PAGE_SIZE, containers)) {
+			List<NodeGraphFieldContainer> page;
+			while (!(page = cursor.nextPage()).isEmpty()) {
+				errorsDetected.addAll(migrateLoop(page, executor, threads, status, migratorFactory));
+			}
+		} catch (InterruptedException | ExecutionException e) {
+			errorsDetected.add(e);
+		} finally {
+			executor.shutdownNow();
+		}
+		return errorsDetected;
+	}
+
+	/**
+	 * Migrate the containers of the chunk.
+	 *
+	 * @param chunk
+	 * @param migrator
+	 * @return
+	 */
+	private <T> ChunkResult migrateChunk(List<T> chunk, TriConsumer<SearchQueueBatch, T, List<Exception>> migrator) {
+		ChunkResult result = new ChunkResult(chunk.size());
+		if (chunk.size() > 1) {
+			try {
+				db.tx(() -> {
+					// The handler will be invoked again if the transaction needs to be retried
+					result.batch.clear();
+					result.errors.clear();
+					for (T container : chunk) {
+						migrator.accept(result.batch, container, result.errors);
+					}
+				});
+				result.completed = chunk.size();
+				return result;
+			} catch (Exception e) {
+				log.warn("Migration of chunk with {" + chunk.size() + "} containers failed. Migrating the containers one by one.", e);
+				result.batch.clear();
+				result.errors.clear();
+			}
+		}
+
+		for (T container : chunk) {
+			try {
+				// Each container migration has its own search queue batch which is then combined with other batch entries.
+				// This prevents adding partial entries from failed migrations.
+				SearchQueueBatch containerBatch = searchQueue.create();
+				List<Exception> containerErrors = new ArrayList<>();
+				db.tx(() -> {
+					containerBatch.clear();
+					containerErrors.clear();
+					migrator.accept(containerBatch, container, containerErrors);
+				});
+				result.batch.addAll(containerBatch);
+				result.errors.addAll(containerErrors);
+				result.completed++;
+			} catch (Exception e) {
+				result.errors.add(e);
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * Result of a migrated chunk.
+	 */
+	private class ChunkResult {
+
+		private final int size;
+
+		private final SearchQueueBatch batch = searchQueue.create();
+
+		private final List<Exception> errors = new ArrayList<>();
+
+		private int completed = 0;
+
+		ChunkResult(int size) {
+			this.size = size;
 		}
 	}
 
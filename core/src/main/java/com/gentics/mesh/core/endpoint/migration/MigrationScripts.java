@@ -0,0 +1,151 @@
+package com.gentics.mesh.core.endpoint.migration;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+import javax.script.Compilable;
+import javax.script.ScriptEngine;
+import javax.script.ScriptException;
+
+import com.gentics.mesh.core.data.node.handler.TypeConverter;
+import com.gentics.mesh.util.Tuple;
+
+import io.vertx.core.logging.Logger;
+import io.vertx.core.logging.LoggerFactory;
+import jdk.nashorn.api.scripting.ClassFilter;
+import jdk.nashorn.api.scripting.NashornScriptEngineFactory;
+import jdk.nashorn.api.scripting.ScriptObjectMirror;
+
+/**
+ * Migration scripts of a schema or microschema migration.
+ *
+ * Each script is compiled only once per script engine and wrapped in a function which returns the <code>migrate</code> function of the script. The
+ * compiled functions are reused for all containers of the migration. Script engines are pooled since creating an engine is expensive and an engine
+ * must not be used by multiple threads at the same time. The node is only parsed and serialized once per container, regardless of the amount of
+ * scripts.
+ */
+@SuppressWarnings("restriction")
+public class MigrationScripts {
+
+	private static final Logger log = LoggerFactory.getLogger(MigrationScripts.class);
+
+	/**
+	 * Script engine factory.
+	 */
+	private static final NashornScriptEngineFactory factory = new NashornScriptEngineFactory();
+
+	private static final String FIELDNAME_KEY = "fieldname";
+
+	private final List<Tuple<String, List<Tuple<String, Object>>>> scripts = new ArrayList<>();
+
+	private final Queue<ScriptRunner> pool = new ConcurrentLinkedQueue<>();
+
+	/**
+	 * Add the migration script.
+	 *
+	 * @param script
+	 *            Script which defines the <code>migrate(node, fieldname, convert)</code> function
+	 * @param context
+	 *            Context variables of the script (may be null)
+	 */
+	public void add(String script, List<Tuple<String, Object>> context) {
+		scripts.add(Tuple.tuple(script, context));
+	}
+
+	/**
+	 * Check whether the migration contains no scripts.
+	 *
+	 * @return
+	 */
+	public boolean isEmpty() {
+		return scripts.isEmpty();
+	}
+
+	/**
+	 * Apply all migration scripts to the given node JSON.
+	 *
+	 * @param nodeJson
+	 *            JSON of the container rest model
+	 * @return Transformed JSON
+	 * @throws Exception
+	 */
+	public String apply(String nodeJson) throws Exception {
+		if (scripts.isEmpty()) {
+			return nodeJson;
+		}
+		ScriptRunner runner = pool.poll();
+		if (runner == null) {
+			runner = new ScriptRunner();
+		}
+		try {
+			return runner.run(nodeJson);
+		} finally {
+			pool.offer(runner);
+		}
+	}
+
+	/**
+	 * Compiled scripts of a single script engine.
+	 */
+	private class ScriptRunner {
+
+		private final ScriptObjectMirror json;
+
+		private final List<Tuple<ScriptObjectMirror, Object>> functions = new ArrayList<>();
+
+		private final TypeConverter convert = new TypeConverter();
+
+		ScriptRunner() throws ScriptException {
+			if (log.isDebugEnabled()) {
+				log.debug("Compiling {" + scripts.size() + "} migration scripts for a new script engine");
+			}
+			ScriptEngine engine = factory.getScriptEngine(new Sandbox());
+			json = (ScriptObjectMirror) engine.eval("JSON");
+			for (Tuple<String, List<Tuple<String, Object>>> entry : scripts) {
+				List<Tuple<String, Object>> context = entry.v2();
+				List<String> names = new ArrayList<>();
+				List<Object> values = new ArrayList<>();
+				Object fieldName = null;
+				if (context != null) {
+					for (Tuple<String, Object> ctxEntry : context) {
+						names.add(ctxEntry.v1());
+						values.add(ctxEntry.v2());
+						if (FIELDNAME_KEY.equals(ctxEntry.v1())) {
+							fieldName = ctxEntry.v2();
+						}
+					}
+				}
+				// The context variables are passed to the wrapper function so that the script can reference them
+				String source = "(function(" + String.join(", ", names) + ") {\n" + entry.v1() + "\nreturn migrate;\n})";
+				ScriptObjectMirror wrapper = (ScriptObjectMirror) ((Compilable) engine).compile(source).eval();
+				ScriptObjectMirror migrate = (ScriptObjectMirror) wrapper.call(null, values.toArray());
+				functions.add(Tuple.tuple(migrate, fieldName));
+			}
+		}
+
+		String run(String nodeJson) throws Exception {
+			Object node = json.callMember("parse", nodeJson);
+			for (Tuple<ScriptObjectMirror, Object> function : functions) {
+				node = function.v1().call(null, node, function.v2(), convert);
+			}
+			Object transformedNodeModel = json.callMember("stringify", node);
+			if (transformedNodeModel == null || ScriptObjectMirror.isUndefined(transformedNodeModel)) {
+				throw new Exception("Transformed node model not found after handling migration scripts");
+			}
+			return transformedNodeModel.toString();
+		}
+	}
+
+	/**
+	 * Sandbox classfilter that filters all classes
+	 */
+	protected static class Sandbox implements ClassFilter {
+		@Override
+		public boolean exposeToScripts(String className) {
+			return false;
+		}
+	}
+
+}
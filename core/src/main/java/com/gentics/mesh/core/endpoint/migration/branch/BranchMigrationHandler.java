@@ -184,6 +184,7 @@ public class BranchMigrationHandler extends AbstractMigrationHandler {
 
 				// migrate tags
 				node.getTags(oldBranch).forEach(tag -> node.addTag(tag, newBranch));
+				node.updateContentVersion();
 			});
 		} catch (Exception e1) {
 			log.error("Error while handling node {" + node.getUuid() + "} during schema migration.", e1);
@@ -6,7 +6,6 @@ import static com.gentics.mesh.core.rest.admin.migration.MigrationStatus.COMPLET
 import static com.gentics.mesh.core.rest.admin.migration.MigrationStatus.RUNNING;
 
 import java.io.IOException;
-import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
@@ -26,12 +25,12 @@ import com.gentics.mesh.core.data.schema.MicroschemaContainerVersion;
 import com.gentics.mesh.core.data.search.SearchQueue;
 import com.gentics.mesh.core.data.search.SearchQueueBatch;
 import com.gentics.mesh.core.endpoint.migration.AbstractMigrationHandler;
+import com.gentics.mesh.core.endpoint.migration.MigrationScripts;
 import com.gentics.mesh.core.endpoint.migration.MigrationStatusHandler;
 import com.gentics.mesh.core.endpoint.node.BinaryFieldHandler;
 import com.gentics.mesh.core.rest.micronode.MicronodeResponse;
 import com.gentics.mesh.graphdb.spi.Database;
 import com.gentics.mesh.metric.MetricsService;
-import com.gentics.mesh.util.Tuple;
 import com.gentics.mesh.util.VersionNumber;
 import com.syncleus.ferma.tx.Tx;
 
@@ -68,7 +67,7 @@ public class MicronodeMigrationHandler extends AbstractMigrationHandler {
 
 		// Collect the migration scripts
 		NodeMigrationActionContextImpl ac = new NodeMigrationActionContextImpl();
-		List<Tuple<String, List<Tuple<String, Object>>>> migrationScripts = new ArrayList<>();
+		MigrationScripts migrationScripts = new MigrationScripts();
 		Set<String> touchedFields = new HashSet<>();
 		try (Tx tx = db.tx()) {
 			prepareMigration(fromVersion, migrationScripts, touchedFields);
@@ -85,13 +84,12 @@ public class MicronodeMigrationHandler extends AbstractMigrationHandler {
 			return Completable.error(e);
 		}
 
-		// Get the containers, that need to be transformed
-		List<? extends NodeGraphFieldContainer> fieldContainersResult = db.tx(() -> {
-			return fromVersion.getDraftFieldContainers(branch.getUuid()).list();
-		});
+		// Check whether there are containers, that need to be transformed
+		String branchUuid = branch.getUuid();
+		boolean hasContainers = db.tx(() -> fromVersion.getDraftFieldContainers(branchUuid).hasNext());
 
 		// No field containers, migration is done
-		if (fieldContainersResult.isEmpty()) {
+		if (!hasContainers) {
 			if (status != null) {
 				db.tx(() -> {
 					status.setStatus(COMPLETED);
@@ -101,9 +99,11 @@ public class MicronodeMigrationHandler extends AbstractMigrationHandler {
 			return Completable.complete();
 		}
 
-		List<Exception> errorsDetected = migrateLoop(fieldContainersResult, status, (batch, container, errors) ->
-			migrateMicronodeContainer(ac, batch, branch, fromVersion, toVersion, container, touchedFields, migrationScripts, errors)
-		);
+		List<Exception> errorsDetected = migratePages(() -> fromVersion.getDraftFieldContainers(branchUuid).iterator(), status, () -> {
+			NodeMigrationActionContextImpl workerAc = ac.fork();
+			return (batch, container, errors) -> migrateMicronodeContainer(workerAc, batch, branch, fromVersion, toVersion, container, touchedFields,
+				migrationScripts, errors);
+		});
 
 		Completable result = Completable.complete();
 		if (!errorsDetected.isEmpty()) {
@@ -134,7 +134,7 @@ public class MicronodeMigrationHandler extends AbstractMigrationHandler {
 	 */
 	private void migrateDraftContainer(NodeMigrationActionContextImpl ac, SearchQueueBatch sqb, Branch branch, Node node,
 		NodeGraphFieldContainer container, MicroschemaContainerVersion fromVersion, MicroschemaContainerVersion toVersion,
-		Set<String> touchedFields, List<Tuple<String, List<Tuple<String, Object>>>> migrationScripts, VersionNumber nextDraftVersion)
+		Set<String> touchedFields, MigrationScripts migrationScripts, VersionNumber nextDraftVersion)
 		throws Exception {
 
 		String branchUuid = branch.getUuid();
@@ -180,7 +180,7 @@ public class MicronodeMigrationHandler extends AbstractMigrationHandler {
 	private void migrateMicronodeContainer(NodeMigrationActionContextImpl ac, SearchQueueBatch batch, Branch branch,
 										   MicroschemaContainerVersion fromVersion,
 										   MicroschemaContainerVersion toVersion, NodeGraphFieldContainer container, Set<String> touchedFields,
-										   List<Tuple<String, List<Tuple<String, Object>>>> migrationScripts, List<Exception> errorsDetected) {
+										   MigrationScripts migrationScripts, List<Exception> errorsDetected) {
 
 		if (log.isDebugEnabled()) {
 			log.debug("Migrating container {" + container.getUuid() + "}");
@@ -235,7 +235,7 @@ public class MicronodeMigrationHandler extends AbstractMigrationHandler {
 	 */
 	private VersionNumber migratePublishedContainer(NodeMigrationActionContextImpl ac, SearchQueueBatch sqb, Branch branch, Node node,
 		NodeGraphFieldContainer container, MicroschemaContainerVersion fromVersion, MicroschemaContainerVersion toVersion,
-		Set<String> touchedFields, List<Tuple<String, List<Tuple<String, Object>>>> migrationScripts) throws Exception {
+		Set<String> touchedFields, MigrationScripts migrationScripts) throws Exception {
 
 		String branchUuid = branch.getUuid();
 		ac.getVersioningParameters().setVersion("published");
@@ -269,7 +269,7 @@ public class MicronodeMigrationHandler extends AbstractMigrationHandler {
 	 */
 	protected void migrateMicronodeFields(NodeMigrationActionContextImpl ac, NodeGraphFieldContainer container,
 		MicroschemaContainerVersion fromVersion, MicroschemaContainerVersion toVersion, Set<String> touchedFields,
-		List<Tuple<String, List<Tuple<String, Object>>>> migrationScripts) throws Exception {
+		MigrationScripts migrationScripts) throws Exception {
 		// iterate over all fields with micronodes to migrate
 		for (MicronodeGraphField field : container.getMicronodeFields(fromVersion)) {
 			// clone the field (this will clone the micronode)
@@ -7,9 +7,7 @@ import static com.gentics.mesh.core.rest.admin.migration.MigrationStatus.RUNNING
 import static com.gentics.mesh.metric.Metrics.NODE_MIGRATION_PENDING;
 
 import java.io.IOException;
-import java.util.ArrayList;
 import java.util.HashSet;
-import java.util.Iterator;
 import java.util.List;
 import java.util.Set;
 
@@ -26,6 +24,7 @@ import com.gentics.mesh.core.data.schema.SchemaContainerVersion;
 import com.gentics.mesh.core.data.search.SearchQueue;
 import com.gentics.mesh.core.data.search.SearchQueueBatch;
 import com.gentics.mesh.core.endpoint.migration.AbstractMigrationHandler;
+import com.gentics.mesh.core.endpoint.migration.MigrationScripts;
 import com.gentics.mesh.core.endpoint.migration.MigrationStatusHandler;
 import com.gentics.mesh.core.endpoint.node.BinaryFieldHandler;
 import com.gentics.mesh.core.rest.node.NodeResponse;
@@ -34,9 +33,8 @@ import com.gentics.mesh.core.rest.schema.SchemaModel;
 import com.gentics.mesh.graphdb.spi.Database;
 import com.gentics.mesh.metric.MetricsService;
 import com.gentics.mesh.metric.ResettableCounter;
-import com.gentics.mesh.util.Tuple;
 import com.gentics.mesh.util.VersionNumber;
-import com.google.common.collect.Lists;
+import com.google.common.collect.Iterators;
 import com.syncleus.ferma.tx.Tx;
 
 import io.reactivex.Completable;
@@ -80,7 +78,7 @@ public class NodeMigrationHandler extends AbstractMigrationHandler {
 		@NotNull MigrationStatusHandler status) {
 
 		// Prepare the migration - Collect the migration scripts
-		List<Tuple<String, List<Tuple<String, Object>>>> migrationScripts = new ArrayList<>();
+		MigrationScripts migrationScripts = new MigrationScripts();
 		Set<String> touchedFields = new HashSet<>();
 		SchemaModel newSchema = db.tx(() -> toVersion.getSchema());
 
@@ -102,18 +100,11 @@ public class NodeMigrationHandler extends AbstractMigrationHandler {
 
 		// Get the draft containers that need to be transformed. Containers which need to be transformed are those which are still linked to older schema
 		// versions. We'll work on drafts. The migration code will later on also handle publish versions.
-		List<? extends NodeGraphFieldContainer> containers = db.tx(() -> {
-			Iterator<? extends NodeGraphFieldContainer> it = fromVersion.getDraftFieldContainers(branch.getUuid());
-			return Lists.newArrayList(it);
-		});
-
-		if (metrics.isEnabled()) {
-			migrationCounter.reset();
-			migrationCounter.inc(containers.size());
-		}
+		String branchUuid = branch.getUuid();
+		boolean hasContainers = db.tx(() -> fromVersion.getDraftFieldContainers(branchUuid).hasNext());
 
 		// No field containers, migration is done
-		if (containers.isEmpty()) {
+		if (!hasContainers) {
 			if (status != null) {
 				db.tx(() -> {
 					status.setStatus(COMPLETED);
@@ -123,11 +114,21 @@ public class NodeMigrationHandler extends AbstractMigrationHandler {
 			return Completable.complete();
 		}
 
-		List<Exception> errorsDetected = migrateLoop(containers, status, (batch, container, errors) -> {
-			migrateContainer(ac, batch, container, toVersion, migrationScripts, branch, newSchema, errors, touchedFields);
-			if (metrics.isEnabled()) {
-				migrationCounter.dec();
-			}
+		if (metrics.isEnabled()) {
+			migrationCounter.reset();
+			migrationCounter.inc(db.tx(() -> Iterators.size(fromVersion.getDraftFieldContainers(branchUuid))));
+		}
+
+		List<Exception> errorsDetected = migratePages(() -> fromVersion.getDraftFieldContainers(branchUuid), status, () -> {
+			// Each worker uses its own context since the context is not thread-safe
+			NodeMigrationActionContextImpl workerAc = ac.fork();
+			return (batch, container, errors) -> {
+				migrateContainer(workerAc, batch, container, toVersion, migrationScripts, branch, newSchema, errors, touchedFields);
+				if (metrics.isEnabled()) {
+					// The migrator is invoked again when the transaction gets retried. Thus the counter is only decremented once it has been committed.
+					Tx.getActive().afterCommit(migrationCounter::dec);
+				}
+			};
 		});
 
 		// TODO prepare errors. They should be easy to understand and to grasp
@@ -161,7 +162,7 @@ public class NodeMigrationHandler extends AbstractMigrationHandler {
 	 */
 	private void migrateContainer(NodeMigrationActionContextImpl ac, SearchQueueBatch batch, NodeGraphFieldContainer container,
 		SchemaContainerVersion toVersion,
-		List<Tuple<String, List<Tuple<String, Object>>>> migrationScripts, Branch branch, SchemaModel newSchema, List<Exception> errorsDetected,
+		MigrationScripts migrationScripts, Branch branch, SchemaModel newSchema, List<Exception> errorsDetected,
 		Set<String> touchedFields) {
 
 		if (log.isDebugEnabled()) {
@@ -222,7 +223,7 @@ public class NodeMigrationHandler extends AbstractMigrationHandler {
 	 */
 	private void migrateDraftContainer(NodeMigrationActionContextImpl ac, SearchQueueBatch sqb, Branch branch, Node node,
 		NodeGraphFieldContainer container, SchemaContainerVersion toVersion, Set<String> touchedFields,
-		List<Tuple<String, List<Tuple<String, Object>>>> migrationScripts, SchemaModel newSchema, VersionNumber nextDraftVersion)
+		MigrationScripts migrationScripts, SchemaModel newSchema, VersionNumber nextDraftVersion)
 		throws Exception {
 
 		String branchUuid = branch.getUuid();
@@ -283,7 +284,7 @@ public class NodeMigrationHandler extends AbstractMigrationHandler {
 	 */
 	private VersionNumber migratePublishedContainer(NodeMigrationActionContextImpl ac, SearchQueueBatch sqb, Branch branch, Node node,
 		NodeGraphFieldContainer container, SchemaContainerVersion toVersion, Set<String> touchedFields,
-		List<Tuple<String, List<Tuple<String, Object>>>> migrationScripts, SchemaModel newSchema) throws Exception {
+		MigrationScripts migrationScripts, SchemaModel newSchema) throws Exception {
 
 		String languageTag = container.getLanguageTag();
 		String branchUuid = branch.getUuid();
@@ -44,7 +44,7 @@ public class NavRootHandler {
 		);
 		MeshAuthUser requestUser = ac.getUser();
 
-		db.asyncTx(() -> {
+		db.asyncTx(ac, () -> {
 			Path nodePath = webrootService.findByProjectPath(ac, path);
 			PathSegment lastSegment = nodePath.getLast();
 
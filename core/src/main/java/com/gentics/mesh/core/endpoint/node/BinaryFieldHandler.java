@@ -14,6 +14,8 @@ import static org.apache.commons.lang3.StringUtils.isEmpty;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Collectors;
 
 import javax.inject.Inject;
@@ -22,8 +24,8 @@ import com.gentics.mesh.Mesh;
 import com.gentics.mesh.cli.BootstrapInitializer;
 import com.gentics.mesh.context.InternalActionContext;
 import com.gentics.mesh.context.impl.InternalRoutingActionContextImpl;
-import com.gentics.mesh.core.binary.BinaryDataProcessor;
-import com.gentics.mesh.core.binary.BinaryProcessorRegistry;
+import com.gentics.mesh.core.binary.BinaryUploadPipeline;
+import com.gentics.mesh.core.binary.ImageVariantGenerator;
 import com.gentics.mesh.core.data.ContainerType;
 import com.gentics.mesh.core.data.Language;
 import com.gentics.mesh.core.data.NodeGraphFieldContainer;
@@ -42,13 +44,13 @@ import com.gentics.mesh.core.image.spi.ImageInfo;
 import com.gentics.mesh.core.image.spi.ImageManipulator;
 import com.gentics.mesh.core.rest.error.GenericRestException;
 import com.gentics.mesh.core.rest.error.NodeVersionConflictException;
+import com.gentics.mesh.core.rest.node.NodeResponse;
 import com.gentics.mesh.core.rest.node.field.BinaryFieldTransformRequest;
 import com.gentics.mesh.core.rest.node.field.image.FocalPoint;
 import com.gentics.mesh.core.rest.schema.BinaryFieldSchema;
 import com.gentics.mesh.core.rest.schema.FieldSchema;
 import com.gentics.mesh.etc.config.MeshUploadOptions;
 import com.gentics.mesh.graphdb.spi.Database;
-import com.gentics.mesh.handler.ActionContext;
 import com.gentics.mesh.json.JsonUtil;
 import com.gentics.mesh.parameter.ImageManipulationParameters;
 import com.gentics.mesh.parameter.image.CropMode;
@@ -57,13 +59,14 @@ import com.gentics.mesh.storage.BinaryStorage;
 import com.gentics.mesh.util.FileUtils;
 import com.gentics.mesh.util.NodeUtil;
 import com.gentics.mesh.util.RxUtil;
+import com.gentics.mesh.util.UUIDUtil;
 
 import dagger.Lazy;
+import io.reactivex.Completable;
 import io.reactivex.Flowable;
 import io.reactivex.Single;
 import io.vertx.core.MultiMap;
 import io.vertx.core.buffer.Buffer;
-import io.vertx.core.file.AsyncFile;
 import io.vertx.core.file.OpenOptions;
 import io.vertx.core.logging.Logger;
 import io.vertx.core.logging.LoggerFactory;
@@ -91,7 +94,9 @@ public class BinaryFieldHandler extends AbstractHandler {
 
 	private BinaryStorage binaryStorage;
 
-	private BinaryProcessorRegistry binaryProcessorRegistry;
+	private BinaryUploadPipeline uploadPipeline;
+
+	private ImageVariantGenerator variantGenerator;
 
 	@Inject
 	public BinaryFieldHandler(ImageManipulator imageManipulator,
@@ -100,7 +105,8 @@ public class BinaryFieldHandler extends AbstractHandler {
 		SearchQueue searchQueue,
 		BinaryFieldResponseHandler binaryFieldResponseHandler,
 		BinaryStorage binaryStorage,
-		BinaryProcessorRegistry binaryProcessorRegistry) {
+		BinaryUploadPipeline uploadPipeline,
+		ImageVariantGenerator variantGenerator) {
 
 		this.imageManipulator = imageManipulator;
 		this.db = db;
@@ -108,12 +114,13 @@ public class BinaryFieldHandler extends AbstractHandler {
 		this.searchQueue = searchQueue;
 		this.binaryFieldResponseHandler = binaryFieldResponseHandler;
 		this.binaryStorage = binaryStorage;
-		this.binaryProcessorRegistry = binaryProcessorRegistry;
+		this.uploadPipeline = uploadPipeline;
+		this.variantGenerator = variantGenerator;
 	}
 
 	public void handleReadBinaryField(RoutingContext rc, String uuid, String fieldName) {
 		InternalActionContext ac = new InternalRoutingActionContextImpl(rc);
-		db.asyncTx(() -> {
+		db.asyncTx(ac, () -> {
 			Project project = ac.getProject();
 			Node node = project.getNodeRoot().loadObjectByUuid(ac, uuid, READ_PUBLISHED_PERM);
 			// Language language = boot.get().languageRoot().findByLanguageTag(languageTag);
@@ -197,146 +204,151 @@ public class BinaryFieldHandler extends AbstractHandler {
 		// (if the transaction failed and has to be repeated).
 		ac.put("sourceFile", ul.uploadedFileName());
 
-		db.tx(() -> {
-			Project project = ac.getProject();
-			Branch branch = ac.getBranch();
-			Node node = project.getNodeRoot().loadObjectByUuid(ac, nodeUuid, UPDATE_PERM);
-
-			Language language = boot.get().languageRoot().findByLanguageTag(languageTag);
-			if (language == null) {
-				throw error(NOT_FOUND, "error_language_not_found", languageTag);
-			}
-
-			// Load the current latest draft
-			NodeGraphFieldContainer latestDraftVersion = node.getGraphFieldContainer(languageTag, branch, ContainerType.DRAFT);
+		// Read the upload only once and outside of the transaction. The data will be hashed, processed and stored at the same time.
+		String binaryUuid = UUIDUtil.randomUUID();
+		BinaryUploadPipeline.Result upload = uploadPipeline.process(ul, binaryUuid);
+		AtomicBoolean binaryCreated = new AtomicBoolean(false);
+		AtomicReference<Completable> variants = new AtomicReference<>(Completable.complete());
+
+		Single<NodeResponse> result;
+		try {
+			result = db.tx(() -> {
+				Project project = ac.getProject();
+				Branch branch = ac.getBranch();
+				Node node = project.getNodeRoot().loadObjectByUuid(ac, nodeUuid, UPDATE_PERM);
+
+				Language language = boot.get().languageRoot().findByLanguageTag(languageTag);
+				if (language == null) {
+					throw error(NOT_FOUND, "error_language_not_found", languageTag);
+				}
 
-			if (latestDraftVersion == null) {
-				// latestDraftVersion = node.createGraphFieldContainer(language, branch, ac.getUser());
-				// TODO Maybe it would be better to just create a new field container for the language?
-				// In that case we would also need to:
-				// * check for segment field conflicts
-				// * update display name
-				// * fail if mandatory fields are missing
-				throw error(NOT_FOUND, "error_language_not_found", languageTag);
-			}
+				// Load the current latest draft
+				NodeGraphFieldContainer latestDraftVersion = node.getGraphFieldContainer(languageTag, branch, ContainerType.DRAFT);
+
+				if (latestDraftVersion == null) {
+					// latestDraftVersion = node.createGraphFieldContainer(language, branch, ac.getUser());
+					// TODO Maybe it would be better to just create a new field container for the language?
+					// In that case we would also need to:
+					// * check for segment field conflicts
+					// * update display name
+					// * fail if mandatory fields are missing
+					throw error(NOT_FOUND, "error_language_not_found", languageTag);
+				}
 
-			// Load the base version field container in order to create the diff
-			NodeGraphFieldContainer baseVersionContainer = node.findVersion(languageTag, branch.getUuid(), nodeVersion);
-			if (baseVersionContainer == null) {
-				throw error(BAD_REQUEST, "node_error_draft_not_found", nodeVersion, languageTag);
-			}
+				// Load the base version field container in order to create the diff
+				NodeGraphFieldContainer baseVersionContainer = node.findVersion(languageTag, branch.getUuid(), nodeVersion);
+				if (baseVersionContainer == null) {
+					throw error(BAD_REQUEST, "node_error_draft_not_found", nodeVersion, languageTag);
+				}
 
-			List<FieldContainerChange> baseVersionDiff = baseVersionContainer.compareTo(latestDraftVersion);
-			List<FieldContainerChange> requestVersionDiff = Arrays.asList(new FieldContainerChange(fieldName, FieldChangeTypes.UPDATED));
+				List<FieldContainerChange> baseVersionDiff = baseVersionContainer.compareTo(latestDraftVersion);
+				List<FieldContainerChange> requestVersionDiff = Arrays.asList(new FieldContainerChange(fieldName, FieldChangeTypes.UPDATED));
 
-			// Compare both sets of change sets
-			List<FieldContainerChange> intersect = baseVersionDiff.stream().filter(requestVersionDiff::contains).collect(Collectors.toList());
+				// Compare both sets of change sets
+				List<FieldContainerChange> intersect = baseVersionDiff.stream().filter(requestVersionDiff::contains).collect(Collectors.toList());
 
-			// Check whether the update was not based on the latest draft version. In that case a conflict check needs to occur.
-			if (!latestDraftVersion.getVersion().equals(nodeVersion)) {
+				// Check whether the update was not based on the latest draft version. In that case a conflict check needs to occur.
+				if (!latestDraftVersion.getVersion().equals(nodeVersion)) {
 
-				// Check whether a conflict has been detected
-				if (intersect.size() > 0) {
-					NodeVersionConflictException conflictException = new NodeVersionConflictException("node_error_conflict_detected");
-					conflictException.setOldVersion(baseVersionContainer.getVersion().toString());
-					conflictException.setNewVersion(latestDraftVersion.getVersion().toString());
-					for (FieldContainerChange fcc : intersect) {
-						conflictException.addConflict(fcc.getFieldCoordinates());
+					// Check whether a conflict has been detected
+					if (intersect.size() > 0) {
+						NodeVersionConflictException conflictException = new NodeVersionConflictException("node_error_conflict_detected");
+						conflictException.setOldVersion(baseVersionContainer.getVersion().toString());
+						conflictException.setNewVersion(latestDraftVersion.getVersion().toString());
+						for (FieldContainerChange fcc : intersect) {
+							conflictException.addConflict(fcc.getFieldCoordinates());
+						}
+						throw conflictException;
 					}
-					throw conflictException;
 				}
-			}
 
-			FieldSchema fieldSchema = latestDraftVersion.getSchemaContainerVersion().getSchema().getField(fieldName);
-			if (fieldSchema == null) {
-				throw error(BAD_REQUEST, "error_schema_definition_not_found", fieldName);
-			}
-			if (!(fieldSchema instanceof BinaryFieldSchema)) {
-				// TODO Add support for other field types
-				throw error(BAD_REQUEST, "error_found_field_is_not_binary", fieldName);
-			}
+				FieldSchema fieldSchema = latestDraftVersion.getSchemaContainerVersion().getSchema().getField(fieldName);
+				if (fieldSchema == null) {
+					throw error(BAD_REQUEST, "error_schema_definition_not_found", fieldName);
+				}
+				if (!(fieldSchema instanceof BinaryFieldSchema)) {
+					// TODO Add support for other field types
+					throw error(BAD_REQUEST, "error_found_field_is_not_binary", fieldName);
+				}
 
-			SearchQueueBatch batch = searchQueue.create();
-			// Create a new node version field container to store the upload
-			NodeGraphFieldContainer newDraftVersion = node.createGraphFieldContainer(languageTag, branch, ac.getUser(), latestDraftVersion, true);
+				SearchQueueBatch batch = searchQueue.create();
+				// Create a new node version field container to store the upload
+				NodeGraphFieldContainer newDraftVersion = node.createGraphFieldContainer(languageTag, branch, ac.getUser(), latestDraftVersion, true);
 
-			// Check whether the binary with the given hashsum was already stored
-			BinaryRoot binaryRoot = boot.get().meshRoot().getBinaryRoot();
-			String hash = FileUtils.hash(ul.uploadedFileName());
-			Binary binary = binaryRoot.findByHash(hash);
+				// Check whether the binary with the given hashsum was already stored
+				BinaryRoot binaryRoot = boot.get().meshRoot().getBinaryRoot();
+				Binary binary = binaryRoot.findByHash(upload.getHash());
 
-			// Create a new binary if the data was not already stored
-			boolean storeBinary = binary == null;
-			if (storeBinary) {
-				binary = binaryRoot.create(hash, ul.size());
-			}
+				// Create a new binary which references the already stored data if the data was not already stored
+				boolean createBinary = binary == null;
+				if (createBinary) {
+					binary = binaryRoot.create(binaryUuid, upload.getHash(), ul.size());
+					// The data must be in place before the binary gets committed
+					binaryStorage.moveInPlace(binaryUuid).blockingAwait();
+				}
+				binaryCreated.set(createBinary);
 
-			// Get the potential existing field
-			BinaryGraphField oldField = newDraftVersion.getBinary(fieldName);
+				// Get the potential existing field
+				BinaryGraphField oldField = newDraftVersion.getBinary(fieldName);
 
-			// Create the new field
-			BinaryGraphField field = newDraftVersion.createBinary(fieldName, binary);
+				// Create the new field
+				BinaryGraphField field = newDraftVersion.createBinary(fieldName, binary);
 
-			// Reuse the existing properties
-			if (oldField != null) {
-				oldField.copyTo(field);
+				// Reuse the existing properties
+				if (oldField != null) {
+					oldField.copyTo(field);
 
-				// If the old field was an image and the current upload is not an image we need to reset the custom image specific attributes.
-				if (oldField.hasProcessableImage() && !NodeUtil.isProcessableImage(ul.contentType())) {
-					field.setImageDominantColor(null);
+					// If the old field was an image and the current upload is not an image we need to reset the custom image specific attributes.
+					if (oldField.hasProcessableImage() && !NodeUtil.isProcessableImage(ul.contentType())) {
+						field.setImageDominantColor(null);
+					}
 				}
-			}
 
-			// Process the upload which will update the binary field
-			processUpload(ac, ul, field, storeBinary);
+				// Apply the information which was extracted from the upload
+				upload.applyTo(field);
+				variants.set(variantGenerator.prepare(field));
 
-			// Now get rid of the old field
-			if (oldField != null) {
-				oldField.removeField(newDraftVersion);
-			}
-			// If the binary field is the segment field, we need to update the webroot info in the node
-			if (field.getFieldKey().equals(newDraftVersion.getSchemaContainerVersion().getSchema().getSegmentField())) {
-				newDraftVersion.updateWebrootPathInfo(branch.getUuid(), "node_conflicting_segmentfield_upload");
-			}
+				// Now get rid of the old field
+				if (oldField != null) {
+					oldField.removeField(newDraftVersion);
+				}
+				// If the binary field is the segment field, we need to update the webroot info in the node
+				if (field.getFieldKey().equals(newDraftVersion.getSchemaContainerVersion().getSchema().getSegmentField())) {
+					newDraftVersion.updateWebrootPathInfo(branch.getUuid(), "node_conflicting_segmentfield_upload");
+				}
 
-			return batch.store(node, branch.getUuid(), DRAFT, false).processAsync().andThen(node.transformToRest(ac, 0));
-		}).subscribe(model -> ac.send(model, CREATED), ac::fail);
+				return batch.store(node, branch.getUuid(), DRAFT, false).processAsync().andThen(node.transformToRest(ac, 0));
+			});
+		} catch (RuntimeException e) {
+			discardUpload(binaryUuid, false);
+			throw e;
+		}
+		discardUpload(binaryUuid, binaryCreated.get());
+		result.subscribe(model -> {
+			ac.send(model, CREATED);
+			// Create the configured image variants in the background
+			variants.get().subscribe();
+		}, ac::fail);
 	}
 
 	/**
-	 * Processes the upload and set the binary information (e.g.: image dimensions) within the provided field. The binary data will be stored in the
-	 * {@link BinaryStorage} if desired.
+	 * Remove the stored upload data if it is not referenced by a binary. This is the case when the data was already stored for another binary or when
+	 * the update failed. Data which was already stored for another binary has not been moved out of the temporary location.
 	 * 
-	 * @param ac
-	 * @param ul
-	 *            Upload to process
-	 * @param field
-	 *            Field which will be updated with the extracted information
-	 * @param storeBinary
-	 *            Whether to store the data in the binary store
+	 * @param binaryUuid
+	 *            Uuid which was used to store the data
+	 * @param used
+	 *            Whether the binary which references the data was created
 	 */
-	private void processUpload(ActionContext ac, FileUpload ul, BinaryGraphField field, boolean storeBinary) {
-
-		// Process the upload and extract needed information
-		String contentType = ul.contentType();
-		for (BinaryDataProcessor p : binaryProcessorRegistry.getProcessors(contentType)) {
-			try {
-				p.process(ul, field);
-			} catch (Exception e) {
-				log.warn("Processing of upload {" + ul.fileName() + "/" + ul.uploadedFileName() + "} in handler {" + p.getClass() + "}", e);
-			}
-		}
-
-		// Store the data
-		if (storeBinary) {
-			Binary binary = field.getBinary();
-			String binaryUuid = binary.getUuid();
-			String uploadFile = ul.uploadedFileName();
-			AsyncFile asyncFile = Mesh.vertx().fileSystem().openBlocking(uploadFile, new OpenOptions());
-			Flowable<Buffer> stream = RxUtil.toBufferFlow(asyncFile);
-			binaryStorage.store(stream, binaryUuid).andThen(Single.just(ul.size())).blockingGet();
+	private void discardUpload(String binaryUuid, boolean used) {
+		if (!used) {
+			// The data may have been moved already if the transaction failed after the binary was created
+			binaryStorage.purgeTemporaryUpload(binaryUuid).andThen(binaryStorage.delete(binaryUuid)).subscribe(() -> {
+				if (log.isDebugEnabled()) {
+					log.debug("Removed unused upload data {" + binaryUuid + "}");
+				}
+			}, err -> log.error("Could not remove unused upload data {" + binaryUuid + "}", err));
 		}
-
 	}
 
 	/**
@@ -358,7 +370,8 @@ public class BinaryFieldHandler extends AbstractHandler {
 		}
 
 		FileSystem fs = new Vertx(vertx).fileSystem();
-		db.asyncTx(() -> {
+		AtomicReference<Completable> variants = new AtomicReference<>(Completable.complete());
+		db.asyncTx(ac, () -> {
 			// Load needed elements
 			Project project = ac.getProject();
 			Node node = project.getNodeRoot().loadObjectByUuid(ac, uuid, UPDATE_PERM);
@@ -459,13 +472,14 @@ public class BinaryFieldHandler extends AbstractHandler {
 					BinaryGraphField field = newDraftVersion.createBinary(fieldName, binary);
 					if (oldField != null) {
 						oldField.copyTo(field);
-						oldField.remove();
+						oldField.removeField(newDraftVersion);
 					}
 					field.getBinary().setSize(result.getSize());
 					field.setMimeType(result.getMimeType());
 					// TODO should we rename the image, if the extension is wrong?
 					field.getBinary().setImageHeight(result.getImageInfo().getHeight());
 					field.getBinary().setImageWidth(result.getImageInfo().getWidth());
+					variants.set(variantGenerator.prepare(field));
 					batch.store(newDraftVersion, node.getProject().getBranchRoot().getLatestBranch().getUuid(), DRAFT, false);
 					return batch;
 				});
@@ -477,7 +491,11 @@ public class BinaryFieldHandler extends AbstractHandler {
 				log.error("Error while transforming image", e);
 				throw error(INTERNAL_SERVER_ERROR, "error_internal");
 			}
-		}).subscribe(model -> ac.send(model, OK), ac::fail);
+		}).subscribe(model -> {
+			ac.send(model, OK);
+			// Create the configured image variants of the transformed image in the background
+			variants.get().subscribe();
+		}, ac::fail);
 	}
 
 }
@@ -73,7 +73,7 @@ public class UserCrudHandler extends AbstractCrudHandler<User, UserResponse> {
 		if (log.isDebugEnabled()) {
 			log.debug("Handling permission request for element on path {" + pathToElement + "}");
 		}
-		db.asyncTx(() -> {
+		db.asyncTx(ac, () -> {
 			// 1. Load the user that should be used - read perm implies that the
 			// user is able to read the attached permissions
 			User user = boot.userRoot().loadObjectByUuid(ac, userUuid, READ_PERM);
@@ -107,7 +107,7 @@ public class UserCrudHandler extends AbstractCrudHandler<User, UserResponse> {
 	public void handleFetchToken(InternalActionContext ac, String userUuid) {
 		validateParameter(userUuid, "The userUuid must not be empty");
 
-		db.asyncTx(() -> {
+		db.asyncTx(ac, () -> {
 			// 1. Load the user that should be used
 			User user = boot.userRoot().loadObjectByUuid(ac, userUuid, CREATE_PERM);
 
@@ -138,7 +138,7 @@ public class UserCrudHandler extends AbstractCrudHandler<User, UserResponse> {
 	public void handleIssueAPIToken(InternalActionContext ac, String userUuid) {
 		validateParameter(userUuid, "The userUuid must not be empty");
 
-		db.asyncTx(() -> {
+		db.asyncTx(ac, () -> {
 			// 1. Load the user that should be used
 			User user = boot.userRoot().loadObjectByUuid(ac, userUuid, UPDATE_PERM);
 
@@ -156,7 +156,7 @@ public class UserCrudHandler extends AbstractCrudHandler<User, UserResponse> {
 				return response;
 			});
 			return Single.just(apiKeyRespose);
-		}).subscribe(model -> ac.send(model, CREATED), ac::fail);
+		}).doOnSuccess(model -> authProvider.invalidateCachedUser(userUuid)).subscribe(model -> ac.send(model, CREATED), ac::fail);
 	}
 
 	/**
@@ -168,7 +168,7 @@ public class UserCrudHandler extends AbstractCrudHandler<User, UserResponse> {
 	public void handleDeleteAPIToken(InternalActionContext ac, String userUuid) {
 		validateParameter(userUuid, "The userUuid must not be empty");
 
-		db.asyncTx(() -> {
+		db.asyncTx(ac, () -> {
 			// 1. Load the user that should be used
 			User user = boot.userRoot().loadObjectByUuid(ac, userUuid, UPDATE_PERM);
 
@@ -178,7 +178,7 @@ public class UserCrudHandler extends AbstractCrudHandler<User, UserResponse> {
 				return message(ac, "api_key_invalidated");
 			});
 			return Single.just(message);
-		}).subscribe(model -> ac.send(model, CREATED), ac::fail);
+		}).doOnSuccess(model -> authProvider.invalidateCachedUser(userUuid)).subscribe(model -> ac.send(model, CREATED), ac::fail);
 	}
 
 }
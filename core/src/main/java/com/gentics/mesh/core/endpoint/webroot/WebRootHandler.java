@@ -77,7 +77,7 @@ public class WebRootHandler {
 		);
 		MeshAuthUser requestUser = ac.getUser();
 		// List<String> languageTags = ac.getSelectedLanguageTags();
-		db.asyncTx(() -> {
+		db.asyncTx(ac, () -> {
 
 			String branchUuid = ac.getBranch().getUuid();
 			// Load all nodes for the given path
@@ -8,7 +8,10 @@ import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import com.gentics.mesh.auth.handler.MeshJWTAuthHandler;
 import com.gentics.mesh.auth.provider.MeshJWTAuthProvider;
 import com.gentics.mesh.cli.BootstrapInitializer;
+import com.gentics.mesh.core.binary.BinaryGarbageCollector;
+import com.gentics.mesh.core.binary.ImageVariantGenerator;
 import com.gentics.mesh.core.data.schema.handler.SchemaComparator;
+import com.gentics.mesh.core.data.search.SearchOutbox;
 import com.gentics.mesh.core.data.search.SearchQueue;
 import com.gentics.mesh.core.data.service.ServerSchemaStorage;
 import com.gentics.mesh.core.endpoint.migration.branch.BranchMigrationHandler;
@@ -60,6 +63,8 @@ public interface MeshComponent {
 
 	SearchQueue searchQueue();
 
+	SearchOutbox searchOutbox();
+
 	SearchProvider searchProvider();
 
 	BCryptPasswordEncoder passwordEncoder();
@@ -68,6 +73,10 @@ public interface MeshComponent {
 
 	BinaryStorage binaryStorage();
 
+	BinaryGarbageCollector binaryGarbageCollector();
+
+	ImageVariantGenerator imageVariantGenerator();
+
 	default TrackingSearchProvider trackingSearchProvider() {
 		return (TrackingSearchProvider) searchProvider();
 	}
@@ -4,6 +4,7 @@ import com.gentics.mesh.auth.MeshOAuth2ServiceImpl;
 import com.gentics.mesh.auth.MeshOAuthService;
 import com.gentics.mesh.cli.BootstrapInitializer;
 import com.gentics.mesh.cli.BootstrapInitializerImpl;
+import com.gentics.mesh.core.data.search.SearchOutbox;
 import com.gentics.mesh.core.data.search.SearchQueueBatch;
 import com.gentics.mesh.core.data.search.impl.SearchQueueBatchImpl;
 import com.gentics.mesh.core.data.service.WebRootService;
@@ -14,6 +15,7 @@ import com.gentics.mesh.metric.DropwizardMetricsService;
 import com.gentics.mesh.metric.MetricsService;
 import com.gentics.mesh.search.index.common.DropIndexHandler;
 import com.gentics.mesh.search.index.common.DropIndexHandlerImpl;
+import com.gentics.mesh.search.outbox.SearchOutboxImpl;
 
 import dagger.Binds;
 import dagger.Module;
@@ -41,4 +43,7 @@ public abstract class BindModule {
 	
 	@Binds
 	abstract Database bindDatabase(OrientDBDatabase e);
+
+	@Binds
+	abstract SearchOutbox bindSearchOutbox(SearchOutboxImpl e);
 }
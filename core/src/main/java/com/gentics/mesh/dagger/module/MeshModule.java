@@ -14,6 +14,7 @@ import com.gentics.mesh.core.image.spi.ImageManipulatorService;
 import com.gentics.mesh.etc.config.HttpServerConfig;
 import com.gentics.mesh.handler.impl.MeshBodyHandlerImpl;
 import com.gentics.mesh.image.ImgscalrImageManipulator;
+import com.gentics.mesh.metric.MetricsService;
 import com.gentics.mesh.storage.BinaryStorage;
 import com.gentics.mesh.storage.BinaryStorageService;
 
@@ -40,8 +41,8 @@ public class MeshModule {
 
 	@Provides
 	@Singleton
-	public static ImageManipulator imageProvider() {
-		return new ImgscalrImageManipulator();
+	public static ImageManipulator imageProvider(MetricsService metrics) {
+		return new ImgscalrImageManipulator(metrics);
 	}
 
 	@Provides
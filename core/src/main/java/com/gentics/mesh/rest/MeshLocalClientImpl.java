@@ -1509,6 +1509,11 @@ public class MeshLocalClientImpl implements MeshRestClient {
 		return null;
 	}
 
+	@Override
+	public MeshRequest<JobResponse> rebuildImageVariants() {
+		return null;
+	}
+
 	@Override
 	public MeshRequest<SchemaValidationResponse> validateSchema(Schema schema) {
 		return null;
@@ -4,6 +4,7 @@ import static org.apache.commons.lang3.StringUtils.isEmpty;
 
 import java.nio.file.Paths;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
 import javax.inject.Inject;
@@ -45,7 +46,9 @@ import com.gentics.mesh.search.SearchEndpointImpl;
 import io.vertx.core.AbstractVerticle;
 import io.vertx.core.Future;
 import io.vertx.core.http.HttpServer;
+import io.vertx.core.http.Http2Settings;
 import io.vertx.core.http.HttpServerOptions;
+import io.vertx.core.http.HttpVersion;
 import io.vertx.core.net.PemKeyCertOptions;
 import io.vertx.core.net.PemTrustOptions;
 import io.vertx.ext.web.Router;
@@ -142,14 +145,25 @@ public class RestAPIVerticle extends AbstractVerticle {
 	public void start(Future<Void> startFuture) throws Exception {
 		int port = config().getInteger("port");
 		String host = config().getString("host");
+		MeshOptions meshOptions = Mesh.mesh().getOptions();
+		HttpServerConfig httpServerOptions = meshOptions.getHttpServerOptions();
 		HttpServerOptions options = new HttpServerOptions();
 		options.setPort(port);
 		options.setHost(host);
-		options.setCompressionSupported(true);
+		options.setCompressionSupported(httpServerOptions.isEnableCompression());
+		options.setCompressionLevel(httpServerOptions.getCompressionLevel());
 		options.setHandle100ContinueAutomatically(true);
 		// options.setLogActivity(true);
-		MeshOptions meshOptions = Mesh.mesh().getOptions();
-		HttpServerConfig httpServerOptions = meshOptions.getHttpServerOptions();
+		if (httpServerOptions.isEnableHttp2()) {
+			options.setInitialSettings(new Http2Settings().setMaxConcurrentStreams(httpServerOptions.getHttp2MaxConcurrentStreams()));
+			if (httpServerOptions.getSsl()) {
+				// HTTP/2 over TLS needs to be negotiated via ALPN
+				options.setUseAlpn(true);
+				options.setAlpnVersions(Arrays.asList(HttpVersion.HTTP_2, HttpVersion.HTTP_1_1));
+			} else {
+				log.info("HTTP/2 is enabled without SSL. Only clients which support cleartext HTTP/2 (h2c) will use it.");
+			}
+		}
 		if (httpServerOptions.getSsl()) {
 			if (log.isDebugEnabled()) {
 				log.debug("Setting ssl server options..");
@@ -18,6 +18,7 @@ import com.gentics.mesh.core.rest.common.RestModel;
 import com.gentics.mesh.core.rest.node.NodeListResponse;
 import com.gentics.mesh.core.rest.tag.TagFamilyListResponse;
 import com.gentics.mesh.core.rest.tag.TagListResponse;
+import com.gentics.mesh.core.verticle.handler.WorkerPool;
 import com.gentics.mesh.rest.InternalEndpointRoute;
 import com.gentics.mesh.router.route.AbstractProjectEndpoint;
 import com.gentics.mesh.search.index.node.NodeSearchHandler;
@@ -98,13 +99,15 @@ public class ProjectSearchEndpointImpl extends AbstractProjectEndpoint implement
 		endpoint.produces(APPLICATION_JSON);
 		endpoint.exampleResponse(OK, exampleResponse, "Paged search result list.");
 		endpoint.exampleRequest(miscExamples.getSearchQueryExample());
-		endpoint.handler(rc -> {
+		// Search queries are posted but don't modify data
+		endpoint.workerPool(WorkerPool.READ);
+		endpoint.blockingHandler(rc -> {
 			try {
 				InternalActionContext ac = wrap(rc);
 				searchHandler.query(ac, root, classOfRL, filterByLanguage);
 			} catch (Exception e) {
 				rc.fail(e);
 			}
-		});
+		}, false);
 	}
 }
@@ -5,6 +5,7 @@ import static io.netty.handler.codec.http.HttpResponseStatus.OK;
 import static io.vertx.core.http.HttpMethod.POST;
 
 import com.gentics.mesh.context.InternalActionContext;
+import com.gentics.mesh.core.verticle.handler.WorkerPool;
 import com.gentics.mesh.rest.InternalEndpoint;
 import com.gentics.mesh.rest.InternalEndpointRoute;
 
@@ -25,13 +26,15 @@ public interface SearchEndpoint extends InternalEndpoint {
 		endpoint.produces(APPLICATION_JSON);
 		endpoint.exampleResponse(OK, miscExamples.createSearchResponse(), "Raw search response.");
 		endpoint.exampleRequest(miscExamples.getSearchQueryExample());
-		endpoint.handler(rc -> {
+		// Search queries are posted but don't modify data
+		endpoint.workerPool(WorkerPool.READ);
+		endpoint.blockingHandler(rc -> {
 			try {
 				InternalActionContext ac = wrap(rc);
 				searchHandler.rawQuery(ac);
 			} catch (Exception e) {
 				rc.fail(e);
 			}
-		});
+		}, false);
 	}
 }
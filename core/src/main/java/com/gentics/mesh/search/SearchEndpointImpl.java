@@ -25,6 +25,7 @@ import com.gentics.mesh.core.rest.schema.SchemaListResponse;
 import com.gentics.mesh.core.rest.tag.TagFamilyListResponse;
 import com.gentics.mesh.core.rest.tag.TagListResponse;
 import com.gentics.mesh.core.rest.user.UserListResponse;
+import com.gentics.mesh.core.verticle.handler.WorkerPool;
 import com.gentics.mesh.parameter.impl.PagingParametersImpl;
 import com.gentics.mesh.rest.InternalEndpointRoute;
 import com.gentics.mesh.router.route.AbstractInternalEndpoint;
@@ -195,14 +196,16 @@ public class SearchEndpointImpl extends AbstractInternalEndpoint implements Sear
 		endpoint.addQueryParameters(PagingParametersImpl.class);
 		endpoint.exampleResponse(OK, exampleListResponse, "Paged search result for " + typeName);
 		endpoint.exampleRequest(miscExamples.getSearchQueryExample());
-		endpoint.handler(rc -> {
+		// Search queries are posted but don't modify data
+		endpoint.workerPool(WorkerPool.READ);
+		endpoint.blockingHandler(rc -> {
 			try {
 				InternalActionContext ac = wrap(rc);
 				searchHandler.query(ac, root, classOfRL, filterByLanguage);
 			} catch (Exception e) {
 				rc.fail(e);
 			}
-		});
+		}, false);
 	}
 
 }
@@ -0,0 +1,107 @@
+package com.gentics.mesh.util;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import com.gentics.mesh.graphdb.spi.Database;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import com.syncleus.ferma.tx.Tx;
+
+/**
+ * Cursor which reads the elements of a graph traversal page by page. The traversal is read by a single iterator which stays open until all elements
+ * have been read. This way the traversal does not need to be repeated for each page. The iterator is owned by a dedicated reader thread since
+ * transactions are bound to the thread. The reader only reads the graph and loads the next page while the current page is being processed. The
+ * returned elements can be used within other transactions.
+ *
+ * @param <T>
+ *            Type of the elements
+ */
+public class PagedCursor<T> implements AutoCloseable {
+
+	private final BlockingQueue<List<T>> pages = new ArrayBlockingQueue<>(1);
+
+	private final ExecutorService reader;
+
+	private final Future<?> readerResult;
+
+	private boolean finished = false;
+
+	/**
+	 * Create a new cursor and start reading the first page.
+	 *
+	 * @param db
+	 * @param threadNameFormat
+	 *            Name format of the reader thread
+	 * @param pageSize
+	 *            Maximum amount of elements per page
+	 * @param iterator
+	 *            Supplier for the iterator over the elements. The supplier is invoked within the transaction of the reader.
+	 */
+	public PagedCursor(Database db, String threadNameFormat, int pageSize, Supplier<Iterator<? extends T>> iterator) {
+		reader = Executors.newSingleThreadExecutor(new ThreadFactoryBuilder().setNameFormat(threadNameFormat).setDaemon(true).build());
+		readerResult = reader.submit(() -> {
+			try (Tx tx = db.tx()) {
+				Iterator<? extends T> it = iterator.get();
+				List<T> page = new ArrayList<>();
+				while (it.hasNext()) {
+					page.add(it.next());
+					if (page.size() == pageSize) {
+						pages.put(page);
+						page = new ArrayList<>();
+					}
+				}
+				if (!page.isEmpty()) {
+					pages.put(page);
+				}
+				// An empty page marks the end of the elements
+				pages.put(new ArrayList<>());
+			}
+			return null;
+		});
+	}
+
+	/**
+	 * Return the next page. This will block until the page has been read.
+	 *
+	 * @return Next page or an empty list once all elements have been read
+	 * @throws InterruptedException
+	 * @throws ExecutionException
+	 *             Reading the elements failed
+	 */
+	public List<T> nextPage() throws InterruptedException, ExecutionException {
+		while (!finished) {
+			List<T> page = pages.poll(1, TimeUnit.SECONDS);
+			if (page == null && readerResult.isDone()) {
+				// Fail if the reader failed. Otherwise the last page has been added in the meantime.
+				readerResult.get();
+				page = pages.poll();
+				if (page == null) {
+					page = new ArrayList<>();
+				}
+			}
+			if (page != null) {
+				finished = page.isEmpty();
+				return page;
+			}
+		}
+		return new ArrayList<>();
+	}
+
+	/**
+	 * Stop the reader. The elements which have not yet been read will be skipped.
+	 */
+	@Override
+	public void close() {
+		reader.shutdownNow();
+	}
+
+}
@@ -0,0 +1,119 @@
+package com.gentics.mesh.core.binary;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+
+import org.junit.Test;
+
+import com.gentics.mesh.core.data.NodeGraphFieldContainer;
+import com.gentics.mesh.core.data.binary.Binary;
+import com.gentics.mesh.core.endpoint.admin.consistency.ConsistencyCheckResult;
+import com.gentics.mesh.core.endpoint.admin.consistency.check.BinaryCheck;
+import com.gentics.mesh.storage.LocalBinaryStorage;
+import com.gentics.mesh.test.TestSize;
+import com.gentics.mesh.test.context.AbstractMeshTest;
+import com.gentics.mesh.test.context.MeshTestSetting;
+
+import io.reactivex.Flowable;
+import io.vertx.core.buffer.Buffer;
+
+@MeshTestSetting(useElasticsearch = false, testSize = TestSize.PROJECT_AND_NODE, startServer = false)
+public class BinaryGarbageCollectorTest extends AbstractMeshTest {
+
+	private static final String HASH = "someHash";
+
+	private static final String FIELD_NAME = "binary";
+
+	@Test
+	public void testCollectUnreferencedBinary() {
+		BinaryGarbageCollector gc = meshDagger().binaryGarbageCollector();
+
+		String binaryUuid = tx(() -> {
+			Binary binary = meshRoot().getBinaryRoot().create(HASH, 4L);
+			meshDagger().binaryStorage().store(Flowable.just(Buffer.buffer("data")), binary.getUuid()).blockingAwait();
+			folder("2015").getLatestDraftFieldContainer(english()).createBinary(FIELD_NAME, binary);
+			content().getLatestDraftFieldContainer(english()).createBinary(FIELD_NAME, binary);
+			assertEquals(2, binary.getReferenceCount());
+			return binary.getUuid();
+		});
+		File binaryFile = new File(LocalBinaryStorage.getFilePath(binaryUuid));
+		assertTrue("The binary data should have been stored.", binaryFile.exists());
+
+		// Remove the first reference
+		tx(() -> {
+			NodeGraphFieldContainer container = folder("2015").getLatestDraftFieldContainer(english());
+			container.getBinary(FIELD_NAME).removeField(container);
+			Binary binary = meshRoot().getBinaryRoot().findByHash(HASH);
+			assertEquals(1, binary.getReferenceCount());
+			assertFalse(binary.isUnreferenced());
+		});
+		assertEquals("The binary is still in use and must not be removed.", 0, gc.collect());
+
+		// Remove the last reference and add a new one before the garbage collection runs
+		tx(() -> {
+			NodeGraphFieldContainer container = content().getLatestDraftFieldContainer(english());
+			container.getBinary(FIELD_NAME).removeField(container);
+			Binary binary = meshRoot().getBinaryRoot().findByHash(HASH);
+			assertEquals(0, binary.getReferenceCount());
+			assertTrue(binary.isUnreferenced());
+			container.createBinary(FIELD_NAME, binary);
+			assertFalse(binary.isUnreferenced());
+		});
+		assertEquals("The binary is referenced again and must not be removed.", 0, gc.collect());
+		assertTrue(binaryFile.exists());
+
+		// Remove the reference for good
+		tx(() -> {
+			NodeGraphFieldContainer container = content().getLatestDraftFieldContainer(english());
+			container.getBinary(FIELD_NAME).removeField(container);
+		});
+		tx(() -> {
+			assertNotNull("The binary must only be removed by the garbage collector.", meshRoot().getBinaryRoot().findByHash(HASH));
+		});
+		assertEquals(1, gc.collect());
+		tx(() -> {
+			assertNull("The binary should have been removed.", meshRoot().getBinaryRoot().findByHash(HASH));
+		});
+		assertFalse("The binary data should have been removed.", binaryFile.exists());
+	}
+
+	@Test
+	public void testConsistencyCheckSkipsUnreferencedBinary() {
+		tx(tx -> {
+			Binary binary = meshRoot().getBinaryRoot().create(HASH, 4L);
+			NodeGraphFieldContainer container = content().getLatestDraftFieldContainer(english());
+			container.createBinary(FIELD_NAME, binary);
+			container.getBinary(FIELD_NAME).removeField(container);
+			assertTrue(binary.isUnreferenced());
+
+			// The garbage collector has not yet collected the binary
+			ConsistencyCheckResult result = new BinaryCheck().invoke(db(), tx, true);
+			assertTrue("Binaries which wait for the garbage collector must not be reported.", result.getResults().isEmpty());
+			assertNotNull(meshRoot().getBinaryRoot().findByHash(HASH));
+		});
+		assertEquals(1, meshDagger().binaryGarbageCollector().collect());
+	}
+
+	@Test
+	public void testLegacyBinaryWithoutReferenceCount() {
+		tx(() -> {
+			Binary binary = meshRoot().getBinaryRoot().create(HASH, 4L);
+			NodeGraphFieldContainer container = content().getLatestDraftFieldContainer(english());
+			container.createBinary(FIELD_NAME, binary);
+			// Binaries which were created by older versions have no reference count
+			binary.setProperty(Binary.BINARY_REFERENCE_COUNT_PROPERTY_KEY, null);
+			assertEquals("The count should be determined by examining the fields.", 1, binary.getReferenceCount());
+
+			container.getBinary(FIELD_NAME).removeField(container);
+			assertEquals(0, binary.getReferenceCount());
+			assertTrue(binary.isUnreferenced());
+		});
+		assertEquals(1, meshDagger().binaryGarbageCollector().collect());
+	}
+
+}
@@ -0,0 +1,148 @@
+package com.gentics.mesh.core.binary;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+import org.apache.commons.io.FileUtils;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.gentics.mesh.core.data.node.field.BinaryGraphField;
+import com.gentics.mesh.core.rest.error.GenericRestException;
+import com.gentics.mesh.storage.BinaryStorage;
+
+import io.reactivex.Completable;
+import io.reactivex.Flowable;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.ext.web.FileUpload;
+
+public class BinaryUploadPipelineTest {
+
+	private File sourceFile;
+
+	private byte[] data;
+
+	@Before
+	public void setup() throws IOException {
+		// The data must exceed the buffers of the pipeline
+		data = new byte[3 * 1024 * 1024 + 17];
+		new Random(42).nextBytes(data);
+		sourceFile = File.createTempFile("upload", ".bin");
+		FileUtils.writeByteArrayToFile(sourceFile, data);
+	}
+
+	@After
+	public void cleanup() {
+		sourceFile.delete();
+	}
+
+	@Test
+	public void testSinglePass() throws Exception {
+		ByteArrayOutputStream stored = new ByteArrayOutputStream();
+		BinaryStorage storage = mockStorage(stored);
+
+		AtomicLong readBytes = new AtomicLong();
+		BinaryDataProcessor fullReader = mockProcessor(ins -> {
+			byte[] buffer = new byte[1000];
+			int len;
+			while ((len = ins.read(buffer)) != -1) {
+				readBytes.addAndGet(len);
+			}
+			return field -> field.setFileName("full");
+		});
+		// A processor which stops reading must not block the other consumers
+		BinaryDataProcessor partialReader = mockProcessor(ins -> {
+			ins.read(new byte[10]);
+			return field -> field.setMimeType("partial");
+		});
+		BinaryProcessorRegistry registry = mock(BinaryProcessorRegistry.class);
+		when(registry.getProcessors(anyString())).thenReturn(Arrays.asList(fullReader, partialReader));
+
+		BinaryUploadPipeline pipeline = new BinaryUploadPipeline(registry, storage);
+		BinaryUploadPipeline.Result result = pipeline.process(mockUpload(), "binaryUuid");
+
+		assertEquals("The hash should match the hash of the file.", com.gentics.mesh.util.FileUtils.hash(sourceFile.getAbsolutePath()), result
+			.getHash());
+		assertArrayEquals("The stored data should match the uploaded data.", data, stored.toByteArray());
+		assertEquals(data.length, readBytes.get());
+
+		BinaryGraphField field = mock(BinaryGraphField.class);
+		result.applyTo(field);
+		verify(field).setFileName("full");
+		verify(field).setMimeType("partial");
+	}
+
+	@Test(expected = GenericRestException.class)
+	public void testMissingUpload() throws Exception {
+		BinaryStorage storage = mockStorage(new ByteArrayOutputStream());
+		when(storage.purgeTemporaryUpload("binaryUuid")).thenReturn(Completable.complete());
+		BinaryProcessorRegistry registry = mock(BinaryProcessorRegistry.class);
+		when(registry.getProcessors(anyString())).thenReturn(Collections.emptyList());
+
+		sourceFile.delete();
+		try {
+			new BinaryUploadPipeline(registry, storage).process(mockUpload(), "binaryUuid");
+		} finally {
+			verify(storage).purgeTemporaryUpload("binaryUuid");
+		}
+	}
+
+	private FileUpload mockUpload() {
+		FileUpload upload = mock(FileUpload.class);
+		when(upload.fileName()).thenReturn("upload.bin");
+		when(upload.contentType()).thenReturn("application/octet-stream");
+		when(upload.size()).thenReturn((long) data.length);
+		when(upload.uploadedFileName()).thenReturn(sourceFile.getAbsolutePath());
+		return upload;
+	}
+
+	@SuppressWarnings("unchecked")
+	private BinaryStorage mockStorage(ByteArrayOutputStream target) {
+		BinaryStorage storage = mock(BinaryStorage.class);
+		// The data must only be placed in the temporary location. It gets moved once it has been assigned to a new binary.
+		when(storage.storeInTemp(any(Flowable.class), anyString())).thenAnswer(invocation -> {
+			Flowable<Buffer> stream = invocation.getArgumentAt(0, Flowable.class);
+			return stream.doOnNext(buffer -> target.write(buffer.getBytes())).ignoreElements();
+		});
+		return storage;
+	}
+
+	private BinaryDataProcessor mockProcessor(StreamReader reader) {
+		return new AbstractBinaryProcessor() {
+			@Override
+			public boolean accepts(String contentType) {
+				return true;
+			}
+
+			@Override
+			public Consumer<BinaryGraphField> process(FileUpload upload, InputStream data) {
+				try {
+					return reader.read(data);
+				} catch (IOException e) {
+					throw new RuntimeException(e);
+				}
+			}
+		};
+	}
+
+	@FunctionalInterface
+	private interface StreamReader {
+		Consumer<BinaryGraphField> read(InputStream ins) throws IOException;
+	}
+}
@@ -0,0 +1,92 @@
+package com.gentics.mesh.core.binary;
+
+import static com.gentics.mesh.core.rest.admin.migration.MigrationStatus.COMPLETED;
+import static com.gentics.mesh.test.ClientHelper.call;
+import static com.gentics.mesh.test.TestSize.FULL;
+import static io.netty.handler.codec.http.HttpResponseStatus.FORBIDDEN;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.After;
+import org.junit.Test;
+
+import com.gentics.mesh.Mesh;
+import com.gentics.mesh.core.rest.admin.migration.MigrationType;
+import com.gentics.mesh.core.rest.job.JobResponse;
+import com.gentics.mesh.core.rest.node.NodeResponse;
+import com.gentics.mesh.parameter.ImageManipulationParameters;
+import com.gentics.mesh.parameter.impl.ImageManipulationParametersImpl;
+import com.gentics.mesh.test.context.AbstractMeshTest;
+import com.gentics.mesh.test.context.MeshTestSetting;
+
+@MeshTestSetting(useElasticsearch = false, testSize = FULL, startServer = true)
+public class ImageVariantGeneratorTest extends AbstractMeshTest {
+
+	@After
+	public void clearPresets() {
+		Mesh.mesh().getOptions().getImageOptions().getVariantPresets().clear();
+	}
+
+	@Test
+	public void testPresets() {
+		Mesh.mesh().getOptions().getImageOptions()
+			.addVariantPresets("folder", Arrays.asList("w=100"))
+			.addVariantPresets("folder.image", Arrays.asList("w=50&h=60&crop=focalpoint"));
+		ImageVariantGenerator generator = meshDagger().imageVariantGenerator();
+
+		List<ImageManipulationParameters> presets = generator.getPresets("folder", "image");
+		assertEquals(2, presets.size());
+		assertEquals(100, presets.get(0).getWidth().intValue());
+		assertEquals(60, presets.get(1).getHeight().intValue());
+		assertEquals("Only the presets of the schema should be used", 1, generator.getPresets("folder", "otherImage").size());
+		assertTrue(generator.getPresets("content", "image").isEmpty());
+	}
+
+	@Test
+	public void testCreateVariantsOnUpload() throws Exception {
+		Mesh.mesh().getOptions().getImageOptions().addVariantPresets("folder.image", Arrays.asList("w=100", "w=50&h=50"));
+
+		NodeResponse response = db().tx(() -> uploadImage(folder("news"), "en", "image"));
+		String hash = response.getFields().getBinaryField("image").getSha512sum();
+
+		waitForVariant(hash, new ImageManipulationParametersImpl().setWidth(100));
+		waitForVariant(hash, new ImageManipulationParametersImpl().setWidth(50).setHeight(50));
+	}
+
+	@Test
+	public void testRebuildVariants() throws Exception {
+		NodeResponse response = db().tx(() -> uploadImage(folder("news"), "en", "image"));
+		String hash = response.getFields().getBinaryField("image").getSha512sum();
+		ImageManipulationParameters params = new ImageManipulationParametersImpl().setWidth(120);
+		assertFalse("No presets were configured during the upload", meshDagger().imageManipulator().getCacheFile(hash, params).exists());
+
+		call(() -> client().rebuildImageVariants(), FORBIDDEN, "error_admin_permission_required");
+		grantAdminRole();
+
+		Mesh.mesh().getOptions().getImageOptions().addVariantPresets("folder", Arrays.asList("w=120"));
+		JobResponse job = call(() -> client().rebuildImageVariants());
+		assertEquals(MigrationType.imagevariant, job.getType());
+		String jobUuid = job.getUuid();
+		triggerAndWaitForJob(jobUuid, COMPLETED);
+
+		job = call(() -> client().findJobByUuid(jobUuid));
+		assertTrue("The uploaded binary should have been processed", job.getCompletionCount() >= 1);
+		assertTrue("The variant should have been created", meshDagger().imageManipulator().getCacheFile(hash, params).exists());
+	}
+
+	private void waitForVariant(String hash, ImageManipulationParameters params) throws InterruptedException {
+		for (int i = 0; i < 100; i++) {
+			if (meshDagger().imageManipulator().getCacheFile(hash, params).exists()) {
+				return;
+			}
+			Thread.sleep(100);
+		}
+		fail("The variant {" + params.getCacheKey() + "} was not created in time");
+	}
+
+}
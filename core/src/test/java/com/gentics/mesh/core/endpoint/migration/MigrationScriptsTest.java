@@ -0,0 +1,51 @@
+package com.gentics.mesh.core.endpoint.migration;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.Arrays;
+
+import org.junit.Test;
+
+import com.gentics.mesh.util.Tuple;
+
+import io.vertx.core.json.JsonObject;
+
+public class MigrationScriptsTest {
+
+	private static final String RENAME_SCRIPT = "function migrate(node, fieldname, convert) {\n"
+		+ "	node.fields[fieldname + '_new'] = node.fields[fieldname];\n"
+		+ "	delete node.fields[fieldname];\n"
+		+ "	return node;\n"
+		+ "}";
+
+	@Test
+	public void testApplyScripts() throws Exception {
+		MigrationScripts scripts = new MigrationScripts();
+		scripts.add(RENAME_SCRIPT, Arrays.asList(Tuple.tuple("fieldname", "title")));
+		scripts.add("function migrate(node, fieldname, convert) {\n"
+			+ "	node.fields[fieldname] = convert.toString(42);\n"
+			+ "	return node;\n"
+			+ "}", Arrays.asList(Tuple.tuple("fieldname", "number")));
+
+		// The compiled scripts must be reusable for multiple containers
+		for (int i = 0; i < 3; i++) {
+			String json = new JsonObject().put("fields", new JsonObject().put("title", "Title" + i)).encode();
+			JsonObject result = new JsonObject(scripts.apply(json));
+			assertEquals("Title" + i, result.getJsonObject("fields").getString("title_new"));
+			assertEquals("42", result.getJsonObject("fields").getString("number"));
+		}
+	}
+
+	@Test
+	public void testNoScripts() throws Exception {
+		String json = new JsonObject().put("fields", new JsonObject()).encode();
+		assertEquals(json, new MigrationScripts().apply(json));
+	}
+
+	@Test(expected = Exception.class)
+	public void testMissingResult() throws Exception {
+		MigrationScripts scripts = new MigrationScripts();
+		scripts.add("function migrate(node, fieldname, convert) {}", null);
+		scripts.apply("{}");
+	}
+}
@@ -487,6 +487,7 @@ public class BinaryFieldUploadEndpointTest extends AbstractMeshTest {
 		}
 
 		call(() -> client().deleteNode(PROJECT_NAME, uuid, new DeleteParametersImpl().setRecursive(true)));
+		meshDagger().binaryGarbageCollector().collect();
 		try (Tx tx = tx()) {
 			assertNull("The binary for the hash should have also been removed since only one node used the binary.", meshRoot().getBinaryRoot()
 				.findByHash(hash));
@@ -585,6 +586,7 @@ public class BinaryFieldUploadEndpointTest extends AbstractMeshTest {
 
 		// Now delete nodeA
 		call(() -> client().deleteNode(PROJECT_NAME, uuidA, new DeleteParametersImpl().setRecursive(true)));
+		meshDagger().binaryGarbageCollector().collect();
 		try (Tx tx = tx()) {
 			assertNotNull("The binary for the hash should not have been removed since it is still in use.", meshRoot().getBinaryRoot().findByHash(
 				hashA));
@@ -593,6 +595,7 @@ public class BinaryFieldUploadEndpointTest extends AbstractMeshTest {
 
 		// Now delete nodeB
 		call(() -> client().deleteNode(PROJECT_NAME, uuidB, new DeleteParametersImpl().setRecursive(true)));
+		meshDagger().binaryGarbageCollector().collect();
 
 		try (Tx tx = tx()) {
 			assertNull("The binary for the hash should have also been removed since only one node used the binary.", meshRoot().getBinaryRoot()
@@ -0,0 +1,92 @@
+package com.gentics.mesh.core.graphql;
+
+import static com.gentics.mesh.core.data.relationship.GraphPermission.READ_PERM;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyListOf;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import com.gentics.mesh.context.InternalActionContext;
+import com.gentics.mesh.core.data.MeshAuthUser;
+import com.gentics.mesh.core.data.NodeGraphFieldContainer;
+import com.gentics.mesh.core.data.node.Node;
+import com.gentics.mesh.core.data.root.NodeRoot;
+import com.gentics.mesh.graphql.context.GraphQLContext;
+import com.gentics.mesh.graphql.context.impl.GraphQLContextImpl;
+
+import io.vertx.ext.web.RoutingContext;
+
+/**
+ * Verifies that repeated lookups within a single GraphQL request only reach the graph once.
+ */
+public class GraphQLContextImplTest {
+
+	private RoutingContext rc;
+
+	private MeshAuthUser user;
+
+	private GraphQLContext gc;
+
+	@Before
+	public void setup() {
+		rc = mock(RoutingContext.class);
+		user = mock(MeshAuthUser.class);
+		when(rc.user()).thenReturn(user);
+		gc = new GraphQLContextImpl(rc);
+	}
+
+	@Test
+	public void testFindNodesByUuid() {
+		NodeRoot root = mock(NodeRoot.class);
+		Node node = mock(Node.class);
+		when(root.findByUuid("existing")).thenReturn(node);
+
+		Map<String, Node> result = gc.findNodesByUuid(root, Arrays.asList("existing", "missing", "existing"));
+		assertEquals(1, result.size());
+		assertSame(node, result.get("existing"));
+
+		// A second field of the same query references the same nodes
+		result = gc.findNodesByUuid(root, Arrays.asList("missing", "existing"));
+		assertSame(node, result.get("existing"));
+
+		verify(root, times(1)).findByUuid("existing");
+		verify(root, times(1)).findByUuid("missing");
+	}
+
+	@Test
+	public void testFindVersion() {
+		Node node = mock(Node.class);
+		NodeGraphFieldContainer container = mock(NodeGraphFieldContainer.class);
+		List<String> languageTags = Arrays.asList("en");
+		when(node.id()).thenReturn("nodeId");
+		when(node.findVersion(any(InternalActionContext.class), anyListOf(String.class))).thenReturn(container);
+
+		assertSame(container, gc.findVersion(node, languageTags));
+		assertSame(container, gc.findVersion(node, Arrays.asList("en")));
+		verify(node, times(1)).findVersion(any(InternalActionContext.class), anyListOf(String.class));
+	}
+
+	@Test
+	public void testHasPermission() {
+		Node node = mock(Node.class);
+		when(node.id()).thenReturn("nodeId");
+		when(user.hasPermission(node, READ_PERM)).thenReturn(true);
+
+		assertTrue(gc.hasPermission(node, READ_PERM));
+		assertTrue(gc.hasPermission(node, READ_PERM));
+		verify(user, times(1)).hasPermission(node, READ_PERM);
+	}
+
+}
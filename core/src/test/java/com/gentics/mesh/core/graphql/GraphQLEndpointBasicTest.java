@@ -1,9 +1,11 @@
 package com.gentics.mesh.core.graphql;
 
 import static com.gentics.mesh.assertj.MeshAssertions.assertThat;
+import static com.gentics.mesh.graphql.cache.GraphQLQueryCache.PERSISTED_QUERY_NOT_FOUND;
 import static com.gentics.mesh.test.ClientHelper.call;
 import static com.gentics.mesh.test.TestDataProvider.PROJECT_NAME;
 import static org.assertj.core.api.Assertions.assertThat;
+import static io.netty.handler.codec.http.HttpResponseStatus.BAD_REQUEST;
 import static org.junit.Assert.assertEquals;
 
 import java.io.IOException;
@@ -14,6 +16,7 @@ import org.junit.Test;
 import com.gentics.mesh.core.data.schema.MicroschemaContainer;
 import com.gentics.mesh.core.rest.graphql.GraphQLRequest;
 import com.gentics.mesh.core.rest.graphql.GraphQLResponse;
+import com.gentics.mesh.graphql.cache.GraphQLQueryCache;
 import com.gentics.mesh.test.TestSize;
 import com.gentics.mesh.test.context.AbstractMeshTest;
 import com.gentics.mesh.test.context.MeshTestSetting;
@@ -70,6 +73,34 @@ public class GraphQLEndpointBasicTest extends AbstractMeshTest {
 		assertThat(uuid).isNotEmpty();
 	}
 
+	@Test
+	public void testPersistedQuery() throws JSONException {
+		String query = "{me{firstname}}";
+		JsonObject extensions = new JsonObject().put("persistedQuery", new JsonObject().put("version", 1).put("sha256Hash", GraphQLQueryCache.hash(
+			query)));
+
+		// The hash is not yet known
+		GraphQLRequest hashOnlyRequest = new GraphQLRequest().setExtensions(extensions);
+		GraphQLResponse response = call(() -> client().graphql(PROJECT_NAME, hashOnlyRequest));
+		assertEquals(PERSISTED_QUERY_NOT_FOUND, response.getErrors().get(0).getMessage());
+
+		// Register the query by sending it along with the hash
+		GraphQLRequest fullRequest = new GraphQLRequest().setQuery(query).setExtensions(extensions);
+		response = call(() -> client().graphql(PROJECT_NAME, fullRequest));
+		MeshJSONAssert.assertEquals("{'me':{'firstname':'Joe'}}", response.getData());
+
+		// Now the hash is sufficient
+		response = call(() -> client().graphql(PROJECT_NAME, hashOnlyRequest));
+		MeshJSONAssert.assertEquals("{'me':{'firstname':'Joe'}}", response.getData());
+	}
+
+	@Test
+	public void testPersistedQueryHashMismatch() {
+		JsonObject extensions = new JsonObject().put("persistedQuery", new JsonObject().put("version", 1).put("sha256Hash", "bogus"));
+		GraphQLRequest request = new GraphQLRequest().setQuery("{me{firstname}}").setExtensions(extensions);
+		call(() -> client().graphql(PROJECT_NAME, request), BAD_REQUEST, "graphql_error_persisted_query_hash_mismatch", "bogus");
+	}
+
 	@Test
 	public void testConcurrentQuery() {
 		Flowable<Completable> calls = Single.fromCallable(() ->
@@ -0,0 +1,76 @@
+package com.gentics.mesh.core.graphql;
+
+import static com.gentics.mesh.core.rest.admin.migration.MigrationStatus.COMPLETED;
+import static com.gentics.mesh.metric.Metrics.GRAPHQL_SCHEMA_CACHE_HIT;
+import static com.gentics.mesh.metric.Metrics.GRAPHQL_SCHEMA_CACHE_MISS;
+import static com.gentics.mesh.test.ClientHelper.call;
+import static com.gentics.mesh.test.TestDataProvider.PROJECT_NAME;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+import com.codahale.metrics.Meter;
+import com.codahale.metrics.MetricRegistry;
+import com.codahale.metrics.SharedMetricRegistries;
+import com.gentics.mesh.FieldUtil;
+import com.gentics.mesh.core.rest.graphql.GraphQLResponse;
+import com.gentics.mesh.core.rest.schema.impl.SchemaUpdateRequest;
+import com.gentics.mesh.json.JsonUtil;
+import com.gentics.mesh.test.TestSize;
+import com.gentics.mesh.test.context.AbstractMeshTest;
+import com.gentics.mesh.test.context.MeshTestSetting;
+
+@MeshTestSetting(useElasticsearch = false, testSize = TestSize.FULL, startServer = true)
+public class GraphQLSchemaCacheTest extends AbstractMeshTest {
+
+	private static final String FILTER_QUERY = "{nodes(filter: {schema: {is: folder}}) {elements {uuid}}}";
+
+	private final MetricRegistry registry = SharedMetricRegistries.getOrCreate("mesh");
+
+	@Test
+	public void testSchemaReuse() {
+		query(FILTER_QUERY);
+		long hits = hits().getCount();
+		long misses = misses().getCount();
+
+		// The filters of the cached schema must not depend on the first request
+		GraphQLResponse response = query(FILTER_QUERY);
+		assertFalse(response.getData().getJsonObject("nodes").getJsonArray("elements").isEmpty());
+		assertEquals("The cached schema should have been reused", hits + 1, hits().getCount());
+		assertEquals(misses, misses().getCount());
+	}
+
+	@Test
+	public void testInvalidationOnSchemaUpdate() {
+		query("{me{firstname}}");
+		long misses = misses().getCount();
+
+		tx(() -> group().addRole(roles().get("admin")));
+		String uuid = tx(() -> schemaContainer("content").getUuid());
+		String json = tx(() -> schemaContainer("content").getLatestVersion().getJson());
+		SchemaUpdateRequest request = JsonUtil.readValue(json, SchemaUpdateRequest.class);
+		request.addField(FieldUtil.createHtmlFieldSchema("someHtml"));
+		waitForJobs(() -> {
+			call(() -> client().updateSchema(uuid, request));
+		}, COMPLETED, 1);
+
+		GraphQLResponse response = query("{nodes {elements {uuid ... on content {fields {someHtml}}}}}");
+		assertTrue("The new field should be part of the rebuilt schema", response.getErrors() == null || response.getErrors().isEmpty());
+		assertEquals("The schema should have been rebuilt after the update", misses + 1, misses().getCount());
+	}
+
+	private GraphQLResponse query(String query) {
+		return call(() -> client().graphqlQuery(PROJECT_NAME, query));
+	}
+
+	private Meter hits() {
+		return registry.meter(GRAPHQL_SCHEMA_CACHE_HIT.key());
+	}
+
+	private Meter misses() {
+		return registry.meter(GRAPHQL_SCHEMA_CACHE_MISS.key());
+	}
+
+}
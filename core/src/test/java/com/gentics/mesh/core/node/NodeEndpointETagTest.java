@@ -1,5 +1,7 @@
 package com.gentics.mesh.core.node;
 
+import static com.gentics.mesh.core.data.relationship.GraphPermission.READ_PERM;
+import static com.gentics.mesh.core.data.relationship.GraphPermission.READ_PUBLISHED_PERM;
 import static com.gentics.mesh.test.ClientHelper.call;
 import static com.gentics.mesh.test.ClientHelper.callETag;
 import static com.gentics.mesh.test.ClientHelper.callETagRaw;
@@ -174,4 +176,72 @@ public class NodeEndpointETagTest extends AbstractMeshTest {
 
 	}
 
+	@Test
+	public void testStructureChanges() {
+		String parentUuid = tx(() -> folder("2015").getUuid());
+		String parentETag = callETag(() -> client().findNodeByUuid(PROJECT_NAME, parentUuid));
+
+		// Create a new child node
+		NodeCreateRequest request = new NodeCreateRequest();
+		request.setLanguage("en");
+		request.setParentNode(new NodeReference().setUuid(parentUuid));
+		request.setSchema(new SchemaReferenceImpl().setName("content"));
+		request.getFields().put("teaser", FieldUtil.createStringField("someTeaser"));
+		request.getFields().put("slug", FieldUtil.createStringField("someSlug"));
+		NodeResponse child = call(() -> client().createNode(PROJECT_NAME, request));
+
+		// The children of the parent changed
+		String newParentETag = callETag(() -> client().findNodeByUuid(PROJECT_NAME, parentUuid), parentETag, true, 200);
+		assertNotEquals("The etag of the parent must change once a child has been added.", parentETag, newParentETag);
+		String childETag = callETag(() -> client().findNodeByUuid(PROJECT_NAME, child.getUuid()));
+		callETag(() -> client().findNodeByUuid(PROJECT_NAME, child.getUuid()), childETag, true, 304);
+
+		// Update the display name of the parent. The breadcrumb of the child changes.
+		NodeResponse parent = call(() -> client().findNodeByUuid(PROJECT_NAME, parentUuid));
+		NodeUpdateRequest updateRequest = new NodeUpdateRequest();
+		updateRequest.setLanguage("en");
+		updateRequest.setVersion(parent.getVersion());
+		updateRequest.getFields().put("name", FieldUtil.createStringField("2015-renamed"));
+		call(() -> client().updateNode(PROJECT_NAME, parentUuid, updateRequest));
+		callETag(() -> client().findNodeByUuid(PROJECT_NAME, child.getUuid()), childETag, true, 200);
+
+		// Delete the child again
+		String parentETagAfterUpdate = callETag(() -> client().findNodeByUuid(PROJECT_NAME, parentUuid));
+		call(() -> client().deleteNode(PROJECT_NAME, child.getUuid()));
+		callETag(() -> client().findNodeByUuid(PROJECT_NAME, parentUuid), parentETagAfterUpdate, true, 200);
+	}
+
+	@Test
+	public void testChildPermissionChanges() {
+		String parentUuid = tx(() -> folder("2015").getUuid());
+		NodeCreateRequest request = new NodeCreateRequest();
+		request.setLanguage("en");
+		request.setParentNode(new NodeReference().setUuid(parentUuid));
+		request.setSchema(new SchemaReferenceImpl().setName("content"));
+		request.getFields().put("teaser", FieldUtil.createStringField("someTeaser"));
+		request.getFields().put("slug", FieldUtil.createStringField("someSlug"));
+		NodeResponse child = call(() -> client().createNode(PROJECT_NAME, request));
+		String parentETag = callETag(() -> client().findNodeByUuid(PROJECT_NAME, parentUuid));
+
+		// The child is no longer visible and thus the children info of the parent changes
+		tx(() -> role().revokePermissions(meshRoot().getNodeRoot().findByUuid(child.getUuid()), READ_PERM, READ_PUBLISHED_PERM));
+		callETag(() -> client().findNodeByUuid(PROJECT_NAME, parentUuid), parentETag, true, 200);
+	}
+
+	@Test
+	public void testTagChanges() {
+		String nodeUuid = contentUuid();
+		String tagUuid = tx(() -> tag("red").getUuid());
+		String tagFamilyUuid = tx(() -> tagFamily("colors").getUuid());
+		String etag = callETag(() -> client().findNodeByUuid(PROJECT_NAME, nodeUuid));
+
+		// The tags of the node are part of the response
+		call(() -> client().addTagToNode(PROJECT_NAME, nodeUuid, tagUuid));
+		String taggedETag = callETag(() -> client().findNodeByUuid(PROJECT_NAME, nodeUuid), etag, true, 200);
+
+		// The name of the tag is part of the response
+		updateTag(PROJECT_NAME, tagFamilyUuid, tagUuid, "red-renamed");
+		callETag(() -> client().findNodeByUuid(PROJECT_NAME, nodeUuid), taggedETag, true, 200);
+	}
+
 }
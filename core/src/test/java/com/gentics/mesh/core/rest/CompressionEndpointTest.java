@@ -0,0 +1,54 @@
+package com.gentics.mesh.core.rest;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+
+import org.junit.Test;
+
+import com.gentics.mesh.etc.config.HttpServerConfig;
+import com.gentics.mesh.test.TestSize;
+import com.gentics.mesh.test.context.AbstractMeshTest;
+import com.gentics.mesh.test.context.MeshTestSetting;
+
+import io.vertx.core.http.HttpHeaders;
+import okhttp3.Request;
+import okhttp3.Response;
+
+@MeshTestSetting(useElasticsearch = false, testSize = TestSize.PROJECT, startServer = true)
+public class CompressionEndpointTest extends AbstractMeshTest {
+
+	@Test
+	public void testSmallResponse() throws IOException {
+		try (Response response = gzipGet("/api/v1/admin/status")) {
+			assertEquals(200, response.code());
+			long length = Long.parseLong(response.header(HttpHeaders.CONTENT_LENGTH.toString()));
+			assertTrue("The response should be smaller than the minimum size", length < HttpServerConfig.DEFAULT_COMPRESSION_MIN_SIZE);
+			assertNotEquals("Small responses should not be compressed", "gzip", response.header(HttpHeaders.CONTENT_ENCODING.toString()));
+		}
+	}
+
+	@Test
+	public void testLargeResponse() throws IOException {
+		try (Response response = gzipGet("/api/v1/schemas")) {
+			assertEquals(200, response.code());
+			assertEquals("Large JSON responses should be compressed", "gzip", response.header(HttpHeaders.CONTENT_ENCODING.toString()));
+		}
+	}
+
+	/**
+	 * Request the path with an explicit accept encoding header. This way the client will not decompress the response and the content encoding header
+	 * can be inspected.
+	 */
+	private Response gzipGet(String path) throws IOException {
+		Request request = new Request.Builder()
+			.url(prepareUrl(path))
+			.addHeader("Cookie", "mesh.token=" + client().getAuthentication().getToken())
+			.addHeader(HttpHeaders.ACCEPT_ENCODING.toString(), "gzip")
+			.build();
+		return httpClient().newCall(request).execute();
+	}
+
+}
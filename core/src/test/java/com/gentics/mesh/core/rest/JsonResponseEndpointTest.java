@@ -0,0 +1,49 @@
+package com.gentics.mesh.core.rest;
+
+import static com.gentics.mesh.metric.Metrics.JSON_RESPONSE_SIZE;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+
+import org.junit.Test;
+
+import com.gentics.mesh.dagger.MeshInternal;
+import com.gentics.mesh.metric.MetricsService;
+import com.gentics.mesh.parameter.impl.GenericParametersImpl;
+import com.gentics.mesh.test.TestSize;
+import com.gentics.mesh.test.context.AbstractMeshTest;
+import com.gentics.mesh.test.context.MeshTestSetting;
+
+import io.vertx.core.json.JsonObject;
+
+@MeshTestSetting(useElasticsearch = false, testSize = TestSize.PROJECT, startServer = true)
+public class JsonResponseEndpointTest extends AbstractMeshTest {
+
+	@Test
+	public void testPrettyParameter() throws IOException {
+		String path = "/api/v1/users/" + userUuid();
+		String token = client().getAuthentication().getToken();
+
+		String compact = httpGetNow(path, token);
+		assertFalse("The response should not be indented by default", compact.contains("\n"));
+
+		String pretty = httpGetNow(path, token, new GenericParametersImpl().setPretty(true));
+		assertTrue("The response should be indented", pretty.contains("\n"));
+		assertEquals("Only the formatting should differ", new JsonObject(compact), new JsonObject(pretty));
+
+		String explicitCompact = httpGetNow(path, token, new GenericParametersImpl().setPretty(false));
+		assertFalse(explicitCompact.contains("\n"));
+	}
+
+	@Test
+	public void testResponseMetrics() throws IOException {
+		MetricsService metrics = MeshInternal.get().metrics();
+		long before = metrics.histogram(JSON_RESPONSE_SIZE).getCount();
+		httpGetNow("/api/v1/users/" + userUuid(), client().getAuthentication().getToken());
+		long expected = metrics.isEnabled() ? before + 1 : before;
+		assertEquals("The response size should only be recorded if metrics are enabled", expected, metrics.histogram(JSON_RESPONSE_SIZE).getCount());
+	}
+
+}
@@ -6,6 +6,7 @@ import static com.gentics.mesh.core.data.ContainerType.PUBLISHED;
 import static com.gentics.mesh.core.rest.admin.migration.MigrationStatus.COMPLETED;
 import static com.gentics.mesh.core.rest.admin.migration.MigrationStatus.FAILED;
 import static com.gentics.mesh.core.rest.admin.migration.MigrationStatus.QUEUED;
+import static com.gentics.mesh.metric.Metrics.NODE_MIGRATION_PENDING;
 import static com.gentics.mesh.test.ClientHelper.call;
 import static com.gentics.mesh.test.TestDataProvider.PROJECT_NAME;
 import static com.gentics.mesh.test.TestSize.FULL;
@@ -21,10 +22,12 @@ import java.util.List;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
+import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
 
 import com.gentics.mesh.FieldUtil;
+import com.gentics.mesh.Mesh;
 import com.gentics.mesh.context.InternalActionContext;
 import com.gentics.mesh.context.impl.InternalRoutingActionContextImpl;
 import com.gentics.mesh.core.data.Branch;
@@ -46,6 +49,7 @@ import com.gentics.mesh.core.data.schema.SchemaContainerVersion;
 import com.gentics.mesh.core.data.schema.impl.SchemaContainerImpl;
 import com.gentics.mesh.core.data.schema.impl.SchemaContainerVersionImpl;
 import com.gentics.mesh.core.data.schema.impl.UpdateFieldChangeImpl;
+import com.gentics.mesh.core.endpoint.migration.AbstractMigrationHandler;
 import com.gentics.mesh.core.rest.job.JobListResponse;
 import com.gentics.mesh.core.rest.microschema.impl.MicroschemaModelImpl;
 import com.gentics.mesh.core.rest.microschema.impl.MicroschemaUpdateRequest;
@@ -66,7 +70,9 @@ import com.gentics.mesh.core.rest.schema.impl.SchemaReferenceImpl;
 import com.gentics.mesh.core.rest.schema.impl.SchemaResponse;
 import com.gentics.mesh.core.rest.schema.impl.SchemaUpdateRequest;
 import com.gentics.mesh.dagger.MeshInternal;
+import com.gentics.mesh.etc.config.MigrationOptions;
 import com.gentics.mesh.json.JsonUtil;
+import com.gentics.mesh.metric.MetricsService;
 import com.gentics.mesh.parameter.impl.PublishParametersImpl;
 import com.gentics.mesh.parameter.impl.VersioningParametersImpl;
 import com.gentics.mesh.test.context.AbstractMeshTest;
@@ -74,6 +80,7 @@ import com.gentics.mesh.test.context.MeshTestSetting;
 import com.gentics.mesh.test.util.TestUtils;
 import com.gentics.mesh.util.IndexOptionHelper;
 import com.gentics.mesh.util.Tuple;
+import com.google.common.collect.Iterators;
 import com.syncleus.ferma.tx.Tx;
 
 import io.vertx.core.json.JsonObject;
@@ -81,10 +88,22 @@ import io.vertx.core.json.JsonObject;
 @MeshTestSetting(useElasticsearch = false, testSize = FULL, startServer = true, clusterMode = false)
 public class NodeMigrationEndpointTest extends AbstractMeshTest {
 
+	private int migrationThreads;
+
+	private int migrationChunkSize;
+
 	@Before
 	public void setup() {
 		// Grant admin perms. Otherwise we can't check the jobs
 		tx(() -> group().addRole(roles().get("admin")));
+		MigrationOptions options = Mesh.mesh().getOptions().getMigrationOptions();
+		migrationThreads = options.getThreads();
+		migrationChunkSize = options.getChunkSize();
+	}
+
+	@After
+	public void resetMigrationOptions() {
+		Mesh.mesh().getOptions().getMigrationOptions().setThreads(migrationThreads).setChunkSize(migrationChunkSize);
 	}
 
 	/**
@@ -458,6 +477,63 @@ public class NodeMigrationEndpointTest extends AbstractMeshTest {
 
 	}
 
+	@Test
+	public void testParallelChunkedMigration() throws Throwable {
+		MigrationOptions options = Mesh.mesh().getOptions().getMigrationOptions();
+		options.setThreads(4).setChunkSize(3);
+		Node node = content();
+		String schemaUuid = tx(() -> node.getSchemaContainer().getUuid());
+		SchemaContainerVersion versionA = tx(() -> node.getSchemaContainer().getLatestVersion());
+		long size = tx(() -> versionA.getFieldContainers(initialBranchUuid()).count());
+
+		waitForJobs(() -> {
+			SchemaUpdateRequest request = tx(() -> JsonUtil.readValue(versionA.getJson(), SchemaUpdateRequest.class));
+			request.addField(FieldUtil.createStringFieldSchema("extraField"));
+			call(() -> client().updateSchema(schemaUuid, request));
+		}, COMPLETED, 1);
+
+		try (Tx tx = tx()) {
+			SchemaContainerVersion versionB = node.getSchemaContainer().getLatestVersion();
+			assertNotEquals(versionA.getUuid(), versionB.getUuid());
+			assertFalse("All draft containers should have been migrated.", versionA.getDraftFieldContainers(initialBranchUuid()).hasNext());
+			assertEquals("All containers should have been migrated.", size, versionB.getFieldContainers(initialBranchUuid()).count());
+		}
+		MetricsService metrics = MeshInternal.get().metrics();
+		if (metrics.isEnabled()) {
+			assertEquals("No containers should be pending.", 0, metrics.resetableCounter(NODE_MIGRATION_PENDING).getCount());
+		}
+	}
+
+	@Test
+	public void testMigrateMultiplePages() throws Throwable {
+		int count = AbstractMigrationHandler.MIGRATION_PAGE_SIZE + 10;
+		String schemaUuid = tx(() -> schemaContainer("folder").getUuid());
+		SchemaContainerVersion versionA = tx(() -> schemaContainer("folder").getLatestVersion());
+		tx(() -> {
+			for (int i = 0; i < count; i++) {
+				Node node = folder("2015").create(user(), versionA, project());
+				NodeGraphFieldContainer container = node.createGraphFieldContainer("en", initialBranch(), user());
+				container.createString("name").setString("page_" + i);
+			}
+		});
+		long size = tx(() -> Iterators.size(versionA.getDraftFieldContainers(initialBranchUuid())));
+		assertTrue(size > AbstractMigrationHandler.MIGRATION_PAGE_SIZE);
+
+		waitForJobs(() -> {
+			SchemaUpdateRequest request = tx(() -> JsonUtil.readValue(versionA.getJson(), SchemaUpdateRequest.class));
+			request.addField(FieldUtil.createStringFieldSchema("extraField"));
+			call(() -> client().updateSchema(schemaUuid, request));
+		}, COMPLETED, 1);
+
+		try (Tx tx = tx()) {
+			SchemaContainerVersion versionB = schemaContainer("folder").getLatestVersion();
+			assertNotEquals(versionA.getUuid(), versionB.getUuid());
+			assertFalse("All draft containers should have been migrated.", versionA.getDraftFieldContainers(initialBranchUuid()).hasNext());
+			assertEquals("All draft containers should have been migrated.", size, Iterators.size(versionB.getDraftFieldContainers(
+				initialBranchUuid())));
+		}
+	}
+
 	@Test
 	public void testMigrateAgain() throws Throwable {
 		String fieldName = "changedfield";
@@ -20,6 +20,9 @@ import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 
+import java.util.Arrays;
+import java.util.Map;
+
 import org.junit.Test;
 
 import com.gentics.mesh.context.BulkActionContext;
@@ -44,6 +47,7 @@ import com.gentics.mesh.parameter.impl.PagingParametersImpl;
 import com.gentics.mesh.test.context.AbstractMeshTest;
 import com.gentics.mesh.test.context.MeshTestSetting;
 import com.gentics.mesh.test.util.TestUtils;
+import com.gentics.mesh.util.UUIDUtil;
 import com.google.common.collect.Iterables;
 import com.syncleus.ferma.tx.Tx;
 
@@ -225,6 +229,18 @@ public class UserTest extends AbstractMeshTest implements BasicObjectTestcases {
 		}
 	}
 
+	@Test
+	public void testFindByUuids() throws Exception {
+		try (Tx tx = tx()) {
+			String uuid = user().getUuid();
+			String groupUuid = group().getUuid();
+			String missingUuid = UUIDUtil.randomUUID();
+			Map<String, User> users = boot().userRoot().findByUuids(Arrays.asList(uuid, groupUuid, missingUuid, uuid));
+			assertEquals("Only the user should have been found", 1, users.size());
+			assertEquals(uuid, users.get(uuid).getUuid());
+		}
+	}
+
 	@Test
 	@Override
 	public void testTransformation() throws Exception {
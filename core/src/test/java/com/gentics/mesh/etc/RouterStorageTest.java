@@ -7,6 +7,7 @@ import org.junit.Test;
 import org.mockito.Mockito;
 
 import com.gentics.mesh.auth.MeshAuthChain;
+import com.gentics.mesh.core.data.search.SearchOutbox;
 import com.gentics.mesh.graphdb.spi.Database;
 import com.gentics.mesh.router.RouterStorage;
 
@@ -25,7 +26,9 @@ public class RouterStorageTest {
 		MeshAuthChain chain = Mockito.mock(MeshAuthChain.class);
 		RouterStorage storage = new RouterStorage(null, chain, null, null, null, () -> {
 			return Mockito.mock(Database.class);
-		});
+		}, () -> {
+			return Mockito.mock(SearchOutbox.class);
+		}, null);
 
 		RoutingContext rc = mock(RoutingContext.class);
 		Route currentRoute = mock(RouteImpl.class);
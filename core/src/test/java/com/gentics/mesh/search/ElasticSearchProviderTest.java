@@ -2,7 +2,10 @@ package com.gentics.mesh.search;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
 
 import java.io.IOException;
 import java.util.ArrayList;
@@ -13,8 +16,10 @@ import org.junit.Test;
 
 import com.gentics.elasticsearch.client.HttpErrorException;
 import com.gentics.mesh.core.data.search.bulk.BulkEntry;
+import com.gentics.mesh.core.data.search.bulk.DeleteBulkEntry;
 import com.gentics.mesh.core.data.search.bulk.IndexBulkEntry;
 import com.gentics.mesh.core.data.search.index.IndexInfo;
+import com.gentics.mesh.search.impl.BulkItemException;
 import com.gentics.mesh.search.impl.ElasticSearchProvider;
 import com.gentics.mesh.search.impl.SearchClient;
 import com.gentics.mesh.test.TestSize;
@@ -106,6 +111,32 @@ public class ElasticSearchProviderTest extends AbstractMeshTest {
 
 	}
 
+	/**
+	 * Assert that items which were rejected within a successful bulk request are returned as failures.
+	 */
+	@Test
+	public void testBulkItemFailures() {
+		ElasticSearchProvider provider = getProvider();
+		JsonObject mappings = new JsonObject().put("default", new JsonObject().put("properties", new JsonObject().put("count", new JsonObject().put("type",
+			"integer"))));
+		provider.createIndex(new IndexInfo("bulkerrors", new JsonObject(), mappings, "testSchema")).blockingAwait();
+
+		BulkEntry invalid = new IndexBulkEntry("bulkerrors", UUIDUtil.randomUUID(), new JsonObject().put("count", "abc"), false);
+		BulkEntry valid = new IndexBulkEntry("bulkerrors", UUIDUtil.randomUUID(), new JsonObject().put("count", 42), false);
+		BulkEntry missing = new DeleteBulkEntry("bulkerrors", UUIDUtil.randomUUID());
+		try {
+			provider.processBulk(Arrays.asList(invalid, valid, missing)).blockingAwait();
+			fail("The bulk request should have returned the failed item");
+		} catch (BulkItemException e) {
+			assertEquals("Deleting a missing document must not fail", 1, e.getFailures().size());
+			BulkItemException.Failure failure = e.getFailures().get(0);
+			assertSame(invalid, failure.getEntry());
+			assertEquals(400, failure.getStatus());
+			assertFalse("A mapping error can't be retried", failure.isRetryable());
+		}
+		assertNotNull(provider.getDocument("bulkerrors", valid.getDocumentId()).blockingGet());
+	}
+
 	@Test
 	public void testClear() throws HttpErrorException {
 		ElasticSearchProvider provider = getProvider();
@@ -0,0 +1,104 @@
+package com.gentics.mesh.search;
+
+import static com.gentics.mesh.test.ClientHelper.call;
+import static com.gentics.mesh.test.context.MeshTestHelper.getSimpleTermQuery;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.File;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.junit.Test;
+
+import com.gentics.mesh.Mesh;
+import com.gentics.mesh.core.data.search.SearchOutbox;
+import com.gentics.mesh.core.rest.user.UserCreateRequest;
+import com.gentics.mesh.core.rest.user.UserResponse;
+import com.gentics.mesh.parameter.impl.GenericParametersImpl;
+import com.gentics.mesh.search.outbox.SearchOutboxImpl;
+import com.gentics.mesh.search.outbox.SearchOutboxLog;
+import com.gentics.mesh.test.TestSize;
+import com.gentics.mesh.test.context.AbstractMeshTest;
+import com.gentics.mesh.test.context.MeshTestSetting;
+
+import io.vertx.core.json.JsonObject;
+
+@MeshTestSetting(useElasticsearch = true, startServer = true, testSize = TestSize.PROJECT, useSearchOutbox = true)
+public class SearchOutboxTest extends AbstractMeshTest {
+
+	@Test
+	public void testDrain() {
+		SearchOutbox outbox = meshDagger().searchOutbox();
+		assertTrue(outbox.isEnabled());
+		long head = outbox.getHead();
+
+		createUser("outboxUser");
+		assertTrue("The change should have been written to the outbox", outbox.getHead() > head);
+
+		flush(outbox);
+		assertThat(searchUsers("outboxUser")).hasSize(1);
+	}
+
+	@Test
+	public void testWaitForIndex() {
+		UserCreateRequest request = new UserCreateRequest();
+		request.setUsername("waitingUser");
+		request.setPassword("test1234");
+		request.setGroupUuid(groupUuid());
+		call(() -> client().createUser(request, new GenericParametersImpl().setWaitForIndex(true)));
+
+		// The response is only sent once the outbox has written the change to the index
+		assertThat(searchUsers("waitingUser")).hasSize(1);
+	}
+
+	@Test
+	public void testReplayAfterRestart() throws Exception {
+		SearchOutbox outbox = meshDagger().searchOutbox();
+		String uuid = createUser("replayUser").getUuid();
+		flush(outbox);
+
+		outbox.stop();
+		try {
+			// Simulate a crash after the change has been written to the outbox but before it was written to the index
+			tx(() -> boot().userRoot().findByUuid(uuid).setUsername("replayedUser"));
+			File directory = new File(Mesh.mesh().getOptions().getSearchOptions().getOutboxDirectory());
+			try (SearchOutboxLog outboxLog = new SearchOutboxLog(directory)) {
+				outboxLog.open();
+				outboxLog.append(Arrays.asList(new JsonObject().put("type", "user").put("action", "store").put("uuid", uuid)));
+			}
+		} finally {
+			outbox.start();
+		}
+
+		flush(outbox);
+		assertThat(searchUsers("replayedUser")).hasSize(1);
+		assertThat(searchUsers("replayUser")).isEmpty();
+	}
+
+	@Test
+	public void testWaiterTimeout() {
+		SearchOutboxImpl outbox = (SearchOutboxImpl) meshDagger().searchOutbox();
+		try {
+			// Wait for a change which will never be written
+			outbox.awaitProcessed(outbox.getHead() + 1000).timeout(100, TimeUnit.MILLISECONDS).blockingAwait();
+			fail("The wait should have timed out");
+		} catch (RuntimeException e) {
+			assertTrue(e.getCause() instanceof TimeoutException);
+		}
+		assertEquals("Waiters which timed out must be removed", 0, outbox.getWaiterCount());
+	}
+
+	private void flush(SearchOutbox outbox) {
+		assertTrue("The outbox should have been drained", outbox.flush().blockingAwait(10, TimeUnit.SECONDS));
+	}
+
+	private List<UserResponse> searchUsers(String username) {
+		return call(() -> client().searchUsers(getSimpleTermQuery("username.raw", username))).getData();
+	}
+
+}
@@ -0,0 +1,93 @@
+package com.gentics.mesh.search.index;
+
+import static com.gentics.mesh.test.ClientHelper.call;
+import static org.junit.Assert.assertEquals;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.gentics.mesh.Mesh;
+import com.gentics.mesh.core.data.Group;
+import com.gentics.mesh.etc.config.search.ElasticSearchOptions;
+import com.gentics.mesh.search.index.group.GroupIndexHandler;
+import com.gentics.mesh.test.TestSize;
+import com.gentics.mesh.test.context.AbstractMeshTest;
+import com.gentics.mesh.test.context.MeshTestSetting;
+
+import io.vertx.core.json.JsonObject;
+
+/**
+ * Invokes the sync of the group index handler with limits which require multiple diff passes and multiple write batches.
+ */
+@MeshTestSetting(useElasticsearch = true, testSize = TestSize.PROJECT, startServer = true)
+public class GroupIndexHandlerSyncTest extends AbstractMeshTest {
+
+	private static final int GROUP_COUNT = 300;
+
+	private int syncDiffLimit;
+
+	private int bulkLimit;
+
+	@Before
+	public void setupLimits() {
+		ElasticSearchOptions options = Mesh.mesh().getOptions().getSearchOptions();
+		syncDiffLimit = options.getSyncDiffLimit();
+		bulkLimit = options.getBulkLimit();
+		options.setSyncDiffLimit(20);
+		options.setBulkLimit(15);
+	}
+
+	@After
+	public void resetLimits() {
+		ElasticSearchOptions options = Mesh.mesh().getOptions().getSearchOptions();
+		options.setSyncDiffLimit(syncDiffLimit);
+		options.setBulkLimit(bulkLimit);
+	}
+
+	@Test
+	public void testSync() throws Exception {
+		GroupIndexHandler handler = meshDagger().groupIndexHandler();
+
+		// Assert insert
+		tx(() -> {
+			for (int i = 0; i < GROUP_COUNT; i++) {
+				boot().groupRoot().create("syncgroup_" + i, user(), null);
+			}
+		});
+		sync(handler);
+		assertEquals(GROUP_COUNT, countGroups("syncgroup_"));
+
+		// Assert update
+		tx(() -> {
+			for (int i = 0; i < GROUP_COUNT; i += 2) {
+				boot().groupRoot().findByName("syncgroup_" + i).setName("resyncgroup_" + i);
+			}
+		});
+		sync(handler);
+		assertEquals(GROUP_COUNT / 2, countGroups("syncgroup_"));
+		assertEquals(GROUP_COUNT / 2, countGroups("resyncgroup_"));
+
+		// Assert deletion
+		tx(() -> {
+			for (int i = 1; i < GROUP_COUNT; i += 2) {
+				Group group = boot().groupRoot().findByName("syncgroup_" + i);
+				group.getElement().remove();
+			}
+		});
+		sync(handler);
+		assertEquals(0, countGroups("syncgroup_"));
+		assertEquals(GROUP_COUNT / 2, countGroups("resyncgroup_"));
+	}
+
+	private void sync(GroupIndexHandler handler) {
+		handler.syncIndices().blockingAwait();
+		searchProvider().refreshIndex().blockingAwait();
+	}
+
+	private long countGroups(String prefix) {
+		JsonObject query = new JsonObject().put("query", new JsonObject().put("prefix", new JsonObject().put("name.raw", prefix)));
+		return call(() -> client().searchGroups(query.encode())).getMetainfo().getTotalCount();
+	}
+
+}
@@ -0,0 +1,34 @@
+package com.gentics.mesh.search.index.node;
+
+import static com.gentics.mesh.core.data.ContainerType.DRAFT;
+import static com.gentics.mesh.test.TestSize.FULL;
+import static org.junit.Assert.assertEquals;
+
+import org.junit.Test;
+
+import com.gentics.mesh.core.data.NodeGraphFieldContainer;
+import com.gentics.mesh.core.data.node.Node;
+import com.gentics.mesh.core.data.search.bulk.IndexBulkEntry;
+import com.gentics.mesh.test.context.AbstractMeshTest;
+import com.gentics.mesh.test.context.MeshTestSetting;
+
+@MeshTestSetting(useElasticsearch = false, testSize = FULL, startServer = false)
+public class NodeIndexHandlerTest extends AbstractMeshTest {
+
+	/**
+	 * The version of the indexed document must match the version which the index sync generates. Otherwise the sync would update the document again.
+	 */
+	@Test
+	public void testDocumentVersion() {
+		tx(() -> {
+			NodeIndexHandler handler = meshDagger().nodeContainerIndexHandler();
+			NodeGraphFieldContainer container = content().getLatestDraftFieldContainer(english());
+			IndexBulkEntry entry = handler.storeContainerForBulk(container, initialBranchUuid(), DRAFT).blockingGet();
+			String documentVersion = entry.getPayload().getString(NodeContainerTransformer.VERSION_KEY);
+
+			Node node = container.getParentNode();
+			assertEquals(handler.getTransformer().generateVersion(container, node, node.getProject(), initialBranchUuid(), DRAFT), documentVersion);
+		});
+	}
+
+}
@@ -351,6 +351,11 @@ public class MeshTestContext extends TestWatcher {
 			}
 		}
 
+		if (settings.useSearchOutbox()) {
+			meshOptions.getSearchOptions().setEnableOutbox(true);
+			meshOptions.getSearchOptions().setOutboxDirectory(newFolder("searchOutbox"));
+		}
+
 		if (settings.useKeycloak()) {
 			keycloak = new KeycloakContainer()
 				.withRealmFromClassPath("/keycloak/realm.json");
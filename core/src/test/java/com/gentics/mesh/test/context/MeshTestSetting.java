@@ -79,4 +79,11 @@ public @interface MeshTestSetting {
 	 * @return
 	 */
 	boolean ssl() default false;
+
+	/**
+	 * Flag which indicates whether the search index changes should be written via the search outbox.
+	 * 
+	 * @return
+	 */
+	boolean useSearchOutbox() default false;
 }
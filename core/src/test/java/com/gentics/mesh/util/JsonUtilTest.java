@@ -30,6 +30,7 @@ import com.gentics.mesh.core.rest.user.UserResponse;
 import com.gentics.mesh.example.GraphQLExamples;
 import com.gentics.mesh.json.JsonUtil;
 
+import io.vertx.core.buffer.Buffer;
 import io.vertx.core.json.JsonObject;
 
 public class JsonUtilTest {
@@ -148,6 +149,23 @@ public class JsonUtilTest {
 		assertNotNull(field);
 		assertEquals("testtext", field.getString());
 	}
+
+	@Test
+	public void testMinifiedJsonBuffer() {
+		NodeResponse node = new NodeResponse();
+		node.setUuid(UUIDUtil.randomUUID());
+		node.getFields().put("test", FieldUtil.createStringField("testtext"));
+
+		Buffer minified = JsonUtil.toJsonBuffer(node, true);
+		Buffer pretty = JsonUtil.toJsonBuffer(node, false);
+		assertFalse("The minified JSON must not contain line breaks", minified.toString().contains("\n"));
+		assertTrue(minified.length() < pretty.length());
+		assertEquals(JsonUtil.toJson(node), pretty.toString());
+		assertEquals(new JsonObject(pretty.toString()), new JsonObject(minified.toString()));
+
+		JsonObject json = new JsonObject().put("data", new JsonObject().put("value", (String) null));
+		assertEquals("Null values of JSON objects must be kept", json, new JsonObject(JsonUtil.toJsonBuffer(json, true)));
+	}
 }
 
 class Loop {
@@ -4,6 +4,7 @@ import static com.gentics.mesh.MeshEnv.CONFIG_FOLDERNAME;
 import static com.gentics.mesh.core.rest.error.Errors.error;
 import static com.gentics.mesh.graphdb.FieldTypeMapper.toSubType;
 import static com.gentics.mesh.graphdb.FieldTypeMapper.toType;
+import static com.gentics.mesh.metric.Metrics.TX_CONFLICT;
 import static com.gentics.mesh.metric.Metrics.TX_RETRY;
 import static com.gentics.mesh.metric.Metrics.TX_TIME;
 import static io.netty.handler.codec.http.HttpResponseStatus.INTERNAL_SERVER_ERROR;
@@ -24,6 +25,8 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.Lock;
 import java.util.regex.Matcher;
 
 import javax.inject.Inject;
@@ -34,6 +37,7 @@ import org.apache.commons.io.IOUtils;
 import org.apache.commons.lang3.StringEscapeUtils;
 
 import com.codahale.metrics.Counter;
+import com.codahale.metrics.Meter;
 import com.codahale.metrics.Timer;
 import com.gentics.mesh.changelog.Change;
 import com.gentics.mesh.changelog.changes.ChangesList;
@@ -41,6 +45,7 @@ import com.gentics.mesh.core.data.MeshVertex;
 import com.gentics.mesh.core.rest.admin.cluster.ClusterInstanceInfo;
 import com.gentics.mesh.core.rest.admin.cluster.ClusterStatusResponse;
 import com.gentics.mesh.core.rest.error.GenericRestException;
+import com.gentics.mesh.core.verticle.handler.WorkerPools;
 import com.gentics.mesh.etc.config.ClusterOptions;
 import com.gentics.mesh.etc.config.GraphStorageOptions;
 import com.gentics.mesh.etc.config.MeshOptions;
@@ -49,6 +54,7 @@ import com.gentics.mesh.graphdb.spi.AbstractDatabase;
 import com.gentics.mesh.graphdb.spi.FieldMap;
 import com.gentics.mesh.graphdb.spi.FieldType;
 import com.gentics.mesh.graphdb.tx.OrientStorage;
+import com.gentics.mesh.graphdb.tx.TxRetryStrategy;
 import com.gentics.mesh.graphdb.tx.impl.OrientLocalStorageImpl;
 import com.gentics.mesh.graphdb.tx.impl.OrientServerStorageImpl;
 import com.gentics.mesh.metric.Metrics;
@@ -61,7 +67,10 @@ import com.orientechnologies.common.concur.ONeedRetryException;
 import com.orientechnologies.orient.core.OConstants;
 import com.orientechnologies.orient.core.Orient;
 import com.orientechnologies.orient.core.config.OGlobalConfiguration;
+import com.orientechnologies.orient.core.db.ODatabaseDocumentInternal;
+import com.orientechnologies.orient.core.db.ODatabaseRecordThreadLocal;
 import com.orientechnologies.orient.core.db.record.OIdentifiable;
+import com.orientechnologies.orient.core.exception.OConcurrentModificationException;
 import com.orientechnologies.orient.core.exception.OSchemaException;
 import com.orientechnologies.orient.core.id.ORID;
 import com.orientechnologies.orient.core.index.OCompositeKey;
@@ -72,6 +81,7 @@ import com.orientechnologies.orient.core.intent.OIntentMassiveInsert;
 import com.orientechnologies.orient.core.metadata.schema.OClass;
 import com.orientechnologies.orient.core.metadata.schema.OType;
 import com.orientechnologies.orient.core.record.impl.ODocument;
+import com.orientechnologies.orient.core.sql.OCommandSQL;
 import com.orientechnologies.orient.core.storage.ORecordDuplicatedException;
 import com.orientechnologies.orient.server.OServer;
 import com.orientechnologies.orient.server.OServerMain;
@@ -138,6 +148,13 @@ public class OrientDBDatabase extends AbstractDatabase {
 
 	private int maxRetry = 10;
 
+	private TxRetryStrategy retryStrategy = new TxRetryStrategy(10, 1000, false);
+
+	/**
+	 * Vertex class names by cluster id. Used to report the conflicts per class.
+	 */
+	private final Map<Integer, String> clusterClassNames = new ConcurrentHashMap<>();
+
 	private OrientStorage txProvider;
 
 	private MetricsService metrics;
@@ -146,12 +163,20 @@ public class OrientDBDatabase extends AbstractDatabase {
 
 	private Counter txRetryCounter;
 
-	@Inject
+	private Meter txConflictMeter;
+
 	public OrientDBDatabase(MetricsService metrics) {
+		this(metrics, null);
+	}
+
+	@Inject
+	public OrientDBDatabase(MetricsService metrics, WorkerPools workerPools) {
 		this.metrics = metrics;
+		this.workerPools = workerPools;
 		if (metrics != null) {
 			txTimer = metrics.timer(TX_TIME);
 			txRetryCounter = metrics.counter(TX_RETRY);
+			txConflictMeter = metrics.meter(TX_CONFLICT);
 		}
 	}
 
@@ -204,6 +229,15 @@ public class OrientDBDatabase extends AbstractDatabase {
 			this.maxRetry = Integer.valueOf(storageOptions.getParameters().get("maxTransactionRetry"));
 			log.info("Using {" + this.maxRetry + "} transaction retries before failing");
 		}
+		if (options != null && storageOptions.getParameters() != null) {
+			Map<String, String> parameters = storageOptions.getParameters();
+			long retryDelay = Long.valueOf(parameters.getOrDefault("txRetryDelay", "10"));
+			long retryMaxDelay = Long.valueOf(parameters.getOrDefault("txRetryMaxDelay", "1000"));
+			boolean serializeConflicts = Boolean.valueOf(parameters.getOrDefault("txConflictSerialization", "false"));
+			this.retryStrategy = new TxRetryStrategy(retryDelay, retryMaxDelay, serializeConflicts);
+			log.info("Using transaction retry delays between {" + retryDelay + "} and {" + retryMaxDelay + "} ms. Conflict serialization: {"
+				+ serializeConflicts + "}");
+		}
 	}
 
 	@Override
@@ -661,6 +695,14 @@ public class OrientDBDatabase extends AbstractDatabase {
 		return orientBaseGraph.getVertices(classOfVertex.getSimpleName(), fieldNames, fieldValues).iterator();
 	}
 
+	@Override
+	public Iterator<Vertex> getVertices(Class<?> classOfVertex, String fieldName, Collection<?> fieldValues) {
+		OrientBaseGraph orientBaseGraph = unwrapCurrentGraph();
+		OCommandSQL cmd = new OCommandSQL("select from " + classOfVertex.getSimpleName() + " where " + fieldName + " in ?");
+		Iterable<Vertex> vertices = orientBaseGraph.command(cmd).execute(new ArrayList<>(fieldValues));
+		return vertices.iterator();
+	}
+
 	@Override
 	public <T extends MeshVertex> Iterator<? extends T> getVerticesForType(Class<T> classOfVertex) {
 		OrientBaseGraph orientBaseGraph = unwrapCurrentGraph();
@@ -965,7 +1007,10 @@ public class OrientDBDatabase extends AbstractDatabase {
 		 */
 		T handlerResult = null;
 		boolean handlerFinished = false;
+		ORID conflictingRecord = null;
 		for (int retry = 0; retry < maxRetry; retry++) {
+			// Serialize the retry with the retries of other transactions which conflicted on the same record. The first attempt runs without a lock.
+			Lock lock = retryStrategy.lock(conflictingRecord);
 			final Timer.Context context = txTimer.time();
 			try (Tx tx = tx()) {
 				handlerResult = txHandler.handle(tx);
@@ -980,13 +1025,14 @@ public class OrientDBDatabase extends AbstractDatabase {
 				if (log.isTraceEnabled()) {
 					log.trace("Error while handling transaction. Retrying " + retry, e);
 				}
-				int rnd = (int) (Math.random() * 6000.0);
-				try {
-					// Increase the delay for each retry by 25ms to give the other transaction a chance to finish
-					Thread.sleep(50 + (retry * 25) + rnd);
-				} catch (InterruptedException e1) {
-					e1.printStackTrace();
+				conflictingRecord = e instanceof OConcurrentModificationException ? ((OConcurrentModificationException) e).getRid() : null;
+				markConflict(conflictingRecord);
+				if (lock != null) {
+					// Release the lock before waiting so that the other transactions are not blocked
+					lock.unlock();
+					lock = null;
 				}
+				retryStrategy.backoff(retry);
 				// Reset previous result
 				handlerFinished = false;
 				handlerResult = null;
@@ -1008,20 +1054,67 @@ public class OrientDBDatabase extends AbstractDatabase {
 				throw new RuntimeException("Transaction error", e);
 			} finally {
 				context.stop();
-			}
-			if (!handlerFinished && log.isDebugEnabled()) {
-				log.debug("Retrying .. {" + retry + "}");
-				if (metrics.isEnabled()) {
-					txRetryCounter.inc();
+				if (lock != null) {
+					lock.unlock();
 				}
 			}
 			if (handlerFinished) {
 				return handlerResult;
 			}
+			if (log.isDebugEnabled()) {
+				log.debug("Retrying .. {" + retry + "}");
+			}
+			if (metrics.isEnabled()) {
+				txRetryCounter.inc();
+			}
 		}
 		throw new RuntimeException("Retry limit {" + maxRetry + "} for trx exceeded");
 	}
 
+	/**
+	 * Record the transaction conflict. The conflict will also be recorded for the vertex class of the conflicting record so that hot spots can be
+	 * identified.
+	 *
+	 * @param rid
+	 *            Conflicting record or null if the record is not known
+	 */
+	private void markConflict(ORID rid) {
+		if (!metrics.isEnabled()) {
+			return;
+		}
+		txConflictMeter.mark();
+		String className = null;
+		if (rid != null) {
+			try {
+				className = clusterClassNames.computeIfAbsent(rid.getClusterId(), this::resolveClassName);
+			} catch (Exception e) {
+				log.debug("Could not resolve the class of record {" + rid + "}", e);
+			}
+		}
+		metrics.getMetricRegistry().meter(TX_CONFLICT.key() + "." + (className == null ? "unknown" : className)).mark();
+	}
+
+	/**
+	 * Resolve the name of the class which uses the given cluster.
+	 *
+	 * @param clusterId
+	 * @return Class name or null if the cluster does not belong to a class
+	 */
+	private String resolveClassName(int clusterId) {
+		// The conflict may have happened in a nested transaction. The database of the outer transaction must stay active.
+		ODatabaseDocumentInternal previous = ODatabaseRecordThreadLocal.instance().getIfDefined();
+		OrientGraphNoTx noTx = rawNoTx();
+		try {
+			OClass clazz = noTx.getRawGraph().getMetadata().getSchema().getClassByClusterId(clusterId);
+			return clazz == null ? null : clazz.getName();
+		} finally {
+			noTx.shutdown();
+			if (previous != null && !previous.isClosed()) {
+				previous.activateOnCurrentThread();
+			}
+		}
+	}
+
 	@Override
 	public void backupGraph(String backupDirectory) throws IOException {
 		txProvider.backup(backupDirectory);
@@ -0,0 +1,169 @@
+package com.gentics.mesh.graphdb.tx;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+import io.vertx.core.logging.Logger;
+import io.vertx.core.logging.LoggerFactory;
+
+/**
+ * Strategy which is used to retry transactions which failed due to a conflict. The delay between the retries grows exponentially and is randomized
+ * (full jitter) so that conflicting transactions do not collide again. The delay is bounded by the configured maximum delay.
+ *
+ * Optionally retries which conflicted on the same element can be serialized. The retry will acquire a lock for the conflicting element and thus the
+ * retries of transactions which repeatedly write the same hot element (e.g. a parent node which receives many children) will no longer conflict with
+ * each other. Only the retries are serialized. The first attempt of a transaction does not know which elements it will write and thus still runs
+ * without a lock. It may still conflict with a serialized retry. Each element has its own lock so that retries of unrelated elements do not wait for
+ * each other.
+ */
+public class TxRetryStrategy {
+
+	private static final Logger log = LoggerFactory.getLogger(TxRetryStrategy.class);
+
+	private final long baseDelay;
+
+	private final long maxDelay;
+
+	/**
+	 * Locks of the elements which are currently locked or awaited by a retry. The locks are removed once they are no longer used.
+	 */
+	private final ConcurrentMap<Object, ElementLock> locks;
+
+	/**
+	 * Create a new strategy.
+	 *
+	 * @param baseDelay
+	 *            Delay of the first retry in milliseconds
+	 * @param maxDelay
+	 *            Maximum delay of a retry in milliseconds. This is also the maximum time a retry will wait for the lock of a conflicting element.
+	 * @param serializeConflicts
+	 *            Whether retries which conflicted on the same element should be serialized
+	 */
+	public TxRetryStrategy(long baseDelay, long maxDelay, boolean serializeConflicts) {
+		if (baseDelay < 0 || maxDelay < baseDelay) {
+			throw new IllegalArgumentException("Invalid retry delays {" + baseDelay + "/" + maxDelay + "}");
+		}
+		this.baseDelay = baseDelay;
+		this.maxDelay = maxDelay;
+		this.locks = serializeConflicts ? new ConcurrentHashMap<>() : null;
+	}
+
+	/**
+	 * Return a random delay for the given retry. The upper bound of the delay doubles with each retry until the maximum delay has been reached.
+	 *
+	 * @param retry
+	 *            Zero based retry counter
+	 * @return Delay in milliseconds
+	 */
+	public long getDelay(int retry) {
+		long bound = baseDelay << Math.min(Math.max(retry, 0), 30);
+		if (bound <= 0 || bound > maxDelay) {
+			bound = maxDelay;
+		}
+		return ThreadLocalRandom.current().nextLong(bound + 1);
+	}
+
+	/**
+	 * Block the current thread for the delay of the given retry.
+	 *
+	 * @param retry
+	 *            Zero based retry counter
+	 */
+	public void backoff(int retry) {
+		long delay = getDelay(retry);
+		if (delay == 0) {
+			return;
+		}
+		try {
+			Thread.sleep(delay);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	/**
+	 * Check whether retries which conflicted on the same element will be serialized.
+	 *
+	 * @return
+	 */
+	public boolean isSerializeConflicts() {
+		return locks != null;
+	}
+
+	/**
+	 * Acquire the lock for the given conflicting element. The lock will not be acquired if serialization has been disabled, no key was given or the lock
+	 * could not be acquired within the maximum delay. The latter prevents deadlocks of nested transactions which conflicted on different elements.
+	 *
+	 * @param key
+	 *            Key of the conflicting element
+	 * @return Acquired lock which must be released once the transaction has been completed or null if no lock was acquired
+	 */
+	public Lock lock(Object key) {
+		if (locks == null || key == null) {
+			return null;
+		}
+		ElementLock lock = locks.compute(key, (k, existing) -> {
+			ElementLock elementLock = existing == null ? new ElementLock(k) : existing;
+			elementLock.users++;
+			return elementLock;
+		});
+		try {
+			if (lock.tryLock(maxDelay, TimeUnit.MILLISECONDS)) {
+				return lock;
+			}
+			if (log.isDebugEnabled()) {
+				log.debug("Could not acquire the lock for conflicting element {" + key + "} in time. Retrying without lock.");
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+		release(lock);
+		return null;
+	}
+
+	/**
+	 * Return the amount of elements for which a lock is currently held or awaited.
+	 *
+	 * @return
+	 */
+	int getLockedElementCount() {
+		return locks == null ? 0 : locks.size();
+	}
+
+	/**
+	 * Remove the lock of the element once it is no longer used by any retry.
+	 *
+	 * @param lock
+	 */
+	private void release(ElementLock lock) {
+		locks.computeIfPresent(lock.key, (k, existing) -> --existing.users == 0 ? null : existing);
+	}
+
+	/**
+	 * Lock of a single element. The users are only modified while the entry of the element is being computed.
+	 */
+	private class ElementLock extends ReentrantLock {
+
+		private static final long serialVersionUID = 1L;
+
+		private final Object key;
+
+		private int users;
+
+		ElementLock(Object key) {
+			this.key = key;
+		}
+
+		@Override
+		public void unlock() {
+			super.unlock();
+			release(this);
+		}
+
+	}
+
+}
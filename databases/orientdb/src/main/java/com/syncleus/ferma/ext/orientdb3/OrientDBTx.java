@@ -14,11 +14,17 @@ public class OrientDBTx extends AbstractTx<FramedTransactionalGraph> {
 
 	boolean isWrapped = false;
 
+	/**
+	 * Transaction which was active when this transaction was wrapped around it.
+	 */
+	private Tx parent;
+
 	public OrientDBTx(OrientGraphFactory factory, TypeResolver typeResolver) {
 		// Check if an active transaction already exists.
 		Tx activeTx = Tx.getActive();
 		if (activeTx != null) {
 			isWrapped = true;
+			parent = activeTx;
 			init(activeTx.getGraph());
 		} else {
 			DelegatingFramedOrientGraph transaction = new DelegatingFramedOrientGraph(factory.getTx(), typeResolver);
@@ -32,6 +38,7 @@ public class OrientDBTx extends AbstractTx<FramedTransactionalGraph> {
 		Tx activeTx = Tx.getActive();
 		if (activeTx != null) {
 			isWrapped = true;
+			parent = activeTx;
 			init(activeTx.getGraph());
 		} else {
 			DelegatingFramedOrientGraph transaction = new DelegatingFramedOrientGraph((OrientGraph) provider.rawTx(), typeResolver);
@@ -47,10 +54,13 @@ public class OrientDBTx extends AbstractTx<FramedTransactionalGraph> {
 					commit();
 				} catch (Exception e) {
 					rollback();
+					discardAfterCommitActions();
 					throw e;
 				}
+				runAfterCommitActions();
 			} else {
 				rollback();
+				discardAfterCommitActions();
 			}
 
 		} catch (ONeedRetryException e) {
@@ -60,6 +70,9 @@ public class OrientDBTx extends AbstractTx<FramedTransactionalGraph> {
 				// Restore the old graph that was previously swapped with the current graph
 				getGraph().shutdown();
 				Tx.setActive(null);
+			} else {
+				// Actions which get registered after this transaction has been closed need to be bound to the outer transaction
+				Tx.setActive(parent);
 			}
 		}
 	}
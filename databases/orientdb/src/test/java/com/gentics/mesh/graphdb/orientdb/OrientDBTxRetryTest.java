@@ -0,0 +1,122 @@
+package com.gentics.mesh.graphdb.orientdb;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+import com.codahale.metrics.Counter;
+import com.codahale.metrics.Meter;
+import com.codahale.metrics.Timer;
+import com.gentics.mesh.etc.config.MeshOptions;
+import com.gentics.mesh.graphdb.OrientDBDatabase;
+import com.gentics.mesh.graphdb.spi.Database;
+import com.gentics.mesh.metric.MetricsService;
+import com.gentics.mesh.metric.ResettableCounter;
+import com.orientechnologies.orient.core.exception.OConcurrentModificationException;
+import com.orientechnologies.orient.core.id.ORecordId;
+import com.orientechnologies.orient.core.record.ORecordOperation;
+
+/**
+ * Verifies the retry handling of {@link Database#tx(com.syncleus.ferma.tx.TxAction)} for transactions which conflicted on a record.
+ */
+public class OrientDBTxRetryTest {
+
+	private static final ORecordId HOT_RECORD = new ORecordId(12, 3);
+
+	private Database db;
+
+	@Before
+	public void setup() throws Exception {
+		MetricsService metrics = Mockito.mock(MetricsService.class);
+		Mockito.when(metrics.timer(Mockito.any())).thenReturn(new Timer());
+		Mockito.when(metrics.counter(Mockito.any())).thenReturn(new Counter());
+		Mockito.when(metrics.meter(Mockito.any())).thenReturn(new Meter());
+		Mockito.when(metrics.resetableCounter(Mockito.any())).thenReturn(Mockito.mock(ResettableCounter.class));
+		db = new OrientDBDatabase(metrics);
+		MeshOptions options = new MeshOptions();
+		options.getStorageOptions().setDirectory(null);
+		options.getStorageOptions().setParameter("maxTransactionRetry", "5");
+		options.getStorageOptions().setParameter("txRetryDelay", "1");
+		options.getStorageOptions().setParameter("txRetryMaxDelay", "5000");
+		options.getStorageOptions().setParameter("txConflictSerialization", "true");
+		db.init(options, null);
+		db.setupConnectionPool();
+	}
+
+	@After
+	public void tearDown() {
+		db.closeConnectionPool();
+	}
+
+	@Test
+	public void testRetry() {
+		AtomicInteger attempts = new AtomicInteger();
+		String result = db.tx(tx -> {
+			if (attempts.incrementAndGet() == 1) {
+				throw conflict();
+			}
+			return "OK";
+		});
+		assertEquals("OK", result);
+		assertEquals(2, attempts.get());
+	}
+
+	@Test
+	public void testRetryLimit() {
+		AtomicInteger attempts = new AtomicInteger();
+		try {
+			db.tx(tx -> {
+				attempts.incrementAndGet();
+				throw conflict();
+			});
+			fail("The transaction should have failed once the retry limit was reached");
+		} catch (RuntimeException e) {
+			assertEquals(5, attempts.get());
+		}
+	}
+
+	/**
+	 * The retries of transactions which conflicted on the same record must not run at the same time.
+	 */
+	@Test
+	public void testSerializedRetries() throws Exception {
+		AtomicInteger running = new AtomicInteger();
+		AtomicInteger maxRunning = new AtomicInteger();
+		List<CompletableFuture<Void>> futures = new ArrayList<>();
+		for (int i = 0; i < 4; i++) {
+			futures.add(CompletableFuture.runAsync(() -> {
+				AtomicInteger attempts = new AtomicInteger();
+				db.tx(tx -> {
+					if (attempts.incrementAndGet() == 1) {
+						throw conflict();
+					}
+					maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+					try {
+						Thread.sleep(50);
+					} finally {
+						running.decrementAndGet();
+					}
+					return null;
+				});
+			}));
+		}
+		for (CompletableFuture<Void> future : futures) {
+			future.get();
+		}
+		assertEquals("Only one retry of the conflicting record should have been running at a time", 1, maxRunning.get());
+	}
+
+	private OConcurrentModificationException conflict() {
+		return new OConcurrentModificationException(HOT_RECORD, 2, 1, ORecordOperation.UPDATED);
+	}
+
+}
@@ -0,0 +1,88 @@
+package com.gentics.mesh.graphdb.tx;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.locks.Lock;
+
+import org.junit.Test;
+
+public class TxRetryStrategyTest {
+
+	@Test
+	public void testDelayBounds() {
+		TxRetryStrategy strategy = new TxRetryStrategy(10, 200, false);
+		for (int i = 0; i < 1000; i++) {
+			long first = strategy.getDelay(0);
+			assertTrue("The delay of the first retry must not exceed the base delay", first >= 0 && first <= 10);
+			long third = strategy.getDelay(2);
+			assertTrue("The delay must grow exponentially", third >= 0 && third <= 40);
+			long last = strategy.getDelay(100);
+			assertTrue("The delay must not exceed the maximum delay", last >= 0 && last <= 200);
+		}
+	}
+
+	@Test
+	public void testSerializationDisabled() {
+		TxRetryStrategy strategy = new TxRetryStrategy(10, 200, false);
+		assertFalse(strategy.isSerializeConflicts());
+		assertNull(strategy.lock("#12:3"));
+	}
+
+	@Test
+	public void testSerialization() throws Exception {
+		TxRetryStrategy strategy = new TxRetryStrategy(10, 200, true);
+		assertNull("No lock is needed if the conflicting element is not known", strategy.lock(null));
+
+		Lock lock = strategy.lock("#12:3");
+		assertNotNull(lock);
+		try {
+			// Another thread must not acquire the lock of the same element and proceed without it once the maximum delay has passed
+			Lock other = CompletableFuture.supplyAsync(() -> strategy.lock("#12:3")).get();
+			assertNull(other);
+		} finally {
+			lock.unlock();
+		}
+
+		Lock other = CompletableFuture.supplyAsync(() -> {
+			Lock acquired = strategy.lock("#12:3");
+			if (acquired != null) {
+				acquired.unlock();
+			}
+			return acquired;
+		}).get();
+		assertNotNull("The lock should be available again", other);
+		assertEquals("Unused locks should have been removed", 0, strategy.getLockedElementCount());
+	}
+
+	@Test
+	public void testUnrelatedElements() throws Exception {
+		TxRetryStrategy strategy = new TxRetryStrategy(10, 200, true);
+		Lock lock = strategy.lock("#12:3");
+		try {
+			// Retries of other elements must not wait for the lock
+			Lock other = CompletableFuture.supplyAsync(() -> {
+				Lock acquired = strategy.lock("#12:4");
+				if (acquired != null) {
+					acquired.unlock();
+				}
+				return acquired;
+			}).get();
+			assertNotNull("The lock of an unrelated element should be available", other);
+			assertEquals(1, strategy.getLockedElementCount());
+		} finally {
+			lock.unlock();
+		}
+		assertEquals(0, strategy.getLockedElementCount());
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testInvalidDelays() {
+		new TxRetryStrategy(100, 10, false);
+	}
+
+}
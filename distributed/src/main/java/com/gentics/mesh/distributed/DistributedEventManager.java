@@ -63,7 +63,7 @@ public class DistributedEventManager {
 		// Register for events which are send whenever the permission store must be invalidated.
 		eb.consumer(CLEAR_PERMISSION_STORE.address, handler -> {
 			log.debug("Received permissionstore clear event");
-			PermissionStore.invalidate(false);
+			PermissionStore.handleClearEvent(handler.body());
 		});
 
 		// React on project creates
@@ -101,6 +101,21 @@ public class IndexHandlerRegistry {
 		return null;
 	}
 
+	/**
+	 * Return the handler which handles the given element type.
+	 * 
+	 * @param type
+	 * @return Found handler or null if no handler handles the type
+	 */
+	public IndexHandler<?> getForType(String type) {
+		for (IndexHandler<?> handler : getHandlers()) {
+			if (handler.getType().equals(type)) {
+				return handler;
+			}
+		}
+		return null;
+	}
+
 	public NodeIndexHandler getNodeIndexHandler() {
 		return nodeIndexHandler;
 	}
@@ -0,0 +1,87 @@
+package com.gentics.mesh.search.impl;
+
+import static com.gentics.mesh.search.impl.ElasticsearchErrorHelper.isRetryableStatus;
+
+import java.util.List;
+
+import com.gentics.mesh.core.data.search.bulk.BulkEntry;
+
+/**
+ * Error which is returned when Elasticsearch accepted a bulk request but failed to process some of its items. The other items of the request have been
+ * processed.
+ */
+public class BulkItemException extends RuntimeException {
+
+	private static final long serialVersionUID = -2361867245917826510L;
+
+	private final List<Failure> failures;
+
+	public BulkItemException(List<Failure> failures) {
+		super("Elasticsearch failed to process {" + failures.size() + "} bulk items");
+		this.failures = failures;
+	}
+
+	/**
+	 * Return the failed items.
+	 *
+	 * @return
+	 */
+	public List<Failure> getFailures() {
+		return failures;
+	}
+
+	/**
+	 * Failure of a single item of a bulk request.
+	 */
+	public static class Failure {
+
+		private final BulkEntry entry;
+
+		private final int status;
+
+		private final String reason;
+
+		public Failure(BulkEntry entry, int status, String reason) {
+			this.entry = entry;
+			this.status = status;
+			this.reason = reason;
+		}
+
+		/**
+		 * Return the entry which could not be processed.
+		 *
+		 * @return
+		 */
+		public BulkEntry getEntry() {
+			return entry;
+		}
+
+		/**
+		 * Return the status code of the item.
+		 *
+		 * @return
+		 */
+		public int getStatus() {
+			return status;
+		}
+
+		/**
+		 * Return the error which was returned for the item.
+		 *
+		 * @return
+		 */
+		public String getReason() {
+			return reason;
+		}
+
+		/**
+		 * Check whether the item may succeed when it is sent again (e.g. because it was rejected due to a full queue).
+		 *
+		 * @return
+		 */
+		public boolean isRetryable() {
+			return isRetryableStatus(status);
+		}
+	}
+
+}
@@ -10,7 +10,9 @@ import static io.netty.handler.codec.http.HttpResponseStatus.INTERNAL_SERVER_ERR
 import java.io.IOException;
 import java.net.MalformedURLException;
 import java.net.URL;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 import java.util.Set;
 import java.util.concurrent.TimeUnit;
@@ -394,29 +396,73 @@ public class ElasticSearchProvider implements SearchProvider {
 		if (entries.isEmpty()) {
 			return Completable.complete();
 		}
-		long start = System.currentTimeMillis();
+		return Completable.defer(() -> {
+			List<BulkRequest> requests = toBulkRequests(entries, getOptions().getBulkLengthLimit());
+			if (requests.size() > 1 && log.isDebugEnabled()) {
+				log.debug("Splitting {" + entries.size() + "} bulk entries into {" + requests.size() + "} bulk requests");
+			}
+			List<BulkItemException.Failure> failures = Collections.synchronizedList(new ArrayList<>());
+			return Observable.fromIterable(requests)
+				.concatMapCompletable(request -> processBulk(request, failures))
+				.andThen(Completable.defer(() -> {
+					if (failures.isEmpty()) {
+						return Completable.complete();
+					}
+					return Completable.error(new BulkItemException(new ArrayList<>(failures)));
+				}));
+		});
+	}
+
+	/**
+	 * Split the entries into bulk requests. Entries will be added to a request until the given length limit would be exceeded. A single entry which exceeds
+	 * the limit will be sent in a dedicated request. The length is measured in characters which is sufficiently accurate for the mostly ASCII documents.
+	 * 
+	 * @param entries
+	 * @param lengthLimit
+	 * @return
+	 */
+	protected List<BulkRequest> toBulkRequests(List<? extends BulkEntry> entries, long lengthLimit) {
+		List<BulkRequest> requests = new ArrayList<>();
+		BulkRequest request = new BulkRequest();
+		String prefix = installationPrefix();
+		for (BulkEntry entry : entries) {
+			String data = entry.toBulkString(prefix);
+			if (request.data.length() > 0 && request.data.length() + data.length() + 1 > lengthLimit) {
+				requests.add(request);
+				request = new BulkRequest();
+			}
+			request.entries.add(entry);
+			request.data.append(data).append("\n");
+		}
+		if (!request.entries.isEmpty()) {
+			requests.add(request);
+		}
+		return requests;
+	}
 
-		String bulkData = entries.stream()
-			.map(e -> e.toBulkString(installationPrefix()))
-			.collect(Collectors.joining("\n")) + "\n";
+	/**
+	 * Send the bulk request. Elasticsearch reports errors per item. The failed items will be added to the given list.
+	 * 
+	 * @param request
+	 * @param failures
+	 * @return
+	 */
+	private Completable processBulk(BulkRequest request, List<BulkItemException.Failure> failures) {
+		long start = System.currentTimeMillis();
+		String bulkData = request.data.toString();
 		if (log.isTraceEnabled()) {
 			log.trace("Using bulk payload:");
 			log.trace(bulkData);
 		}
 		return client.processBulk(bulkData).async()
 			.doOnSuccess(response -> {
-				boolean errors = response.getBoolean("errors");
+				boolean errors = response.getBoolean("errors", false);
 				if (errors) {
 					JsonArray items = response.getJsonArray("items");
-					for (int i = 0; i < items.size(); i++) {
-						JsonObject item = items.getJsonObject(i).getJsonObject("index");
-						if (item != null && item.containsKey("error")) {
-							JsonObject error = item.getJsonObject("error");
-							String type = error.getString("type");
-							String reason = error.getString("reason");
-							String id = item.getString("_id");
-							String index = item.getString("_index");
-							log.error("Could not store document {" + index + ":" + id + "} - " + type + " : " + reason);
+					for (int i = 0; i < items.size() && i < request.entries.size(); i++) {
+						BulkItemException.Failure failure = toFailure(request.entries.get(i), items.getJsonObject(i));
+						if (failure != null) {
+							failures.add(failure);
 						}
 					}
 				}
@@ -425,7 +471,32 @@ public class ElasticSearchProvider implements SearchProvider {
 					log.debug("Finished bulk request. Duration " + (System.currentTimeMillis() - start) + "[ms]");
 				}
 			}).toCompletable()
-			.compose(withTimeoutAndLog("Storing document batch.", true));
+			.compose(withTimeoutAndLog("Storing document batch.", false));
+	}
+
+	/**
+	 * Check the result of a single bulk item. The item contains the result for the action of the entry (index, create, update or delete). Deleting a
+	 * document which does not exist is not treated as an error since the end result is the same.
+	 * 
+	 * @param entry
+	 * @param item
+	 * @return Failure or null if the item has been processed
+	 */
+	private BulkItemException.Failure toFailure(BulkEntry entry, JsonObject item) {
+		for (String action : item.fieldNames()) {
+			JsonObject result = item.getJsonObject(action);
+			int status = result.getInteger("status", 200);
+			if (status < 300 || (status == 404 && BulkEntry.Action.DELETE.id().equals(action))) {
+				continue;
+			}
+			JsonObject error = result.getJsonObject("error", new JsonObject());
+			String reason = error.getString("type") + " : " + error.getString("reason");
+			String id = result.getString("_id");
+			String index = result.getString("_index");
+			log.error("Could not " + action + " document {" + index + ":" + id + "} - " + status + " " + reason);
+			return new BulkItemException.Failure(entry, status, reason);
+		}
+		return null;
 	}
 
 	@Override
@@ -623,4 +694,16 @@ public class ElasticSearchProvider implements SearchProvider {
 	public boolean isActive() {
 		return client != null;
 	}
+
+	/**
+	 * Payload of a single bulk request and the entries which it contains.
+	 */
+	protected static class BulkRequest {
+
+		private final List<BulkEntry> entries = new ArrayList<>();
+
+		private final StringBuilder data = new StringBuilder();
+
+	}
+
 }
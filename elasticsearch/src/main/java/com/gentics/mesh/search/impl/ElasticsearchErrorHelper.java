@@ -64,6 +64,38 @@ public final class ElasticsearchErrorHelper {
 		return false;
 	}
 
+	/**
+	 * Check whether a request which failed with the given error may succeed when it is repeated. Requests which were rejected by Elasticsearch with a
+	 * client error (e.g. because of a document which does not match the mapping) will fail again. Transport errors, timeouts and server errors are
+	 * retryable.
+	 * 
+	 * @param error
+	 * @return
+	 */
+	public static boolean isRetryableError(Throwable error) {
+		for (Throwable current = error; current != null; current = current.getCause()) {
+			if (current instanceof HttpErrorException) {
+				int status = ((HttpErrorException) current).getStatusCode();
+				return status < 400 || isRetryableStatus(status);
+			}
+			if (current.getCause() == current) {
+				break;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Check whether a request or bulk item which failed with the given status code may succeed when it is repeated. Server errors, timeouts and rejections
+	 * due to a full queue are retryable.
+	 * 
+	 * @param status
+	 * @return
+	 */
+	public static boolean isRetryableStatus(int status) {
+		return status >= 500 || status == 408 || status == 429;
+	}
+
 	/**
 	 * Extract the error from the throwable and return a user friendly error.
 	 * 
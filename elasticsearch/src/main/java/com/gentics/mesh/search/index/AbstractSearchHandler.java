@@ -10,11 +10,13 @@ import static io.netty.handler.codec.http.HttpResponseStatus.SERVICE_UNAVAILABLE
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 import java.util.function.Supplier;
+import java.util.stream.Collectors;
 
 import org.apache.commons.lang3.StringUtils;
 
@@ -46,7 +48,6 @@ import com.gentics.mesh.util.Tuple;
 import com.syncleus.ferma.tx.Tx;
 
 import io.netty.handler.codec.http.HttpResponseStatus;
-import io.reactivex.Observable;
 import io.reactivex.Single;
 import io.vertx.core.json.JsonArray;
 import io.vertx.core.json.JsonObject;
@@ -219,21 +220,24 @@ public abstract class AbstractSearchHandler<T extends MeshCoreVertex<RM, T>, RM
 		log.debug("Using options {" + queryOption.encodePrettily() + "}");
 
 		RequestBuilder<JsonObject> requestBuilder = client.multiSearch(queryOption, request);
-		requestBuilder.async().flatMapObservable(response -> {
+		requestBuilder.async().map(response -> {
 			JsonArray responses = response.getJsonArray("responses");
 			JsonObject firstResponse = responses.getJsonObject(0);
 
 			// Process the nested error
 			JsonObject errorInfo = firstResponse.getJsonObject("error");
 			if (errorInfo != null) {
-				return Observable.error(mapError(errorInfo));
+				throw mapError(errorInfo);
 			}
 
-			JsonObject hitsInfo = firstResponse.getJsonObject("hits");
+			return firstResponse.getJsonObject("hits");
+		}).map(hitsInfo -> {
 			JsonArray hits = hitsInfo.getJsonArray("hits");
 
-			List<Tuple<T, String>> list = new ArrayList<>();
-			db.tx(() -> {
+			// Load and transform the whole page within a single transaction. This way the elements which are shared by the hits (e.g. schemas,
+			// users, projects) will only be loaded once.
+			List<RM> list = db.tx(() -> {
+				List<Tuple<String, String>> ids = new ArrayList<>(hits.size());
 				for (int i = 0; i < hits.size(); i++) {
 					JsonObject hit = hits.getJsonObject(i);
 					String id = hit.getString("_id");
@@ -241,35 +245,39 @@ public abstract class AbstractSearchHandler<T extends MeshCoreVertex<RM, T>, RM
 
 					String language = pos > 0 ? id.substring(pos + 1) : null;
 					String uuid = pos > 0 ? id.substring(0, pos) : id;
+					ids.add(Tuple.tuple(uuid, language));
+				}
+
+				// Locate the elements. Multiple hits (e.g. languages of a node) may reference the same element.
+				RootVertex<T> root = rootVertex.get();
+				Map<String, T> elements = root.findByUuids(ids.stream().map(Tuple::v1).collect(Collectors.toList()));
 
-					// Locate the node
-					T element = rootVertex.get().findByUuid(uuid);
+				List<RM> transformed = new ArrayList<>(ids.size());
+				for (Tuple<String, String> id : ids) {
+					String uuid = id.v1();
+					String language = id.v2();
+					T element = elements.get(uuid);
 					if (element == null) {
-						log.warn("Object could not be found for uuid {" + uuid + "} in root vertex {" + rootVertex.get().getRootLabel()
+						log.warn("Object could not be found for uuid {" + uuid + "} in root vertex {" + root.getRootLabel()
 							+ "}. The element will be omitted.");
 						// Reduce the total count
 						hitsInfo.put("total", hitsInfo.getLong("total") - 1);
 					} else {
-						// TODO maybe it would be better to directly transform the element here.
-						list.add(Tuple.tuple(element, language));
+						// TODO add resume next to omit the item if it can't be transformed for some reason.
+						// This would be better than to just fail the whole request
+						// TODO maybe add extra permission filtering? This would not be very costly for smaller pages and ensure perm consistency?
+						transformed.add(element.transformToRestSync(ac, 0, language));
 					}
 				}
+				return transformed;
 			});
 
 			// Set meta information to the rest response
 			listResponse.setMetainfo(extractMetaInfo(hitsInfo, pagingInfo));
-
-			return Observable.fromIterable(list);
+			listResponse.getData().addAll(list);
+			return listResponse;
 		}).onErrorResumeNext(error -> {
-			return Observable.error(mapToMeshError(error));
-		}).flatMapSingle(element -> {
-			// TODO add resume next to omit the item if it can't be transformed for some reason.
-			// This would be better than to just fail the whole request
-			// TODO maybe add extra permission filtering? This would not be very costly for smaller pages and ensure perm consistency?
-			// TODO it would be good to batch the transformation of the elements to save the overhead of creating transactions and use the L1 cache.
-			return db.tx(() -> Single.just(element.v1().transformToRestSync(ac, 0, element.v2())));
-		}).collect(() -> listResponse.getData(), (x, y) -> {
-			x.add(y);
+			return Single.error(mapToMeshError(error));
 		}).subscribe(list -> {
 			ac.send(listResponse.toJson(), OK);
 		}, error -> {
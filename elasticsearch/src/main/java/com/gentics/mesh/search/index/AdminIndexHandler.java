@@ -88,7 +88,7 @@ public class AdminIndexHandler {
 	}
 
 	public void handleSync(InternalActionContext ac) {
-		db.asyncTx(() -> Single.just(ac.getUser().hasAdminRole()))
+		db.asyncTx(ac, () -> Single.just(ac.getUser().hasAdminRole()))
 			.subscribe(hasAdminRole -> {
 				if (hasAdminRole) {
 					triggerSync(ac);
@@ -99,7 +99,7 @@ public class AdminIndexHandler {
 	}
 
 	public void handleClear(InternalActionContext ac) {
-		db.asyncTx(() -> Single.just(ac.getUser().hasAdminRole())).flatMapCompletable(hasAdminRole -> {
+		db.asyncTx(ac, () -> Single.just(ac.getUser().hasAdminRole())).flatMapCompletable(hasAdminRole -> {
 			if (hasAdminRole) {
 				return searchProvider.clear().andThen(Observable.fromIterable(registry.getHandlers()).flatMapCompletable(handler -> handler.init()));
 			} else {
@@ -6,20 +6,26 @@ import static com.gentics.mesh.core.rest.error.Errors.error;
 import static com.gentics.mesh.search.SearchProvider.DEFAULT_TYPE;
 import static io.netty.handler.codec.http.HttpResponseStatus.INTERNAL_SERVER_ERROR;
 
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
+import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
+import javax.inject.Inject;
+
 import com.gentics.elasticsearch.client.HttpErrorException;
 import com.gentics.elasticsearch.client.okhttp.RequestBuilder;
+import com.gentics.mesh.Mesh;
 import com.gentics.mesh.cli.BootstrapInitializer;
 import com.gentics.mesh.core.data.MeshCoreVertex;
 import com.gentics.mesh.core.data.search.CreateIndexEntry;
 import com.gentics.mesh.core.data.search.IndexHandler;
 import com.gentics.mesh.core.data.search.SearchQueue;
-import com.gentics.mesh.core.data.search.SearchQueueBatch;
+import com.gentics.mesh.core.data.search.SearchQueueEntryAction;
 import com.gentics.mesh.core.data.search.UpdateDocumentEntry;
 import com.gentics.mesh.core.data.search.bulk.DeleteBulkEntry;
 import com.gentics.mesh.core.data.search.bulk.IndexBulkEntry;
@@ -27,14 +33,17 @@ import com.gentics.mesh.core.data.search.bulk.UpdateBulkEntry;
 import com.gentics.mesh.core.data.search.context.GenericEntryContext;
 import com.gentics.mesh.core.data.search.context.impl.GenericEntryContextImpl;
 import com.gentics.mesh.core.data.search.index.IndexInfo;
+import com.gentics.mesh.etc.config.search.ElasticSearchOptions;
 import com.gentics.mesh.graphdb.spi.Database;
+import com.gentics.mesh.metric.MetricsService;
 import com.gentics.mesh.search.SearchProvider;
 import com.gentics.mesh.search.impl.SearchClient;
 import com.gentics.mesh.search.index.MappingProvider;
 import com.gentics.mesh.search.index.Transformer;
 import com.gentics.mesh.search.index.metric.SyncMetric;
-import com.google.common.collect.MapDifference;
-import com.google.common.collect.Maps;
+import com.gentics.mesh.search.index.sync.IndexSyncDiff;
+import com.gentics.mesh.search.index.sync.IndexSyncWriter;
+import com.gentics.mesh.search.index.sync.VersionScanner;
 import com.syncleus.ferma.tx.Tx;
 
 import io.reactivex.Completable;
@@ -66,6 +75,9 @@ public abstract class AbstractIndexHandler<T extends MeshCoreVertex<?, T>> imple
 
 	protected SearchQueue searchQueue;
 
+	@Inject
+	public MetricsService metrics;
+
 	public AbstractIndexHandler(SearchProvider searchProvider, Database db, BootstrapInitializer boot, SearchQueue searchQueue) {
 		this.searchProvider = searchProvider;
 		this.db = db;
@@ -175,89 +187,110 @@ public abstract class AbstractIndexHandler<T extends MeshCoreVertex<?, T>> imple
 	}
 
 	/**
-	 * Diff the source (graph) with the sink (ES index) and create {@link SearchQueueBatch} objects add, delete or update entries.
+	 * Diff the source (graph) with the sink (ES index) and process the needed add, delete or update entries.
 	 * 
 	 * @param indexName
 	 * @param projectUuid
 	 * @param metric
 	 * @return
-	 * @throws HttpErrorException
 	 */
-	protected Completable diffAndSync(String indexName, String projectUuid, SyncMetric metric) throws HttpErrorException {
-
-		log.info("Handling index sync on handler {" + getClass().getName() + "}");
-
-		try (Tx tx = db.tx()) {
-
-			// 1. Load versions from the local graph (source of truth)
-			Map<String, String> sourceVersions = loadVersionsFromGraph();
-
-			// 2. Load the version from the elasticsearch index (sink)
-			Map<String, String> sinkVersions = loadVersionsFromIndex(indexName);
-
-			// 3. Diff the maps
-			MapDifference<String, String> diff = Maps.difference(sourceVersions, sinkVersions);
-			if (diff.areEqual()) {
-				log.info("No diff detected. Index {" + indexName + "} is in sync.");
-				return Completable.complete();
-			}
-
-			Set<String> needInsertionInES = diff.entriesOnlyOnLeft().keySet();
-			Set<String> needRemovalInES = diff.entriesOnlyOnRight().keySet();
-			Set<String> needUpdate = diff.entriesDiffering().keySet();
-
-			log.info("Pending insertions on {" + indexName + "}:" + needInsertionInES.size());
-			log.info("Pending removals on {" + indexName + "}:" + needRemovalInES.size());
-			log.info("Pending updates on {" + indexName + "}:" + needUpdate.size());
-
-			metric.incInsert(needInsertionInES.size());
-			metric.incDelete(needRemovalInES.size());
-			metric.incUpdate(needUpdate.size());
-
-			// 4. Create the SQB's
-			SearchQueueBatch storeBatch = searchQueue.create();
-			for (String uuid : needInsertionInES) {
-				GenericEntryContext context = new GenericEntryContextImpl();
-				context.setProjectUuid(projectUuid);
-				UpdateDocumentEntry entry = new UpdateDocumentEntryImpl(this, uuid, context, STORE_ACTION);
-				entry.setOnProcessAction(metric::decInsert);
-				storeBatch.addEntry(entry);
-			}
-			SearchQueueBatch removalBatch = searchQueue.create();
-			for (String uuid : needRemovalInES) {
-				GenericEntryContext context = new GenericEntryContextImpl();
-				context.setProjectUuid(projectUuid);
-				UpdateDocumentEntry entry = new UpdateDocumentEntryImpl(this, uuid, context, DELETE_ACTION);
-				entry.setOnProcessAction(metric::decDelete);
-				removalBatch.addEntry(entry);
-			}
-			SearchQueueBatch updateBatch = searchQueue.create();
-			for (String uuid : needUpdate) {
+	protected Completable diffAndSync(String indexName, String projectUuid, SyncMetric metric) {
+		return Completable.fromAction(() -> {
+			log.info("Handling index sync on handler {" + getClass().getName() + "}");
+			// Each scan uses a dedicated transaction since the differences are written to the index in between
+			VersionScanner source = (filter, consumer) -> {
+				try (Tx tx = db.tx()) {
+					for (T element : getRootVertex().findAll()) {
+						String uuid = element.getUuid();
+						if (filter.test(uuid)) {
+							consumer.accept(uuid, generateVersion(element));
+						}
+					}
+				}
+			};
+			diffAndSync(indexName, source, (uuid, action) -> {
 				GenericEntryContext context = new GenericEntryContextImpl();
 				context.setProjectUuid(projectUuid);
-				UpdateDocumentEntry entry = new UpdateDocumentEntryImpl(this, uuid, context, STORE_ACTION);
-				entry.setOnProcessAction(metric::decUpdate);
-				updateBatch.addEntry(entry);
-			}
+				return new UpdateDocumentEntryImpl(this, uuid, context, action);
+			}, metric);
+		});
+	}
 
-			// 5. Process the SQB's
-			return Completable.mergeArray(removalBatch.processAsync(), storeBatch.processAsync(), updateBatch.processAsync());
+	/**
+	 * Compare the versions of the source with the versions which are stored in the index. The differences are streamed into batches which are processed
+	 * once the bulk limit has been reached. The amount of versions which are kept in memory is bounded by the configured sync diff limit. This method must
+	 * not be invoked within a transaction. The source is expected to open its own transaction for each scan.
+	 * 
+	 * @param indexName
+	 *            Name of the index
+	 * @param source
+	 *            Scanner for the ids and versions of the graph elements
+	 * @param entryFactory
+	 *            Factory for the entries of a document id and action
+	 * @param metric
+	 * @throws Exception
+	 */
+	protected void diffAndSync(String indexName, VersionScanner source, BiFunction<String, SearchQueueEntryAction, UpdateDocumentEntry> entryFactory,
+		SyncMetric metric) throws Exception {
+		ElasticSearchOptions options = Mesh.mesh().getOptions().getSearchOptions();
+		AtomicLong inserts = new AtomicLong();
+		AtomicLong updates = new AtomicLong();
+		AtomicLong deletes = new AtomicLong();
+
+		IndexSyncDiff diff = new IndexSyncDiff(options.getSyncDiffLimit());
+		VersionScanner sink = (filter, consumer) -> scanVersionsFromIndex(indexName, filter, consumer);
+		int passes;
+		try (IndexSyncWriter writer = new IndexSyncWriter(searchQueue, options.getBulkLimit())) {
+			passes = diff.run(source, sink, new IndexSyncDiff.DiffHandler() {
+
+				@Override
+				public void insert(String id) {
+					inserts.incrementAndGet();
+					metric.incInsert(1);
+					UpdateDocumentEntry entry = entryFactory.apply(id, STORE_ACTION);
+					entry.setOnProcessAction(metric::decInsert);
+					writer.add(entry);
+				}
+
+				@Override
+				public void update(String id) {
+					updates.incrementAndGet();
+					metric.incUpdate(1);
+					UpdateDocumentEntry entry = entryFactory.apply(id, STORE_ACTION);
+					entry.setOnProcessAction(metric::decUpdate);
+					writer.add(entry);
+				}
 
+				@Override
+				public void delete(String id) {
+					deletes.incrementAndGet();
+					metric.incDelete(1);
+					UpdateDocumentEntry entry = entryFactory.apply(id, DELETE_ACTION);
+					entry.setOnProcessAction(metric::decDelete);
+					writer.add(entry);
+				}
+			});
+			writer.flush();
 		}
-	}
 
-	private Map<String, String> loadVersionsFromGraph() {
-		Map<String, String> versions = new HashMap<>();
-		for (T element : getRootVertex().findAll()) {
-			String v = generateVersion(element);
-			versions.put(element.getUuid(), v);
+		if (passes == 0) {
+			log.info("No diff detected. Index {" + indexName + "} is in sync.");
+		} else {
+			log.info("Synced index {" + indexName + "} in {" + passes + "} passes. Insertions: " + inserts.get() + ", updates: " + updates.get()
+				+ ", removals: " + deletes.get());
 		}
-		return versions;
 	}
 
-	public Map<String, String> loadVersionsFromIndex(String indexName) throws HttpErrorException {
+	/**
+	 * Scroll through the documents of the given index and pass the id and version of the documents which match the filter to the consumer.
+	 * 
+	 * @param indexName
+	 * @param filter
+	 * @param consumer
+	 * @throws HttpErrorException
+	 */
+	protected void scanVersionsFromIndex(String indexName, Predicate<String> filter, BiConsumer<String, String> consumer) throws HttpErrorException {
 		String fullIndexName = searchProvider.installationPrefix() + indexName;
-		Map<String, String> versions = new HashMap<>();
 		log.debug("Loading document info from index {" + fullIndexName + "}");
 		SearchClient client = searchProvider.getClient();
 		JsonObject query = new JsonObject();
@@ -274,7 +307,7 @@ public abstract class AbstractIndexHandler<T extends MeshCoreVertex<?, T>> imple
 				log.trace("Got response {" + result.encodePrettily() + "}");
 			}
 			JsonArray hits = result.getJsonObject("hits").getJsonArray("hits");
-			processHits(hits, versions);
+			processHits(hits, filter, consumer);
 
 			// Check whether we need to process more scrolls
 			if (hits.size() != 0) {
@@ -289,7 +322,7 @@ public abstract class AbstractIndexHandler<T extends MeshCoreVertex<?, T>> imple
 							log.trace("Got response {" + scrollHits.encodePrettily() + "}");
 						}
 						if (scrollHits.size() != 0) {
-							processHits(scrollHits, versions);
+							processHits(scrollHits, filter, consumer);
 							// Update the scrollId for the next fetch
 							nextScrollId = scrollResult.getString("_scroll_id");
 							if (log.isDebugEnabled()) {
@@ -310,17 +343,16 @@ public abstract class AbstractIndexHandler<T extends MeshCoreVertex<?, T>> imple
 			log.error(e);
 			throw e;
 		}
-
-		return versions;
 	}
 
-	protected void processHits(JsonArray hits, Map<String, String> versions) {
+	protected void processHits(JsonArray hits, Predicate<String> filter, BiConsumer<String, String> consumer) {
 		for (int i = 0; i < hits.size(); i++) {
 			JsonObject hit = hits.getJsonObject(i);
 			JsonObject source = hit.getJsonObject("_source");
 			String uuid = source.getString("uuid");
-			String version = source.getString("version");
-			versions.put(uuid, version);
+			if (filter.test(uuid)) {
+				consumer.accept(uuid, source.getString("version"));
+			}
 		}
 	}
 
@@ -372,7 +404,7 @@ public abstract class AbstractIndexHandler<T extends MeshCoreVertex<?, T>> imple
 
 	@Override
 	public Map<String, Object> getMetrics() {
-		return SyncMetric.fetch(getType());
+		return SyncMetric.fetch(metrics, getType());
 	}
 
 	/**
@@ -59,6 +59,11 @@ public class UpdateDocumentEntryImpl extends AbstractEntry<GenericEntryContext>
 		return elementUuid;
 	}
 
+	@Override
+	public IndexHandler<?> getIndexHandler() {
+		return indexHandler;
+	}
+
 	@Override
 	public Observable<? extends BulkEntry> process() {
 		switch (elementAction) {
@@ -88,7 +88,7 @@ public class GroupIndexHandler extends AbstractIndexHandler<Group> {
 	@Override
 	public Completable syncIndices() {
 		return Completable.defer(() -> {
-			return diffAndSync(Group.composeIndexName(), null, new SyncMetric(getType()));
+			return diffAndSync(Group.composeIndexName(), null, new SyncMetric(metrics, getType()));
 		});
 	}
 
@@ -7,7 +7,7 @@ import java.util.SortedMap;
 import com.codahale.metrics.Counter;
 import com.codahale.metrics.Meter;
 import com.codahale.metrics.MetricRegistry;
-import com.codahale.metrics.SharedMetricRegistries;
+import com.gentics.mesh.metric.MetricsService;
 
 import io.vertx.core.logging.Logger;
 import io.vertx.core.logging.LoggerFactory;
@@ -19,8 +19,6 @@ public class SyncMetric {
 
 	private static final Logger log = LoggerFactory.getLogger(SyncMetric.class);
 
-	private static final MetricRegistry metricRegistry = SharedMetricRegistries.getOrCreate("mesh");
-
 	private Counter insertTotal;
 	private Counter deleteTotal;
 	private Counter updateTotal;
@@ -36,9 +34,11 @@ public class SyncMetric {
 	/**
 	 * Create a new metric object and reset all managed metrics for the given type.
 	 * 
+	 * @param metrics
 	 * @param type
 	 */
-	public SyncMetric(String type) {
+	public SyncMetric(MetricsService metrics, String type) {
+		MetricRegistry metricRegistry = metrics.getMetricRegistry();
 		insertTotal = metricRegistry.counter("index.sync." + type + ".insert.total");
 		deleteTotal = metricRegistry.counter("index.sync." + type + ".delete.total");
 		updateTotal = metricRegistry.counter("index.sync." + type + ".update.total");
@@ -55,22 +55,24 @@ public class SyncMetric {
 	/**
 	 * Helper method which will load a snapshot of all metrics and return a map which lists them.
 	 * 
+	 * @param metrics
 	 * @param type
 	 * @return
 	 */
-	public static Map<String, Object> fetch(String type) {
+	public static Map<String, Object> fetch(MetricsService metrics, String type) {
+		MetricRegistry metricRegistry = metrics.getMetricRegistry();
 		Map<String, Object> map = new HashMap<>();
-		long insertTotal = getCount("index.sync." + type + ".insert.total", 0);
-		long deleteTotal = getCount("index.sync." + type + ".delete.total", 0);
-		long updateTotal = getCount("index.sync." + type + ".update.total", 0);
+		long insertTotal = getCount(metricRegistry, "index.sync." + type + ".insert.total", 0);
+		long deleteTotal = getCount(metricRegistry, "index.sync." + type + ".delete.total", 0);
+		long updateTotal = getCount(metricRegistry, "index.sync." + type + ".update.total", 0);
 
 		map.put("insert.total", insertTotal);
 		map.put("delete.total", deleteTotal);
 		map.put("update.total", updateTotal);
 
-		long insertPending = getCount("index.sync." + type + ".insert.pending", 0);
-		long deletePending = getCount("index.sync." + type + ".delete.pending", 0);
-		long updatePending = getCount("index.sync." + type + ".update.pending", 0);
+		long insertPending = getCount(metricRegistry, "index.sync." + type + ".insert.pending", 0);
+		long deletePending = getCount(metricRegistry, "index.sync." + type + ".delete.pending", 0);
+		long updatePending = getCount(metricRegistry, "index.sync." + type + ".update.pending", 0);
 
 		map.put("insert.pending", insertPending);
 		map.put("delete.pending", deletePending);
@@ -78,8 +80,7 @@ public class SyncMetric {
 		return map;
 	}
 
-	private static long getCount(String name, long fallback) {
-		MetricRegistry registry = SharedMetricRegistries.getOrCreate("mesh");
+	private static long getCount(MetricRegistry registry, String name, long fallback) {
 		SortedMap<String, Counter> counters = registry.getCounters();
 		Counter counter = counters.get(name);
 		if (counter == null) {
@@ -91,12 +92,14 @@ public class SyncMetric {
 
 	/**
 	 * Removes all sync metrics.
+	 * 
+	 * @param metrics
 	 */
-	public static void reset() {
+	public static void reset(MetricsService metrics) {
 		if (log.isDebugEnabled()) {
 			log.debug("Resetting all index.sync metrics by removing them.");
 		}
-		metricRegistry.removeMatching((name, metric) -> {
+		metrics.getMetricRegistry().removeMatching((name, metric) -> {
 			return name.startsWith("index.sync");
 		});
 	}
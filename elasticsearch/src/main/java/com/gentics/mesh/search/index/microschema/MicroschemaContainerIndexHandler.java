@@ -71,7 +71,7 @@ public class MicroschemaContainerIndexHandler extends AbstractIndexHandler<Micro
 	@Override
 	public Completable syncIndices() {
 		return Completable.defer(() -> {
-			return diffAndSync(MicroschemaContainer.composeIndexName(), null, new SyncMetric(getType()));
+			return diffAndSync(MicroschemaContainer.composeIndexName(), null, new SyncMetric(metrics, getType()));
 		});
 	}
 
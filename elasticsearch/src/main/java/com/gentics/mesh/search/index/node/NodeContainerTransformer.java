@@ -70,7 +70,7 @@ public class NodeContainerTransformer extends AbstractTransformer<NodeGraphField
 
 	private static final Logger log = LoggerFactory.getLogger(NodeContainerTransformer.class);
 
-	private static final String VERSION_KEY = "version";
+	public static final String VERSION_KEY = "version";
 
 	private SearchProvider searchProvider;
 
@@ -450,8 +450,23 @@ public class NodeContainerTransformer extends AbstractTransformer<NodeGraphField
 
 	public String generateVersion(NodeGraphFieldContainer container, String branchUuid, ContainerType type) {
 		Node node = container.getParentNode();
-		Project project = node.getProject();
+		return generateVersion(container, node, node.getProject(), branchUuid, type);
+	}
 
+	/**
+	 * Generate the version of the document for the given container. The node and project of the container are passed in so that callers which already
+	 * loaded them don't need to traverse the graph again.
+	 * 
+	 * @param container
+	 * @param node
+	 *            Parent node of the container
+	 * @param project
+	 *            Project of the node
+	 * @param branchUuid
+	 * @param type
+	 * @return
+	 */
+	public String generateVersion(NodeGraphFieldContainer container, Node node, Project project, String branchUuid, ContainerType type) {
 		StringBuilder builder = new StringBuilder();
 		builder.append(container.getElementVersion());
 		builder.append("|");
@@ -2,8 +2,6 @@ package com.gentics.mesh.search.index.node;
 
 import static com.gentics.mesh.core.data.ContainerType.DRAFT;
 import static com.gentics.mesh.core.data.ContainerType.PUBLISHED;
-import static com.gentics.mesh.core.data.search.SearchQueueEntryAction.DELETE_ACTION;
-import static com.gentics.mesh.core.data.search.SearchQueueEntryAction.STORE_ACTION;
 import static com.gentics.mesh.core.rest.error.Errors.error;
 import static com.gentics.mesh.search.SearchProvider.DEFAULT_TYPE;
 import static io.netty.handler.codec.http.HttpResponseStatus.INTERNAL_SERVER_ERROR;
@@ -15,12 +13,14 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
 import javax.inject.Inject;
 import javax.inject.Singleton;
 
-import com.gentics.elasticsearch.client.HttpErrorException;
+import com.gentics.mesh.Mesh;
 import com.gentics.mesh.cli.BootstrapInitializer;
 import com.gentics.mesh.context.InternalActionContext;
 import com.gentics.mesh.core.data.Branch;
@@ -30,10 +30,10 @@ import com.gentics.mesh.core.data.Project;
 import com.gentics.mesh.core.data.node.Node;
 import com.gentics.mesh.core.data.relationship.GraphPermission;
 import com.gentics.mesh.core.data.root.RootVertex;
+import com.gentics.mesh.core.data.schema.SchemaContainer;
 import com.gentics.mesh.core.data.schema.SchemaContainerVersion;
 import com.gentics.mesh.core.data.search.MoveDocumentEntry;
 import com.gentics.mesh.core.data.search.SearchQueue;
-import com.gentics.mesh.core.data.search.SearchQueueBatch;
 import com.gentics.mesh.core.data.search.UpdateDocumentEntry;
 import com.gentics.mesh.core.data.search.bulk.BulkEntry;
 import com.gentics.mesh.core.data.search.bulk.DeleteBulkEntry;
@@ -50,13 +50,14 @@ import com.gentics.mesh.search.SearchProvider;
 import com.gentics.mesh.search.index.entry.AbstractIndexHandler;
 import com.gentics.mesh.search.index.entry.UpdateDocumentEntryImpl;
 import com.gentics.mesh.search.index.metric.SyncMetric;
-import com.google.common.collect.MapDifference;
-import com.google.common.collect.Maps;
+import com.gentics.mesh.search.index.sync.VersionScanner;
 import com.syncleus.ferma.tx.Tx;
 
 import io.reactivex.Completable;
+import io.reactivex.Flowable;
 import io.reactivex.Observable;
 import io.reactivex.Single;
+import io.reactivex.schedulers.Schedulers;
 import io.vertx.core.json.JsonArray;
 import io.vertx.core.json.JsonObject;
 import io.vertx.core.logging.Logger;
@@ -202,118 +203,81 @@ public class NodeIndexHandler extends AbstractIndexHandler<Node> {
 	public Completable syncIndices() {
 		return Completable.defer(() -> {
 			return db.tx(() -> {
-				SyncMetric metric = new SyncMetric(getType());
-				Set<Completable> actions = new HashSet<>();
+				SyncMetric metric = new SyncMetric(metrics, getType());
+				List<Completable> actions = new ArrayList<>();
 				for (Project project : boot.meshRoot().getProjectRoot().findAll()) {
 					for (Branch branch : project.getBranchRoot().findAll()) {
 						for (SchemaContainerVersion version : branch.findActiveSchemaVersions()) {
 							for (ContainerType type : Arrays.asList(DRAFT, PUBLISHED)) {
-								actions.add(diffAndSync(project, branch, version, type, metric));
+								actions.add(diffAndSync(project.getUuid(), branch.getUuid(), version.getSchemaContainer().getUuid(), version.getUuid(), type,
+									metric).subscribeOn(Schedulers.io()));
 							}
 						}
 					}
 				}
 				// Nothing will be synced if there is no managed index
-				return Completable.merge(actions);
+				int concurrency = Mesh.mesh().getOptions().getSearchOptions().getSyncConcurrency();
+				return Completable.merge(Flowable.fromIterable(actions), concurrency);
 			});
 		});
 	}
 
-	private Map<String, String> loadVersionsFromGraph(Branch branch, SchemaContainerVersion version, ContainerType type) {
-		Map<String, String> versions = new HashMap<>();
-		String branchUuid = branch.getUuid();
-		version.getFieldContainers(branchUuid)
-			.filter(c -> c.getSchemaContainerVersion().equals(version))
-			.filter(c -> c.isType(type, branchUuid))
-			.forEach(c -> {
-				String v = generateVersion(c, branchUuid, type);
-				versions.put(c.getParentNode().getUuid() + "-" + c.getLanguageTag(), v);
-			});
-		return versions;
-	}
-
 	/**
 	 * We need to override the default method since the UUID alone is not enough to id a document in the node index. We also need to append the language.
 	 */
 	@Override
-	protected void processHits(JsonArray hits, Map<String, String> versions) {
+	protected void processHits(JsonArray hits, Predicate<String> filter, BiConsumer<String, String> consumer) {
 		for (int i = 0; i < hits.size(); i++) {
 			JsonObject hit = hits.getJsonObject(i);
-			JsonObject source = hit.getJsonObject("_source");
 			// The id contains the UUID + language
 			String uuidAndLang = hit.getString("_id");
-			String version = source.getString("version");
-			versions.put(uuidAndLang, version);
+			if (filter.test(uuidAndLang)) {
+				JsonObject source = hit.getJsonObject("_source");
+				consumer.accept(uuidAndLang, source.getString("version"));
+			}
 		}
 	}
 
-	private Completable diffAndSync(Project project, Branch branch, SchemaContainerVersion version, ContainerType type, SyncMetric metric)
-		throws HttpErrorException {
-		String indexName = NodeGraphFieldContainer.composeIndexName(project.getUuid(), branch.getUuid(),
-			version.getUuid(), type);
-
-		log.info("Handling index sync on handler {" + getClass().getName() + "}");
+	private Completable diffAndSync(String projectUuid, String branchUuid, String schemaUuid, String versionUuid, ContainerType type, SyncMetric metric) {
+		return Completable.fromAction(() -> {
+			String indexName = NodeGraphFieldContainer.composeIndexName(projectUuid, branchUuid, versionUuid, type);
+			log.info("Handling index sync on handler {" + getClass().getName() + "} for index {" + indexName + "}");
 
-		try (Tx tx = db.tx()) {
-
-			// 1. Load versions from the local graph (source of truth)
-			Map<String, String> sourceVersions = loadVersionsFromGraph(branch, version, type);
-
-			// 2. Load the version from the elasticsearch index (sink)
-			Map<String, String> sinkVersions = loadVersionsFromIndex(indexName);
-
-			// 3. Diff the maps
-			MapDifference<String, String> diff = Maps.difference(sourceVersions, sinkVersions);
-			if (diff.areEqual()) {
-				return Completable.complete();
+			boolean exists = db.tx(() -> {
+				if (findVersion(schemaUuid, versionUuid) == null) {
+					log.warn("Schema version {" + versionUuid + "} for index {" + indexName + "} could not be found. Skipping sync.");
+					return false;
+				}
+				if (boot.meshRoot().getProjectRoot().findByUuid(projectUuid) == null) {
+					log.warn("Project {" + projectUuid + "} for index {" + indexName + "} could not be found. Skipping sync.");
+					return false;
+				}
+				return true;
+			});
+			if (!exists) {
+				return;
 			}
-			Set<String> needInsertionInES = diff.entriesOnlyOnLeft().keySet();
-			Set<String> needRemovalInES = diff.entriesOnlyOnRight().keySet();
-			Set<String> needUpdate = diff.entriesDiffering().keySet();
-
-			log.info("Pending insertions on {" + indexName + "}:" + needInsertionInES.size());
-			log.info("Pending removals on {" + indexName + "}:" + needRemovalInES.size());
-			log.info("Pending updates on {" + indexName + "}:" + needUpdate.size());
-
-			metric.incInsert(needInsertionInES.size());
-			metric.incDelete(needRemovalInES.size());
-			metric.incUpdate(needUpdate.size());
 
-			String versionUuid = version.getUuid();
-			String projectUuid = project.getUuid();
-			String branchUuid = branch.getUuid();
+			// The containers are streamed from the graph (source of truth). Each scan uses a dedicated transaction since the differences are written to the
+			// index in between.
+			VersionScanner source = (filter, consumer) -> {
+				try (Tx tx = db.tx()) {
+					SchemaContainerVersion version = findVersion(schemaUuid, versionUuid);
+					Project project = boot.meshRoot().getProjectRoot().findByUuid(projectUuid);
+					version.getFieldContainers(branchUuid)
+						.filter(c -> c.getSchemaContainerVersion().equals(version))
+						.filter(c -> c.isType(type, branchUuid))
+						.forEach(c -> {
+							Node node = c.getParentNode();
+							String id = NodeGraphFieldContainer.composeDocumentId(node.getUuid(), c.getLanguageTag());
+							if (filter.test(id)) {
+								consumer.accept(id, transformer.generateVersion(c, node, project, branchUuid, type));
+							}
+						});
+				}
+			};
 
-			// 4. Create the SQB's
-			SearchQueueBatch storeBatch = searchQueue.create();
-			for (String uuidLang : needInsertionInES) {
-				String uuid = uuidLang.substring(0, uuidLang.indexOf("-"));
-				String lang = uuidLang.substring(uuidLang.indexOf("-") + 1);
-				GenericEntryContext context = new GenericEntryContextImpl();
-				context.setContainerType(type);
-				context.setProjectUuid(projectUuid);
-				context.setBranchUuid(branchUuid);
-				context.setLanguageTag(lang);
-				context.setSchemaContainerVersionUuid(versionUuid);
-				UpdateDocumentEntry entry = new UpdateDocumentEntryImpl(this, uuid, context, STORE_ACTION);
-				entry.setOnProcessAction(metric::decInsert);
-				storeBatch.addEntry(entry);
-			}
-			SearchQueueBatch removalBatch = searchQueue.create();
-			for (String uuidLang : needRemovalInES) {
-				String uuid = uuidLang.substring(0, uuidLang.indexOf("-"));
-				String lang = uuidLang.substring(uuidLang.indexOf("-") + 1);
-				GenericEntryContext context = new GenericEntryContextImpl();
-				context.setContainerType(type);
-				context.setProjectUuid(projectUuid);
-				context.setBranchUuid(branchUuid);
-				context.setSchemaContainerVersionUuid(versionUuid);
-				context.setLanguageTag(lang);
-				UpdateDocumentEntry entry = new UpdateDocumentEntryImpl(this, uuid, context, DELETE_ACTION);
-				entry.setOnProcessAction(metric::decDelete);
-				removalBatch.addEntry(entry);
-			}
-			SearchQueueBatch updateBatch = searchQueue.create();
-			for (String uuidLang : needUpdate) {
+			diffAndSync(indexName, source, (uuidLang, action) -> {
 				String uuid = uuidLang.substring(0, uuidLang.indexOf("-"));
 				String lang = uuidLang.substring(uuidLang.indexOf("-") + 1);
 				GenericEntryContext context = new GenericEntryContextImpl();
@@ -322,16 +286,14 @@ public class NodeIndexHandler extends AbstractIndexHandler<Node> {
 				context.setBranchUuid(branchUuid);
 				context.setSchemaContainerVersionUuid(versionUuid);
 				context.setLanguageTag(lang);
-				UpdateDocumentEntry entry = new UpdateDocumentEntryImpl(this, uuid, context, STORE_ACTION);
-				entry.setOnProcessAction(metric::decUpdate);
-				updateBatch.addEntry(entry);
-			}
-
-			// 5. Process the SQB's
-			return Completable.mergeArray(removalBatch.processAsync(), storeBatch.processAsync(), updateBatch.processAsync());
-
-		}
+				return new UpdateDocumentEntryImpl(this, uuid, context, action);
+			}, metric);
+		});
+	}
 
+	private SchemaContainerVersion findVersion(String schemaUuid, String versionUuid) {
+		SchemaContainer schema = boot.schemaContainerRoot().findByUuid(schemaUuid);
+		return schema == null ? null : schema.findVersionByUuid(versionUuid);
 	}
 
 	@Override
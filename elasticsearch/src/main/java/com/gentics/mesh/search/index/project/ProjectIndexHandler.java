@@ -72,7 +72,7 @@ public class ProjectIndexHandler extends AbstractIndexHandler<Project> {
 	@Override
 	public Completable syncIndices() {
 		return Completable.defer(() -> {
-			return diffAndSync(Project.composeIndexName(), null, new SyncMetric(getType()));
+			return diffAndSync(Project.composeIndexName(), null, new SyncMetric(metrics, getType()));
 		});
 	}
 
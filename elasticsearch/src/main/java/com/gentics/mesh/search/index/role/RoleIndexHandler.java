@@ -79,7 +79,7 @@ public class RoleIndexHandler extends AbstractIndexHandler<Role> {
 	@Override
 	public Completable syncIndices() {
 		return Completable.defer(() -> {
-			return diffAndSync(Role.composeIndexName(), null, new SyncMetric(getType()));
+			return diffAndSync(Role.composeIndexName(), null, new SyncMetric(metrics, getType()));
 		});
 	}
 
@@ -72,7 +72,7 @@ public class SchemaContainerIndexHandler extends AbstractIndexHandler<SchemaCont
 	@Override
 	public Completable syncIndices() {
 		return Completable.defer(() -> {
-			return diffAndSync(SchemaContainer.composeIndexName(), null, new SyncMetric(getType()));
+			return diffAndSync(SchemaContainer.composeIndexName(), null, new SyncMetric(metrics, getType()));
 		});
 	}
 
@@ -0,0 +1,201 @@
+package com.gentics.mesh.search.index.sync;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import io.vertx.core.logging.Logger;
+import io.vertx.core.logging.LoggerFactory;
+
+/**
+ * Memory bounded comparison of the document versions of the graph (source) and the search index (sink).
+ *
+ * The documents are distributed into buckets using the hash of their id. The first pass scans both sides and only keeps a count and an order independent
+ * checksum of the ids and versions per bucket. This pass still needs the version of every document, so the source generates the versions of all documents.
+ * Buckets which match on both sides are in sync and need no further processing. The differing buckets are then compared in one or more passes. Each pass
+ * loads the sink versions of a group of buckets into memory and streams the source versions against them. Only the documents of these buckets are passed
+ * to the consumer of the source. The groups are chosen so that a pass never holds more than the configured limit of sink versions.
+ *
+ * The diff bounds the amount of versions in memory. It does not reduce the amount of versions which are generated since every document is scanned at
+ * least once.
+ */
+public class IndexSyncDiff {
+
+	private static final Logger log = LoggerFactory.getLogger(IndexSyncDiff.class);
+
+	public static final int BUCKET_COUNT = 1024;
+
+	/**
+	 * Amount of passes above which a warning will be logged since each pass scans the source and the sink again.
+	 */
+	public static final int WARN_PASS_COUNT = 4;
+
+	private final int limit;
+
+	private final int[] sourceCounts = new int[BUCKET_COUNT];
+
+	private final int[] sinkCounts = new int[BUCKET_COUNT];
+
+	private final long[] sourceChecksums = new long[BUCKET_COUNT];
+
+	private final long[] sinkChecksums = new long[BUCKET_COUNT];
+
+	/**
+	 * Create a new diff.
+	 *
+	 * @param limit
+	 *            Maximum amount of sink versions which will be kept in memory during a pass
+	 */
+	public IndexSyncDiff(int limit) {
+		this.limit = limit;
+	}
+
+	/**
+	 * Compare the source with the sink and invoke the handler for each document which needs to be inserted, updated or deleted in the sink. The first pass
+	 * scans all documents of the source and the sink. Each following pass scans them again but only the documents of the differing buckets are compared.
+	 *
+	 * @param source
+	 * @param sink
+	 * @param handler
+	 * @return Amount of passes which were needed to compare the differing buckets
+	 * @throws Exception
+	 */
+	public int run(VersionScanner source, VersionScanner sink, DiffHandler handler) throws Exception {
+		source.scan(id -> true, (id, version) -> add(sourceCounts, sourceChecksums, id, version));
+		sink.scan(id -> true, (id, version) -> add(sinkCounts, sinkChecksums, id, version));
+
+		List<BitSet> passes = planPasses();
+		if (passes.size() > WARN_PASS_COUNT) {
+			log.warn("The comparison of the differing documents needs {" + passes.size() + "} passes. Each pass scans the graph and the index again. "
+				+ "Increasing the search.syncDiffLimit setting (currently {" + limit + "}) reduces the amount of passes but needs more heap memory.");
+		}
+		for (BitSet buckets : passes) {
+			compare(buckets, source, sink, handler);
+		}
+		return passes.size();
+	}
+
+	/**
+	 * Group the differing buckets into passes which do not exceed the limit.
+	 *
+	 * @return
+	 */
+	protected List<BitSet> planPasses() {
+		List<BitSet> passes = new ArrayList<>();
+		BitSet current = new BitSet(BUCKET_COUNT);
+		long currentSize = 0;
+		for (int i = 0; i < BUCKET_COUNT; i++) {
+			if (sourceCounts[i] == sinkCounts[i] && sourceChecksums[i] == sinkChecksums[i]) {
+				continue;
+			}
+			if (!current.isEmpty() && currentSize + sinkCounts[i] > limit) {
+				passes.add(current);
+				current = new BitSet(BUCKET_COUNT);
+				currentSize = 0;
+			}
+			current.set(i);
+			currentSize += sinkCounts[i];
+		}
+		if (!current.isEmpty()) {
+			passes.add(current);
+		}
+		return passes;
+	}
+
+	private void compare(BitSet buckets, VersionScanner source, VersionScanner sink, DiffHandler handler) throws Exception {
+		long sourceSize = 0;
+		long sinkSize = 0;
+		for (int i = buckets.nextSetBit(0); i >= 0; i = buckets.nextSetBit(i + 1)) {
+			sourceSize += sourceCounts[i];
+			sinkSize += sinkCounts[i];
+		}
+		if (log.isDebugEnabled()) {
+			log.debug("Comparing {" + buckets.cardinality() + "} buckets with {" + sourceSize + "} source and {" + sinkSize + "} sink documents");
+		}
+
+		Map<String, String> sinkVersions = new HashMap<>();
+		if (sinkSize > 0) {
+			sink.scan(id -> buckets.get(bucket(id)), sinkVersions::put);
+		}
+		if (sourceSize > 0) {
+			source.scan(id -> buckets.get(bucket(id)), (id, version) -> {
+				if (!sinkVersions.containsKey(id)) {
+					handler.insert(id);
+				} else if (!Objects.equals(sinkVersions.remove(id), version)) {
+					handler.update(id);
+				}
+			});
+		}
+		for (String id : sinkVersions.keySet()) {
+			handler.delete(id);
+		}
+	}
+
+	private static void add(int[] counts, long[] checksums, String id, String version) {
+		int bucket = bucket(id);
+		counts[bucket]++;
+		// The sum does not depend on the order in which the documents are scanned
+		checksums[bucket] += checksum(id, version);
+	}
+
+	/**
+	 * Return the bucket for the given document id.
+	 *
+	 * @param id
+	 * @return
+	 */
+	public static int bucket(String id) {
+		int h = id.hashCode();
+		return (h ^ (h >>> 16)) & (BUCKET_COUNT - 1);
+	}
+
+	private static long checksum(String id, String version) {
+		long h = 1125899906842597L;
+		for (int i = 0; i < id.length(); i++) {
+			h = 31 * h + id.charAt(i);
+		}
+		h = 31 * h;
+		String v = String.valueOf(version);
+		for (int i = 0; i < v.length(); i++) {
+			h = 31 * h + v.charAt(i);
+		}
+		// Finalization step of MurmurHash3 to spread the bits
+		h ^= h >>> 33;
+		h *= 0xff51afd7ed558ccdL;
+		h ^= h >>> 33;
+		h *= 0xc4ceb9fe1a85ec53L;
+		h ^= h >>> 33;
+		return h;
+	}
+
+	/**
+	 * Handler for the detected differences.
+	 */
+	public interface DiffHandler {
+
+		/**
+		 * The document is missing in the sink.
+		 *
+		 * @param id
+		 */
+		void insert(String id);
+
+		/**
+		 * The version of the document in the sink is outdated.
+		 *
+		 * @param id
+		 */
+		void update(String id);
+
+		/**
+		 * The document no longer exists in the source.
+		 *
+		 * @param id
+		 */
+		void delete(String id);
+	}
+
+}
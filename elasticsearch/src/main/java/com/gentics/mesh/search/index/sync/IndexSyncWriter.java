@@ -0,0 +1,92 @@
+package com.gentics.mesh.search.index.sync;
+
+import static com.gentics.mesh.core.rest.error.Errors.error;
+import static io.netty.handler.codec.http.HttpResponseStatus.INTERNAL_SERVER_ERROR;
+
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import com.gentics.mesh.core.data.search.SearchQueue;
+import com.gentics.mesh.core.data.search.SearchQueueBatch;
+import com.gentics.mesh.core.data.search.UpdateDocumentEntry;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+
+/**
+ * Collects the entries which were created during an index sync and processes them once the bulk limit has been reached. The batches are processed by a
+ * dedicated thread so that the graph scan which creates the entries does not wait for the search index within its transaction. The next batch is only
+ * handed over once the previous one has been processed. This way at most two batches need to be kept in memory at any time.
+ */
+public class IndexSyncWriter implements AutoCloseable {
+
+	private final SearchQueue searchQueue;
+
+	private final int bulkLimit;
+
+	private final ExecutorService executor;
+
+	private SearchQueueBatch batch;
+
+	private Future<?> processing;
+
+	public IndexSyncWriter(SearchQueue searchQueue, int bulkLimit) {
+		this.searchQueue = searchQueue;
+		this.bulkLimit = bulkLimit;
+		this.executor = Executors.newSingleThreadExecutor(new ThreadFactoryBuilder().setNameFormat("mesh-index-sync-writer-%d").setDaemon(true).build());
+	}
+
+	/**
+	 * Add the entry to the current batch. The batch will be handed over for processing if the bulk limit has been reached.
+	 *
+	 * @param entry
+	 */
+	public void add(UpdateDocumentEntry entry) {
+		if (batch == null) {
+			batch = searchQueue.create();
+		}
+		batch.addEntry(entry);
+		if (batch.size() >= bulkLimit) {
+			submit();
+		}
+	}
+
+	/**
+	 * Process the current batch and wait until all batches have been processed.
+	 */
+	public void flush() {
+		if (batch != null) {
+			submit();
+		}
+		await();
+	}
+
+	private void submit() {
+		SearchQueueBatch current = batch;
+		batch = null;
+		await();
+		processing = executor.submit(() -> current.processDirect().blockingAwait());
+	}
+
+	private void await() {
+		if (processing == null) {
+			return;
+		}
+		try {
+			processing.get();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw error(INTERNAL_SERVER_ERROR, "The index sync has been interrupted", e);
+		} catch (ExecutionException e) {
+			throw error(INTERNAL_SERVER_ERROR, "Could not write the changes of the index sync", e.getCause());
+		} finally {
+			processing = null;
+		}
+	}
+
+	@Override
+	public void close() {
+		executor.shutdownNow();
+	}
+
+}
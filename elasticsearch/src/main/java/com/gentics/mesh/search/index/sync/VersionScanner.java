@@ -0,0 +1,24 @@
+package com.gentics.mesh.search.index.sync;
+
+import java.util.function.BiConsumer;
+import java.util.function.Predicate;
+
+/**
+ * Source of document ids and versions which can be scanned multiple times during an index sync.
+ */
+@FunctionalInterface
+public interface VersionScanner {
+
+	/**
+	 * Pass the id and version of each document which matches the filter to the consumer. The version should only be computed for matching documents. The
+	 * first scan of a sync matches all documents.
+	 *
+	 * @param filter
+	 *            Filter for the document ids
+	 * @param consumer
+	 *            Consumer for the id and version of the document
+	 * @throws Exception
+	 */
+	void scan(Predicate<String> filter, BiConsumer<String, String> consumer) throws Exception;
+
+}
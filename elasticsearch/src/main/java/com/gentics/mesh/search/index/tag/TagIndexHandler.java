@@ -112,7 +112,7 @@ public class TagIndexHandler extends AbstractIndexHandler<Tag> {
 			return db.tx(() -> {
 				ProjectRoot root = boot.meshRoot().getProjectRoot();
 				Set<Completable> actions = new HashSet<>();
-				SyncMetric metric = new SyncMetric(getType());
+				SyncMetric metric = new SyncMetric(metrics, getType());
 				for (Project project : root.findAll()) {
 					String uuid = project.getUuid();
 					actions.add(diffAndSync(Tag.composeIndexName(uuid), uuid, metric));
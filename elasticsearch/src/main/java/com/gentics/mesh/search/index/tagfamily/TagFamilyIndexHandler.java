@@ -103,7 +103,7 @@ public class TagFamilyIndexHandler extends AbstractIndexHandler<TagFamily> {
 		return Completable.defer(() -> {
 			return db.tx(() -> {
 				ProjectRoot root = boot.meshRoot().getProjectRoot();
-				SyncMetric metric = new SyncMetric(getType());
+				SyncMetric metric = new SyncMetric(metrics, getType());
 
 				Set<Completable> actions = new HashSet<>();
 				for (Project project : root.findAll()) {
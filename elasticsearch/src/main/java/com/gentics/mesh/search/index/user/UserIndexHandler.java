@@ -71,7 +71,7 @@ public class UserIndexHandler extends AbstractIndexHandler<User> {
 	@Override
 	public Completable syncIndices() {
 		return Completable.defer(() -> {
-			return diffAndSync(User.composeIndexName(), null, new SyncMetric(getType()));
+			return diffAndSync(User.composeIndexName(), null, new SyncMetric(metrics, getType()));
 		});
 	}
 
@@ -0,0 +1,97 @@
+package com.gentics.mesh.search.outbox;
+
+import static com.gentics.mesh.core.data.search.SearchQueueEntryAction.UPDATE_ROLE_PERM_ACTION;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import io.vertx.core.json.JsonObject;
+
+/**
+ * Merges the records of the search outbox which affect the same search document. Only the last action per document will be kept since the document is
+ * transformed using the current state of the graph once the record gets processed. A permission update will not replace a previous store or delete action
+ * since the stored document already contains the current permissions.
+ */
+public class SearchOutboxCoalescer {
+
+	private static final String[] KEY_FIELDS = { "type", "uuid", "projectUuid", "branchUuid", "languageTag", "schemaVersionUuid", "containerType" };
+
+	private final int limit;
+
+	private final Map<String, JsonObject> documents = new LinkedHashMap<>();
+
+	private int consumed = 0;
+
+	private long sequence = 0;
+
+	/**
+	 * Create a new coalescer.
+	 *
+	 * @param limit
+	 *            Maximum amount of distinct documents
+	 */
+	public SearchOutboxCoalescer(int limit) {
+		this.limit = limit;
+	}
+
+	/**
+	 * Add the record to the coalescer.
+	 *
+	 * @param record
+	 * @return false if the record affects a new document and the document limit has already been reached. The record has not been added in this case.
+	 */
+	public boolean add(JsonObject record) {
+		String key = documentKey(record);
+		JsonObject previous = documents.get(key);
+		if (previous == null && documents.size() >= limit) {
+			return false;
+		}
+		consumed++;
+		sequence = record.getLong(SearchOutboxLog.SEQUENCE_KEY, sequence);
+		if (previous != null && UPDATE_ROLE_PERM_ACTION.getName().equals(record.getString("action"))) {
+			return true;
+		}
+		// Remove the previous record so that the document is processed in the order of the last change
+		documents.remove(key);
+		documents.put(key, record);
+		return true;
+	}
+
+	/**
+	 * Return the merged records.
+	 *
+	 * @return
+	 */
+	public List<JsonObject> getRecords() {
+		return new ArrayList<>(documents.values());
+	}
+
+	/**
+	 * Return the amount of records which have been added.
+	 *
+	 * @return
+	 */
+	public int getConsumed() {
+		return consumed;
+	}
+
+	/**
+	 * Return the sequence number of the last added record.
+	 *
+	 * @return
+	 */
+	public long getSequence() {
+		return sequence;
+	}
+
+	private static String documentKey(JsonObject record) {
+		StringBuilder builder = new StringBuilder();
+		for (String field : KEY_FIELDS) {
+			builder.append(record.getValue(field)).append('|');
+		}
+		return builder.toString();
+	}
+
+}
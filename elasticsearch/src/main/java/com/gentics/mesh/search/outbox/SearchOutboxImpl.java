@@ -0,0 +1,564 @@
+package com.gentics.mesh.search.outbox;
+
+import static com.gentics.mesh.core.rest.error.Errors.error;
+import static com.gentics.mesh.search.impl.ElasticsearchErrorHelper.isRetryableError;
+import static io.netty.handler.codec.http.HttpResponseStatus.INTERNAL_SERVER_ERROR;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import javax.inject.Inject;
+import javax.inject.Singleton;
+
+import com.gentics.mesh.Mesh;
+import com.gentics.mesh.core.data.ContainerType;
+import com.gentics.mesh.core.data.search.IndexHandler;
+import com.gentics.mesh.core.data.search.SearchOutbox;
+import com.gentics.mesh.core.data.search.SearchQueueEntryAction;
+import com.gentics.mesh.core.data.search.UpdateDocumentEntry;
+import com.gentics.mesh.core.data.search.bulk.BulkEntry;
+import com.gentics.mesh.core.data.search.context.GenericEntryContext;
+import com.gentics.mesh.core.data.search.context.impl.GenericEntryContextImpl;
+import com.gentics.mesh.etc.config.MeshOptions;
+import com.gentics.mesh.etc.config.search.ElasticSearchOptions;
+import com.gentics.mesh.graphdb.spi.Database;
+import com.gentics.mesh.search.IndexHandlerRegistry;
+import com.gentics.mesh.search.SearchProvider;
+import com.gentics.mesh.search.impl.BulkItemException;
+import com.gentics.mesh.search.index.entry.UpdateDocumentEntryImpl;
+import com.syncleus.ferma.tx.Tx;
+
+import dagger.Lazy;
+import io.reactivex.Completable;
+import io.reactivex.CompletableEmitter;
+import io.reactivex.Observable;
+import io.vertx.core.Vertx;
+import io.vertx.core.json.JsonObject;
+import io.vertx.core.logging.Logger;
+import io.vertx.core.logging.LoggerFactory;
+
+/**
+ * @see SearchOutbox
+ */
+@Singleton
+public class SearchOutboxImpl implements SearchOutbox {
+
+	private static final Logger log = LoggerFactory.getLogger(SearchOutboxImpl.class);
+
+	private static final long MAX_RETRY_DELAY = 60_000L;
+
+	/**
+	 * Limits the amount of records which are scanned for a single chunk to a multiple of the bulk limit.
+	 */
+	private static final int MAX_COALESCE_FACTOR = 10;
+
+	/**
+	 * Limits the amount of pending records which are kept in memory to a multiple of the records which are scanned for a single chunk. Further records are
+	 * only stored in the log and read once the records in memory have been processed.
+	 */
+	private static final int MAX_PENDING_FACTOR = 2;
+
+	private final ElasticSearchOptions options;
+
+	private final Lazy<Database> db;
+
+	private final Lazy<SearchProvider> searchProvider;
+
+	private final Lazy<IndexHandlerRegistry> registry;
+
+	private final LinkedList<JsonObject> pending = new LinkedList<>();
+
+	/**
+	 * Whether the log contains pending records which have not been loaded into memory.
+	 */
+	private boolean spilled = false;
+
+	private final List<Waiter> waiters = new ArrayList<>();
+
+	private final AtomicBoolean draining = new AtomicBoolean(false);
+
+	private SearchOutboxLog outboxLog;
+
+	private Long timerId;
+
+	private int failures = 0;
+
+	private long nextAttempt = 0;
+
+	@Inject
+	public SearchOutboxImpl(MeshOptions options, Lazy<Database> db, Lazy<SearchProvider> searchProvider, Lazy<IndexHandlerRegistry> registry) {
+		this.options = options.getSearchOptions();
+		this.db = db;
+		this.searchProvider = searchProvider;
+		this.registry = registry;
+	}
+
+	@Override
+	public boolean isEnabled() {
+		return options != null && options.isEnableOutbox() && outboxLog != null;
+	}
+
+	@Override
+	public long append(List<? extends UpdateDocumentEntry> entries) {
+		if (entries.isEmpty()) {
+			return getHead();
+		}
+		List<JsonObject> records = new ArrayList<>(entries.size());
+		for (UpdateDocumentEntry entry : entries) {
+			records.add(toRecord(entry));
+		}
+		synchronized (pending) {
+			try {
+				long sequence = outboxLog.append(records);
+				buffer(records);
+				return sequence;
+			} catch (IOException e) {
+				throw error(INTERNAL_SERVER_ERROR, "Could not store the search index changes in the outbox", e);
+			}
+		}
+	}
+
+	@Override
+	public long getHead() {
+		return outboxLog == null ? 0 : outboxLog.getHead();
+	}
+
+	@Override
+	public long getProcessed() {
+		return outboxLog == null ? 0 : outboxLog.getProcessed();
+	}
+
+	@Override
+	public Completable awaitProcessed(long sequence) {
+		return Completable.create(emitter -> {
+			synchronized (waiters) {
+				if (getProcessed() >= sequence) {
+					emitter.onComplete();
+				} else {
+					Waiter waiter = new Waiter(sequence, emitter);
+					waiters.add(waiter);
+					// Remove the waiter if the subscriber gives up (e.g. due to a timeout)
+					emitter.setCancellable(() -> {
+						synchronized (waiters) {
+							waiters.remove(waiter);
+						}
+					});
+				}
+			}
+		});
+	}
+
+	@Override
+	public synchronized void start() {
+		if (options == null || !options.isEnableOutbox() || outboxLog != null) {
+			return;
+		}
+		File directory = new File(options.getOutboxDirectory());
+		SearchOutboxLog newLog = new SearchOutboxLog(directory);
+		try {
+			newLog.open();
+			long count = newLog.getHead() - newLog.getProcessed();
+			synchronized (pending) {
+				// The pending records will be read from the log by the indexer
+				spilled = count > 0;
+			}
+			if (count > 0) {
+				log.info("Found {" + count + "} pending search index changes in the outbox {" + directory.getAbsolutePath() + "}");
+			}
+		} catch (IOException e) {
+			throw error(INTERNAL_SERVER_ERROR, "Could not open the search index outbox in {" + directory.getAbsolutePath() + "}", e);
+		}
+		outboxLog = newLog;
+		Vertx vertx = Mesh.vertx();
+		timerId = vertx.setPeriodic(options.getOutboxInterval(), id -> {
+			if (draining.compareAndSet(false, true)) {
+				vertx.executeBlocking(bc -> {
+					try {
+						drain();
+					} finally {
+						draining.set(false);
+					}
+					bc.complete();
+				}, false, rh -> {
+				});
+			}
+		});
+	}
+
+	@Override
+	public synchronized void stop() {
+		if (timerId != null) {
+			Mesh.vertx().cancelTimer(timerId);
+			timerId = null;
+		}
+		synchronized (pending) {
+			if (outboxLog != null) {
+				try {
+					outboxLog.close();
+				} catch (IOException e) {
+					log.error("Error while closing the search index outbox", e);
+				}
+				outboxLog = null;
+			}
+			pending.clear();
+			spilled = false;
+		}
+	}
+
+	/**
+	 * Write the pending entries to the search index. Entries which affect the same document are merged so that each document is only transformed and sent
+	 * once per chunk. A chunk contains up to the configured bulk limit of distinct documents. Processing will be retried with an increasing delay if the search
+	 * server could not be reached. Chunks which were rejected by the search server will be processed entry by entry so that only the rejected entries are
+	 * skipped.
+	 */
+	protected void drain() {
+		if (System.currentTimeMillis() < nextAttempt) {
+			return;
+		}
+		int bulkLimit = options.getBulkLimit();
+		int scanLimit = bulkLimit * MAX_COALESCE_FACTOR;
+		while (true) {
+			SearchOutboxCoalescer coalescer = new SearchOutboxCoalescer(bulkLimit);
+			synchronized (pending) {
+				if (outboxLog == null) {
+					return;
+				}
+				try {
+					load(scanLimit);
+				} catch (IOException e) {
+					delayRetry("Error while reading the pending search index changes from the outbox.", e);
+					return;
+				}
+				if (pending.isEmpty()) {
+					return;
+				}
+				for (JsonObject record : pending) {
+					if (coalescer.getConsumed() >= scanLimit || !coalescer.add(record)) {
+						break;
+					}
+				}
+			}
+			long sequence = coalescer.getSequence();
+			List<JsonObject> retries = new ArrayList<>();
+			try {
+				List<JsonObject> records = coalescer.getRecords();
+				try {
+					process(records, retries);
+				} catch (RuntimeException e) {
+					if (isRetryableError(e)) {
+						throw e;
+					}
+					processSeparately(records, e, retries);
+				}
+				synchronized (pending) {
+					if (outboxLog == null) {
+						// The outbox has been stopped in the meantime
+						return;
+					}
+					requeue(retries);
+					outboxLog.markProcessed(sequence);
+					pending.subList(0, coalescer.getConsumed()).clear();
+				}
+				if (log.isDebugEnabled()) {
+					log.debug("Merged {" + coalescer.getConsumed() + "} search outbox entries into {" + records.size() + "} document changes");
+				}
+			} catch (Exception e) {
+				delayRetry("Error while writing the search index changes of the outbox.", e);
+				return;
+			}
+			notifyWaiters(sequence);
+			if (!retries.isEmpty()) {
+				delayRetry("The search server failed to process {" + retries.size() + "} search outbox entries. The entries have been added to the outbox again.",
+					null);
+				return;
+			}
+			failures = 0;
+			nextAttempt = 0;
+		}
+	}
+
+	/**
+	 * Add the appended records to the pending records in memory. The records will only be read from the log later on if the memory limit has been reached or
+	 * if previous records have not been loaded yet. This way the records in memory are always in order.
+	 *
+	 * @param records
+	 */
+	private void buffer(List<JsonObject> records) {
+		if (!spilled && pending.size() + records.size() <= getPendingLimit()) {
+			pending.addAll(records);
+		} else {
+			spilled = true;
+		}
+	}
+
+	/**
+	 * Read further pending records from the log if less than the given amount of records are kept in memory.
+	 *
+	 * @param minimum
+	 * @throws IOException
+	 */
+	private void load(int minimum) throws IOException {
+		if (!spilled || pending.size() >= minimum) {
+			return;
+		}
+		long after = pending.isEmpty() ? outboxLog.getProcessed() : pending.getLast().getLong(SearchOutboxLog.SEQUENCE_KEY);
+		List<JsonObject> records = outboxLog.read(after, getPendingLimit() - pending.size());
+		pending.addAll(records);
+		if (!records.isEmpty()) {
+			after = records.get(records.size() - 1).getLong(SearchOutboxLog.SEQUENCE_KEY);
+		}
+		if (after >= outboxLog.getHead()) {
+			spilled = false;
+		}
+	}
+
+	private int getPendingLimit() {
+		return options.getBulkLimit() * MAX_COALESCE_FACTOR * MAX_PENDING_FACTOR;
+	}
+
+	/**
+	 * Delay the next attempt to drain the outbox. The delay increases with each consecutive failure.
+	 *
+	 * @param msg
+	 * @param cause
+	 */
+	private void delayRetry(String msg, Throwable cause) {
+		long delay = Math.min(options.getOutboxInterval() << Math.min(failures, 16), MAX_RETRY_DELAY);
+		failures++;
+		nextAttempt = System.currentTimeMillis() + delay;
+		log.error(msg + " Retrying in {" + delay + "} ms.", cause);
+	}
+
+	/**
+	 * Append the records which could not be processed to the end of the outbox again. Waiters which wait for the records keep waiting until the records have
+	 * been processed again.
+	 *
+	 * @param records
+	 * @throws IOException
+	 */
+	private void requeue(List<JsonObject> records) throws IOException {
+		if (records.isEmpty()) {
+			return;
+		}
+		long first = Long.MAX_VALUE;
+		List<JsonObject> copies = new ArrayList<>(records.size());
+		for (JsonObject record : records) {
+			first = Math.min(first, record.getLong(SearchOutboxLog.SEQUENCE_KEY));
+			copies.add(record.copy());
+		}
+		long head = outboxLog.append(copies);
+		buffer(copies);
+		synchronized (waiters) {
+			for (Waiter waiter : waiters) {
+				if (waiter.sequence >= first) {
+					waiter.sequence = Math.max(waiter.sequence, head);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Transform the records to bulk entries and write them to the search index. Records which can't be transformed (e.g. because the element has been
+	 * deleted in the meantime) will be skipped. Records of which a bulk item failed with a retryable error are added to the given list. Records which were
+	 * permanently rejected are moved to the dead letter file.
+	 *
+	 * @param records
+	 * @param retries
+	 */
+	private void process(List<JsonObject> records, List<JsonObject> retries) {
+		List<BulkEntry> bulk = new ArrayList<>();
+		Map<BulkEntry, JsonObject> origins = new IdentityHashMap<>();
+		try (Tx tx = db.get().tx()) {
+			for (JsonObject record : records) {
+				UpdateDocumentEntry entry = toEntry(record);
+				if (entry == null) {
+					continue;
+				}
+				List<BulkEntry> entries = Observable.<BulkEntry>defer(() -> entry.process()).onErrorResumeNext(error -> {
+					log.warn("Skipping search outbox entry {" + entry + "}", error);
+					return Observable.empty();
+				}).toList().blockingGet();
+				for (BulkEntry bulkEntry : entries) {
+					bulk.add(bulkEntry);
+					origins.put(bulkEntry, record);
+				}
+			}
+		}
+		SearchProvider provider = searchProvider.get();
+		try {
+			provider.processBulk(bulk).blockingAwait();
+		} catch (BulkItemException e) {
+			handleFailures(e, origins, retries);
+		}
+		provider.refreshIndex().blockingAwait();
+		if (log.isDebugEnabled()) {
+			log.debug("Processed {" + records.size() + "} search outbox entries using {" + bulk.size() + "} bulk entries");
+		}
+	}
+
+	/**
+	 * Sort the records of the failed bulk items. A record is retried if one of its items failed with a retryable error. Otherwise it is moved to the dead
+	 * letter file.
+	 *
+	 * @param e
+	 * @param origins
+	 *            Records of the bulk entries
+	 * @param retries
+	 */
+	private void handleFailures(BulkItemException e, Map<BulkEntry, JsonObject> origins, List<JsonObject> retries) {
+		Map<JsonObject, BulkItemException.Failure> rejected = new IdentityHashMap<>();
+		Set<JsonObject> retried = Collections.newSetFromMap(new IdentityHashMap<>());
+		for (BulkItemException.Failure failure : e.getFailures()) {
+			JsonObject record = origins.get(failure.getEntry());
+			if (record == null) {
+				continue;
+			}
+			if (failure.isRetryable()) {
+				retried.add(record);
+			} else {
+				rejected.put(record, failure);
+			}
+		}
+		retries.addAll(retried);
+		for (Map.Entry<JsonObject, BulkItemException.Failure> entry : rejected.entrySet()) {
+			if (!retried.contains(entry.getKey())) {
+				BulkItemException.Failure failure = entry.getValue();
+				deadLetter(entry.getKey(), failure.getStatus() + " " + failure.getReason());
+			}
+		}
+	}
+
+	/**
+	 * Process the records one by one. Records which are rejected again are moved to the dead letter file of the outbox. This way a single invalid document
+	 * does not block the outbox.
+	 *
+	 * @param records
+	 * @param cause
+	 *            Error which was returned for the whole chunk
+	 * @param retries
+	 */
+	private void processSeparately(List<JsonObject> records, Throwable cause, List<JsonObject> retries) {
+		log.warn("The search server rejected a chunk of {" + records.size() + "} search outbox entries. Processing the entries separately.", cause);
+		for (JsonObject record : records) {
+			try {
+				process(Collections.singletonList(record), retries);
+			} catch (RuntimeException e) {
+				if (isRetryableError(e)) {
+					throw e;
+				}
+				deadLetter(record, String.valueOf(e.getMessage()));
+			}
+		}
+	}
+
+	/**
+	 * Move the record which was rejected by the search server to the dead letter file.
+	 *
+	 * @param record
+	 * @param reason
+	 */
+	private void deadLetter(JsonObject record, String reason) {
+		log.error("The search server rejected the search outbox entry {" + record.encode() + "} - " + reason + ". Moving it to the dead letter file.");
+		synchronized (pending) {
+			if (outboxLog == null) {
+				return;
+			}
+			try {
+				outboxLog.deadLetter(record, reason);
+			} catch (IOException e) {
+				throw error(INTERNAL_SERVER_ERROR, "Could not store the rejected search outbox entry", e);
+			}
+		}
+	}
+
+	private void notifyWaiters(long processed) {
+		List<Waiter> done = new ArrayList<>();
+		synchronized (waiters) {
+			Iterator<Waiter> it = waiters.iterator();
+			while (it.hasNext()) {
+				Waiter waiter = it.next();
+				if (waiter.sequence <= processed) {
+					done.add(waiter);
+					it.remove();
+				}
+			}
+		}
+		// Completing the emitter invokes its cancellable which removes the waiter again
+		for (Waiter waiter : done) {
+			waiter.emitter.onComplete();
+		}
+	}
+
+	/**
+	 * Return the amount of subscribers which wait for the outbox.
+	 *
+	 * @return
+	 */
+	public int getWaiterCount() {
+		synchronized (waiters) {
+			return waiters.size();
+		}
+	}
+
+	private JsonObject toRecord(UpdateDocumentEntry entry) {
+		JsonObject record = new JsonObject();
+		record.put("type", entry.getIndexHandler().getType());
+		record.put("action", entry.getElementAction().getName());
+		record.put("uuid", entry.getElementUuid());
+		GenericEntryContext context = entry.getContext();
+		if (context != null) {
+			record.put("projectUuid", context.getProjectUuid());
+			record.put("branchUuid", context.getBranchUuid());
+			record.put("languageTag", context.getLanguageTag());
+			record.put("schemaVersionUuid", context.getSchemaContainerVersionUuid());
+			if (context.getContainerType() != null) {
+				record.put("containerType", context.getContainerType().getCode());
+			}
+		}
+		return record;
+	}
+
+	private UpdateDocumentEntry toEntry(JsonObject record) {
+		IndexHandler<?> handler = registry.get().getForType(record.getString("type"));
+		SearchQueueEntryAction action = SearchQueueEntryAction.valueOfName(record.getString("action"));
+		if (handler == null || action == null) {
+			log.warn("Skipping invalid search outbox record {" + record.encode() + "}");
+			return null;
+		}
+		GenericEntryContextImpl context = new GenericEntryContextImpl();
+		context.setProjectUuid(record.getString("projectUuid"));
+		context.setBranchUuid(record.getString("branchUuid"));
+		context.setLanguageTag(record.getString("languageTag"));
+		context.setSchemaContainerVersionUuid(record.getString("schemaVersionUuid"));
+		String containerType = record.getString("containerType");
+		if (containerType != null) {
+			context.setContainerType(ContainerType.get(containerType));
+		}
+		return new UpdateDocumentEntryImpl(handler, record.getString("uuid"), context, action);
+	}
+
+	/**
+	 * Subscriber which waits for the outbox to process the entries up to the given sequence number.
+	 */
+	private static class Waiter {
+
+		private long sequence;
+
+		private final CompletableEmitter emitter;
+
+		Waiter(long sequence, CompletableEmitter emitter) {
+			this.sequence = sequence;
+			this.emitter = emitter;
+		}
+	}
+
+}
@@ -0,0 +1,390 @@
+package com.gentics.mesh.search.outbox;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+import static java.nio.file.StandardOpenOption.APPEND;
+import static java.nio.file.StandardOpenOption.CREATE;
+import static java.nio.file.StandardOpenOption.READ;
+import static java.nio.file.StandardOpenOption.WRITE;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import io.vertx.core.json.DecodeException;
+import io.vertx.core.json.JsonObject;
+import io.vertx.core.logging.Logger;
+import io.vertx.core.logging.LoggerFactory;
+
+/**
+ * Append-only log which persists the records of the search outbox. Each record is stored as a single line of JSON and gets a sequence number assigned. The
+ * sequence number of the last record which has been written to the search index is stored in a separate offset file. Records which were permanently
+ * rejected by the search index are moved to a separate dead letter file.
+ *
+ * The log is split into segment files. A new segment is started once the current segment exceeds the segment size. The name of a segment contains the
+ * sequence number of its first record. Segments are deleted once all of their records have been processed. The current segment will be truncated once all
+ * records have been processed. This way the log does not grow while records are written and processed at the same time.
+ *
+ * The pending records are not kept in memory. They can be read page by page via {@link #read(long, int)}.
+ */
+public class SearchOutboxLog implements Closeable {
+
+	private static final Logger log = LoggerFactory.getLogger(SearchOutboxLog.class);
+
+	public static final String SEQUENCE_KEY = "seq";
+
+	public static final long DEFAULT_SEGMENT_SIZE = 16 * 1024 * 1024;
+
+	private static final Pattern SEGMENT_PATTERN = Pattern.compile("outbox-(\\d+)\\.log");
+
+	private static final String OFFSET_FILENAME = "outbox.offset";
+
+	private static final String DEAD_LETTER_FILENAME = "outbox.dead";
+
+	public static final String ERROR_KEY = "error";
+
+	private final Path directory;
+
+	private final Path offsetFile;
+
+	private final Path deadLetterFile;
+
+	private final long segmentSize;
+
+	/**
+	 * Segment files by the sequence number of their first record.
+	 */
+	private final TreeMap<Long, Path> segments = new TreeMap<>();
+
+	private FileChannel channel;
+
+	private long head;
+
+	private long processed;
+
+	private Cursor cursor;
+
+	public SearchOutboxLog(File directory) {
+		this(directory, DEFAULT_SEGMENT_SIZE);
+	}
+
+	/**
+	 * Create a new log.
+	 *
+	 * @param directory
+	 *            Directory which contains the files of the log
+	 * @param segmentSize
+	 *            Size in bytes after which a new segment will be started
+	 */
+	public SearchOutboxLog(File directory, long segmentSize) {
+		this.directory = directory.toPath();
+		this.offsetFile = this.directory.resolve(OFFSET_FILENAME);
+		this.deadLetterFile = this.directory.resolve(DEAD_LETTER_FILENAME);
+		this.segmentSize = segmentSize;
+	}
+
+	/**
+	 * Open the log. Segments which only contain processed records will be removed. A partially written record at the end of the log (e.g. due to a crash)
+	 * will be removed.
+	 *
+	 * @throws IOException
+	 */
+	public synchronized void open() throws IOException {
+		Files.createDirectories(directory);
+		processed = readOffset();
+		head = processed;
+		segments.clear();
+		cursor = null;
+		try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory)) {
+			for (Path file : stream) {
+				Matcher m = SEGMENT_PATTERN.matcher(file.getFileName().toString());
+				if (m.matches()) {
+					segments.put(Long.parseLong(m.group(1)), file);
+				}
+			}
+		}
+		if (segments.isEmpty()) {
+			segments.put(processed + 1, segmentFile(processed + 1));
+		}
+
+		// Only the last segment needs to be scanned in order to restore the head
+		Map.Entry<Long, Path> last = segments.lastEntry();
+		head = Math.max(head, last.getKey() - 1);
+		long validSize = 0;
+		if (Files.exists(last.getValue())) {
+			try (BufferedReader reader = Files.newBufferedReader(last.getValue(), UTF_8)) {
+				String line;
+				while ((line = reader.readLine()) != null) {
+					JsonObject record;
+					try {
+						record = new JsonObject(line);
+					} catch (DecodeException e) {
+						log.warn("Found incomplete record in search outbox {" + last.getValue() + "}. Discarding the remaining data.");
+						break;
+					}
+					validSize += line.getBytes(UTF_8).length + 1;
+					head = Math.max(head, record.getLong(SEQUENCE_KEY));
+				}
+			}
+		}
+
+		channel = FileChannel.open(last.getValue(), CREATE, READ, WRITE);
+		long size = channel.size();
+		if (size > validSize) {
+			channel.truncate(validSize);
+		} else if (size < validSize) {
+			// The line separator of the last record is missing
+			channel.write(ByteBuffer.wrap(new byte[] { '\n' }), size);
+		}
+		channel.position(validSize);
+		deleteProcessedSegments();
+	}
+
+	/**
+	 * Append the given records to the log. A sequence number will be assigned to each record. The method returns once the records have been written to disk.
+	 *
+	 * @param records
+	 * @return Sequence number of the last record
+	 * @throws IOException
+	 */
+	public synchronized long append(List<JsonObject> records) throws IOException {
+		if (channel.position() >= segmentSize) {
+			roll();
+		}
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		long sequence = head;
+		for (JsonObject record : records) {
+			record.put(SEQUENCE_KEY, ++sequence);
+			out.write(record.encode().getBytes(UTF_8));
+			out.write('\n');
+		}
+		ByteBuffer buffer = ByteBuffer.wrap(out.toByteArray());
+		while (buffer.hasRemaining()) {
+			channel.write(buffer);
+		}
+		channel.force(false);
+		head = sequence;
+		return head;
+	}
+
+	/**
+	 * Read up to the given amount of records which follow the given sequence number.
+	 *
+	 * @param after
+	 *            Sequence number of the last record which has already been read
+	 * @param limit
+	 *            Maximum amount of records to read
+	 * @return Records in order of their sequence numbers
+	 * @throws IOException
+	 */
+	public synchronized List<JsonObject> read(long after, int limit) throws IOException {
+		List<JsonObject> records = new ArrayList<>();
+		if (after >= head || limit <= 0) {
+			return records;
+		}
+		Cursor current = cursor;
+		if (current == null || current.sequence != after || !segments.containsKey(current.segment)) {
+			// Start reading at the beginning of the segment which contains the next record
+			Long segment = segments.floorKey(after + 1);
+			current = new Cursor(segment == null ? segments.firstKey() : segment, 0, after);
+		}
+		while (records.size() < limit) {
+			Path file = segments.get(current.segment);
+			long position = current.position;
+			try (InputStream in = Files.newInputStream(file)) {
+				skipFully(in, position);
+				BufferedReader reader = new BufferedReader(new InputStreamReader(in, UTF_8));
+				String line;
+				while (records.size() < limit && (line = reader.readLine()) != null) {
+					JsonObject record;
+					try {
+						record = new JsonObject(line);
+					} catch (DecodeException e) {
+						// The record is currently being written
+						break;
+					}
+					position += line.getBytes(UTF_8).length + 1;
+					long sequence = record.getLong(SEQUENCE_KEY);
+					if (sequence > after) {
+						records.add(record);
+						after = sequence;
+					}
+				}
+			}
+			current = new Cursor(current.segment, position, after);
+			Long next = segments.higherKey(current.segment);
+			if (records.size() >= limit || next == null) {
+				break;
+			}
+			current = new Cursor(next, 0, after);
+		}
+		cursor = current;
+		return records;
+	}
+
+	/**
+	 * Mark all records up to the given sequence number as processed. Segments which only contain processed records will be deleted. The current segment will
+	 * be truncated if no record is pending anymore.
+	 *
+	 * @param sequence
+	 * @throws IOException
+	 */
+	public synchronized void markProcessed(long sequence) throws IOException {
+		Path tmp = offsetFile.resolveSibling(OFFSET_FILENAME + ".tmp");
+		Files.write(tmp, String.valueOf(sequence).getBytes(UTF_8));
+		Files.move(tmp, offsetFile, REPLACE_EXISTING, ATOMIC_MOVE);
+		processed = sequence;
+		if (processed >= head) {
+			channel.truncate(0);
+			channel.position(0);
+			if (cursor != null && cursor.segment == segments.lastKey()) {
+				cursor = new Cursor(cursor.segment, 0, cursor.sequence);
+			}
+		}
+		deleteProcessedSegments();
+	}
+
+	/**
+	 * Store the record in the dead letter file. The file is only appended and never read by the outbox. It can be used to inspect the rejected changes
+	 * which can be applied again by syncing the index.
+	 *
+	 * @param record
+	 * @param reason
+	 *            Error which caused the record to be rejected
+	 * @throws IOException
+	 */
+	public synchronized void deadLetter(JsonObject record, String reason) throws IOException {
+		JsonObject entry = record.copy().put(ERROR_KEY, reason);
+		Files.write(deadLetterFile, (entry.encode() + "\n").getBytes(UTF_8), CREATE, WRITE, APPEND);
+	}
+
+	/**
+	 * Return the sequence number of the last appended record.
+	 *
+	 * @return
+	 */
+	public synchronized long getHead() {
+		return head;
+	}
+
+	/**
+	 * Return the sequence number of the last processed record.
+	 *
+	 * @return
+	 */
+	public synchronized long getProcessed() {
+		return processed;
+	}
+
+	/**
+	 * Return the amount of segment files.
+	 *
+	 * @return
+	 */
+	public synchronized int getSegmentCount() {
+		return segments.size();
+	}
+
+	/**
+	 * Start a new segment which begins with the next record.
+	 *
+	 * @throws IOException
+	 */
+	private void roll() throws IOException {
+		channel.close();
+		long first = head + 1;
+		Path file = segmentFile(first);
+		segments.put(first, file);
+		channel = FileChannel.open(file, CREATE, READ, WRITE);
+	}
+
+	/**
+	 * Delete all segments except the current one which only contain processed records. A segment only contains processed records if the next segment starts
+	 * with an unprocessed record.
+	 *
+	 * @throws IOException
+	 */
+	private void deleteProcessedSegments() throws IOException {
+		Iterator<Map.Entry<Long, Path>> it = segments.entrySet().iterator();
+		while (it.hasNext()) {
+			Map.Entry<Long, Path> entry = it.next();
+			Long next = segments.higherKey(entry.getKey());
+			if (next == null || next - 1 > processed) {
+				break;
+			}
+			Files.deleteIfExists(entry.getValue());
+			it.remove();
+		}
+	}
+
+	private Path segmentFile(long firstSequence) {
+		return directory.resolve(String.format("outbox-%020d.log", firstSequence));
+	}
+
+	private static void skipFully(InputStream in, long bytes) throws IOException {
+		while (bytes > 0) {
+			long skipped = in.skip(bytes);
+			if (skipped <= 0) {
+				return;
+			}
+			bytes -= skipped;
+		}
+	}
+
+	private long readOffset() throws IOException {
+		if (!Files.exists(offsetFile)) {
+			return 0;
+		}
+		String value = new String(Files.readAllBytes(offsetFile), UTF_8).trim();
+		try {
+			return Long.parseLong(value);
+		} catch (NumberFormatException e) {
+			log.warn("Invalid offset {" + value + "} in search outbox file {" + offsetFile + "}. Processing all records of the log.");
+			return 0;
+		}
+	}
+
+	@Override
+	public synchronized void close() throws IOException {
+		if (channel != null) {
+			channel.close();
+			channel = null;
+		}
+	}
+
+	/**
+	 * Position of the reader within the log.
+	 */
+	private static class Cursor {
+
+		private final long segment;
+
+		private final long position;
+
+		private final long sequence;
+
+		Cursor(long segment, long position, long sequence) {
+			this.segment = segment;
+			this.position = position;
+			this.sequence = sequence;
+		}
+	}
+
+}
@@ -10,6 +10,7 @@ import javax.inject.Inject;
 import com.gentics.mesh.MeshEvent;
 import com.gentics.mesh.Mesh;
 import com.gentics.mesh.core.data.search.IndexHandler;
+import com.gentics.mesh.metric.MetricsService;
 import com.gentics.mesh.search.IndexHandlerRegistry;
 import com.gentics.mesh.search.SearchProvider;
 import com.gentics.mesh.search.index.metric.SyncMetric;
@@ -37,6 +38,8 @@ public class ElasticsearchSyncVerticle extends AbstractJobVerticle {
 
 	private SearchProvider provider;
 
+	private MetricsService metrics;
+
 	/**
 	 * Send the index sync event which will trigger the index sync job.
 	 */
@@ -45,9 +48,10 @@ public class ElasticsearchSyncVerticle extends AbstractJobVerticle {
 	}
 
 	@Inject
-	public ElasticsearchSyncVerticle(Lazy<IndexHandlerRegistry> registry, SearchProvider provider) {
+	public ElasticsearchSyncVerticle(Lazy<IndexHandlerRegistry> registry, SearchProvider provider, MetricsService metrics) {
 		this.registry = registry;
 		this.provider = provider;
+		this.metrics = metrics;
 	}
 
 	public String getJobAdress() {
@@ -65,7 +69,7 @@ public class ElasticsearchSyncVerticle extends AbstractJobVerticle {
 	public Completable executeJob(Message<Object> message) {
 		return Completable.fromAction(() -> {
 			log.info("Processing index sync job.");
-			SyncMetric.reset();
+			SyncMetric.reset(metrics);
 		})
 			.andThen(purgeOldIndices())
 			.andThen(syncIndices())
@@ -0,0 +1,152 @@
+package com.gentics.mesh.search.index.sync;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.function.Predicate;
+
+import org.junit.Test;
+
+public class IndexSyncDiffTest {
+
+	@Test
+	public void testInSync() throws Exception {
+		Map<String, String> source = versions(5000);
+		Map<String, String> sink = new HashMap<>(source);
+		RecordingHandler handler = new RecordingHandler();
+
+		int passes = new IndexSyncDiff(100).run(scanner(source), scanner(sink), handler);
+		assertEquals("No pass should be needed if the buckets match", 0, passes);
+		assertTrue(handler.inserts.isEmpty());
+		assertTrue(handler.updates.isEmpty());
+		assertTrue(handler.deletes.isEmpty());
+	}
+
+	@Test
+	public void testDiff() throws Exception {
+		Map<String, String> source = versions(5000);
+		Map<String, String> sink = new HashMap<>(source);
+		source.put("new1", "v1");
+		source.put("new2", "v1");
+		source.put("id42", "changed");
+		sink.put("deleted", "v1");
+		RecordingHandler handler = new RecordingHandler();
+
+		new IndexSyncDiff(100).run(scanner(source), scanner(sink), handler);
+		assertEquals(set("new1", "new2"), handler.inserts);
+		assertEquals(set("id42"), handler.updates);
+		assertEquals(set("deleted"), handler.deletes);
+	}
+
+	@Test
+	public void testLimit() throws Exception {
+		Map<String, String> source = versions(5000);
+		Map<String, String> sink = new HashMap<>();
+		for (String id : source.keySet()) {
+			sink.put(id, "outdated");
+		}
+		RecordingHandler handler = new RecordingHandler();
+		LimitCheckingScanner sinkScanner = new LimitCheckingScanner(sink);
+
+		int passes = new IndexSyncDiff(500).run(scanner(source), sinkScanner, handler);
+		assertTrue("The differing buckets should be compared in multiple passes", passes > 1);
+		assertEquals(source.keySet(), handler.updates);
+		assertTrue("Only up to the limit of sink versions may be loaded in a pass but got " + sinkScanner.maxFiltered, sinkScanner.maxFiltered <= 500);
+	}
+
+	@Test
+	public void testEmptySink() throws Exception {
+		Map<String, String> source = versions(5000);
+		RecordingHandler handler = new RecordingHandler();
+
+		int passes = new IndexSyncDiff(10).run(scanner(source), scanner(new HashMap<>()), handler);
+		assertEquals("Buckets without sink documents need no memory and can be compared in a single pass", 1, passes);
+		assertEquals(source.keySet(), handler.inserts);
+	}
+
+	private Map<String, String> versions(int count) {
+		Map<String, String> versions = new HashMap<>();
+		for (int i = 0; i < count; i++) {
+			versions.put("id" + i, "v" + i);
+		}
+		return versions;
+	}
+
+	private VersionScanner scanner(Map<String, String> versions) {
+		return (filter, consumer) -> {
+			versions.forEach((id, version) -> {
+				if (filter.test(id)) {
+					consumer.accept(id, version);
+				}
+			});
+		};
+	}
+
+	private Set<String> set(String... ids) {
+		Set<String> set = new HashSet<>();
+		for (String id : ids) {
+			set.add(id);
+		}
+		return set;
+	}
+
+	private static class RecordingHandler implements IndexSyncDiff.DiffHandler {
+
+		private final Set<String> inserts = new HashSet<>();
+		private final Set<String> updates = new HashSet<>();
+		private final Set<String> deletes = new HashSet<>();
+
+		@Override
+		public void insert(String id) {
+			inserts.add(id);
+		}
+
+		@Override
+		public void update(String id) {
+			updates.add(id);
+		}
+
+		@Override
+		public void delete(String id) {
+			deletes.add(id);
+		}
+	}
+
+	/**
+	 * Scanner which tracks the maximum amount of documents which passed the filter of a single scan.
+	 */
+	private static class LimitCheckingScanner implements VersionScanner {
+
+		private final Map<String, String> versions;
+
+		private int maxFiltered = 0;
+
+		LimitCheckingScanner(Map<String, String> versions) {
+			this.versions = versions;
+		}
+
+		@Override
+		public void scan(Predicate<String> filter, BiConsumer<String, String> consumer) {
+			int filtered = 0;
+			boolean all = true;
+			for (Map.Entry<String, String> entry : versions.entrySet()) {
+				if (filter.test(entry.getKey())) {
+					filtered++;
+					consumer.accept(entry.getKey(), entry.getValue());
+				} else {
+					all = false;
+				}
+			}
+			// The initial scan for the checksums passes all documents
+			if (!all) {
+				maxFiltered = Math.max(maxFiltered, filtered);
+			}
+		}
+	}
+
+}
@@ -0,0 +1,68 @@
+package com.gentics.mesh.search.outbox;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.List;
+
+import org.junit.Test;
+
+import io.vertx.core.json.JsonObject;
+
+public class SearchOutboxCoalescerTest {
+
+	@Test
+	public void testLastActionWins() {
+		SearchOutboxCoalescer coalescer = new SearchOutboxCoalescer(10);
+		assertTrue(coalescer.add(record(1, "a", "en", "store")));
+		assertTrue(coalescer.add(record(2, "b", "en", "store")));
+		assertTrue(coalescer.add(record(3, "a", "en", "store")));
+		assertTrue(coalescer.add(record(4, "a", "de", "store")));
+		assertTrue(coalescer.add(record(5, "b", "en", "delete")));
+
+		List<JsonObject> records = coalescer.getRecords();
+		assertEquals(3, records.size());
+		assertEquals(3L, records.get(0).getLong("seq").longValue());
+		assertEquals(4L, records.get(1).getLong("seq").longValue());
+		assertEquals("delete", records.get(2).getString("action"));
+		assertEquals(5, coalescer.getConsumed());
+		assertEquals(5, coalescer.getSequence());
+	}
+
+	@Test
+	public void testPermissionUpdate() {
+		SearchOutboxCoalescer coalescer = new SearchOutboxCoalescer(10);
+		coalescer.add(record(1, "a", "en", "store"));
+		coalescer.add(record(2, "a", "en", "updateRolePerm"));
+		coalescer.add(record(3, "b", "en", "updateRolePerm"));
+
+		List<JsonObject> records = coalescer.getRecords();
+		assertEquals(2, records.size());
+		assertEquals("The store action already contains the permissions", "store", records.get(0).getString("action"));
+		assertEquals("updateRolePerm", records.get(1).getString("action"));
+		assertEquals(3, coalescer.getSequence());
+	}
+
+	@Test
+	public void testLimit() {
+		SearchOutboxCoalescer coalescer = new SearchOutboxCoalescer(2);
+		assertTrue(coalescer.add(record(1, "a", "en", "store")));
+		assertTrue(coalescer.add(record(2, "b", "en", "store")));
+		assertTrue("Changes of known documents can still be merged", coalescer.add(record(3, "a", "en", "store")));
+		assertFalse(coalescer.add(record(4, "c", "en", "store")));
+		assertEquals(3, coalescer.getConsumed());
+		assertEquals(3, coalescer.getSequence());
+		assertEquals(2, coalescer.getRecords().size());
+	}
+
+	private JsonObject record(long seq, String uuid, String languageTag, String action) {
+		return new JsonObject()
+			.put("type", "node")
+			.put("action", action)
+			.put("uuid", uuid)
+			.put("languageTag", languageTag)
+			.put(SearchOutboxLog.SEQUENCE_KEY, seq);
+	}
+
+}
@@ -0,0 +1,156 @@
+package com.gentics.mesh.search.outbox;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import io.vertx.core.json.JsonObject;
+
+public class SearchOutboxLogTest {
+
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	@Test
+	public void testRecovery() throws Exception {
+		File dir = folder.newFolder();
+		try (SearchOutboxLog log = new SearchOutboxLog(dir)) {
+			log.open();
+			assertTrue(log.read(log.getProcessed(), 10).isEmpty());
+			assertEquals(2, log.append(Arrays.asList(record("a"), record("b"))));
+			assertEquals(3, log.append(Arrays.asList(record("c"))));
+			log.markProcessed(1);
+		}
+
+		// Only the unprocessed records must be loaded after a restart
+		try (SearchOutboxLog log = new SearchOutboxLog(dir)) {
+			log.open();
+			List<JsonObject> pending = log.read(log.getProcessed(), 10);
+			assertEquals(2, pending.size());
+			assertEquals("b", pending.get(0).getString("uuid"));
+			assertEquals(2L, pending.get(0).getLong(SearchOutboxLog.SEQUENCE_KEY).longValue());
+			assertEquals(3, log.getHead());
+			assertEquals(1, log.getProcessed());
+			assertEquals("The sequence must continue after a restart", 4, log.append(Arrays.asList(record("d"))));
+		}
+	}
+
+	@Test
+	public void testTruncation() throws Exception {
+		File dir = folder.newFolder();
+		File logFile = new File(dir, "outbox-00000000000000000001.log");
+		try (SearchOutboxLog log = new SearchOutboxLog(dir)) {
+			log.open();
+			log.append(Arrays.asList(record("a"), record("b")));
+			log.markProcessed(2);
+			assertEquals("The log should be truncated once all records have been processed", 0, logFile.length());
+			assertEquals(3, log.append(Arrays.asList(record("c"))));
+		}
+
+		try (SearchOutboxLog log = new SearchOutboxLog(dir)) {
+			log.open();
+			List<JsonObject> pending = log.read(log.getProcessed(), 10);
+			assertEquals(1, pending.size());
+			assertEquals("c", pending.get(0).getString("uuid"));
+		}
+	}
+
+	@Test
+	public void testIncompleteRecord() throws Exception {
+		File dir = folder.newFolder();
+		File logFile = new File(dir, "outbox-00000000000000000001.log");
+		try (SearchOutboxLog log = new SearchOutboxLog(dir)) {
+			log.open();
+			log.append(Arrays.asList(record("a")));
+		}
+		// Simulate a crash while writing the next record
+		Files.write(logFile.toPath(), "{\"uuid\":\"b\",\"se".getBytes(StandardCharsets.UTF_8), StandardOpenOption.APPEND);
+
+		try (SearchOutboxLog log = new SearchOutboxLog(dir)) {
+			log.open();
+			assertEquals(1, log.read(log.getProcessed(), 10).size());
+			assertEquals(2, log.append(Arrays.asList(record("c"))));
+		}
+
+		try (SearchOutboxLog log = new SearchOutboxLog(dir)) {
+			log.open();
+			List<JsonObject> pending = log.read(log.getProcessed(), 10);
+			assertEquals(2, pending.size());
+			assertEquals("c", pending.get(1).getString("uuid"));
+		}
+	}
+
+	@Test
+	public void testDeadLetter() throws Exception {
+		File dir = folder.newFolder();
+		try (SearchOutboxLog log = new SearchOutboxLog(dir)) {
+			log.open();
+			log.append(Arrays.asList(record("a"), record("b")));
+			log.deadLetter(record("a"), "mapper_parsing_exception");
+			log.markProcessed(2);
+		}
+
+		List<String> lines = Files.readAllLines(new File(dir, "outbox.dead").toPath(), StandardCharsets.UTF_8);
+		assertEquals(1, lines.size());
+		JsonObject deadLetter = new JsonObject(lines.get(0));
+		assertEquals("a", deadLetter.getString("uuid"));
+		assertEquals("mapper_parsing_exception", deadLetter.getString(SearchOutboxLog.ERROR_KEY));
+
+		try (SearchOutboxLog log = new SearchOutboxLog(dir)) {
+			log.open();
+			assertTrue("Rejected records must not be replayed", log.read(log.getProcessed(), 10).isEmpty());
+		}
+	}
+
+	@Test
+	public void testSegments() throws Exception {
+		File dir = folder.newFolder();
+		try (SearchOutboxLog log = new SearchOutboxLog(dir, 1)) {
+			log.open();
+			// Each append exceeds the segment size and thus the next append starts a new segment
+			log.append(Arrays.asList(record("a")));
+			log.append(Arrays.asList(record("b")));
+			log.append(Arrays.asList(record("c")));
+			assertEquals(3, log.getSegmentCount());
+
+			// The records are read across the segments
+			List<JsonObject> page = log.read(0, 2);
+			assertEquals(2, page.size());
+			assertEquals("b", page.get(1).getString("uuid"));
+			page = log.read(2, 2);
+			assertEquals(1, page.size());
+			assertEquals("c", page.get(0).getString("uuid"));
+
+			// Writing continues while the previous records get processed
+			log.markProcessed(2);
+			assertEquals("Processed segments must be deleted", 1, log.getSegmentCount());
+			log.append(Arrays.asList(record("d")));
+			assertEquals(2, log.getSegmentCount());
+			assertEquals("d", log.read(3, 10).get(0).getString("uuid"));
+		}
+
+		try (SearchOutboxLog log = new SearchOutboxLog(dir, 1)) {
+			log.open();
+			assertEquals(4, log.getHead());
+			List<JsonObject> pending = log.read(log.getProcessed(), 10);
+			assertEquals(2, pending.size());
+			assertEquals("c", pending.get(0).getString("uuid"));
+			assertEquals("d", pending.get(1).getString("uuid"));
+		}
+	}
+
+	private JsonObject record(String uuid) {
+		return new JsonObject().put("type", "node").put("action", "store").put("uuid", uuid);
+	}
+
+}
@@ -36,12 +36,18 @@ public class OrientDBTx extends AbstractTx<FramedTransactionalGraph> {
 
 	boolean isWrapped = false;
 
+	/**
+	 * Transaction which was active when this transaction was wrapped around it.
+	 */
+	private Tx parent;
+
 	public OrientDBTx(OrientGraphFactory factory, TypeResolver typeResolver) {
 
 		// Check if an active transaction already exists.
 		Tx activeTx = Tx.getActive();
 		if (activeTx != null) {
 			isWrapped = true;
+			parent = activeTx;
 			init(activeTx.getGraph());
 		} else {
 			DelegatingFramedOrientGraph transaction = new DelegatingFramedOrientGraph(factory.getTx(), typeResolver);
@@ -54,16 +60,21 @@ public class OrientDBTx extends AbstractTx<FramedTransactionalGraph> {
 		try {
 			if (isSuccess()) {
 				commit();
+				runAfterCommitActions();
 			} else {
 				rollback();
+				discardAfterCommitActions();
 			}
 		} catch (OConcurrentModificationException e) {
+			discardAfterCommitActions();
 			throw e;
 		} finally {
 			if (!isWrapped) {
 				// Restore the old graph that was previously swapped with the current graph
 				getGraph().shutdown();
 				Tx.setActive(null);
+			} else {
+				Tx.setActive(parent);
 			}
 		}
 	}
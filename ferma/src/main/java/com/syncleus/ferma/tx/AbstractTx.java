@@ -15,6 +15,9 @@
  */
 package com.syncleus.ferma.tx;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import com.syncleus.ferma.FramedTransactionalGraph;
 
 /**
@@ -29,6 +32,11 @@ public abstract class AbstractTx<T extends FramedTransactionalGraph> implements
 
     private boolean isSuccess = false;
 
+    /**
+     * Actions which will be invoked once the transaction has been committed.
+     */
+    private List<Runnable> afterCommitActions;
+
     /**
      * Initialize the transaction.
      * 
@@ -61,13 +69,43 @@ public abstract class AbstractTx<T extends FramedTransactionalGraph> implements
         return isSuccess;
     }
 
+    @Override
+    public void afterCommit(Runnable action) {
+        if (afterCommitActions == null) {
+            afterCommitActions = new ArrayList<>();
+        }
+        afterCommitActions.add(action);
+    }
+
+    /**
+     * Invoke the registered after commit actions. Needs to be called once the commit has succeeded.
+     */
+    protected void runAfterCommitActions() {
+        List<Runnable> actions = afterCommitActions;
+        afterCommitActions = null;
+        if (actions != null) {
+            for (Runnable action : actions) {
+                action.run();
+            }
+        }
+    }
+
+    /**
+     * Discard the registered after commit actions. Needs to be called once the transaction has been rolled back.
+     */
+    protected void discardAfterCommitActions() {
+        afterCommitActions = null;
+    }
+
     @Override
     public void close() {
         Tx.setActive(null);
         if (isSuccess()) {
             commit();
+            runAfterCommitActions();
         } else {
             rollback();
+            discardAfterCommitActions();
         }
         // Restore the old graph that was previously swapped with the current graph
         getGraph().close();
@@ -56,6 +56,15 @@ public interface Tx extends AutoCloseable {
      */
     void failure();
 
+    /**
+     * Register an action which will be invoked once the changes of the transaction have been committed. The action will be discarded if the
+     * transaction gets rolled back.
+     * 
+     * @param action
+     *            Action to be invoked after the commit
+     */
+    void afterCommit(Runnable action);
+
     /**
      * Return the framed graph that is bound to the transaction.
      * 
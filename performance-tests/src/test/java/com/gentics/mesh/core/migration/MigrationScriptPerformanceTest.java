@@ -0,0 +1,61 @@
+package com.gentics.mesh.core.migration;
+
+import static com.gentics.mesh.test.performance.StopWatch.loggingStopWatch;
+
+import java.util.Arrays;
+
+import javax.script.ScriptEngine;
+
+import org.junit.Test;
+
+import com.gentics.mesh.core.data.node.handler.TypeConverter;
+import com.gentics.mesh.core.endpoint.migration.MigrationScripts;
+import com.gentics.mesh.test.performance.StopWatchLogger;
+import com.gentics.mesh.util.Tuple;
+
+import io.vertx.core.json.JsonObject;
+import jdk.nashorn.api.scripting.NashornScriptEngineFactory;
+
+/**
+ * Compares the per container cost of the migration scripts. The previous implementation created a new script engine and evaluated the script text
+ * for every container.
+ */
+@SuppressWarnings("restriction")
+public class MigrationScriptPerformanceTest {
+
+	private static final String SCRIPT = "function migrate(node, fieldname, convert) {\n"
+		+ "	node.fields[fieldname] = convert.toString(node.fields[fieldname]);\n"
+		+ "	return node;\n"
+		+ "}";
+
+	private StopWatchLogger logger = StopWatchLogger.logger(getClass());
+
+	@Test
+	public void testPerformance() {
+		String json = new JsonObject().put("fields", new JsonObject().put("title", 42).put("teaser", "Some teaser")).encode();
+
+		NashornScriptEngineFactory factory = new NashornScriptEngineFactory();
+		loggingStopWatch(logger, "migration.script-engine-per-container", 200, (step) -> {
+			try {
+				ScriptEngine engine = factory.getScriptEngine(s -> false);
+				engine.put("node", json);
+				engine.put("convert", new TypeConverter());
+				engine.put("fieldname", "title");
+				engine.eval(SCRIPT + "\nnode = JSON.stringify(migrate(JSON.parse(node), fieldname, convert));");
+				engine.get("node").toString();
+			} catch (Exception e) {
+				throw new RuntimeException(e);
+			}
+		});
+
+		MigrationScripts scripts = new MigrationScripts();
+		scripts.add(SCRIPT, Arrays.asList(Tuple.tuple("fieldname", "title")));
+		loggingStopWatch(logger, "migration.compiled-scripts", 200, (step) -> {
+			try {
+				scripts.apply(json);
+			} catch (Exception e) {
+				throw new RuntimeException(e);
+			}
+		});
+	}
+}
@@ -16,6 +16,7 @@ import com.gentics.mesh.core.rest.node.NodeCreateRequest;
 import com.gentics.mesh.core.rest.node.NodeListResponse;
 import com.gentics.mesh.core.rest.node.NodeResponse;
 import com.gentics.mesh.core.rest.schema.impl.SchemaReferenceImpl;
+import com.gentics.mesh.parameter.impl.PagingParametersImpl;
 import com.gentics.mesh.parameter.impl.VersioningParametersImpl;
 import com.gentics.mesh.test.context.AbstractMeshTest;
 import com.gentics.mesh.test.context.MeshTestSetting;
@@ -126,6 +127,13 @@ public class NodeSearchPerformanceTest extends AbstractMeshTest {
 			call(() -> client().searchNodes(PROJECT_NAME, search, new VersioningParametersImpl().draft()));
 		});
 
+		// Hydration of a full page of hits
+		loggingStopWatch(logger, "node.search-filter-schema-page-100", 200, (step) -> {
+			NodeListResponse response = call(() -> client().searchNodes(PROJECT_NAME, search, new PagingParametersImpl().setPerPage(100L),
+				new VersioningParametersImpl().draft()));
+			assertEquals(100, response.getData().size());
+		});
+
 	}
 
 }
@@ -1370,6 +1370,11 @@ public abstract class MeshRestHttpClientImpl extends AbstractMeshRestHttpClient
 		return prepareRequest(POST, "/admin/processJobs", GenericMessageResponse.class);
 	}
 
+	@Override
+	public MeshRequest<JobResponse> rebuildImageVariants() {
+		return prepareRequest(POST, "/admin/rebuildImageVariants", JobResponse.class);
+	}
+
 	@Override
 	public MeshRequest<PluginResponse> deployPlugin(PluginDeploymentRequest request) {
 		Objects.requireNonNull(request, "The deployment request must not be null");
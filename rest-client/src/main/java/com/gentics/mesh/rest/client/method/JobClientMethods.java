@@ -52,4 +52,11 @@ public interface JobClientMethods {
 	 */
 	MeshRequest<GenericMessageResponse> invokeJobProcessing();
 
+	/**
+	 * Enqueue a job which creates the configured image variant presets for all existing binaries.
+	 * 
+	 * @return
+	 */
+	MeshRequest<JobResponse> rebuildImageVariants();
+
 }
@@ -5,5 +5,7 @@ public enum MigrationType {
 
 	microschema,
 
-	branch
+	branch,
+
+	imagevariant
 }
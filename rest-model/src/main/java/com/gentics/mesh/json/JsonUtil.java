@@ -4,6 +4,7 @@ import static io.netty.handler.codec.http.HttpResponseStatus.BAD_REQUEST;
 import static io.netty.handler.codec.http.HttpResponseStatus.INTERNAL_SERVER_ERROR;
 
 import java.io.IOException;
+import java.io.OutputStream;
 
 import org.codehaus.jettison.json.JSONObject;
 
@@ -16,6 +17,7 @@ import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.JsonMappingException;
 import com.fasterxml.jackson.databind.JsonSerializer;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import com.fasterxml.jackson.databind.SerializerProvider;
 import com.fasterxml.jackson.databind.module.SimpleAbstractTypeResolver;
 import com.fasterxml.jackson.databind.module.SimpleModule;
@@ -51,6 +53,10 @@ import com.gentics.mesh.json.serializer.FieldListSerializer;
 import com.gentics.mesh.json.serializer.JsonArraySerializer;
 import com.gentics.mesh.json.serializer.JsonObjectSerializer;
 
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufOutputStream;
+import io.netty.buffer.Unpooled;
+import io.vertx.core.buffer.Buffer;
 import io.vertx.core.json.JsonArray;
 import io.vertx.core.json.JsonObject;
 import io.vertx.core.logging.Logger;
@@ -135,11 +141,24 @@ public final class JsonUtil {
 	 * @throws GenericRestException
 	 */
 	public static <T> String toJson(T obj) throws GenericRestException {
+		return toJson(obj, false);
+	}
+
+	/**
+	 * Transform the given object into a JSON string.
+	 * 
+	 * @param obj
+	 * @param minify
+	 *            Whether the JSON should be written without indentation
+	 * @return
+	 * @throws GenericRestException
+	 */
+	public static <T> String toJson(T obj, boolean minify) throws GenericRestException {
 		if (obj instanceof JSONObject) {
 			return ((JSONObject) obj).toString();
 		}
 		try {
-			return defaultMapper.writerWithDefaultPrettyPrinter().writeValueAsString(obj);
+			return getWriter(minify).writeValueAsString(obj);
 		} catch (IOException e) {
 			// TODO i18n
 			String message = "Could not generate json from object";
@@ -148,6 +167,35 @@ public final class JsonUtil {
 		}
 	}
 
+	/**
+	 * Transform the given object into a JSON buffer. The JSON will be written directly into the buffer without creating an intermediate string.
+	 * 
+	 * @param obj
+	 * @param minify
+	 *            Whether the JSON should be written without indentation
+	 * @return
+	 * @throws GenericRestException
+	 */
+	public static <T> Buffer toJsonBuffer(T obj, boolean minify) throws GenericRestException {
+		if (obj instanceof JSONObject) {
+			return Buffer.buffer(((JSONObject) obj).toString());
+		}
+		ByteBuf buf = Unpooled.buffer();
+		try (ByteBufOutputStream out = new ByteBufOutputStream(buf)) {
+			getWriter(minify).writeValue((OutputStream) out, obj);
+			return Buffer.buffer(buf);
+		} catch (IOException e) {
+			// TODO i18n
+			String message = "Could not generate json from object";
+			// TODO 500?
+			throw new GenericRestException(INTERNAL_SERVER_ERROR, message, e);
+		}
+	}
+
+	private static ObjectWriter getWriter(boolean minify) {
+		return minify ? defaultMapper.writer() : defaultMapper.writerWithDefaultPrettyPrinter();
+	}
+
 	/**
 	 * Transform the given JSON content back into a POJO.
 	 * 
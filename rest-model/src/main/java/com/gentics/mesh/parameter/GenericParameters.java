@@ -15,6 +15,16 @@ public interface GenericParameters extends ParameterProvider {
 	 */
 	public static final String ETAG_PARAM_KEY = "etag";
 
+	/**
+	 * Query parameter key: {@value #PRETTY_PARAM_KEY}
+	 */
+	public static final String PRETTY_PARAM_KEY = "pretty";
+
+	/**
+	 * Query parameter key: {@value #WAIT_FOR_INDEX_PARAM_KEY}
+	 */
+	public static final String WAIT_FOR_INDEX_PARAM_KEY = "waitForIndex";
+
 	/**
 	 * Return the fields which should be included in the response.
 	 * 
@@ -63,4 +73,50 @@ public interface GenericParameters extends ParameterProvider {
 		setParameter(ETAG_PARAM_KEY, String.valueOf(includeEtag));
 		return this;
 	}
+
+	/**
+	 * Return whether the JSON response should be pretty printed.
+	 * 
+	 * @return Flag or null if the server default should be used
+	 */
+	default Boolean getPretty() {
+		String value = getParameter(PRETTY_PARAM_KEY);
+		if (value != null) {
+			return Boolean.valueOf(value);
+		} else {
+			return null;
+		}
+	}
+
+	/**
+	 * Set the flag which indicates whether the JSON response should be pretty printed.
+	 * 
+	 * @param pretty
+	 * @return
+	 */
+	default GenericParameters setPretty(boolean pretty) {
+		setParameter(PRETTY_PARAM_KEY, String.valueOf(pretty));
+		return this;
+	}
+
+	/**
+	 * Return whether the response should be delayed until the changes of the request have been written to the search index.
+	 * 
+	 * @return
+	 */
+	default boolean isWaitForIndex() {
+		String value = getParameter(WAIT_FOR_INDEX_PARAM_KEY);
+		return Boolean.valueOf(value);
+	}
+
+	/**
+	 * Set the flag which indicates whether the response should be delayed until the changes of the request have been written to the search index.
+	 * 
+	 * @param waitForIndex
+	 * @return
+	 */
+	default GenericParameters setWaitForIndex(boolean waitForIndex) {
+		setParameter(WAIT_FOR_INDEX_PARAM_KEY, String.valueOf(waitForIndex));
+		return this;
+	}
 }
@@ -1,9 +1,13 @@
 package com.gentics.mesh.image;
 
+import com.codahale.metrics.Counter;
+import com.codahale.metrics.Meter;
+import com.codahale.metrics.MetricRegistry;
 import com.gentics.mesh.Mesh;
 import com.gentics.mesh.core.image.spi.AbstractImageManipulator;
 import com.gentics.mesh.etc.config.ImageManipulatorOptions;
 import com.gentics.mesh.image.focalpoint.FocalPointModifier;
+import com.gentics.mesh.metric.MetricsService;
 import com.gentics.mesh.parameter.ImageManipulationParameters;
 import com.gentics.mesh.parameter.image.CropMode;
 import com.gentics.mesh.parameter.image.ImageRect;
@@ -28,6 +32,7 @@ import org.imgscalr.Scalr.Mode;
 
 import javax.imageio.IIOImage;
 import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
 import javax.imageio.ImageReader;
 import javax.imageio.ImageWriteParam;
 import javax.imageio.ImageWriter;
@@ -35,6 +40,7 @@ import javax.imageio.plugins.jpeg.JPEGImageWriteParam;
 import javax.imageio.stream.FileImageOutputStream;
 import javax.imageio.stream.ImageInputStream;
 import javax.imageio.stream.ImageOutputStream;
+import java.awt.Rectangle;
 import java.awt.image.BufferedImage;
 import java.io.File;
 import java.io.IOException;
@@ -43,8 +49,14 @@ import java.time.Duration;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import static com.gentics.mesh.core.rest.error.Errors.error;
+import static com.gentics.mesh.metric.Metrics.IMAGE_RESIZE_ACTIVE;
+import static com.gentics.mesh.metric.Metrics.IMAGE_RESIZE_COALESCED;
+import static com.gentics.mesh.metric.Metrics.IMAGE_RESIZE_QUEUED;
 import static io.netty.handler.codec.http.HttpResponseStatus.BAD_REQUEST;
 
 /**
@@ -58,13 +70,33 @@ public class ImgscalrImageManipulator extends AbstractImageManipulator {
 
 	private WorkerExecutor workerPool;
 
-	public ImgscalrImageManipulator() {
-		this(new Vertx(Mesh.vertx()), Mesh.mesh().getOptions().getImageOptions());
+	/**
+	 * Resize operations which are currently running. Concurrent requests for the same variant will share the result of the running operation.
+	 */
+	private final ConcurrentMap<String, Single<File>> runningResizes = new ConcurrentHashMap<>();
+
+	private final Counter queuedResizes;
+
+	private final Counter activeResizes;
+
+	private final Meter coalescedResizes;
+
+	public ImgscalrImageManipulator(MetricsService metrics) {
+		// A detached registry is used if metrics are disabled. This way the metrics will not be exposed.
+		this(new Vertx(Mesh.vertx()), Mesh.mesh().getOptions().getImageOptions(), metrics.isEnabled() ? metrics.getMetricRegistry()
+			: new MetricRegistry());
 	}
 
 	ImgscalrImageManipulator(Vertx vertx, ImageManipulatorOptions options) {
-		super(vertx, options);
+		this(vertx, options, new MetricRegistry());
+	}
+
+	ImgscalrImageManipulator(Vertx vertx, ImageManipulatorOptions options, MetricRegistry metricRegistry) {
+		super(vertx, options, metricRegistry);
 		focalPointModifier = new FocalPointModifier(options);
+		queuedResizes = metricRegistry.counter(IMAGE_RESIZE_QUEUED.key());
+		activeResizes = metricRegistry.counter(IMAGE_RESIZE_ACTIVE.key());
+		coalescedResizes = metricRegistry.meter(IMAGE_RESIZE_COALESCED.key());
 		// 10 seconds
 		workerPool = vertx.createSharedWorkerExecutor("resizeWorker", 5, Duration.ofSeconds(10).toNanos());
 	}
@@ -99,8 +131,23 @@ public class ImgscalrImageManipulator extends AbstractImageManipulator {
 	 * @return Resized image or original image if no resize operation was requested
 	 */
 	protected BufferedImage resizeIfRequested(BufferedImage originalImage, ImageManipulationParameters parameters) {
-		int originalHeight = originalImage.getHeight();
-		int originalWidth = originalImage.getWidth();
+		return resizeIfRequested(originalImage, parameters, originalImage.getWidth(), originalImage.getHeight());
+	}
+
+	/**
+	 * Resize the image if the request contains resize parameters. Missing dimensions will be calculated using the given size of the source. The source
+	 * size may differ from the size of the image if the image has been subsampled while decoding.
+	 *
+	 * @param originalImage
+	 * @param parameters
+	 * @param originalWidth
+	 *            Width of the source image
+	 * @param originalHeight
+	 *            Height of the source image
+	 * @return Resized image or original image if no resize operation was requested
+	 */
+	private BufferedImage resizeIfRequested(BufferedImage originalImage, ImageManipulationParameters parameters, int originalWidth,
+		int originalHeight) {
 		double aspectRatio = (double) originalWidth / (double) originalHeight;
 
 		// Resize if required and calculate missing parameters if needed
@@ -214,17 +261,21 @@ public class ImgscalrImageManipulator extends AbstractImageManipulator {
 	/**
 	 * Resize the given image with the specified manipulation parameters.
 	 *
-	 * @param image The image to process
+	 * @param source The decoded image to process
 	 * @param parameters The parameters defining cropping and resizing requests
 	 * @return The modified image
 	 */
-	private BufferedImage cropAndResize(BufferedImage image, ImageManipulationParameters parameters) {
+	private BufferedImage cropAndResize(DecodedImage source, ImageManipulationParameters parameters) {
+		BufferedImage image = source.image;
 		CropMode cropMode = parameters.getCropMode();
 		boolean omitResize = false;
 		if (cropMode != null) {
 			switch (cropMode) {
 				case RECT:
-					image = crop(image, parameters.getRect());
+					// The crop area may already have been applied while decoding the image
+					if (!source.cropped) {
+						image = crop(image, parameters.getRect());
+					}
 					break;
 				case FOCALPOINT:
 					image = focalPointModifier.apply(image, parameters);
@@ -235,12 +286,83 @@ public class ImgscalrImageManipulator extends AbstractImageManipulator {
 		}
 
 		if (!omitResize) {
-			image = resizeIfRequested(image, parameters);
+			image = resizeIfRequested(image, parameters, source.width, source.height);
 		}
 
 		return image;
 	}
 
+	/**
+	 * Decode the image. Only the requested crop area will be decoded and the image will be subsampled if it is much larger than the requested size. This
+	 * way the memory usage depends on the size of the variant instead of the size of the original image.
+	 *
+	 * @param reader
+	 * @param parameters
+	 * @return
+	 * @throws IOException
+	 */
+	private DecodedImage decode(ImageReader reader, ImageManipulationParameters parameters) throws IOException {
+		int width = reader.getWidth(0);
+		int height = reader.getHeight(0);
+		ImageReadParam readParam = reader.getDefaultReadParam();
+
+		boolean cropped = false;
+		ImageRect rect = parameters.getRect();
+		if (parameters.getCropMode() == CropMode.RECT && rect != null) {
+			rect.validateCropBounds(width, height);
+			readParam.setSourceRegion(new Rectangle(rect.getStartX(), rect.getStartY(), rect.getWidth(), rect.getHeight()));
+			width = rect.getWidth();
+			height = rect.getHeight();
+			cropped = true;
+		}
+
+		int factor = options.isSubsampling() ? calculateSubsampling(width, height, parameters) : 1;
+		if (factor > 1) {
+			if (log.isDebugEnabled()) {
+				log.debug("Subsampling image of size {" + width + "x" + height + "} by factor {" + factor + "}");
+			}
+			readParam.setSourceSubsampling(factor, factor, 0, 0);
+		}
+		return new DecodedImage(reader.read(0, readParam), width, height, cropped);
+	}
+
+	/**
+	 * Calculate the subsampling factor for the source of the given size. The subsampled image will keep at least twice the resolution of the requested
+	 * size so that the resample filter still produces the same quality.
+	 *
+	 * @param width
+	 *            Width of the decoded area
+	 * @param height
+	 *            Height of the decoded area
+	 * @param parameters
+	 * @return Subsampling factor or 1 if the image should be decoded completely
+	 */
+	static int calculateSubsampling(int width, int height, ImageManipulationParameters parameters) {
+		Integer pWidth = parameters.getWidth();
+		Integer pHeight = parameters.getHeight();
+		if (pWidth == null && pHeight == null) {
+			return 1;
+		}
+		double targetWidth;
+		double targetHeight;
+		if (parameters.getCropMode() == CropMode.FOCALPOINT) {
+			// The focal point logic requires the full target size. Zooming will crop the image and thus needs more of its resolution.
+			if (parameters.getFocalPoint() == null || pWidth == null || pHeight == null) {
+				return 1;
+			}
+			Float zoom = parameters.getFocalPointZoom();
+			double zoomFactor = zoom != null && zoom > 1 ? zoom : 1;
+			targetWidth = pWidth * zoomFactor;
+			targetHeight = pHeight * zoomFactor;
+		} else {
+			double aspectRatio = (double) width / (double) height;
+			targetWidth = pWidth == null ? pHeight * aspectRatio : pWidth;
+			targetHeight = pHeight == null ? targetWidth / aspectRatio : pHeight;
+		}
+		int factor = (int) Math.min(width / (targetWidth * 2), height / (targetHeight * 2));
+		return Math.max(1, factor);
+	}
+
 	@Override
 	public Single<PropReadFileStream> handleResize(Flowable<Buffer> stream, String cacheKey, ImageManipulationParameters parameters) {
 		// Validate the resize parameters
@@ -250,55 +372,120 @@ public class ImgscalrImageManipulator extends AbstractImageManipulator {
 		} catch (Exception e) {
 			return Single.error(e);
 		}
-		File cacheFile = getCacheFile(cacheKey, parameters);
+		File cacheFile = cache.get(cacheKey, parameters);
+		if (cacheFile != null) {
+			return PropReadFileStream.openFile(this.vertx, cacheFile.getAbsolutePath()).onErrorResumeNext(e -> {
+				log.warn("Could not read cached image variant {" + cacheFile.getAbsolutePath() + "}. Creating it again.", e);
+				cache.invalidate(cacheKey, parameters);
+				return resize(stream, cacheKey, parameters);
+			});
+		}
+		return resize(stream, cacheKey, parameters);
+	}
 
-		// Check the cache file directory
-		if (cacheFile.exists()) {
-			return PropReadFileStream.openFile(this.vertx, cacheFile.getAbsolutePath());
+	/**
+	 * Return the variant file stream. Only one resize operation will be executed for concurrent requests of the same variant.
+	 *
+	 * @param stream
+	 * @param cacheKey
+	 * @param parameters
+	 * @return
+	 */
+	private Single<PropReadFileStream> resize(Flowable<Buffer> stream, String cacheKey, ImageManipulationParameters parameters) {
+		String variantKey = cache.getBaseFile(cacheKey, parameters).getAbsolutePath();
+		AtomicBoolean created = new AtomicBoolean(false);
+		Single<File> variant = runningResizes.computeIfAbsent(variantKey, key -> {
+			created.set(true);
+			return createVariant(stream, cacheKey, parameters)
+				.doFinally(() -> runningResizes.remove(key))
+				.cache();
+		});
+		if (!created.get()) {
+			coalescedResizes.mark();
+			if (log.isDebugEnabled()) {
+				log.debug("Waiting for running resize of variant {" + variantKey + "}");
+			}
 		}
+		// Each request needs its own file stream
+		return variant.flatMap(file -> PropReadFileStream.openFile(this.vertx, file.getAbsolutePath()));
+	}
 
+	/**
+	 * Create the image variant and add it to the image cache.
+	 *
+	 * @param stream
+	 * @param cacheKey
+	 * @param parameters
+	 * @return Written variant file
+	 */
+	private Single<File> createVariant(Flowable<Buffer> stream, String cacheKey, ImageManipulationParameters parameters) {
 		// TODO handle execution timeout
 		// Make sure to run that code in the dedicated thread pool it may be CPU intensive for larger images and we don't want to exhaust the regular worker
 		// pool
-		return workerPool.rxExecuteBlocking(bh -> {
-			try (ImageInputStream ins = ImageIO.createImageInputStream(RxUtil.toInputStream(stream, vertx))) {
-				BufferedImage image;
-				ImageReader reader = getImageReader(ins);
-
+		return Single.defer(() -> {
+			queuedResizes.inc();
+			return workerPool.<File>rxExecuteBlocking(bh -> {
+				queuedResizes.dec();
+				activeResizes.inc();
+				// The counters must be updated before the waiting requests are notified
 				try {
-					image = reader.read(0);
-				} catch (IOException e) {
-					log.error("Could not read input image", e);
-
-					throw error(BAD_REQUEST, "image_error_reading_failed");
+					File file = writeVariant(stream, cacheKey, parameters);
+					activeResizes.dec();
+					bh.complete(file);
+				} catch (Exception e) {
+					activeResizes.dec();
+					bh.fail(e);
 				}
+			});
+		});
+	}
 
-				if (log.isDebugEnabled()) {
-					log.debug("Read image from stream " + stream.hashCode() + " with reader " + reader.getClass().getName());
-				}
+	/**
+	 * Read, crop and resize the image and write the variant to the image cache.
+	 *
+	 * @param stream
+	 * @param cacheKey
+	 * @param parameters
+	 * @return Written variant file
+	 * @throws IOException
+	 */
+	private File writeVariant(Flowable<Buffer> stream, String cacheKey, ImageManipulationParameters parameters) throws IOException {
+		try (ImageInputStream ins = ImageIO.createImageInputStream(RxUtil.toInputStream(stream, vertx))) {
+			DecodedImage source;
+			ImageReader reader = getImageReader(ins);
 
-				image = cropAndResize(image, parameters);
+			try {
+				source = decode(reader, parameters);
+			} catch (IOException e) {
+				log.error("Could not read input image", e);
 
-				String[] extensions = reader.getOriginatingProvider().getFileSuffixes();
-				String extension = ArrayUtils.isEmpty(extensions) ? "" : extensions[0];
-				File outCacheFile = new File(cacheFile.getAbsolutePath() + "." + extension);
+				throw error(BAD_REQUEST, "image_error_reading_failed");
+			}
 
-				// Write image
-				try (ImageOutputStream out = new FileImageOutputStream(outCacheFile)) {
-					ImageWriteParam params = getImageWriteparams(extension);
+			if (log.isDebugEnabled()) {
+				log.debug("Read image from stream " + stream.hashCode() + " with reader " + reader.getClass().getName());
+			}
 
-					// same as write(image), but with image parameters
-					getImageWriter(reader, out).write(null, new IIOImage(image, null, null), params);
-				} catch (Exception e) {
-					throw error(BAD_REQUEST, "image_error_writing_failed");
-				}
+			BufferedImage image = cropAndResize(source, parameters);
+
+			String[] extensions = reader.getOriginatingProvider().getFileSuffixes();
+			String extension = ArrayUtils.isEmpty(extensions) ? "" : extensions[0];
+			File baseFile = cache.getBaseFile(cacheKey, parameters);
+			baseFile.getParentFile().mkdirs();
+			File outCacheFile = new File(baseFile.getAbsolutePath() + "." + extension);
+
+			// Write image
+			try (ImageOutputStream out = new FileImageOutputStream(outCacheFile)) {
+				ImageWriteParam params = getImageWriteparams(extension);
 
-				// Return buffer to written cache file
-				PropReadFileStream.openFile(this.vertx, outCacheFile.getAbsolutePath()).subscribe(bh::complete, bh::fail);
+				// same as write(image), but with image parameters
+				getImageWriter(reader, out).write(null, new IIOImage(image, null, null), params);
 			} catch (Exception e) {
-				bh.fail(e);
+				throw error(BAD_REQUEST, "image_error_writing_failed");
 			}
-		});
+			cache.put(cacheKey, parameters, outCacheFile);
+			return outCacheFile;
+		}
 	}
 
 	private ImageWriteParam getImageWriteparams(String extension) {
@@ -350,4 +537,25 @@ public class ImgscalrImageManipulator extends AbstractImageManipulator {
 		});
 	}
 
+	/**
+	 * Decoded image and the size of the decoded area of the original image.
+	 */
+	private static class DecodedImage {
+
+		private final BufferedImage image;
+
+		private final int width;
+
+		private final int height;
+
+		private final boolean cropped;
+
+		DecodedImage(BufferedImage image, int width, int height, boolean cropped) {
+			this.image = image;
+			this.width = width;
+			this.height = height;
+			this.cropped = cropped;
+		}
+	}
+
 }
@@ -1,8 +1,11 @@
 package com.gentics.mesh.image;
 
+import com.codahale.metrics.MetricRegistry;
 import com.gentics.mesh.core.image.spi.ImageInfo;
 import com.gentics.mesh.core.rest.error.GenericRestException;
 import com.gentics.mesh.etc.config.ImageManipulatorOptions;
+import com.gentics.mesh.parameter.ImageManipulationParameters;
+import com.gentics.mesh.parameter.image.CropMode;
 import com.gentics.mesh.parameter.impl.ImageManipulationParametersImpl;
 import com.gentics.mesh.util.PropReadFileStream;
 import com.gentics.mesh.util.RxUtil;
@@ -29,11 +32,18 @@ import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
 import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static com.gentics.mesh.assertj.MeshAssertions.assertThat;
+import static com.gentics.mesh.metric.Metrics.IMAGE_CACHE_HIT;
+import static com.gentics.mesh.metric.Metrics.IMAGE_RESIZE_ACTIVE;
+import static com.gentics.mesh.metric.Metrics.IMAGE_RESIZE_COALESCED;
+import static com.gentics.mesh.metric.Metrics.IMAGE_RESIZE_QUEUED;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertTrue;
@@ -52,6 +62,8 @@ public class ImgscalrImageManipulatorTest extends AbstractImageTest {
 		ImageManipulatorOptions options = new ImageManipulatorOptions();
 
 		options.setImageCacheDirectory(cacheDir.getAbsolutePath());
+		// The reference images have been created from the fully decoded images
+		options.setSubsampling(false);
 		manipulator = new ImgscalrImageManipulator(Vertx.vertx(), options);
 	}
 
@@ -242,6 +254,82 @@ public class ImgscalrImageManipulatorTest extends AbstractImageTest {
 
 	}
 
+	@Test
+	public void testConcurrentResizeOfSameVariant() throws IOException {
+		MetricRegistry registry = new MetricRegistry();
+		ImageManipulatorOptions options = new ImageManipulatorOptions();
+		options.setImageCacheDirectory(cacheDir.getAbsolutePath());
+		ImgscalrImageManipulator manipulator = new ImgscalrImageManipulator(Vertx.vertx(), options, registry);
+
+		byte[] bytes = IOUtils.toByteArray(getClass().getResourceAsStream("/pictures/12382975864_09e6e069e7_o.jpg"));
+		AtomicInteger reads = new AtomicInteger();
+		int requests = 10;
+		List<Single<PropReadFileStream>> results = new ArrayList<>();
+		for (int i = 0; i < requests; i++) {
+			// Every request provides its own stream of the original image
+			Flowable<Buffer> bs = Flowable.just(Buffer.buffer(bytes)).doOnSubscribe(s -> reads.incrementAndGet());
+			results.add(manipulator.handleResize(bs, "hash", new ImageManipulationParametersImpl().setWidth(100)).cache());
+		}
+		for (Single<PropReadFileStream> result : results) {
+			result.subscribe();
+		}
+		for (Single<PropReadFileStream> result : results) {
+			PropReadFileStream variant = result.blockingGet();
+			assertEquals(100, ImageIO.read(new File(variant.getPath())).getWidth());
+			variant.getFile().close();
+		}
+
+		assertEquals("The original image should only have been read once.", 1, reads.get());
+		long coalesced = registry.meter(IMAGE_RESIZE_COALESCED.key()).getCount();
+		long hits = registry.meter(IMAGE_CACHE_HIT.key()).getCount();
+		assertEquals("All other requests should have used the running resize or the cached variant.", requests - 1, coalesced + hits);
+		assertEquals(0, registry.counter(IMAGE_RESIZE_QUEUED.key()).getCount());
+		assertEquals(0, registry.counter(IMAGE_RESIZE_ACTIVE.key()).getCount());
+	}
+
+	@Test
+	public void testCalculateSubsampling() {
+		// The subsampled image must keep at least twice the requested resolution
+		assertEquals(5, ImgscalrImageManipulator.calculateSubsampling(4000, 3000, new ImageManipulationParametersImpl().setWidth(400)));
+		assertEquals(5, ImgscalrImageManipulator.calculateSubsampling(4000, 3000, new ImageManipulationParametersImpl().setHeight(300)));
+		assertEquals(2, ImgscalrImageManipulator.calculateSubsampling(4000, 3000, new ImageManipulationParametersImpl().setWidth(400).setHeight(
+			600)));
+		assertEquals("Small images must not be subsampled", 1, ImgscalrImageManipulator.calculateSubsampling(500, 400,
+			new ImageManipulationParametersImpl().setWidth(400)));
+		assertEquals(1, ImgscalrImageManipulator.calculateSubsampling(4000, 3000, new ImageManipulationParametersImpl()));
+
+		// Zooming into the focal point needs more of the resolution
+		ImageManipulationParameters params = new ImageManipulationParametersImpl().setWidth(200).setHeight(150);
+		params.setCropMode(CropMode.FOCALPOINT).setFocalPoint(0.5f, 0.5f);
+		assertEquals(10, ImgscalrImageManipulator.calculateSubsampling(4000, 3000, params));
+		params.setFocalPointZoom(2f);
+		assertEquals(5, ImgscalrImageManipulator.calculateSubsampling(4000, 3000, params));
+	}
+
+	@Test
+	public void testResizeWithSubsampling() throws IOException {
+		ImageManipulatorOptions options = new ImageManipulatorOptions();
+		options.setImageCacheDirectory(cacheDir.getAbsolutePath());
+		ImgscalrImageManipulator manipulator = new ImgscalrImageManipulator(Vertx.vertx(), options);
+		byte[] bytes = IOUtils.toByteArray(getClass().getResourceAsStream("/pictures/blume.jpg"));
+
+		// The subsampled image must result in the same dimensions
+		PropReadFileStream variant = manipulator.handleResize(Flowable.just(Buffer.buffer(bytes)), "blume", new ImageManipulationParametersImpl()
+			.setWidth(100)).blockingGet();
+		BufferedImage image = ImageIO.read(new File(variant.getPath()));
+		variant.getFile().close();
+		assertEquals(100, image.getWidth());
+		assertEquals(118, image.getHeight());
+
+		// The crop area is read directly from the original image
+		variant = manipulator.handleResize(Flowable.just(Buffer.buffer(bytes)), "blume", new ImageManipulationParametersImpl().setRect(100, 200,
+			600, 400).setCropMode(CropMode.RECT).setWidth(50)).blockingGet();
+		image = ImageIO.read(new File(variant.getPath()));
+		variant.getFile().close();
+		assertEquals(50, image.getWidth());
+		assertEquals(75, image.getHeight());
+	}
+
 	@Test
 	public void testTikaMetadata() throws IOException, SAXException, TikaException {
 		InputStream ins = getClass().getResourceAsStream("/pictures/12382975864_09e6e069e7_o.jpg");
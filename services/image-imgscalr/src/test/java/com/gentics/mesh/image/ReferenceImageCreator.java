@@ -30,6 +30,7 @@ public class ReferenceImageCreator {
 		ImageManipulatorOptions options = new ImageManipulatorOptions();
 		String tmpDir = new File("target", "tmp_" + System.currentTimeMillis()).getAbsolutePath();
 		options.setImageCacheDirectory(tmpDir);
+		options.setSubsampling(false);
 		ImgscalrImageManipulator manipulator = new ImgscalrImageManipulator(vertx, options);
 
 		readImageConfig().blockingForEach(image -> {
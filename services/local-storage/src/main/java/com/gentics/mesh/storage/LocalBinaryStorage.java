@@ -4,14 +4,17 @@ import static com.gentics.mesh.core.rest.error.Errors.error;
 import static io.netty.handler.codec.http.HttpResponseStatus.BAD_REQUEST;
 
 import java.io.File;
+import java.nio.file.Files;
 import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
 
 import javax.inject.Inject;
 import javax.inject.Singleton;
 
 import com.gentics.mesh.Mesh;
 import com.gentics.mesh.core.data.node.field.BinaryGraphField;
-import com.gentics.mesh.etc.config.MeshUploadOptions;
 import com.gentics.mesh.util.RxUtil;
 
 import io.reactivex.Completable;
@@ -27,43 +30,90 @@ public class LocalBinaryStorage extends AbstractBinaryStorage {
 
 	private static final Logger log = LoggerFactory.getLogger(LocalBinaryStorage.class);
 
+	/**
+	 * Folder within the upload directory which contains the data of uploads which have not yet been assigned to a binary.
+	 */
+	private static final String TEMP_FOLDER = "temp";
+
 	@Inject
 	public LocalBinaryStorage() {
 	}
 
 	@Override
 	public Completable store(Flowable<Buffer> stream, String uuid) {
-		return Completable.defer(() -> {
-			FileSystem fileSystem = FileSystem.newInstance(Mesh.vertx().fileSystem());
-			String path = getFilePath(uuid);
-			log.debug("Saving data for field to path {" + path + "}");
-			MeshUploadOptions uploadOptions = Mesh.mesh().getOptions().getUploadOptions();
-			File uploadFolder = new File(uploadOptions.getDirectory(), getSegmentedPath(uuid));
-
-			if (!uploadFolder.exists()) {
-				if (!uploadFolder.mkdirs()) {
-					log.error("Failed to create target folder {" + uploadFolder.getAbsolutePath() + "}");
-					throw error(BAD_REQUEST, "node_error_upload_failed");
-				}
-
-				if (log.isDebugEnabled()) {
-					log.debug("Created folder {" + uploadFolder.getAbsolutePath() + "}");
-				}
+		return Completable.defer(() -> write(stream, new File(getFilePath(uuid))));
+	}
+
+	@Override
+	public Completable storeInTemp(Flowable<Buffer> stream, String uuid) {
+		return Completable.defer(() -> write(stream, new File(getTemporaryFilePath(uuid))));
+	}
+
+	/**
+	 * Write the stream to the given file. Missing folders will be created.
+	 * 
+	 * @param stream
+	 * @param targetFile
+	 * @return
+	 */
+	private Completable write(Flowable<Buffer> stream, File targetFile) {
+		FileSystem fileSystem = FileSystem.newInstance(Mesh.vertx().fileSystem());
+		log.debug("Saving data for field to path {" + targetFile.getAbsolutePath() + "}");
+		File uploadFolder = targetFile.getParentFile();
+
+		if (!uploadFolder.exists()) {
+			if (!uploadFolder.mkdirs()) {
+				log.error("Failed to create target folder {" + uploadFolder.getAbsolutePath() + "}");
+				throw error(BAD_REQUEST, "node_error_upload_failed");
 			}
 
-			File targetFile = new File(uploadFolder, uuid + ".bin");
+			if (log.isDebugEnabled()) {
+				log.debug("Created folder {" + uploadFolder.getAbsolutePath() + "}");
+			}
+		}
+
+		return fileSystem.rxOpen(targetFile.getAbsolutePath(), new OpenOptions()).flatMapCompletable(file -> stream
+			.map(io.vertx.reactivex.core.buffer.Buffer::new)
+			.doOnNext(file::write)
+			.ignoreElements()
+			.andThen(file.rxFlush())
+			.andThen(file.rxClose())
+			.doOnError(err -> file.close())
+		);
+	}
 
-			return fileSystem.rxOpen(targetFile.getAbsolutePath(), new OpenOptions()).flatMapCompletable(file -> stream
-				.map(io.vertx.reactivex.core.buffer.Buffer::new)
-				.doOnNext(file::write)
-				.ignoreElements()
-				.andThen(file.rxFlush())
-				.andThen(file.rxClose())
-				.doOnError(err -> file.close())
-			);
+	@Override
+	public Completable moveInPlace(String uuid) {
+		return Completable.fromAction(() -> {
+			Path source = Paths.get(getTemporaryFilePath(uuid));
+			Path target = Paths.get(getFilePath(uuid));
+			if (!Files.exists(source) && Files.exists(target)) {
+				// The data has already been moved. This is the case when the transaction which moves the data is retried.
+				return;
+			}
+			Files.createDirectories(target.getParent());
+			// The temporary folder is located within the upload directory and thus the data does not need to be copied
+			Files.move(source, target, StandardCopyOption.ATOMIC_MOVE);
 		});
 	}
 
+	@Override
+	public Completable purgeTemporaryUpload(String uuid) {
+		return deleteFile(getTemporaryFilePath(uuid));
+	}
+
+	/**
+	 * Return the absolute path to the temporary location of the binary data for the given uuid.
+	 * 
+	 * @param binaryUuid
+	 * @return
+	 */
+	public static String getTemporaryFilePath(String binaryUuid) {
+		File folder = new File(Mesh.mesh().getOptions().getUploadOptions().getDirectory(), TEMP_FOLDER);
+		File binaryFile = new File(folder, binaryUuid + ".bin");
+		return binaryFile.getAbsolutePath();
+	}
+
 	/**
 	 * Return the absolute path to the binary data for the given uuid.
 	 * 
@@ -122,7 +172,10 @@ public class LocalBinaryStorage extends AbstractBinaryStorage {
 
 	@Override
 	public Completable delete(String binaryUuid) {
-		String path = getFilePath(binaryUuid);
+		return deleteFile(getFilePath(binaryUuid));
+	}
+
+	private Completable deleteFile(String path) {
 		return FileSystem.newInstance(Mesh.vertx().fileSystem())
 
 				.rxDelete(path)
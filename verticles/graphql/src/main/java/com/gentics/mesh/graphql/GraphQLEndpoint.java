@@ -2,6 +2,7 @@ package com.gentics.mesh.graphql;
 
 import com.gentics.mesh.auth.MeshAuthChain;
 import com.gentics.mesh.cli.BootstrapInitializer;
+import com.gentics.mesh.core.verticle.handler.WorkerPool;
 import com.gentics.mesh.graphql.context.GraphQLContext;
 import com.gentics.mesh.graphql.context.impl.GraphQLContextImpl;
 import com.gentics.mesh.rest.InternalEndpointRoute;
@@ -42,6 +43,8 @@ public class GraphQLEndpoint extends AbstractProjectEndpoint {
 		queryEndpoint.exampleResponse(OK, graphqlExamples.createResponse(), "Basic GraphQL response.");
 		queryEndpoint.description("Endpoint which accepts GraphQL queries.");
 		queryEndpoint.path("/");
+		// Queries are posted but don't modify data
+		queryEndpoint.workerPool(WorkerPool.READ);
 		queryEndpoint.blockingHandler(rc -> {
 			GraphQLContext gc = new GraphQLContextImpl(rc);
 			String body = gc.getBodyAsString();
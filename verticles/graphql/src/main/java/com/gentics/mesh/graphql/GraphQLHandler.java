@@ -15,6 +15,8 @@ import com.syncleus.ferma.tx.Tx;
 import com.gentics.mesh.core.rest.error.AbstractUnavailableException;
 import com.gentics.mesh.core.rest.error.PermissionException;
 import com.gentics.mesh.graphdb.spi.Database;
+import com.gentics.mesh.graphql.cache.GraphQLQueryCache;
+import com.gentics.mesh.graphql.cache.GraphQLSchemaCache;
 import com.gentics.mesh.graphql.context.GraphQLContext;
 import com.gentics.mesh.graphql.type.QueryTypeProvider;
 import com.syncleus.ferma.tx.Tx;
@@ -41,6 +43,12 @@ public class GraphQLHandler {
 	@Inject
 	public Database db;
 
+	@Inject
+	public GraphQLSchemaCache schemaCache;
+
+	@Inject
+	public GraphQLQueryCache queryCache;
+
 	@Inject
 	public GraphQLHandler() {
 	}
@@ -56,8 +64,15 @@ public class GraphQLHandler {
 	public void handleQuery(GraphQLContext gc, String body) {
 		try (Tx tx = db.tx()) {
 			JsonObject queryJson = new JsonObject(body);
-			String query = queryJson.getString("query");
-			GraphQL graphQL = newGraphQL(typeProvider.getRootSchema(gc)).build();
+			String query = queryCache.resolveQuery(queryJson);
+			if (query == null) {
+				// The client referenced a persisted query which is not known. It needs to send the query text along with the hash.
+				gc.send(persistedQueryNotFound(), OK);
+				return;
+			}
+			GraphQL graphQL = schemaCache.get(gc, key -> newGraphQL(typeProvider.getRootSchema(gc))
+				.preparsedDocumentProvider(queryCache.documentProvider(key))
+				.build());
 			ExecutionInput executionInput = ExecutionInput.newExecutionInput().query(query).context(gc).variables(extractVariables(queryJson))
 					.build();
 			ExecutionResult result = graphQL.execute(executionInput);
@@ -80,7 +95,7 @@ public class GraphQLHandler {
 				Map<String, Object> data = (Map<String, Object>) result.getData();
 				response.put("data", new JsonObject(data));
 			}
-			gc.send(response.encodePrettily(), OK);
+			gc.send(response, OK);
 		}
 
 	}
@@ -101,6 +116,18 @@ public class GraphQLHandler {
 		}
 	}
 
+	/**
+	 * Create the response which informs the client that the referenced persisted query is not known.
+	 * 
+	 * @return
+	 */
+	private JsonObject persistedQueryNotFound() {
+		JsonObject jsonError = new JsonObject();
+		jsonError.put("message", GraphQLQueryCache.PERSISTED_QUERY_NOT_FOUND);
+		jsonError.put("type", GraphQLQueryCache.PERSISTED_QUERY_NOT_FOUND);
+		return new JsonObject().put("errors", new JsonArray().add(jsonError));
+	}
+
 	/**
 	 * Add the listed errors to the response.
 	 * 
@@ -0,0 +1,110 @@
+package com.gentics.mesh.graphql.cache;
+
+import static com.gentics.mesh.core.rest.error.Errors.error;
+import static io.netty.handler.codec.http.HttpResponseStatus.BAD_REQUEST;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+import javax.inject.Inject;
+import javax.inject.Singleton;
+
+import com.gentics.mesh.etc.config.GraphQLOptions;
+import com.gentics.mesh.etc.config.MeshOptions;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.google.common.hash.Hashing;
+
+import graphql.execution.preparsed.PreparsedDocumentEntry;
+import graphql.execution.preparsed.PreparsedDocumentProvider;
+import io.vertx.core.json.JsonObject;
+
+/**
+ * Cache for parsed and validated GraphQL query documents and for persisted queries.
+ *
+ * The parsed documents are stored per compiled schema since the validation result depends on the schema. Documents of outdated schemas are no longer
+ * requested and thus will be evicted over time. Persisted queries follow the automatic persisted query protocol. Clients send the SHA-256 hash of the
+ * query via the <code>extensions.persistedQuery.sha256Hash</code> property of the request. The query text itself only needs to be sent once the server
+ * does not know the hash yet.
+ */
+@Singleton
+public class GraphQLQueryCache {
+
+	public static final String PERSISTED_QUERY_NOT_FOUND = "PersistedQueryNotFound";
+
+	private final Cache<String, PreparsedDocumentEntry> documents;
+
+	private final Cache<String, String> persistedQueries;
+
+	@Inject
+	public GraphQLQueryCache(MeshOptions options) {
+		GraphQLOptions graphQLOptions = options.getGraphQLOptions();
+		this.documents = Caffeine.newBuilder().maximumSize(graphQLOptions.getQueryCacheSize()).expireAfterAccess(30, TimeUnit.MINUTES).build();
+		this.persistedQueries = Caffeine.newBuilder().maximumSize(graphQLOptions.getPersistedQueryCacheSize()).expireAfterAccess(graphQLOptions
+			.getPersistedQueryExpiration(), TimeUnit.SECONDS).build();
+	}
+
+	/**
+	 * Return a document provider which caches the parsed and validated documents for the schema with the given key.
+	 *
+	 * @param schemaKey
+	 *            Key of the compiled schema
+	 * @return
+	 */
+	public PreparsedDocumentProvider documentProvider(String schemaKey) {
+		return (query, computeFunction) -> documents.get(schemaKey + "-" + query, key -> computeFunction.apply(query));
+	}
+
+	/**
+	 * Extract the query from the given request. Persisted queries will be resolved via the hash which was provided by the client. Queries which include
+	 * the query text and the hash will be stored for later requests.
+	 *
+	 * @param request
+	 *            Request body
+	 * @return Query text or null if the request referenced an unknown persisted query
+	 */
+	public String resolveQuery(JsonObject request) {
+		String query = request.getString("query");
+		String hash = extractPersistedQueryHash(request);
+		if (hash == null) {
+			return query;
+		}
+		if (query == null) {
+			return persistedQueries.getIfPresent(hash.toLowerCase());
+		}
+		if (!hash.equalsIgnoreCase(hash(query))) {
+			throw error(BAD_REQUEST, "graphql_error_persisted_query_hash_mismatch", hash);
+		}
+		persistedQueries.put(hash.toLowerCase(), query);
+		return query;
+	}
+
+	/**
+	 * Return the persisted query hash of the request or null if the request does not use a persisted query.
+	 *
+	 * @param request
+	 * @return
+	 */
+	private String extractPersistedQueryHash(JsonObject request) {
+		JsonObject extensions = request.getJsonObject("extensions");
+		if (extensions == null) {
+			return null;
+		}
+		JsonObject persistedQuery = extensions.getJsonObject("persistedQuery");
+		if (persistedQuery == null) {
+			return null;
+		}
+		return persistedQuery.getString("sha256Hash");
+	}
+
+	/**
+	 * Compute the SHA-256 hash of the query.
+	 *
+	 * @param query
+	 * @return Hex encoded hash
+	 */
+	public static String hash(String query) {
+		return Hashing.sha256().hashString(query, StandardCharsets.UTF_8).toString();
+	}
+
+}
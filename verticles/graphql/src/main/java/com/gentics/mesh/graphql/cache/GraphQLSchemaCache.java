@@ -0,0 +1,149 @@
+package com.gentics.mesh.graphql.cache;
+
+import static com.gentics.mesh.MeshEvent.BRANCH_CREATED;
+import static com.gentics.mesh.MeshEvent.BRANCH_DELETED;
+import static com.gentics.mesh.MeshEvent.BRANCH_UPDATED;
+import static com.gentics.mesh.MeshEvent.MICROSCHEMA_CREATED;
+import static com.gentics.mesh.MeshEvent.MICROSCHEMA_DELETED;
+import static com.gentics.mesh.MeshEvent.MICROSCHEMA_UPDATED;
+import static com.gentics.mesh.MeshEvent.PROJECT_DELETED;
+import static com.gentics.mesh.MeshEvent.PROJECT_UPDATED;
+import static com.gentics.mesh.MeshEvent.SCHEMA_CREATED;
+import static com.gentics.mesh.MeshEvent.SCHEMA_DELETED;
+import static com.gentics.mesh.MeshEvent.SCHEMA_UPDATED;
+import static com.gentics.mesh.metric.Metrics.GRAPHQL_SCHEMA_CACHE_HIT;
+import static com.gentics.mesh.metric.Metrics.GRAPHQL_SCHEMA_CACHE_MISS;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import javax.inject.Inject;
+import javax.inject.Singleton;
+
+import com.gentics.mesh.MeshEvent;
+import com.gentics.mesh.core.data.Project;
+import com.gentics.mesh.core.data.schema.MicroschemaContainer;
+import com.gentics.mesh.core.data.schema.SchemaContainer;
+import com.gentics.mesh.graphql.context.GraphQLContext;
+import com.gentics.mesh.metric.MetricsService;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.google.common.hash.Hashing;
+
+import graphql.GraphQL;
+import io.vertx.core.Vertx;
+import io.vertx.core.eventbus.EventBus;
+import io.vertx.core.logging.Logger;
+import io.vertx.core.logging.LoggerFactory;
+
+/**
+ * Cache for compiled GraphQL instances. Building the GraphQL schema requires the generation of the types for all schemas and microschemas of the
+ * project. The compiled schema only depends on the project, the branch and the used schema and microschema versions. Thus the compiled instance can be
+ * reused by all requests which share those properties.
+ *
+ * The key of a cache entry contains the uuids of the latest schema and microschema versions. A schema update will thus always lead to a different key.
+ * The event handlers are used to evict the now obsolete entries.
+ */
+@Singleton
+public class GraphQLSchemaCache {
+
+	private static final Logger log = LoggerFactory.getLogger(GraphQLSchemaCache.class);
+
+	private static final MeshEvent[] INVALIDATION_EVENTS = { SCHEMA_CREATED, SCHEMA_UPDATED, SCHEMA_DELETED, MICROSCHEMA_CREATED, MICROSCHEMA_UPDATED,
+		MICROSCHEMA_DELETED, BRANCH_CREATED, BRANCH_UPDATED, BRANCH_DELETED, PROJECT_UPDATED, PROJECT_DELETED };
+
+	private final Cache<String, GraphQL> cache = Caffeine.newBuilder().maximumSize(100).expireAfterAccess(30, TimeUnit.MINUTES).build();
+
+	private final MetricsService metrics;
+
+	@Inject
+	public GraphQLSchemaCache(Vertx vertx, MetricsService metrics) {
+		this.metrics = metrics;
+		registerEventHandlers(vertx);
+	}
+
+	/**
+	 * Register the event handlers which will invalidate the cache once a schema, microschema, branch or project has been changed.
+	 *
+	 * @param vertx
+	 */
+	private void registerEventHandlers(Vertx vertx) {
+		if (vertx == null) {
+			log.warn("Vert.x is not available. The GraphQL schema cache will not be invalidated by events.");
+			return;
+		}
+		EventBus eb = vertx.eventBus();
+		for (MeshEvent event : INVALIDATION_EVENTS) {
+			eb.consumer(event.address, e -> {
+				if (log.isDebugEnabled()) {
+					log.debug("Clearing GraphQL schema cache due to received event from {" + e.address() + "}");
+				}
+				invalidate();
+			});
+		}
+	}
+
+	/**
+	 * Return the cached GraphQL instance for the project and branch of the given context. The builder will be invoked to build the instance if no
+	 * matching entry could be found. This method needs to be invoked within a transaction.
+	 *
+	 * @param gc
+	 *            Context which provides the project and branch
+	 * @param builder
+	 *            Function which will build the GraphQL instance for the given cache key
+	 * @return Compiled GraphQL instance
+	 */
+	public GraphQL get(GraphQLContext gc, Function<String, GraphQL> builder) {
+		String key = createKey(gc);
+		GraphQL graphQL = cache.getIfPresent(key);
+		if (graphQL != null) {
+			metrics.meter(GRAPHQL_SCHEMA_CACHE_HIT).mark();
+			return graphQL;
+		}
+		metrics.meter(GRAPHQL_SCHEMA_CACHE_MISS).mark();
+		graphQL = builder.apply(key);
+		cache.put(key, graphQL);
+		return graphQL;
+	}
+
+	/**
+	 * Create the cache key for the given context. The key is a hash over the project uuid, branch uuid and the uuids of the latest versions of all
+	 * schemas and microschemas of the project.
+	 *
+	 * @param gc
+	 * @return
+	 */
+	public String createKey(GraphQLContext gc) {
+		Project project = gc.getProject();
+		List<String> versions = new ArrayList<>();
+		for (SchemaContainer schema : project.getSchemaContainerRoot().findAll()) {
+			versions.add(schema.getLatestVersion().getUuid());
+		}
+		for (MicroschemaContainer microschema : project.getMicroschemaContainerRoot().findAll()) {
+			versions.add(microschema.getLatestVersion().getUuid());
+		}
+		Collections.sort(versions);
+
+		StringBuilder keyBuilder = new StringBuilder();
+		keyBuilder.append(project.getUuid());
+		keyBuilder.append("-");
+		keyBuilder.append(gc.getBranch().getUuid());
+		for (String version : versions) {
+			keyBuilder.append("-");
+			keyBuilder.append(version);
+		}
+		return Hashing.sha256().hashString(keyBuilder, StandardCharsets.UTF_8).toString();
+	}
+
+	/**
+	 * Invalidate all cached GraphQL instances.
+	 */
+	public void invalidate() {
+		cache.invalidateAll();
+	}
+
+}
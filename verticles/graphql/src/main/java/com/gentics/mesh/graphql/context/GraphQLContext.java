@@ -2,13 +2,24 @@ package com.gentics.mesh.graphql.context;
 
 import com.gentics.mesh.context.InternalActionContext;
 import com.gentics.mesh.core.data.MeshCoreVertex;
+import com.gentics.mesh.core.data.MeshVertex;
+import com.gentics.mesh.core.data.NodeGraphFieldContainer;
+import com.gentics.mesh.core.data.node.Node;
 import com.gentics.mesh.core.data.relationship.GraphPermission;
+import com.gentics.mesh.core.data.root.NodeRoot;
 import com.gentics.mesh.core.rest.error.PermissionException;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
 import java.util.function.Supplier;
 
 /**
  * Extended context for GraphQL handling.
+ * 
+ * The context also memoizes lookups for the duration of the request. Node lookups, container lookups and permission checks are resolved once per
+ * element and reused by all fields which reference the same elements. This avoids repeated graph traversals when resolving lists of nodes which share
+ * parents, breadcrumbs or node references. Each distinct element is still loaded with its own lookup.
  */
 public interface GraphQLContext extends InternalActionContext {
 
@@ -23,6 +34,44 @@ public interface GraphQLContext extends InternalActionContext {
 	 */
 	<T extends MeshCoreVertex<?, ?>> T requiresPerm(T vertex, GraphPermission... permission);
 
+	/**
+	 * Check whether the user of the request has the given permission on the element. The result will be stored for the duration of the request.
+	 * 
+	 * @param vertex
+	 * @param permission
+	 * @return
+	 */
+	boolean hasPermission(MeshVertex vertex, GraphPermission permission);
+
+	/**
+	 * Load the nodes with the given uuids. Each uuid is only looked up once per request and root. The uuids which have not been looked up before are
+	 * located together. The results, including missing nodes, will be stored for the duration of the request.
+	 * 
+	 * @param root
+	 *            Root which should be used to lookup the nodes
+	 * @param uuids
+	 * @return Map which contains the found nodes. Uuids for which no node could be found will not be part of the map.
+	 */
+	Map<String, Node> findNodesByUuid(NodeRoot root, Collection<String> uuids);
+
+	/**
+	 * Load the parent node of the given node in the branch of the request. The result will be stored for the duration of the request.
+	 * 
+	 * @param node
+	 * @return Parent node or null if the node has no parent
+	 */
+	Node findParentNode(Node node);
+
+	/**
+	 * Load the container of the node for the given language tags in the branch and version of the request. The result will be stored for the
+	 * duration of the request.
+	 * 
+	 * @param node
+	 * @param languageTags
+	 * @return Found container or null if no container could be found
+	 */
+	NodeGraphFieldContainer findVersion(Node node, List<String> languageTags);
+
 	/**
 	 * Gets a value from the context. If the value does not exist yet, the supplier will be called.
 	 * The result is then stored in the context and also returned.
@@ -2,9 +2,25 @@ package com.gentics.mesh.graphql.context.impl;
 
 import static com.gentics.mesh.core.rest.error.Errors.missingPerm;
 
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import org.apache.commons.lang3.tuple.Pair;
+
 import com.gentics.mesh.context.impl.InternalRoutingActionContextImpl;
 import com.gentics.mesh.core.data.MeshCoreVertex;
+import com.gentics.mesh.core.data.MeshVertex;
+import com.gentics.mesh.core.data.NodeGraphFieldContainer;
+import com.gentics.mesh.core.data.node.Node;
 import com.gentics.mesh.core.data.relationship.GraphPermission;
+import com.gentics.mesh.core.data.root.NodeRoot;
 import com.gentics.mesh.graphql.context.GraphQLContext;
 
 import io.vertx.ext.web.RoutingContext;
@@ -14,6 +30,17 @@ import io.vertx.ext.web.RoutingContext;
  */
 public class GraphQLContextImpl extends InternalRoutingActionContextImpl implements GraphQLContext {
 
+	private final Map<Object, Map<GraphPermission, Boolean>> permissions = new HashMap<>();
+
+	/**
+	 * Located nodes by root vertex id and uuid.
+	 */
+	private final Map<Pair<Object, String>, Optional<Node>> nodes = new HashMap<>();
+
+	private final Map<Object, Optional<Node>> parentNodes = new HashMap<>();
+
+	private final Map<Pair<Object, List<String>>, Optional<NodeGraphFieldContainer>> containers = new HashMap<>();
+
 	public GraphQLContextImpl(RoutingContext rc) {
 		super(rc);
 	}
@@ -21,11 +48,67 @@ public class GraphQLContextImpl extends InternalRoutingActionContextImpl impleme
 	@Override
 	public <T extends MeshCoreVertex<?, ?>> T requiresPerm(T vertex, GraphPermission... permission) {
 		for (GraphPermission perm : permission) {
-			if (getUser().hasPermission(vertex, perm)) {
+			if (hasPermission(vertex, perm)) {
 				return vertex;
 			}
 		}
 		throw missingPerm(vertex.getTypeInfo().getType(), vertex.getUuid());
 	}
 
+	@Override
+	public boolean hasPermission(MeshVertex vertex, GraphPermission permission) {
+		Map<GraphPermission, Boolean> elementPermissions = permissions.computeIfAbsent(vertex.id(), id -> new EnumMap<>(GraphPermission.class));
+		Boolean granted = elementPermissions.get(permission);
+		if (granted == null) {
+			granted = getUser().hasPermission(vertex, permission);
+			elementPermissions.put(permission, granted);
+		}
+		return granted;
+	}
+
+	@Override
+	public Map<String, Node> findNodesByUuid(NodeRoot root, Collection<String> uuids) {
+		Object rootId = root.id();
+		// Only the nodes which have not been requested before need to be located
+		Set<String> missing = new HashSet<>();
+		for (String uuid : uuids) {
+			if (!nodes.containsKey(Pair.of(rootId, uuid))) {
+				missing.add(uuid);
+			}
+		}
+		if (!missing.isEmpty()) {
+			Map<String, Node> found = root.findByUuids(missing);
+			for (String uuid : missing) {
+				nodes.put(Pair.of(rootId, uuid), Optional.ofNullable(found.get(uuid)));
+			}
+		}
+
+		Map<String, Node> result = new LinkedHashMap<>();
+		for (String uuid : uuids) {
+			nodes.get(Pair.of(rootId, uuid)).ifPresent(n -> result.put(uuid, n));
+		}
+		return result;
+	}
+
+	@Override
+	public Node findParentNode(Node node) {
+		Optional<Node> parent = parentNodes.get(node.id());
+		if (parent == null) {
+			parent = Optional.ofNullable(node.getParentNode(getBranch().getUuid()));
+			parentNodes.put(node.id(), parent);
+		}
+		return parent.orElse(null);
+	}
+
+	@Override
+	public NodeGraphFieldContainer findVersion(Node node, List<String> languageTags) {
+		Pair<Object, List<String>> key = Pair.of(node.id(), languageTags);
+		Optional<NodeGraphFieldContainer> container = containers.get(key);
+		if (container == null) {
+			container = Optional.ofNullable(node.findVersion(this, languageTags));
+			containers.put(key, container);
+		}
+		return container.orElse(null);
+	}
+
 }
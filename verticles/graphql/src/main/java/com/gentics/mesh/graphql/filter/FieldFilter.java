@@ -46,6 +46,16 @@ public class FieldFilter extends MainFilter<GraphFieldContainer> {
 		return context.getOrStore(NAME_PREFIX + container.getName(), () -> new FieldFilter(container));
 	}
 
+	/**
+	 * Creates a new filter for the provided schema which is not bound to a query.
+	 * 
+	 * @param container
+	 *            The schema model to create the filter for
+	 */
+	public static FieldFilter filter(SchemaModel container) {
+		return new FieldFilter(container);
+	}
+
 	private final SchemaModel schema;
 
 	private FieldFilter(SchemaModel container) {
@@ -6,6 +6,7 @@ import com.gentics.graphqlfilter.filter.MainFilter;
 import com.gentics.graphqlfilter.filter.MappedFilter;
 import com.gentics.graphqlfilter.filter.StartMainFilter;
 import com.gentics.graphqlfilter.filter.StringFilter;
+import com.gentics.mesh.core.data.Project;
 import com.gentics.mesh.core.data.node.NodeContent;
 import com.gentics.mesh.core.data.schema.SchemaContainer;
 import com.gentics.mesh.graphql.context.GraphQLContext;
@@ -23,15 +24,21 @@ public class NodeFilter extends StartMainFilter<NodeContent> {
 
 	private static final String NAME = "NodeFilter";
 
+	/**
+	 * Return the filter for the project of the given context. The filter only references the project and can thus be kept by cached GraphQL schemas.
+	 * 
+	 * @param context
+	 * @return
+	 */
 	public static NodeFilter filter(GraphQLContext context) {
-		return context.getOrStore(NAME, () -> new NodeFilter(context));
+		return context.getOrStore(NAME, () -> new NodeFilter(context.getProject()));
 	}
 
-	private final GraphQLContext context;
+	private final Project project;
 
-	private NodeFilter(GraphQLContext context) {
+	private NodeFilter(Project project) {
 		super(NAME, "Filters Nodes");
-		this.context = context;
+		this.project = project;
 	}
 
 	@Override
@@ -39,7 +46,7 @@ public class NodeFilter extends StartMainFilter<NodeContent> {
 		List<FilterField<NodeContent, ?>> filters = new ArrayList<>();
 		filters.add(new MappedFilter<>("uuid", "Filters by uuid", StringFilter.filter(), content -> content.getNode().getUuid()));
 		filters
-			.add(new MappedFilter<>("schema", "Filters by schema", SchemaFilter.filter(context), content -> content.getNode().getSchemaContainer()));
+			.add(new MappedFilter<>("schema", "Filters by schema", SchemaFilter.filter(project), content -> content.getNode().getSchemaContainer()));
 		filters.add(new MappedFilter<>("created", "Filters by node creation timestamp", DateFilter.filter(),
 			content -> content.getNode().getCreationTimestamp()));
 		filters.add(new MappedFilter<>("creator", "Filters by creator", UserFilter.filter(),
@@ -55,7 +62,7 @@ public class NodeFilter extends StartMainFilter<NodeContent> {
 
 	private MainFilter<NodeContent> createAllFieldFilters() {
 		List<FilterField<NodeContent, ?>> schemaFields = StreamSupport
-			.stream(context.getProject().getSchemaContainerRoot().findAll().spliterator(), false)
+			.stream(project.getSchemaContainerRoot().findAll().spliterator(), false)
 			.map(this::createFieldFilter)
 			.collect(Collectors.toList());
 		return MainFilter.mainFilter("FieldFilter", "Filters by fields", schemaFields, false);
@@ -63,7 +70,7 @@ public class NodeFilter extends StartMainFilter<NodeContent> {
 
 	private FilterField<NodeContent, ?> createFieldFilter(SchemaContainer schema) {
 		return new MappedFilter<>(schema.getName(), "Filters by fields of the " + schema.getName() + " schema",
-			FieldFilter.filter(context, schema.getLatestVersion().getSchema()),
+			FieldFilter.filter(schema.getLatestVersion().getSchema()),
 			NodeContent::getContainer);
 	}
 }
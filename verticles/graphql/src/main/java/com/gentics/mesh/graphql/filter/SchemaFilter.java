@@ -8,7 +8,6 @@ import com.gentics.mesh.core.data.Project;
 import com.gentics.mesh.core.data.schema.SchemaContainer;
 import com.gentics.mesh.core.rest.schema.SchemaModel;
 import com.gentics.mesh.core.rest.schema.impl.SchemaModelImpl;
-import com.gentics.mesh.graphql.context.GraphQLContext;
 import com.gentics.mesh.json.JsonUtil;
 import graphql.schema.GraphQLEnumType;
 import graphql.schema.GraphQLEnumValueDefinition;
@@ -25,19 +24,24 @@ public class SchemaFilter extends MainFilter<SchemaContainer> {
 
 	private static final String NAME = "SchemaFilter";
 
-	public static SchemaFilter filter(GraphQLContext context) {
-		return context.getOrStore(NAME, () -> new SchemaFilter(context));
+	/**
+	 * Create a new filter for the given project. The filter does not reference any request specific data.
+	 * 
+	 * @param project
+	 * @return
+	 */
+	public static SchemaFilter filter(Project project) {
+		return new SchemaFilter(project);
 	}
 
-	private final GraphQLContext context;
+	private final Project project;
 
-	private SchemaFilter(GraphQLContext context) {
+	private SchemaFilter(Project project) {
 		super(NAME, "Filters schemas");
-		this.context = context;
+		this.project = project;
 	}
 
 	private GraphQLEnumType schemaEnum() {
-		Project project = context.getProject();
 		List<GraphQLEnumValueDefinition> values = StreamSupport.stream(project.getSchemaContainerRoot().findAll().spliterator(), false)
 			.map(schema -> {
 				String name = schema.getName();
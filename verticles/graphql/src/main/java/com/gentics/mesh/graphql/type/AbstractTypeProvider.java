@@ -276,8 +276,8 @@ public abstract class AbstractTypeProvider {
 		// We need to handle permissions dedicately since we check the schema container perm and not the schema container version perm.
 		return handleUuidNameArgsNoPerm(env, uuid -> schemas.filter(schema -> {
 			SchemaContainer container = schema.getSchemaContainer();
-			return container.getUuid().equals(uuid) && gc.getUser().hasPermission(container, READ_PERM);
-		}).findFirst().get(), name -> schemas.filter(schema -> schema.getName().equals(name) && gc.getUser().hasPermission(schema
+			return container.getUuid().equals(uuid) && gc.hasPermission(container, READ_PERM);
+		}).findFirst().get(), name -> schemas.filter(schema -> schema.getName().equals(name) && gc.hasPermission(schema
 			.getSchemaContainer(), READ_PERM)).findFirst().get());
 	}
 
@@ -285,7 +285,7 @@ public abstract class AbstractTypeProvider {
 		GraphQLContext gc = env.getContext();
 		Branch branch = env.getSource();
 		Stream<? extends SchemaContainerVersion> schemas = StreamSupport.stream(branch.findActiveSchemaVersions().spliterator(), false).filter(
-			schema -> gc.getUser().hasPermission(schema.getSchemaContainer(), READ_PERM));
+			schema -> gc.hasPermission(schema.getSchemaContainer(), READ_PERM));
 		return new DynamicStreamPageImpl<>(schemas, getPagingInfo(env));
 	}
 
@@ -11,7 +11,9 @@ import static graphql.schema.GraphQLFieldDefinition.newFieldDefinition;
 import static graphql.schema.GraphQLObjectType.newObject;
 import static io.netty.handler.codec.http.HttpResponseStatus.NOT_FOUND;
 
+import java.util.ArrayDeque;
 import java.util.Arrays;
+import java.util.Deque;
 import java.util.List;
 import java.util.Stack;
 import java.util.concurrent.ExecutionException;
@@ -89,8 +91,7 @@ public class NodeTypeProvider extends AbstractTypeProvider {
 			return null;
 		}
 		GraphQLContext gc = env.getContext();
-		String uuid = gc.getBranch().getUuid();
-		Node parentNode = content.getNode().getParentNode(uuid);
+		Node parentNode = gc.findParentNode(content.getNode());
 		// The project root node can have no parent. Lets check this and exit early.
 		if (parentNode == null) {
 			return null;
@@ -98,7 +99,7 @@ public class NodeTypeProvider extends AbstractTypeProvider {
 		gc.requiresPerm(parentNode, READ_PERM, READ_PUBLISHED_PERM);
 
 		List<String> languageTags =  getLanguageArgument(env, content);
-		return new NodeContent(parentNode, parentNode.findVersion(gc, languageTags), languageTags);
+		return new NodeContent(parentNode, gc.findVersion(parentNode, languageTags), languageTags);
 	}
 
 	public Object nodeLanguageFetcher(DataFetchingEnvironment env) {
@@ -111,7 +112,7 @@ public class NodeTypeProvider extends AbstractTypeProvider {
 
 		Node node = content.getNode();
 		Branch branch = gc.getBranch();
-		NodeGraphFieldContainer container = node.findVersion(gc, languageTags);
+		NodeGraphFieldContainer container = gc.findVersion(node, languageTags);
 		// There might not be a container for the selected language (incl. fallback language)
 		if (container == null) {
 			return null;
@@ -135,9 +136,17 @@ public class NodeTypeProvider extends AbstractTypeProvider {
 			return null;
 		}
 
-		return content.getNode().getBreadcrumbNodes(gc).stream().map(node -> {
-			List<String> languageTags =  getLanguageArgument(env, content);
-			return new NodeContent(node, node.findVersion(gc, languageTags), languageTags);
+		// Walk up the tree via the context. Siblings share their ancestors and thus the lookups will only be executed once per request.
+		Deque<Node> breadcrumb = new ArrayDeque<>();
+		Node current = content.getNode();
+		while (current != null) {
+			breadcrumb.addFirst(current);
+			current = gc.findParentNode(current);
+		}
+
+		List<String> languageTags = getLanguageArgument(env, content);
+		return breadcrumb.stream().map(node -> {
+			return new NodeContent(node, gc.findVersion(node, languageTags), languageTags);
 		}).collect(Collectors.toList());
 	}
 
@@ -248,7 +257,7 @@ public class NodeTypeProvider extends AbstractTypeProvider {
 			List<String> languageTags = getLanguageArgument(env, content);
 
 			Stream<NodeContent> nodes = content.getNode().getChildrenStream(gc)
-				.map(item -> new NodeContent(item, item.findVersion(gc, languageTags), languageTags))
+				.map(item -> new NodeContent(item, gc.findVersion(item, languageTags), languageTags))
 				.filter(item -> item.getContainer() != null);
 
 			return applyNodeFilter(env, nodes);
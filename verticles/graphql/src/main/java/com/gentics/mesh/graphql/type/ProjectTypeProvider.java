@@ -55,7 +55,7 @@ public class ProjectTypeProvider extends AbstractTypeProvider {
 		Node node = project.getBaseNode();
 		gc.requiresPerm(node, READ_PERM, READ_PUBLISHED_PERM);
 		List<String> languageTags = getLanguageArgument(env);
-		NodeGraphFieldContainer container = node.findVersion(gc, languageTags);
+		NodeGraphFieldContainer container = gc.findVersion(node, languageTags);
 		return new NodeContent(node, container, languageTags);
 	}
 
@@ -33,6 +33,7 @@ import static graphql.schema.GraphQLObjectType.newObject;
 import java.util.Arrays;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 import java.util.stream.Stream;
@@ -204,9 +205,12 @@ public class QueryTypeProvider extends AbstractTypeProvider {
 		ExecutionContext ec = env.getExecutionContext();
 		List<String> languageTags = getLanguageArgument(env);
 
+		// The located nodes are memoized for the whole request. Duplicate uuids and nodes which have been requested before will only be loaded once.
+		Map<String, Node> nodes = gc.findNodesByUuid(root, uuids);
+
 		Stream<NodeContent> contents = uuids.stream()
 			// When a node cannot be found, we still need the UUID for the error message.
-			.map(uuid -> Pair.of(uuid, root.findByUuid(uuid)))
+			.map(uuid -> Pair.of(uuid, nodes.get(uuid)))
 			.map(node -> {
 				Throwable error = null;
 
@@ -227,7 +231,7 @@ public class QueryTypeProvider extends AbstractTypeProvider {
 			})
 			.filter(Objects::nonNull)
 			.map(node -> {
-				NodeGraphFieldContainer container = node.findVersion(gc, languageTags);
+				NodeGraphFieldContainer container = gc.findVersion(node, languageTags);
 
 				return new NodeContent(node, container, languageTags);
 			});
@@ -245,14 +249,14 @@ public class QueryTypeProvider extends AbstractTypeProvider {
 		String uuid = env.getArgument("uuid");
 		if (uuid != null) {
 			GraphQLContext gc = env.getContext();
-			Node node = boot.nodeRoot().findByUuid(uuid);
+			Node node = gc.findNodesByUuid(boot.nodeRoot(), Arrays.asList(uuid)).get(uuid);
 			if (node == null) {
 				// TODO Throw graphql aware not found exception
 				return null;
 			}
 			node = gc.requiresPerm(node, READ_PERM, READ_PUBLISHED_PERM);
 			List<String> languageTags = getLanguageArgument(env);
-			NodeGraphFieldContainer container = node.findVersion(gc, languageTags);
+			NodeGraphFieldContainer container = gc.findVersion(node, languageTags);
 			return new NodeContent(node, container, languageTags);
 		}
 		String path = env.getArgument("path");
@@ -322,7 +326,7 @@ public class QueryTypeProvider extends AbstractTypeProvider {
 			Node node = project.getBaseNode();
 			gc.requiresPerm(node, READ_PERM, READ_PUBLISHED_PERM);
 			List<String> languageTags = getLanguageArgument(env);
-			NodeGraphFieldContainer container = node.findVersion(gc, languageTags);
+			NodeGraphFieldContainer container = gc.findVersion(node, languageTags);
 			return new NodeContent(node, container, languageTags);
 		}
 		return null;
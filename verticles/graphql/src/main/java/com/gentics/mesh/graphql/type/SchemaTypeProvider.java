@@ -65,7 +65,7 @@ public class SchemaTypeProvider extends AbstractTypeProvider {
 //			GraphQLContext gc = env.getContext();
 //			SchemaContainer schema = env.getSource();
 //			return schema.findReferencedBranches().keySet().stream().map(Branch::getProject).distinct()
-//					.filter(it -> gc.getUser().hasPermission(it, GraphPermission.READ_PERM)).collect(Collectors.toList());
+//					.filter(it -> gc.hasPermission(it, GraphPermission.READ_PERM)).collect(Collectors.toList());
 //		}, PROJECT_REFERENCE_PAGE_TYPE_NAME));
 
 		schemaType.field(newFieldDefinition().name("isContainer").type(GraphQLBoolean).dataFetcher((env) -> {
@@ -94,7 +94,7 @@ public class SchemaTypeProvider extends AbstractTypeProvider {
 					ContainerType.forVersion(gc.getVersioningParameters().getVersion())
 			).spliterator(), false)
 			.map(node -> {
-				NodeGraphFieldContainer container = node.findVersion(gc, languageTags);
+				NodeGraphFieldContainer container = gc.findVersion(node, languageTags);
 				return new NodeContent(node, container, languageTags);
 			});
 
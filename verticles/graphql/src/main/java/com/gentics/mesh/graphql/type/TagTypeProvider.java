@@ -76,7 +76,7 @@ public class TagTypeProvider extends AbstractTypeProvider {
 
 					// Transform the found nodes into contents
 					List<NodeContent> contents = nodes.getWrappedList().stream().map(node -> {
-						NodeGraphFieldContainer container = node.findVersion(gc, languageTags);
+						NodeGraphFieldContainer container = gc.findVersion(node, languageTags);
 						return new NodeContent(node, container, languageTags);
 					}).collect(Collectors.toList());
 					return new WrappedPageImpl<NodeContent>(contents, nodes);
@@ -240,8 +240,6 @@ public class FieldDefinitionProvider extends AbstractTypeProvider {
 		GraphQLType type = getElementTypeOfList(schema);
 		graphql.schema.GraphQLFieldDefinition.Builder fieldType = newFieldDefinition().name(schema.getName()).description(schema.getLabel())
 			.type(new GraphQLList(type)).argument(createPagingArgs());
-		NodeFilter nodeFilter = NodeFilter.filter(context);
-
 		// Add link resolving arg to html and string lists
 		switch (schema.getListType()) {
 		case "html":
@@ -249,7 +247,7 @@ public class FieldDefinitionProvider extends AbstractTypeProvider {
 			fieldType.argument(createLinkTypeArg());
 			break;
 		case "node":
-			fieldType.argument(nodeFilter.createFilterArgument());
+			fieldType.argument(NodeFilter.filter(context).createFilterArgument());
 			break;
 		}
 
@@ -314,11 +312,12 @@ public class FieldDefinitionProvider extends AbstractTypeProvider {
 						languageTags = Arrays.asList(defaultLanguage);
 					}
 					// TODO we need to add more assertions and check what happens if the itemContainer is null
-					NodeGraphFieldContainer itemContainer = node.findVersion(gc, languageTags);
+					NodeGraphFieldContainer itemContainer = gc.findVersion(node, languageTags);
 					return new NodeContent(node, itemContainer, languageTags);
 				});
 				if (filterArgument != null) {
-					nodes = nodes.filter(nodeFilter.createPredicate(filterArgument));
+					// The filter of the current request is used since the field definition may be reused by cached schemas
+					nodes = nodes.filter(NodeFilter.filter(gc).createPredicate(filterArgument));
 				}
 				return nodes.collect(Collectors.toList());
 			case "micronode":
@@ -393,7 +392,7 @@ public class FieldDefinitionProvider extends AbstractTypeProvider {
 						List<String> languageTags = getLanguageArgument(env, source);
 						// Check permissions for the linked node
 						gc.requiresPerm(node, READ_PERM, READ_PUBLISHED_PERM);
-						NodeGraphFieldContainer container = node.findVersion(gc, languageTags);
+						NodeGraphFieldContainer container = gc.findVersion(node, languageTags);
 						return new NodeContent(node, container, languageTags);
 					}
 				}